@@ -0,0 +1,99 @@
+package app.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Token validation as done by the authentication filter on every request. Token size grows with
+ * the padding claim to show how parsing cost scales; the tampered token measures the rejection
+ * path, which goes through an exception.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+  // Fixed 256-bit secret so the benchmark needs no configuration
+  private static final String SECRET = "benchmark-secret-benchmark-secret-0123456789";
+
+  /** Bytes of extra claim data carried by the token */
+  @Param({"0", "512", "4096"})
+  public int claimBytes;
+
+  private JwtTokenProvider tokenProvider;
+  private String token;
+  private String tamperedToken;
+
+  @Setup
+  public void setUp() {
+    tokenProvider = new JwtTokenProvider();
+    ReflectionTestUtils.setField(tokenProvider, "secret", SECRET);
+    ReflectionTestUtils.setField(tokenProvider, "expiration", TimeUnit.HOURS.toMillis(1));
+    tokenProvider.init();
+
+    // Signed with the provider's key, like generateToken, plus a padding claim
+    SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    Date now = new Date();
+    token =
+        Jwts.builder()
+            .claim("role", "EMPLOYER")
+            .claim("pad", "x".repeat(claimBytes))
+            .setSubject("bench@example.com")
+            .setIssuedAt(now)
+            .setExpiration(new Date(now.getTime() + TimeUnit.HOURS.toMillis(1)))
+            .signWith(key, SignatureAlgorithm.HS256)
+            .compact();
+
+    // Flip the last signature character so the signature no longer matches
+    char last = token.charAt(token.length() - 1);
+    tamperedToken = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+  }
+
+  @Benchmark
+  public boolean validateToken() {
+    return tokenProvider.validateToken(token);
+  }
+
+  @Benchmark
+  public boolean validateTamperedToken() {
+    return tokenProvider.validateToken(tamperedToken);
+  }
+
+  /** What JwtAuthenticationFilter does per request: validate, then extract email and role */
+  @Benchmark
+  public void authenticateRequest(Blackhole blackhole) {
+    if (tokenProvider.validateToken(token)) {
+      blackhole.consume(tokenProvider.extractEmail(token));
+      blackhole.consume(tokenProvider.extractRole(token));
+    }
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return tokenProvider.generateToken("bench@example.com", "EMPLOYER");
+  }
+}
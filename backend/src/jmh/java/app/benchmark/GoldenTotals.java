@@ -0,0 +1,164 @@
+package app.benchmark;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import app.payroll.Money;
+import app.payroll.dto.PayrollSummaryDTO;
+
+/**
+ * Paycheck totals of a synthetic tenant, in cents. The checksum weights each paycheck's net pay by
+ * its base salary in dollars, so totals that still add up after values moved between employees are
+ * caught too.
+ */
+record GoldenTotals(
+    long paychecks, long gross, long bonus, long tax, long insurance, long net, long checksum) {
+
+  private static final String[] KEYS = {
+    "paychecks", "gross", "bonus", "tax", "insurance", "net", "checksum"
+  };
+
+  private static final String HEADER =
+      "# Paycheck totals in cents after one $500 bonus run over a synthetic tenant, keyed by\n"
+          + "# employee count. Update only in a change that is meant to alter payroll results:\n"
+          + "# ./mvnw -Pbenchmarks test-compile exec:exec@payroll-scale "
+          + "-Dscale.args=--update-golden\n";
+
+  /**
+   * Add up the company's paychecks straight from the paycheck table, bypassing the services under
+   * measurement. Every row is also checked to be internally consistent.
+   *
+   * @throws IllegalStateException if a paycheck's net pay does not match its components
+   */
+  static GoldenTotals query(JdbcTemplate jdbcTemplate, long companyId) {
+    long[] sums = new long[KEYS.length];
+    List<Long> inconsistent = new ArrayList<>();
+    jdbcTemplate.query(
+        "SELECT p.id, p.gross_pay, p.bonus, p.tax_deduction, p.insurance_deduction, p.net_pay "
+            + "FROM paycheck p JOIN business_person bp ON bp.id = p.employee_id "
+            + "WHERE bp.company_id = ?",
+        rs -> {
+          long gross = Money.toCents(rs.getDouble("gross_pay"));
+          long bonus = Money.toCents(rs.getDouble("bonus"));
+          long tax = Money.toCents(rs.getDouble("tax_deduction"));
+          long insurance = Money.toCents(rs.getDouble("insurance_deduction"));
+          long net = Money.toCents(rs.getDouble("net_pay"));
+          if (net != gross + bonus - tax - insurance) {
+            inconsistent.add(rs.getLong("id"));
+          }
+          sums[0]++;
+          sums[1] += gross;
+          sums[2] += bonus;
+          sums[3] += tax;
+          sums[4] += insurance;
+          sums[5] += net;
+          sums[6] += net * (gross / 100);
+        },
+        companyId);
+
+    if (!inconsistent.isEmpty()) {
+      throw new IllegalStateException(
+          inconsistent.size()
+              + " paychecks have a net pay that does not match their components, e.g. IDs "
+              + inconsistent.subList(0, Math.min(5, inconsistent.size())));
+    }
+    return new GoldenTotals(sums[0], sums[1], sums[2], sums[3], sums[4], sums[5], sums[6]);
+  }
+
+  /**
+   * Differences between the totals a payroll summary reports and these totals
+   *
+   * @return One line per mismatching figure; empty if the summary agrees
+   */
+  List<String> compareSummary(PayrollSummaryDTO summary) {
+    List<String> mismatches = new ArrayList<>();
+    compare(mismatches, "summary paychecks", paychecks, summary.totalPaychecks());
+    compare(mismatches, "summary gross", gross, Money.toCents(summary.totalGrossPay()));
+    compare(mismatches, "summary bonus", bonus, Money.toCents(summary.totalBonus()));
+    compare(mismatches, "summary tax", tax, Money.toCents(summary.totalTaxDeductions()));
+    compare(
+        mismatches,
+        "summary insurance",
+        insurance,
+        Money.toCents(summary.totalInsuranceDeductions()));
+    compare(mismatches, "summary net", net, Money.toCents(summary.totalNetPay()));
+    return mismatches;
+  }
+
+  /**
+   * Differences between these totals and the golden totals for a tenant size
+   *
+   * @return One line per mismatching figure, or a single line if no golden totals are recorded
+   */
+  List<String> compareGolden(Properties golden, int size) {
+    List<String> mismatches = new ArrayList<>();
+    long[] actual = values();
+    for (int i = 0; i < KEYS.length; i++) {
+      String expected = golden.getProperty(size + "." + KEYS[i]);
+      if (expected == null) {
+        return List.of("no golden totals recorded for " + size + " employees");
+      }
+      compare(mismatches, KEYS[i], Long.parseLong(expected.trim()), actual[i]);
+    }
+    return mismatches;
+  }
+
+  /** Record these totals as the golden totals for a tenant size */
+  void putGolden(Properties golden, int size) {
+    long[] actual = values();
+    for (int i = 0; i < KEYS.length; i++) {
+      golden.setProperty(size + "." + KEYS[i], Long.toString(actual[i]));
+    }
+  }
+
+  static Properties load(Path file) throws IOException {
+    Properties golden = new Properties();
+    if (Files.exists(file)) {
+      try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        golden.load(reader);
+      }
+    }
+    return golden;
+  }
+
+  /** Write golden totals sorted by size, so updates show up as small diffs */
+  static void store(Properties golden, Path file) throws IOException {
+    Set<Integer> sizes = new TreeSet<>();
+    for (String key : golden.stringPropertyNames()) {
+      sizes.add(Integer.parseInt(key.substring(0, key.indexOf('.'))));
+    }
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write(HEADER);
+      for (int size : sizes) {
+        writer.write("\n");
+        for (String key : KEYS) {
+          String value = golden.getProperty(size + "." + key);
+          if (value != null) {
+            writer.write(size + "." + key + "=" + value + "\n");
+          }
+        }
+      }
+    }
+  }
+
+  private long[] values() {
+    return new long[] {paychecks, gross, bonus, tax, insurance, net, checksum};
+  }
+
+  private static void compare(List<String> mismatches, String name, long expected, long actual) {
+    if (expected != actual) {
+      mismatches.add(name + ": expected " + expected + " but was " + actual);
+    }
+  }
+}
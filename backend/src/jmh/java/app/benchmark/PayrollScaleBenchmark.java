@@ -0,0 +1,255 @@
+package app.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.BusinessManagementApplication;
+import app.dashboard.DashboardService;
+import app.payroll.PayrollService;
+import app.payroll.dto.DistributeBonusRequest;
+import app.payroll.dto.PaycheckPageDTO;
+import app.payroll.dto.PayrollSummaryDTO;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * End-to-end payroll at tenant scale. For each size, boots the application against a fresh
+ * in-memory H2 database in MySQL mode, seeds a {@link SyntheticTenant}, then times the requests
+ * that grow with the tenant: a bonus run over every employee, the payroll summary, paging through
+ * payroll history and the dashboard's recent activity. Each phase reports wall time, SQL statements
+ * prepared and the heap high-water mark.
+ *
+ * <p>The resulting paychecks are checked against golden totals, and the summary against the
+ * paychecks, so an optimisation that changes payroll results fails the run (exit code 1).
+ *
+ * <p>Arguments: {@code --sizes=1000,10000} (employee counts), {@code --golden=<file>}, {@code
+ * --report=<file>}, and {@code --update-golden} to record the totals instead of checking them.
+ */
+public final class PayrollScaleBenchmark {
+
+  private static final String DEFAULT_SIZES = "1000,10000,50000,200000";
+  private static final String DEFAULT_GOLDEN = "src/jmh/golden/payroll-scale.properties";
+  private static final String DEFAULT_REPORT = "target/payroll-scale-report.txt";
+
+  private static final double BONUS_DOLLARS = 500.0;
+  private static final int HISTORY_SAMPLE = 200;
+  private static final int HISTORY_PAGE_SIZE = 20;
+
+  private PayrollScaleBenchmark() {}
+
+  public static void main(String[] args) throws IOException {
+    String sizes = DEFAULT_SIZES;
+    Path goldenFile = Path.of(DEFAULT_GOLDEN);
+    Path reportFile = Path.of(DEFAULT_REPORT);
+    boolean updateGolden = false;
+    for (String arg : args) {
+      if (arg.startsWith("--sizes=")) {
+        sizes = arg.substring("--sizes=".length());
+      } else if (arg.startsWith("--golden=")) {
+        goldenFile = Path.of(arg.substring("--golden=".length()));
+      } else if (arg.startsWith("--report=")) {
+        reportFile = Path.of(arg.substring("--report=".length()));
+      } else if (arg.equals("--update-golden")) {
+        updateGolden = true;
+      } else {
+        throw new IllegalArgumentException("Unknown argument: " + arg);
+      }
+    }
+
+    Properties golden = GoldenTotals.load(goldenFile);
+    List<String> report = new ArrayList<>();
+    report.add(
+        String.format(
+            "%-9s %-18s %10s %12s %14s %12s",
+            "employees",
+            "phase",
+            "millis",
+            "statements",
+            "entities read",
+            "heap peak MB"));
+    List<String> failures = new ArrayList<>();
+
+    for (String size : sizes.split(",")) {
+      int employees = Integer.parseInt(size.trim());
+      RunTotals totals = run(employees, report);
+
+      List<String> mismatches = new ArrayList<>(totals.summaryMismatches());
+      if (updateGolden) {
+        totals.actual().putGolden(golden, employees);
+      } else {
+        mismatches.addAll(totals.actual().compareGolden(golden, employees));
+      }
+      for (String mismatch : mismatches) {
+        failures.add(employees + " employees: " + mismatch);
+      }
+    }
+
+    report.forEach(System.out::println);
+    failures.forEach(failure -> System.out.println("MISMATCH " + failure));
+    Files.createDirectories(reportFile.toAbsolutePath().getParent());
+    List<String> lines = new ArrayList<>(report);
+    failures.forEach(failure -> lines.add("MISMATCH " + failure));
+    Files.write(reportFile, lines, StandardCharsets.UTF_8);
+
+    if (updateGolden) {
+      Files.createDirectories(goldenFile.toAbsolutePath().getParent());
+      GoldenTotals.store(golden, goldenFile);
+      System.out.println("Golden totals written to " + goldenFile);
+    }
+    if (!failures.isEmpty()) {
+      System.exit(1);
+    }
+  }
+
+  /** Totals read back after a run, with any disagreement between them and the payroll summary */
+  private record RunTotals(GoldenTotals actual, List<String> summaryMismatches) {}
+
+  private static RunTotals run(int employees, List<String> report) {
+    try (ConfigurableApplicationContext context = start(employees)) {
+      EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+      Phases phases =
+          new Phases(
+              employees,
+              entityManagerFactory.unwrap(SessionFactory.class).getStatistics(),
+              report);
+      PayrollService payrollService = context.getBean(PayrollService.class);
+      DashboardService dashboardService = context.getBean(DashboardService.class);
+
+      SyntheticTenant.Seeded tenant =
+          phases.measure(
+              "seed",
+              () ->
+                  SyntheticTenant.create(
+                      SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory),
+                      new TransactionTemplate(context.getBean(PlatformTransactionManager.class)),
+                      employees));
+      long companyId = tenant.companyId();
+
+      phases.measure(
+          "distributeBonuses",
+          () ->
+              payrollService.distributeBonuses(
+                  new DistributeBonusRequest(
+                      companyId, BONUS_DOLLARS, null, null, "Scale benchmark bonus")));
+
+      LocalDate today = LocalDate.now();
+      PayrollSummaryDTO summary =
+          phases.measure(
+              "getPayrollSummary",
+              () -> payrollService.getPayrollSummary(companyId, today.minusYears(1), today));
+
+      // An even spread of employees, first page of each
+      long[] employeeIds = tenant.employeeIds();
+      int sample = Math.min(HISTORY_SAMPLE, employeeIds.length);
+      phases.measure(
+          "historyPages x" + sample,
+          () -> {
+            int paychecks = 0;
+            for (int i = 0; i < sample; i++) {
+              long employeeId = employeeIds[(int) ((long) i * employeeIds.length / sample)];
+              PaycheckPageDTO page =
+                  payrollService.getPayrollHistoryPage(
+                      employeeId, null, null, null, HISTORY_PAGE_SIZE);
+              paychecks += page.items().size();
+            }
+            return paychecks;
+          });
+
+      phases.measure("recentActivity", () -> dashboardService.getRecentActivity(companyId));
+
+      GoldenTotals actual = GoldenTotals.query(context.getBean(JdbcTemplate.class), companyId);
+      return new RunTotals(actual, actual.compareSummary(summary));
+    }
+  }
+
+  /** Boot the application against its own in-memory database, with no sample data */
+  private static ConfigurableApplicationContext start(int employees) {
+    return new SpringApplicationBuilder(BusinessManagementApplication.class)
+        .run(
+            // Command-line arguments, so they take precedence over application.properties
+            "--spring.datasource.url=jdbc:h2:mem:payroll_scale_"
+                + employees
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.format_sql=false",
+            "--spring.jpa.properties.hibernate.generate_statistics=true",
+            "--spring.main.banner-mode=off",
+            "--server.port=0",
+            "--app.seed.enabled=false",
+            // Pinned so the golden totals do not move with the application defaults
+            "--payroll.default.tax.rate=0.20",
+            "--payroll.default.insurance.rate=0.05",
+            "--logging.level.root=WARN",
+            "--logging.level.app=WARN");
+  }
+
+  /** Measures phases one after another and adds a report line for each */
+  private static final class Phases {
+
+    private final int employees;
+    private final Statistics statistics;
+    private final List<String> report;
+    private final List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+
+    Phases(int employees, Statistics statistics, List<String> report) {
+      this.employees = employees;
+      this.statistics = statistics;
+      this.report = report;
+      for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+        if (pool.getType() == MemoryType.HEAP) {
+          heapPools.add(pool);
+        }
+      }
+    }
+
+    <T> T measure(String phase, Supplier<T> work) {
+      // Start each phase from a collected heap, so the peak reflects this phase only
+      System.gc();
+      heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+      statistics.clear();
+
+      long startedAt = System.nanoTime();
+      T result = work.get();
+      long millis = (System.nanoTime() - startedAt) / 1_000_000;
+
+      // Sum of per-pool peaks: an upper bound, as pools need not peak at the same moment
+      long peakBytes = 0;
+      for (MemoryPoolMXBean pool : heapPools) {
+        peakBytes += pool.getPeakUsage().getUsed();
+      }
+      report.add(
+          String.format(
+              "%-9d %-18s %10d %12d %14d %12d",
+              employees,
+              phase,
+              millis,
+              statistics.getPrepareStatementCount(),
+              statistics.getEntityLoadCount(),
+              peakBytes / (1024 * 1024)));
+      return result;
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package app.benchmark;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.business.Company;
+import app.employee.Employee;
+import app.employer.Employer;
+import jakarta.persistence.EntityManager;
+
+/**
+ * A synthetic company of any size with a realistic reporting structure: an owner, one head per
+ * department, and teams of {@value #TEAM_SIZE} employees whose first member leads the team and
+ * reports to the department head. Salaries come from a fixed seed, one draw per employee in
+ * creation order, so the same size always produces the same payroll.
+ */
+final class SyntheticTenant {
+
+  /** Seed of the salary draws; changing it invalidates every golden total */
+  static final long SEED = 20240628L;
+
+  static final int TEAM_SIZE = 25;
+
+  static final String[] DEPARTMENTS = {
+    "Engineering", "Sales", "Operations", "Finance", "Marketing", "Support", "Legal", "People"
+  };
+
+  // Whole-dollar salaries between $40,000 and $150,000; team leads earn a fixed premium on top
+  private static final int BASE_SALARY = 40_000;
+  private static final int SALARY_SPREAD = 110_001;
+  private static final int LEAD_PREMIUM = 20_000;
+
+  // Hire dates cycle through the last two years, so about 1% of staff count as recent hires
+  private static final int HIRE_DATE_CYCLE_DAYS = 730;
+
+  private static final int EMPLOYEES_PER_TRANSACTION = 1_000;
+
+  /** IDs of the seeded company and its employees, in creation order */
+  record Seeded(long companyId, long[] employeeIds) {}
+
+  private SyntheticTenant() {}
+
+  /**
+   * Annual salary of the next employee, in whole dollars
+   *
+   * @param random Generator seeded with {@link #SEED}, advanced once per call
+   * @param index Position of the employee in creation order
+   */
+  static int salary(Random random, int index) {
+    int salary = BASE_SALARY + random.nextInt(SALARY_SPREAD);
+    return isTeamLead(index) ? salary + LEAD_PREMIUM : salary;
+  }
+
+  static boolean isTeamLead(int index) {
+    return index % TEAM_SIZE == 0;
+  }
+
+  /**
+   * Persist a company with the given number of employees plus its owner and department heads.
+   * Employees are written in transactions of {@value #EMPLOYEES_PER_TRANSACTION} so the persistence
+   * context stays small at any size.
+   */
+  static Seeded create(EntityManager entityManager, TransactionTemplate transactions, int size) {
+    LocalDate today = LocalDate.now();
+
+    long[] headIds = new long[DEPARTMENTS.length];
+    long companyId =
+        transactions.execute(
+            status -> {
+              Company company = new Company("Scale Test Co " + size, "1 Benchmark Way");
+              entityManager.persist(company);
+
+              Employer owner =
+                  new Employer(
+                      "Owner", "owner@scale.example", "unused", 250_000.0, "Executive", "CEO");
+              owner.setCompany(company);
+              owner.setIsOwner(true);
+              owner.setIsAdmin(true);
+              entityManager.persist(owner);
+
+              for (int d = 0; d < DEPARTMENTS.length; d++) {
+                Employer head =
+                    new Employer(
+                        DEPARTMENTS[d] + " Head",
+                        "head" + d + "@scale.example",
+                        "unused",
+                        180_000.0,
+                        DEPARTMENTS[d],
+                        "Head of " + DEPARTMENTS[d]);
+                head.setCompany(company);
+                entityManager.persist(head);
+                headIds[d] = head.getId();
+              }
+              return company.getId();
+            });
+
+    Random random = new Random(SEED);
+    long[] employeeIds = new long[size];
+    long[] leadIds = new long[(size + TEAM_SIZE - 1) / TEAM_SIZE];
+    for (int from = 0; from < size; from += EMPLOYEES_PER_TRANSACTION) {
+      int start = from;
+      int end = Math.min(size, from + EMPLOYEES_PER_TRANSACTION);
+      transactions.executeWithoutResult(
+          status -> {
+            Company company = entityManager.getReference(Company.class, companyId);
+            for (int i = start; i < end; i++) {
+              int team = i / TEAM_SIZE;
+              boolean lead = isTeamLead(i);
+              Employee employee =
+                  new Employee(
+                      "Employee " + i,
+                      "employee" + i + "@scale.example",
+                      "unused",
+                      (double) salary(random, i),
+                      lead ? "Team Lead" : "Associate");
+              employee.setCompany(company);
+              employee.setHireDate(today.minusDays(i % HIRE_DATE_CYCLE_DAYS));
+              employee.setManager(
+                  lead
+                      ? entityManager.getReference(
+                          Employer.class, headIds[team % DEPARTMENTS.length])
+                      : entityManager.getReference(Employee.class, leadIds[team]));
+              entityManager.persist(employee);
+
+              employeeIds[i] = employee.getId();
+              if (lead) {
+                leadIds[team] = employee.getId();
+              }
+            }
+            entityManager.flush();
+            entityManager.clear();
+          });
+    }
+    return new Seeded(companyId, employeeIds);
+  }
+}
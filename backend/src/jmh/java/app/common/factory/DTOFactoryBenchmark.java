@@ -0,0 +1,121 @@
+package app.common.factory;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import app.business.Company;
+import app.employee.Employee;
+import app.employee.dto.EmployeeDTO;
+import app.payroll.Paycheck;
+import app.payroll.PaycheckRow;
+import app.payroll.PaycheckStatus;
+import app.payroll.dto.PaycheckDTO;
+import app.user.PersonStatus;
+
+/**
+ * DTO creation for the listings that convert thousands of rows per request: paychecks from an
+ * entity or a row projection, with and without an itemised deduction breakdown, and employees.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DTOFactoryBenchmark {
+
+  private static final LocalDate PAY_DATE = LocalDate.of(2024, 6, 28);
+
+  /** A paycheck as an entity and as a row, with a breakdown of the given number of deductions */
+  @State(Scope.Thread)
+  public static class Paychecks {
+
+    /** Number of itemised deductions stored on the paycheck; 0 stores no breakdown */
+    @Param({"0", "1", "5"})
+    public int breakdownSize;
+
+    Employee employee;
+    Paycheck paycheck;
+    PaycheckRow row;
+
+    @Setup
+    public void setUp() {
+      String breakdown = null;
+      if (breakdownSize > 0) {
+        StringBuilder encoded = new StringBuilder();
+        for (int i = 0; i < breakdownSize; i++) {
+          if (i > 0) {
+            encoded.append(';');
+          }
+          encoded.append('D').append(i).append('=').append(425_000L / breakdownSize);
+        }
+        breakdown = encoded.toString();
+      }
+
+      employee = newEmployee();
+      paycheck = new Paycheck(employee, 8_500_000L, 1_700_000L, 425_000L, PAY_DATE);
+      paycheck.setId(1001L);
+      paycheck.setBonusCents(50_000L);
+      paycheck.setDeductionBreakdown(breakdown);
+
+      row =
+          new PaycheckRow(
+              1001L,
+              42L,
+              "Bench Employee",
+              8_500_000L,
+              50_000L,
+              1_700_000L,
+              425_000L,
+              breakdown,
+              6_425_000L,
+              PAY_DATE,
+              "Flat Tax Strategy",
+              PaycheckStatus.PAID);
+    }
+  }
+
+  private final DTOFactory dtoFactory = new DTOFactory();
+
+  private final Employee employee = newEmployee();
+
+  private static Employee newEmployee() {
+    Company company = new Company("Bench Co", "1 Main St");
+    company.setId(1L);
+
+    Employee employee =
+        new Employee("Bench Employee", "bench@example.com", "secret", 85_000.0, "Engineer");
+    employee.setId(42L);
+    employee.setCompany(company);
+    employee.setStatus(PersonStatus.Active);
+    employee.setHireDate(LocalDate.of(2020, 3, 1));
+    return employee;
+  }
+
+  @Benchmark
+  public PaycheckDTO paycheckFromEntity(Paychecks paychecks) {
+    return dtoFactory.createDTO(paychecks.paycheck, paychecks.employee, "Flat Tax Strategy");
+  }
+
+  @Benchmark
+  public PaycheckDTO paycheckFromRow(Paychecks paychecks) {
+    return dtoFactory.createDTO(paychecks.row);
+  }
+
+  @Benchmark
+  public EmployeeDTO employee() {
+    return dtoFactory.createDTO(employee);
+  }
+}
@@ -0,0 +1,191 @@
+package app.payroll;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import app.employee.Employee;
+import app.payroll.deduction.CompanyDeduction;
+import app.payroll.deduction.DeductionPlan;
+import app.payroll.deduction.DeductionType;
+
+/**
+ * Per-paycheck arithmetic: net pay, building a paycheck the way a payroll run does, and evaluating
+ * deduction plans of increasing size. Allocation per operation (gc.alloc.rate.norm under -prof gc)
+ * should stay at zero for calculateNetPay and evaluateDeductions.
+ *
+ * <p>The totals* benchmarks compare the money representations a payroll run could use over a
+ * roster: doubles as paychecks held before, BigDecimal rounded to the cent, and the long cents
+ * paychecks hold now.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaycheckBenchmark {
+
+  private static final long GROSS_CENTS = 8_500_000L;
+  private static final long TAX_CENTS = 1_700_000L;
+  private static final long INSURANCE_CENTS = 425_000L;
+  private static final long BONUS_CENTS = 50_000L;
+
+  private static final double TAX_RATE = 0.20;
+  private static final double INSURANCE_RATE = 0.05;
+  private static final BigDecimal TAX_RATE_DECIMAL = BigDecimal.valueOf(TAX_RATE);
+  private static final BigDecimal INSURANCE_RATE_DECIMAL = BigDecimal.valueOf(INSURANCE_RATE);
+  private static final BigDecimal BONUS_DECIMAL = BigDecimal.valueOf(BONUS_CENTS, 2);
+  private static final double BONUS_DOLLARS = Money.toDollars(BONUS_CENTS);
+
+  /** The same gross pay, in cents, in each representation; fixed seed */
+  @State(Scope.Thread)
+  public static class Roster {
+
+    @Param({"1000", "50000"})
+    public int rosterSize;
+
+    long[] grossCents;
+    double[] grossDollars;
+    BigDecimal[] grossDecimal;
+
+    @Setup
+    public void setUp() {
+      // Monthly gross between $1,500 and $20,000
+      Random random = new Random(42);
+      grossCents = new long[rosterSize];
+      grossDollars = new double[rosterSize];
+      grossDecimal = new BigDecimal[rosterSize];
+      for (int i = 0; i < rosterSize; i++) {
+        grossCents[i] = 150_000L + (long) (random.nextDouble() * 1_850_000L);
+        grossDollars[i] = Money.toDollars(grossCents[i]);
+        grossDecimal[i] = BigDecimal.valueOf(grossCents[i], 2);
+      }
+    }
+  }
+
+  /** A realistic mix of retirement percentages, tiered health premiums and garnishments */
+  @State(Scope.Thread)
+  public static class Plan {
+
+    @Param({"1", "5", "20"})
+    public int deductionCount;
+
+    DeductionPlan plan;
+    long[] amounts;
+
+    @Setup
+    public void setUp() {
+      DeductionType[] types = DeductionType.values();
+      List<CompanyDeduction> deductions = new ArrayList<>(deductionCount);
+      for (int i = 0; i < deductionCount; i++) {
+        DeductionType type = types[i % types.length];
+        boolean fixed = type == DeductionType.FIXED;
+        deductions.add(
+            new CompanyDeduction(
+                1L,
+                i,
+                "D" + i,
+                "Deduction " + i,
+                type,
+                fixed ? null : 0.01 + 0.002 * i,
+                fixed ? 5_000L + 1_000L * i : null,
+                (i % 2 == 0) ? 150_000L : null,
+                (i % 4 == 1) ? 2_000_000L : null,
+                null));
+      }
+      plan = DeductionPlan.compile(deductions, 1L);
+      amounts = new long[plan.size()];
+    }
+  }
+
+  private final Employee employee =
+      new Employee("Bench Employee", "bench@example.com", "secret", 85_000.0, "Engineer");
+  private final LocalDate payDate = LocalDate.of(2024, 6, 28);
+
+  private Paycheck paycheck;
+
+  @Setup
+  public void setUp() {
+    paycheck = new Paycheck(employee, GROSS_CENTS, TAX_CENTS, INSURANCE_CENTS, payDate);
+    paycheck.setBonusCents(BONUS_CENTS);
+  }
+
+  @Benchmark
+  public long calculateNetPay() {
+    return paycheck.calculateNetPayCents();
+  }
+
+  /** Construct a paycheck and set its bonus, as calculateBatch does per employee */
+  @Benchmark
+  public Paycheck buildPaycheck() {
+    Paycheck built = new Paycheck(employee, GROSS_CENTS, TAX_CENTS, INSURANCE_CENTS, payDate);
+    built.setBonusCents(BONUS_CENTS);
+    return built;
+  }
+
+  @Benchmark
+  public long evaluateDeductions(Plan plan) {
+    return plan.plan.evaluate(GROSS_CENTS, TAX_CENTS, plan.amounts);
+  }
+
+  /** Evaluation plus the compact breakdown stored on the paycheck */
+  @Benchmark
+  public String evaluateAndEncodeDeductions(Plan plan) {
+    plan.plan.evaluate(GROSS_CENTS, TAX_CENTS, plan.amounts);
+    return plan.plan.encode(plan.amounts);
+  }
+
+  /** Deductions, net pay and the run total as doubles, unrounded as paychecks used to be */
+  @Benchmark
+  public double totalsDouble(Roster roster) {
+    double total = 0.0;
+    for (double gross : roster.grossDollars) {
+      double tax = gross * TAX_RATE;
+      double insurance = gross * INSURANCE_RATE;
+      total += gross - tax - insurance + BONUS_DOLLARS;
+    }
+    return total;
+  }
+
+  /** The same in BigDecimal, each deduction rounded half up to the cent */
+  @Benchmark
+  public BigDecimal totalsBigDecimal(Roster roster) {
+    BigDecimal total = BigDecimal.ZERO;
+    for (BigDecimal gross : roster.grossDecimal) {
+      BigDecimal tax = gross.multiply(TAX_RATE_DECIMAL).setScale(2, RoundingMode.HALF_UP);
+      BigDecimal insurance =
+          gross.multiply(INSURANCE_RATE_DECIMAL).setScale(2, RoundingMode.HALF_UP);
+      total = total.add(gross.subtract(tax).subtract(insurance).add(BONUS_DECIMAL));
+    }
+    return total;
+  }
+
+  /** The same in long cents with Money, as paychecks compute it now */
+  @Benchmark
+  public long totalsCents(Roster roster) {
+    long total = 0L;
+    for (long gross : roster.grossCents) {
+      long tax = Money.applyRate(gross, TAX_RATE);
+      long insurance = Money.applyRate(gross, INSURANCE_RATE);
+      total += gross - tax - insurance + BONUS_CENTS;
+    }
+    return total;
+  }
+}
@@ -0,0 +1,123 @@
+package app.payroll.strategy;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Tax calculation over a whole roster, one operation per roster. Compares the scalar API called
+ * once per employee (how single paychecks are taxed) with the batch API used by payroll runs, for
+ * both strategies and a range of bracket counts, and the progressive strategy with the TreeMap
+ * walk it replaced ({@link LegacyProgressiveTaxStrategy}, shared with the tests).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaxStrategyBenchmark {
+
+  /** Gross pay of a roster; fixed seed so every run taxes the same salaries */
+  @State(Scope.Thread)
+  public static class Roster {
+
+    @Param({"100", "5000", "50000"})
+    public int rosterSize;
+
+    long[] grossPayCents;
+    long[] taxCents;
+
+    @Setup
+    public void setUp() {
+      // Salaries between $20,000 and $250,000
+      Random random = new Random(42);
+      grossPayCents = new long[rosterSize];
+      for (int i = 0; i < rosterSize; i++) {
+        grossPayCents[i] = 2_000_000L + (long) (random.nextDouble() * 23_000_000L);
+      }
+      taxCents = new long[rosterSize];
+    }
+  }
+
+  /** Progressive strategy with thresholds up to $300,000 and rates rising from 5% to 45% */
+  @State(Scope.Benchmark)
+  public static class Brackets {
+
+    @Param({"3", "7", "15"})
+    public int bracketCount;
+
+    TaxCalculationStrategy progressive;
+    LegacyProgressiveTaxStrategy legacy;
+
+    @Setup
+    public void setUp() {
+      Map<Double, Double> brackets = new TreeMap<>();
+      for (int i = 0; i < bracketCount; i++) {
+        double threshold = 300_000.0 * (i + 1) / bracketCount;
+        double rate = (bracketCount == 1) ? 0.20 : 0.05 + 0.40 * i / (bracketCount - 1);
+        brackets.put(threshold, rate);
+      }
+      progressive = new ProgressiveTaxStrategy(brackets);
+      legacy = new LegacyProgressiveTaxStrategy(brackets);
+    }
+  }
+
+  private final TaxCalculationStrategy flat = new FlatTaxStrategy(0.20);
+
+  @Benchmark
+  public void flatScalar(Roster roster, Blackhole blackhole) {
+    for (long gross : roster.grossPayCents) {
+      blackhole.consume(flat.calculateTaxCents(gross));
+    }
+  }
+
+  @Benchmark
+  public long[] flatBatch(Roster roster) {
+    flat.calculateTaxCents(roster.grossPayCents, roster.taxCents);
+    return roster.taxCents;
+  }
+
+  @Benchmark
+  public void progressiveScalar(Roster roster, Brackets brackets, Blackhole blackhole) {
+    for (long gross : roster.grossPayCents) {
+      blackhole.consume(brackets.progressive.calculateTaxCents(gross));
+    }
+  }
+
+  @Benchmark
+  public long[] progressiveBatch(Roster roster, Brackets brackets) {
+    brackets.progressive.calculateTaxCents(roster.grossPayCents, roster.taxCents);
+    return roster.taxCents;
+  }
+
+  /** The double-based API the strategies started with, for comparison with the cents API */
+  @Benchmark
+  public void progressiveDollars(Roster roster, Brackets brackets, Blackhole blackhole) {
+    for (long gross : roster.grossPayCents) {
+      blackhole.consume(brackets.progressive.calculateTax(gross / 100.0));
+    }
+  }
+
+  /** The TreeMap walk progressiveDollars replaced, with the same dollar API */
+  @Benchmark
+  public void legacyTreeMap(Roster roster, Brackets brackets, Blackhole blackhole) {
+    for (long gross : roster.grossPayCents) {
+      blackhole.consume(brackets.legacy.calculateTax(gross / 100.0));
+    }
+  }
+}
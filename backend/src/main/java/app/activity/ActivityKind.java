@@ -0,0 +1,35 @@
+package app.activity;
+
+/**
+ * What an activity log entry records. Each kind belongs to one of the dashboard feed's categories
+ * and carries the status the feed shows it with.
+ */
+public enum ActivityKind {
+  PAYROLL_RUN("PAYROLL", "completed"),
+  BONUS("PAYROLL", "completed"),
+  PAYCHECK_STATUS("PAYROLL", "info"),
+  HIRE("EMPLOYEE", "info"),
+  SALARY_CHANGE("EMPLOYEE", "info"),
+  MANAGER_CHANGE("EMPLOYEE", "info"),
+  STATUS_CHANGE("EMPLOYEE", "info"),
+  DEPARTURE("EMPLOYEE", "warning"),
+  TRAINING_ASSIGNED("TRAINING", "info");
+
+  private final String category;
+  private final String status;
+
+  ActivityKind(String category, String status) {
+    this.category = category;
+    this.status = status;
+  }
+
+  /** Feed category: "PAYROLL", "EMPLOYEE" or "TRAINING" */
+  public String getCategory() {
+    return category;
+  }
+
+  /** Feed status: "completed", "info" or "warning" */
+  public String getStatus() {
+    return status;
+  }
+}
@@ -0,0 +1,86 @@
+package app.activity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * One entry of a company's append-only activity log, written by the service that made the change in
+ * the same transaction. Entries are never updated, so instances can be shared freely once saved.
+ */
+@Entity
+@Immutable
+// The latest entries of a company are one backward range scan of (company_id, occurred_at, id)
+@Table(
+    name = "activity_log",
+    indexes =
+        @Index(name = "idx_activity_log_company_time", columnList = "company_id, occurred_at, id"))
+public class ActivityLogEntry {
+
+  static final int MAX_TITLE_LENGTH = 255;
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "company_id", nullable = false)
+  private Long companyId;
+
+  @Column(name = "occurred_at", nullable = false)
+  private LocalDateTime occurredAt;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "kind", nullable = false, length = 30)
+  private ActivityKind kind;
+
+  /** ID of the employee, paycheck or training the entry is about, if there is a single one */
+  @Column(name = "subject_id")
+  private Long subjectId;
+
+  @Column(name = "title", nullable = false, length = MAX_TITLE_LENGTH)
+  private String title;
+
+  protected ActivityLogEntry() {}
+
+  public ActivityLogEntry(Long companyId, ActivityKind kind, Long subjectId, String title) {
+    this.companyId = companyId;
+    this.occurredAt = LocalDateTime.now();
+    this.kind = kind;
+    this.subjectId = subjectId;
+    this.title = (title.length() > MAX_TITLE_LENGTH) ? title.substring(0, MAX_TITLE_LENGTH) : title;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getCompanyId() {
+    return companyId;
+  }
+
+  public LocalDateTime getOccurredAt() {
+    return occurredAt;
+  }
+
+  public ActivityKind getKind() {
+    return kind;
+  }
+
+  public Long getSubjectId() {
+    return subjectId;
+  }
+
+  public String getTitle() {
+    return title;
+  }
+}
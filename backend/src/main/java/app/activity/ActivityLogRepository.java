@@ -0,0 +1,45 @@
+package app.activity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/** Repository for the activity log; entries are only ever inserted */
+@Repository
+public interface ActivityLogRepository extends JpaRepository<ActivityLogEntry, Long> {
+
+  /** Latest entries of a company, newest first */
+  @Query(
+      "SELECT a FROM ActivityLogEntry a WHERE a.companyId = :companyId "
+          + "ORDER BY a.occurredAt DESC, a.id DESC")
+  List<ActivityLogEntry> findLatest(Long companyId, Pageable page);
+
+  /** Seed one entry per company and pay date since the given date, from the payroll rollup */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO activity_log (company_id, occurred_at, kind, subject_id, title) "
+              + "SELECT r.company_id, r.pay_date, 'PAYROLL_RUN', NULL, "
+              + "CONCAT('Payroll generated for ', SUM(r.paycheck_count), ' employees (Total: $', "
+              + "CAST(SUM(r.net_pay_cents) / 100.0 AS DECIMAL(19, 2)), ')') "
+              + "FROM payroll_daily_rollup r WHERE r.pay_date >= :from AND r.paycheck_count > 0 "
+              + "GROUP BY r.company_id, r.pay_date",
+      nativeQuery = true)
+  int insertPayrollsSince(LocalDate from);
+
+  /** Seed one entry per employee hired since the given date */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO activity_log (company_id, occurred_at, kind, subject_id, title) "
+              + "SELECT bp.company_id, bp.hire_date, 'HIRE', bp.id, CONCAT('New Hire: ', bp.name) "
+              + "FROM business_person bp JOIN employee e ON e.id = bp.id "
+              + "WHERE bp.company_id IS NOT NULL AND bp.hire_date >= :from",
+      nativeQuery = true)
+  int insertHiresSince(LocalDate from);
+}
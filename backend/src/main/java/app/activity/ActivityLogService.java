@@ -0,0 +1,27 @@
+package app.activity;
+
+import java.util.List;
+
+/** Service for the append-only activity log behind the dashboard feed */
+public interface ActivityLogService {
+
+  /**
+   * Append an entry in the caller's transaction. It is visible to readers once that commits and
+   * discarded if it rolls back. Entries without a company are ignored.
+   *
+   * @param companyId Company the activity belongs to
+   * @param kind What happened
+   * @param subjectId ID of the employee, paycheck or training concerned, or null
+   * @param title Human-readable description
+   */
+  void record(Long companyId, ActivityKind kind, Long subjectId, String title);
+
+  /**
+   * Get a company's latest entries
+   *
+   * @param companyId ID of the company
+   * @param limit Maximum number of entries
+   * @return Entries, newest first
+   */
+  List<ActivityLogEntry> getLatest(Long companyId, int limit);
+}
@@ -0,0 +1,84 @@
+package app.activity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of ActivityLogService. Reads are served from {@link ActivityRingBuffers} when the
+ * company is buffered, otherwise by one indexed query that also fills the buffer.
+ */
+@Service
+@Transactional
+public class ActivityLogServiceImpl implements ActivityLogService {
+
+  private static final Logger logger = LoggerFactory.getLogger(ActivityLogServiceImpl.class);
+
+  /** How far back an empty log is seeded from existing payroll and hires */
+  private static final int BACKFILL_DAYS = 30;
+
+  private final ActivityLogRepository activityLogRepository;
+  private final ActivityRingBuffers ringBuffers;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public ActivityLogServiceImpl(
+      ActivityLogRepository activityLogRepository,
+      ActivityRingBuffers ringBuffers,
+      ApplicationEventPublisher eventPublisher) {
+    this.activityLogRepository = activityLogRepository;
+    this.ringBuffers = ringBuffers;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /** Seed the log on startup when it has never been written, so feeds do not start out empty */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillIfEmpty() {
+    if (activityLogRepository.count() > 0) {
+      return;
+    }
+    LocalDate from = LocalDate.now().minusDays(BACKFILL_DAYS);
+    int payrolls = activityLogRepository.insertPayrollsSince(from);
+    int hires = activityLogRepository.insertHiresSince(from);
+    if (payrolls + hires > 0) {
+      logger.info("Activity log seeded with {} payroll and {} hire entries", payrolls, hires);
+    }
+  }
+
+  @Override
+  public void record(Long companyId, ActivityKind kind, Long subjectId, String title) {
+    if (companyId == null) {
+      return;
+    }
+    ActivityLogEntry entry =
+        activityLogRepository.save(new ActivityLogEntry(companyId, kind, subjectId, title));
+    eventPublisher.publishEvent(new ActivityRecordedEvent(entry));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<ActivityLogEntry> getLatest(Long companyId, int limit) {
+    if (limit <= 0) {
+      throw new IllegalArgumentException("Limit must be positive");
+    }
+    List<ActivityLogEntry> buffered = ringBuffers.latest(companyId, limit);
+    if (buffered != null) {
+      return buffered;
+    }
+
+    // Read a full buffer's worth so the next reads of this company need no query
+    long version = ringBuffers.version(companyId);
+    List<ActivityLogEntry> entries =
+        activityLogRepository.findLatest(
+            companyId, PageRequest.of(0, Math.max(limit, ringBuffers.capacity())));
+    ringBuffers.fill(companyId, version, entries);
+    return (entries.size() > limit) ? List.copyOf(entries.subList(0, limit)) : entries;
+  }
+}
@@ -0,0 +1,9 @@
+package app.activity;
+
+/**
+ * Published when an activity log entry is appended. Listeners that act after commit only hear about
+ * entries that were actually kept.
+ *
+ * @param entry The new entry
+ */
+public record ActivityRecordedEvent(ActivityLogEntry entry) {}
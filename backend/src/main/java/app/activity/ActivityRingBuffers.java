@@ -0,0 +1,163 @@
+package app.activity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * The latest activity log entries of the most recently read companies, held in memory.
+ *
+ * <p>A company gets a ring buffer when its feed is first read from the database; from then on
+ * committed entries are appended as they are recorded, so reads of hot tenants never touch the
+ * database. The least recently read company is dropped once too many are buffered. As with the
+ * other caches, callers read the company's version before querying, and a buffer filled from a
+ * query that raced with a new entry is not kept.
+ */
+@Component
+public class ActivityRingBuffers {
+
+  private static final Comparator<ActivityLogEntry> NEWEST_FIRST =
+      Comparator.comparing(ActivityLogEntry::getOccurredAt)
+          .thenComparing(ActivityLogEntry::getId)
+          .reversed();
+
+  private final int capacity;
+  private final int maxCompanies;
+  private final Map<Long, Ring> rings;
+  private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+  public ActivityRingBuffers(
+      @Value("${activity.buffer.size:50}") int capacity,
+      @Value("${activity.buffer.companies:1000}") int maxCompanies) {
+    if (capacity <= 0 || maxCompanies <= 0) {
+      throw new IllegalArgumentException("Activity buffer sizes must be positive");
+    }
+    this.capacity = capacity;
+    this.maxCompanies = maxCompanies;
+    // Access-ordered LinkedHashMap drops the least recently read company
+    this.rings =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, Ring> eldest) {
+            return size() > ActivityRingBuffers.this.maxCompanies;
+          }
+        };
+  }
+
+  /** Entries kept per company; longer reads go to the database */
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Get the current version of a company's log. Read it before querying the database.
+   *
+   * @param companyId ID of the company
+   * @return Version, bumped on every committed entry
+   */
+  public long version(Long companyId) {
+    return versions.getOrDefault(companyId, 0L);
+  }
+
+  /**
+   * Latest entries of a company from its buffer
+   *
+   * @param companyId ID of the company
+   * @param limit Maximum number of entries
+   * @return Entries, newest first, or null if the company is not buffered or limit is too large
+   */
+  public List<ActivityLogEntry> latest(Long companyId, int limit) {
+    if (limit > capacity) {
+      return null;
+    }
+    Ring ring;
+    synchronized (rings) {
+      ring = rings.get(companyId);
+    }
+    return (ring != null) ? ring.latest(limit) : null;
+  }
+
+  /**
+   * Start buffering a company with entries read from the database, unless an entry was recorded
+   * after the version was read
+   *
+   * @param companyId ID of the company
+   * @param version Version from {@link #version(Long)}, read before the query
+   * @param newestFirst Up to {@link #capacity()} latest entries, newest first
+   */
+  public void fill(Long companyId, long version, List<ActivityLogEntry> newestFirst) {
+    synchronized (rings) {
+      if (version == version(companyId) && !rings.containsKey(companyId)) {
+        Ring ring = new Ring(capacity);
+        for (int i = Math.min(newestFirst.size(), capacity) - 1; i >= 0; i--) {
+          ring.add(newestFirst.get(i));
+        }
+        rings.put(companyId, ring);
+      }
+    }
+  }
+
+  /**
+   * Append entries once their transaction has committed. Runs before other listeners, so caches
+   * that are invalidated by the same commit are never rebuilt from a buffer missing the entry.
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onActivityRecorded(ActivityRecordedEvent event) {
+    ActivityLogEntry entry = event.entry();
+    Ring ring;
+    synchronized (rings) {
+      versions.merge(entry.getCompanyId(), 1L, Long::sum);
+      ring = rings.get(entry.getCompanyId());
+    }
+    if (ring != null) {
+      ring.add(entry);
+    }
+  }
+
+  /** Fixed-size buffer of a company's latest entries, oldest overwritten first */
+  private static final class Ring {
+
+    private final ActivityLogEntry[] entries;
+    private int next;
+    private int size;
+
+    Ring(int capacity) {
+      this.entries = new ActivityLogEntry[capacity];
+    }
+
+    synchronized void add(ActivityLogEntry entry) {
+      // A fill that raced with this entry's commit may already hold it
+      for (int i = 0; i < size; i++) {
+        if (entries[i].getId().equals(entry.getId())) {
+          return;
+        }
+      }
+      entries[next] = entry;
+      next = (next + 1) % entries.length;
+      size = Math.min(size + 1, entries.length);
+    }
+
+    List<ActivityLogEntry> latest(int limit) {
+      List<ActivityLogEntry> copy;
+      synchronized (this) {
+        copy = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          copy.add(entries[i]);
+        }
+      }
+      // Commit order can differ slightly from the order entries were created in
+      copy.sort(NEWEST_FIRST);
+      return (copy.size() > limit) ? List.copyOf(copy.subList(0, limit)) : copy;
+    }
+  }
+}
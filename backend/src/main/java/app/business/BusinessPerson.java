@@ -15,6 +15,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
@@ -27,7 +28,18 @@ import jakarta.persistence.Table;
  * inheritance - each subclass has its own table with a foreign key to this table.
  */
 @Entity
-@Table(name = "business_person")
+// Listings filter by company and seek on (sort column, id), so each sortable column has an index
+// that serves a page as one range scan
+@Table(
+    name = "business_person",
+    indexes = {
+      @Index(name = "idx_business_person_company_name", columnList = "company_id, name, id"),
+      @Index(name = "idx_business_person_company_status", columnList = "company_id, status, id"),
+      @Index(
+          name = "idx_business_person_company_hire_date",
+          columnList = "company_id, hire_date, id"),
+      @Index(name = "idx_business_person_company_salary", columnList = "company_id, salary, id")
+    })
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "person_type", discriminatorType = DiscriminatorType.STRING)
 public abstract class BusinessPerson {
@@ -1,7 +1,25 @@
 package app.business;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface BusinessPersonRepository extends JpaRepository<BusinessPerson, Long> {}
+public interface BusinessPersonRepository extends JpaRepository<BusinessPerson, Long> {
+
+  /** Headcount of a company by person type and status, with how many were hired since a date */
+  @Query(
+      value =
+          "SELECT bp.person_type AS personType, bp.status AS status, "
+              + "COUNT(*) AS personCount, "
+              + "COALESCE(SUM(CASE WHEN bp.hire_date >= :hiredSince THEN 1 ELSE 0 END), 0) "
+              + "AS hiredSinceCount FROM business_person bp WHERE bp.company_id = :companyId "
+              + "GROUP BY bp.person_type, bp.status",
+      nativeQuery = true)
+  List<PersonCount> countByTypeAndStatus(
+      @Param("companyId") Long companyId, @Param("hiredSince") LocalDate hiredSince);
+}
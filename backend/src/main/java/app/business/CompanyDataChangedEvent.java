@@ -0,0 +1,9 @@
+package app.business;
+
+/**
+ * Published when data shown on a company's dashboard changes (paychecks, employees, trainings), so
+ * views cached per company can be dropped.
+ *
+ * @param companyId ID of the affected company
+ */
+public record CompanyDataChangedEvent(Long companyId) {}
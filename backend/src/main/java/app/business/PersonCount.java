@@ -0,0 +1,17 @@
+package app.business;
+
+/**
+ * Aggregate projection counting a company's people of one type (EMPLOYEE or EMPLOYER) and status,
+ * computed by the database
+ */
+public interface PersonCount {
+
+  String getPersonType();
+
+  String getStatus();
+
+  long getPersonCount();
+
+  /** How many of them were hired on or after the date given to the query */
+  long getHiredSinceCount();
+}
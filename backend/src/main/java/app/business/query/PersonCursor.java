@@ -0,0 +1,80 @@
+package app.business.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import app.business.BusinessPerson;
+
+/**
+ * Position in a listing of people, handed to clients as an opaque string so they can ask for the
+ * page that follows it. It records the order it was made for, so it cannot be replayed against a
+ * different one.
+ *
+ * @param sort Order of the listing
+ * @param value Sort field value of the last person on the previous page, as written by {@link
+ *     PersonSortField#valueOf(BusinessPerson)}; null if that person had none
+ * @param id ID of the last person on the previous page
+ */
+public record PersonCursor(PersonSort sort, String value, Long id) {
+
+  /**
+   * Cursor pointing just past a person
+   *
+   * @param sort Order of the listing
+   * @param person Last person of a page
+   * @return Cursor for the next page
+   */
+  public static PersonCursor after(PersonSort sort, BusinessPerson person) {
+    return new PersonCursor(sort, sort.field().valueOf(person), person.getId());
+  }
+
+  /**
+   * Encode as an opaque, URL-safe string
+   *
+   * @return Encoded cursor
+   */
+  public String encode() {
+    // The value goes last as it may itself contain the separator, and is left out when null
+    String raw = sort.field().name() + ":" + (sort.ascending() ? "asc" : "desc") + ":" + id;
+    if (value != null) {
+      raw += ":" + value;
+    }
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decode a cursor produced by {@link #encode()}
+   *
+   * @param cursor Encoded cursor
+   * @param sort Order of the listing being requested
+   * @return Decoded cursor
+   * @throws IllegalArgumentException if the cursor is malformed or was made for another order
+   */
+  public static PersonCursor decode(String cursor, PersonSort sort) {
+    PersonCursor decoded;
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(":", 4);
+      if (parts.length < 3 || !(parts[1].equals("asc") || parts[1].equals("desc"))) {
+        throw new IllegalArgumentException("Malformed cursor");
+      }
+      decoded =
+          new PersonCursor(
+              new PersonSort(PersonSortField.valueOf(parts[0]), parts[1].equals("asc")),
+              (parts.length == 4) ? parts[3] : null,
+              Long.parseLong(parts[2]));
+      // Fail here rather than in the query if the value does not fit the field
+      if (decoded.value() != null) {
+        decoded.sort().field().parse(decoded.value());
+      }
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+    if (!decoded.sort().equals(sort)) {
+      throw new IllegalArgumentException("Cursor was made for a different sort order");
+    }
+    return decoded;
+  }
+}
@@ -0,0 +1,48 @@
+package app.business.query;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import app.user.PersonStatus;
+
+/**
+ * Criteria for listing a company's people, bound from request parameters. Every criterion is
+ * optional; text criteria match case-insensitively.
+ *
+ * @param search Text found in the name, email, or position (employees) / title or department
+ *     (employers)
+ * @param name Text found in the name
+ * @param position Exact position (employees) or title (employers)
+ * @param department Exact department: of the employer, or of an employee's manager
+ * @param status Status
+ * @param hiredFrom Earliest hire date (inclusive)
+ * @param hiredTo Latest hire date (inclusive)
+ * @param minSalary Lowest salary (inclusive)
+ * @param maxSalary Highest salary (inclusive)
+ */
+public record PersonFilter(
+    String search,
+    String name,
+    String position,
+    String department,
+    PersonStatus status,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hiredTo,
+    Double minSalary,
+    Double maxSalary) {
+
+  /**
+   * Check that the ranges are not inverted
+   *
+   * @throws IllegalArgumentException if a range's start is after its end
+   */
+  public void validate() {
+    if (hiredFrom != null && hiredTo != null && hiredFrom.isAfter(hiredTo)) {
+      throw new IllegalArgumentException("Hired-from date cannot be after hired-to date");
+    }
+    if (minSalary != null && maxSalary != null && minSalary > maxSalary) {
+      throw new IllegalArgumentException("Minimum salary cannot be above maximum salary");
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package app.business.query;
+
+import java.util.List;
+
+import app.business.BusinessPerson;
+
+/**
+ * One page of a listing of people, with the cursor of the next page (null on the last page)
+ *
+ * @param <T> Type of person listed
+ */
+public record PersonPage<T extends BusinessPerson>(
+    List<T> items, String nextCursor, boolean hasMore) {
+
+  public static final int DEFAULT_PAGE_SIZE = 50;
+  public static final int MAX_PAGE_SIZE = 200;
+
+  /**
+   * Resolve a requested page size
+   *
+   * @param size Requested size, or null for the default
+   * @return Size to use, capped at {@value #MAX_PAGE_SIZE}
+   * @throws IllegalArgumentException if the size is not positive
+   */
+  public static int pageSize(Integer size) {
+    int pageSize = (size != null) ? size : DEFAULT_PAGE_SIZE;
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+    return Math.min(pageSize, MAX_PAGE_SIZE);
+  }
+
+  /**
+   * Build a page from rows fetched with one extra row, which only tells whether another page
+   * follows
+   *
+   * @param rows Up to pageSize + 1 rows in listing order
+   * @param pageSize Page size
+   * @param sort Order the rows were fetched in
+   * @return The page
+   */
+  public static <T extends BusinessPerson> PersonPage<T> of(
+      List<T> rows, int pageSize, PersonSort sort) {
+    boolean hasMore = rows.size() > pageSize;
+    List<T> items = hasMore ? rows.subList(0, pageSize) : rows;
+    String nextCursor =
+        hasMore ? PersonCursor.after(sort, items.get(items.size() - 1)).encode() : null;
+    return new PersonPage<>(items, nextCursor, hasMore);
+  }
+}
@@ -0,0 +1,51 @@
+package app.business.query;
+
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Order of a listing of people: one field, then ID in the same direction so every row has a unique
+ * position for keyset pagination
+ *
+ * @param field Field to order by
+ * @param ascending Whether the order is ascending
+ */
+public record PersonSort(PersonSortField field, boolean ascending) {
+
+  /**
+   * Parse the sort parameters of a request
+   *
+   * @param sortBy Attribute name, e.g. "hireDate"; null for name
+   * @param direction "asc" or "desc"; null for ascending
+   * @param allowed Fields the listing can be ordered by
+   * @return Parsed sort
+   * @throws IllegalArgumentException if the field is not allowed or the direction is unknown
+   */
+  public static PersonSort parse(String sortBy, String direction, Set<PersonSortField> allowed) {
+    PersonSortField field = PersonSortField.NAME;
+    if (sortBy != null && !sortBy.isBlank()) {
+      field =
+          allowed.stream()
+              .filter(candidate -> candidate.getAttribute().equalsIgnoreCase(sortBy))
+              .findFirst()
+              .orElseThrow(() -> new IllegalArgumentException("Cannot sort by: " + sortBy));
+    }
+
+    boolean ascending = true;
+    if (direction != null && !direction.isBlank()) {
+      if (direction.equalsIgnoreCase("desc")) {
+        ascending = false;
+      } else if (!direction.equalsIgnoreCase("asc")) {
+        throw new IllegalArgumentException("Sort direction must be asc or desc: " + direction);
+      }
+    }
+    return new PersonSort(field, ascending);
+  }
+
+  /** The order as a Spring Data sort, with ID as the tiebreaker */
+  public Sort toSort() {
+    Sort.Direction order = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+    return Sort.by(order, field.getAttribute()).and(Sort.by(order, "id"));
+  }
+}
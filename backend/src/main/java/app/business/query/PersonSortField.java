@@ -0,0 +1,70 @@
+package app.business.query;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+import app.business.BusinessPerson;
+import app.employee.Employee;
+import app.employer.Employer;
+import app.user.PersonStatus;
+
+/**
+ * A column a listing of people can be ordered by. Each knows its entity attribute and how its value
+ * is written into and read back from a {@link PersonCursor}.
+ */
+public enum PersonSortField {
+  NAME("name", value -> value),
+  POSITION("position", value -> value),
+  DEPARTMENT("department", value -> value),
+  TITLE("title", value -> value),
+  STATUS("status", PersonStatus::valueOf),
+  HIRE_DATE("hireDate", LocalDate::parse),
+  SALARY("salary", Double::valueOf);
+
+  private final String attribute;
+  private final Function<String, ? extends Comparable<?>> parser;
+
+  PersonSortField(String attribute, Function<String, ? extends Comparable<?>> parser) {
+    this.attribute = attribute;
+    this.parser = parser;
+  }
+
+  /** Name of the entity attribute, which is also the name clients sort by */
+  public String getAttribute() {
+    return attribute;
+  }
+
+  /**
+   * Value of this field for a person, as written into a cursor, or null if the person has none.
+   * POSITION only applies to employees, DEPARTMENT and TITLE only to employers.
+   */
+  public String valueOf(BusinessPerson person) {
+    Object value =
+        switch (this) {
+          case NAME -> person.getName();
+          case POSITION -> ((Employee) person).getPosition();
+          case DEPARTMENT -> ((Employer) person).getDepartment();
+          case TITLE -> ((Employer) person).getTitle();
+          case STATUS -> person.getStatus();
+          case HIRE_DATE -> person.getHireDate();
+          case SALARY -> person.getSalary();
+        };
+    return (value != null) ? value.toString() : null;
+  }
+
+  /**
+   * Read a value written by {@link #valueOf(BusinessPerson)}
+   *
+   * @throws IllegalArgumentException if the value does not parse
+   */
+  Comparable<?> parse(String value) {
+    try {
+      return parser.apply(value);
+    } catch (DateTimeParseException e) {
+      // Unlike the number and enum parsers, LocalDate.parse does not throw an
+      // IllegalArgumentException
+      throw new IllegalArgumentException("Invalid " + attribute + ": " + value, e);
+    }
+  }
+}
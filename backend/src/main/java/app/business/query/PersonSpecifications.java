@@ -0,0 +1,109 @@
+package app.business.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import app.business.BusinessPerson;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Query specifications shared by employee and employer listings. Entity-specific criteria
+ * (position, department, title) live next to each repository and combine with these.
+ */
+public final class PersonSpecifications {
+
+  private PersonSpecifications() {}
+
+  /** People of a company; every person when companyId is null */
+  public static <T extends BusinessPerson> Specification<T> inCompany(Long companyId) {
+    return (root, query, cb) ->
+        (companyId != null) ? cb.equal(root.get("company").get("id"), companyId) : null;
+  }
+
+  /** The criteria of a filter shared by every kind of person: name, status, hire date, salary */
+  public static <T extends BusinessPerson> Specification<T> matching(PersonFilter filter) {
+    return (root, query, cb) -> {
+      List<Predicate> predicates = new ArrayList<>();
+      if (hasText(filter.name())) {
+        predicates.add(contains(cb, root.get("name"), filter.name()));
+      }
+      if (filter.status() != null) {
+        predicates.add(cb.equal(root.get("status"), filter.status()));
+      }
+      if (filter.hiredFrom() != null) {
+        predicates.add(cb.greaterThanOrEqualTo(root.get("hireDate"), filter.hiredFrom()));
+      }
+      if (filter.hiredTo() != null) {
+        predicates.add(cb.lessThanOrEqualTo(root.get("hireDate"), filter.hiredTo()));
+      }
+      if (filter.minSalary() != null) {
+        predicates.add(cb.greaterThanOrEqualTo(root.get("salary"), filter.minSalary()));
+      }
+      if (filter.maxSalary() != null) {
+        predicates.add(cb.lessThanOrEqualTo(root.get("salary"), filter.maxSalary()));
+      }
+      return predicates.isEmpty() ? null : cb.and(predicates.toArray(new Predicate[0]));
+    };
+  }
+
+  /**
+   * People after a cursor in the cursor's order. Seeks past the last (field, id) of the previous
+   * page instead of skipping rows, so every page costs the same.
+   *
+   * <p>Sorts leave null handling to the database; MySQL puts nulls first in ascending order and
+   * last in descending order, so a null field comes before every value ascending and after every
+   * value descending.
+   */
+  public static <T extends BusinessPerson> Specification<T> after(PersonCursor cursor) {
+    return (root, query, cb) -> {
+      Path<Comparable<Object>> field = root.get(cursor.sort().field().getAttribute());
+      Path<Long> id = root.get("id");
+      boolean ascending = cursor.sort().ascending();
+      Predicate sameValueAfter =
+          ascending ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+
+      if (cursor.value() == null) {
+        Predicate nullAfter = cb.and(cb.isNull(field), sameValueAfter);
+        return ascending ? cb.or(nullAfter, cb.isNotNull(field)) : nullAfter;
+      }
+      Comparable<Object> value = parse(cursor);
+      Predicate after =
+          cb.or(
+              ascending ? cb.greaterThan(field, value) : cb.lessThan(field, value),
+              cb.and(cb.equal(field, value), sameValueAfter));
+      return ascending ? after : cb.or(after, cb.isNull(field));
+    };
+  }
+
+  /** Case-insensitive substring match */
+  public static Predicate contains(CriteriaBuilder cb, Expression<String> field, String text) {
+    String pattern = "%" + escapeLike(text.trim().toLowerCase()) + "%";
+    return cb.like(cb.lower(field), pattern, '\\');
+  }
+
+  /** Whether a text criterion was given */
+  public static boolean hasText(String value) {
+    return value != null && !value.isBlank();
+  }
+
+  /** Whether a query is fetching rows rather than counting them, so fetch joins are allowed */
+  public static boolean isRowQuery(Root<?> root, CriteriaQuery<?> query) {
+    return query.getResultType().equals(root.getJavaType());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Comparable<Object> parse(PersonCursor cursor) {
+    return (Comparable<Object>) cursor.sort().field().parse(cursor.value());
+  }
+
+  private static String escapeLike(String text) {
+    return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
+}
@@ -1,6 +1,7 @@
 package app.common.exception;
 
 import java.time.LocalDateTime;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,20 +13,25 @@ import app.business.BusinessNotFoundException;
 import app.business.BusinessValidationException;
 import app.business.InvalidBusinessException;
 import app.common.dto.ErrorResponse;
+import app.dashboard.DashboardSubscriptionRejectedException;
 import app.employee.EmployeeNotFoundException;
 import app.employer.EmployerNotFoundException;
 import app.payroll.PayrollCalculationException;
+import app.payroll.job.PayrollJobRejectedException;
 import app.user.UserDisabledException;
 import app.user.UserNotFoundException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+  private static final String SUBSCRIPTION_RETRY_AFTER_SECONDS = "30";
+
   private enum ErrorMessage {
     NOT_FOUND("NOT FOUND"),
     UNAUTHORIZED("Unauthorized"),
     FORBIDDEN("Forbidden"),
     BAD_REQUEST("Bad Request"),
+    TOO_MANY_REQUESTS("Too Many Requests"),
     INTERNAL_SERVER_ERROR("Internal Server Error");
 
     private final String msg;
@@ -146,6 +152,25 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(res);
   }
 
+  @ExceptionHandler(PayrollJobRejectedException.class)
+  public ResponseEntity<ErrorResponse> handlePayrollJobRejectedException(
+      PayrollJobRejectedException e) {
+    ErrorResponse res = new ErrorResponse(LocalDateTime.now(),
+        HttpStatus.TOO_MANY_REQUESTS.value(), ErrorMessage.TOO_MANY_REQUESTS.msg(), e.getMessage());
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(res);
+  }
+
+  /**
+   * No body: the request accepts only text/event-stream, which an ErrorResponse cannot be written
+   * as, so a body would turn the 429 into a content negotiation failure
+   */
+  @ExceptionHandler(DashboardSubscriptionRejectedException.class)
+  public ResponseEntity<Void> handleDashboardSubscriptionRejectedException(
+      DashboardSubscriptionRejectedException e) {
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, SUBSCRIPTION_RETRY_AFTER_SECONDS).build();
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleException(Exception e) {
     ErrorResponse res =
@@ -1,6 +1,8 @@
 package app.common.factory;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
@@ -10,7 +12,10 @@ import app.employee.Employee;
 import app.employee.dto.EmployeeDTO;
 import app.employer.Employer;
 import app.employer.dto.EmployerDTO;
+import app.payroll.Money;
 import app.payroll.Paycheck;
+import app.payroll.PaycheckRow;
+import app.payroll.deduction.DeductionPlan;
 import app.payroll.dto.PaycheckDTO;
 import app.training.Training;
 import app.training.dto.TrainingDTO;
@@ -48,6 +53,14 @@ public class DTOFactory {
   }
 
   public EmployerDTO createDTO(Employer employer) {
+    return createDTO(employer, employer.getDirectReportsCount());
+  }
+
+  /**
+   * Create an employer DTO with a direct report count already known, e.g. counted for a whole page
+   * at once, so the employer's managed employees are not loaded.
+   */
+  public EmployerDTO createDTO(Employer employer, int directReportsCount) {
     EmployerDTO.Builder builder =
         EmployerDTO.builder()
             .withId(employer.getId())
@@ -58,7 +71,7 @@ public class DTOFactory {
             .withHireDate(employer.getHireDate())
             .withDepartment(employer.getDepartment())
             .withTitle(employer.getTitle())
-            .withDirectReportsCount(employer.getDirectReportsCount())
+            .withDirectReportsCount(directReportsCount)
             .withIsAdmin(employer.getIsAdmin())
             .withIsOwner(employer.getIsOwner())
             .withCreatedAt(employer.getCreatedAt())
@@ -118,7 +131,8 @@ public class DTOFactory {
   }
 
   public PaycheckDTO createDTO(Paycheck paycheck, Employee employee, String taxStrategyName) {
-    double totalDeductions = paycheck.getTaxDeduction() + paycheck.getInsuranceDeduction();
+    double totalDeductions =
+        Money.toDollars(paycheck.getTaxDeductionCents() + paycheck.getInsuranceDeductionCents());
 
     return new PaycheckDTO(
         paycheck.getId(),
@@ -129,6 +143,7 @@ public class DTOFactory {
         paycheck.getBonus(), // Bonus amount (null if regular payroll)
         paycheck.getTaxDeduction(),
         paycheck.getInsuranceDeduction(),
+        deductionsOf(paycheck.getDeductionBreakdown()),
         totalDeductions,
         paycheck.getNetPay(),
         paycheck.getPayDate(),
@@ -140,4 +155,32 @@ public class DTOFactory {
         // VOIDED
         );
   }
+
+  public PaycheckDTO createDTO(PaycheckRow row) {
+    double totalDeductions =
+        Money.toDollars(row.taxDeductionCents() + row.insuranceDeductionCents());
+
+    return new PaycheckDTO(
+        row.id(),
+        row.employeeId(),
+        row.employeeName(),
+        Money.toDollars(row.grossPayCents()),
+        Money.toDollars(row.bonusCents()), // null if regular payroll
+        Money.toDollars(row.taxDeductionCents()),
+        Money.toDollars(row.insuranceDeductionCents()),
+        deductionsOf(row.deductionBreakdown()),
+        totalDeductions,
+        Money.toDollars(row.netPayCents()),
+        row.payDate(),
+        row.taxStrategyName(),
+        row.status());
+  }
+
+  /** Itemised deductions of a paycheck in dollars, keyed by deduction code */
+  private static Map<String, Double> deductionsOf(String breakdown) {
+    Map<String, Double> deductions = new LinkedHashMap<>();
+    DeductionPlan.decode(breakdown)
+        .forEach((code, cents) -> deductions.put(code, Money.toDollars(cents)));
+    return deductions;
+  }
 }
@@ -3,6 +3,7 @@ package app.common.util;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +26,7 @@ import app.employee.EmployeeRepository;
 import app.employer.Employer;
 import app.employer.EmployerRepository;
 import app.payroll.Paycheck;
+import app.payroll.PaycheckBatchWriter;
 import app.payroll.PaycheckRepository;
 import app.payroll.PaycheckStatus;
 import app.training.Training;
@@ -78,6 +80,7 @@ public class DatabaseSeeder implements CommandLineRunner {
   private final BusinessPersonRepository businessPersonRepo;
   private final UserRepository userRepo;
   private final PaycheckRepository paycheckRepo;
+  private final PaycheckBatchWriter paycheckBatchWriter;
   private final PasswordEncoder passwordEncoder;
 
   private final Map<Long, Company> companyCache = new HashMap<>();
@@ -87,7 +90,8 @@ public class DatabaseSeeder implements CommandLineRunner {
   public DatabaseSeeder(BusinessRepository businessRepo, EmployeeRepository employeeRepo,
       EmployerRepository employerRepo, TrainingRepository trainingRepo,
       BusinessPersonRepository businessPersonRepo, UserRepository userRepo,
-      PaycheckRepository paycheckRepo, PasswordEncoder passwordEncoder) {
+      PaycheckRepository paycheckRepo, PaycheckBatchWriter paycheckBatchWriter,
+      PasswordEncoder passwordEncoder) {
     this.businessRepo = businessRepo;
     this.employeeRepo = employeeRepo;
     this.employerRepo = employerRepo;
@@ -95,6 +99,7 @@ public class DatabaseSeeder implements CommandLineRunner {
     this.businessPersonRepo = businessPersonRepo;
     this.userRepo = userRepo;
     this.paycheckRepo = paycheckRepo;
+    this.paycheckBatchWriter = paycheckBatchWriter;
     this.passwordEncoder = passwordEncoder;
   }
 
@@ -214,19 +219,26 @@ public class DatabaseSeeder implements CommandLineRunner {
   }
 
   private void seedPaychecks() {
-    seedEntityWithValidation("paychecks", "paychecks.csv", paycheckRepo, row -> {
-      Long employeeId = CONVERTER.toLong(row.get("employee_id"));
-      if (employeeId == null) {
-        return null;
-      }
+    seedEntityWithCustomLogic("paychecks", "paychecks.csv", paycheckRepo, () -> {}, rows -> {
+      List<Paycheck> paychecks = new ArrayList<>();
+
+      for (Map<String, String> row : rows) {
+        Long employeeId = CONVERTER.toLong(row.get("employee_id"));
+        if (employeeId == null) {
+          continue;
+        }
+
+        Employee employee = findOrLoadEmployee(employeeId);
+        if (employee == null) {
+          logger.warn(LogMessage.EMPLOYEE_NOT_FOUND.getMessage(), employeeId);
+          continue;
+        }
 
-      Employee employee = findOrLoadEmployee(employeeId);
-      if (employee == null) {
-        logger.warn(LogMessage.EMPLOYEE_NOT_FOUND.getMessage(), employeeId);
-        return null;
+        paychecks.add(mapToPaycheck(row, employee));
       }
 
-      return mapToPaycheck(row, employee);
+      // Batched inserts instead of one save per row
+      return paycheckBatchWriter.writeAll(paychecks).size();
     });
   }
 
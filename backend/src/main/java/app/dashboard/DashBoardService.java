@@ -1,12 +0,0 @@
-package app.dashboard;
-
-import java.util.List;
-import app.dashboard.dto.ActivityDTO;
-
-/**
- * Service to get the information for all recent activity required for the dashboard presented to a
- * user.
- */
-public interface DashboardService {
-  List<ActivityDTO> getRecentActivity(Long businessId);
-}
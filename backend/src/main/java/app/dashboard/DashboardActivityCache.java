@@ -0,0 +1,20 @@
+package app.dashboard;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import app.dashboard.dto.ActivityDTO;
+
+/**
+ * Assembled activity feeds. Entries expire after a few seconds, which also keeps relative times
+ * such as "5 minutes ago" close to current.
+ */
+@Component
+public class DashboardActivityCache extends DashboardCache<List<ActivityDTO>> {
+
+  public DashboardActivityCache(@Value("${dashboard.activity.cache-ttl-ms:15000}") long ttlMillis) {
+    super(ttlMillis);
+  }
+}
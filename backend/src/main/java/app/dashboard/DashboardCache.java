@@ -0,0 +1,100 @@
+package app.dashboard;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import app.activity.ActivityRecordedEvent;
+import app.business.CompanyDataChangedEvent;
+
+/**
+ * Short-lived cache of a dashboard view, one value per business.
+ *
+ * <p>Entries expire after the subclass's TTL, so values derived from the current time do not go
+ * stale. Writes that affect a business drop its value as soon as they commit. Callers read the
+ * business's version before querying and pass it to {@link #put}, so a value assembled from data
+ * that changed meanwhile is never stored.
+ *
+ * @param <T> Type of the cached value
+ */
+abstract class DashboardCache<T> {
+
+  private record Entry<T>(long version, long expiresAt, T value) {}
+
+  private final long ttlMillis;
+  private final Map<Long, Entry<T>> entries = new ConcurrentHashMap<>();
+  private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+  protected DashboardCache(long ttlMillis) {
+    if (ttlMillis < 0) {
+      throw new IllegalArgumentException("Dashboard cache TTL cannot be negative");
+    }
+    this.ttlMillis = ttlMillis;
+  }
+
+  /**
+   * Get the current version of a business's data. Read it before querying.
+   *
+   * @param businessId ID of the business
+   * @return Version, bumped on every committed change to the business's data
+   */
+  public long version(Long businessId) {
+    return versions.getOrDefault(businessId, 0L);
+  }
+
+  /**
+   * Look up a business's value
+   *
+   * @param businessId ID of the business
+   * @return Cached value, or null if there is none or it has expired
+   */
+  public T get(Long businessId) {
+    Entry<T> entry = entries.get(businessId);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAt() - System.currentTimeMillis() <= 0
+        || entry.version() != version(businessId)) {
+      entries.remove(businessId, entry);
+      return null;
+    }
+    return entry.value();
+  }
+
+  /**
+   * Store a value, unless the business changed after the version was read
+   *
+   * @param businessId ID of the business
+   * @param version Version from {@link #version(Long)}, read before the value was queried
+   * @param value Assembled value
+   */
+  public void put(Long businessId, long version, T value) {
+    if (ttlMillis == 0 || version != version(businessId)) {
+      return;
+    }
+    entries.put(businessId, new Entry<>(version, System.currentTimeMillis() + ttlMillis, value));
+  }
+
+  /**
+   * Drop a business's value and make any value being assembled from older data unstorable
+   *
+   * @param businessId ID of the business
+   */
+  public void invalidate(Long businessId) {
+    versions.merge(businessId, 1L, Long::sum);
+    entries.remove(businessId);
+  }
+
+  /** Invalidate once a change has committed, so the next request sees it */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCompanyDataChanged(CompanyDataChangedEvent event) {
+    invalidate(event.companyId());
+  }
+
+  /** Invalidate once a new activity log entry has committed */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onActivityRecorded(ActivityRecordedEvent event) {
+    invalidate(event.entry().getCompanyId());
+  }
+}
@@ -1,13 +1,16 @@
 package app.dashboard;
 
 import java.util.List;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import app.dashboard.dto.ActivityDTO;
+import app.dashboard.dto.DashboardKpiDTO;
 
 /** Controller for dashboard-specific endpoints */
 @RestController
@@ -16,9 +19,12 @@ import app.dashboard.dto.ActivityDTO;
 public class DashboardController {
 
   private final DashboardService dashboardService;
+  private final DashboardEventBroadcaster eventBroadcaster;
 
-  public DashboardController(DashboardService dashboardService) {
+  public DashboardController(DashboardService dashboardService,
+      DashboardEventBroadcaster eventBroadcaster) {
     this.dashboardService = dashboardService;
+    this.eventBroadcaster = eventBroadcaster;
   }
 
   /** Get recent activity feed GET /api/dashboard/activity?businessId=1 */
@@ -27,4 +33,22 @@ public class DashboardController {
     List<ActivityDTO> activities = dashboardService.getRecentActivity(businessId);
     return ResponseEntity.ok(activities);
   }
+
+  /** Get the dashboard's key figures in one request GET /api/dashboard/kpis?businessId=1 */
+  @GetMapping("/kpis")
+  public ResponseEntity<DashboardKpiDTO> getKpis(@RequestParam Long businessId) {
+    return ResponseEntity.ok(dashboardService.getKpis(businessId));
+  }
+
+  /**
+   * Stream dashboard updates as Server-Sent Events GET /api/dashboard/events?businessId=1
+   *
+   * <p>Events: "activity" carries a new feed item, "changed" means the business's data changed and
+   * figures should be refetched, and "resync" means updates were dropped because the client fell
+   * behind, so everything should be refetched. Comment lines are heartbeats.
+   */
+  @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamUpdates(@RequestParam Long businessId) {
+    return eventBroadcaster.subscribe(businessId);
+  }
 }
@@ -0,0 +1,265 @@
+package app.dashboard;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import app.activity.ActivityRecordedEvent;
+import app.business.CompanyDataChangedEvent;
+import app.dashboard.dto.ActivityDTO;
+import app.dashboard.dto.DashboardChangeDTO;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pushes dashboard updates to open Server-Sent Events streams, fanned out per business.
+ *
+ * <p>Open streams are asynchronous servlet responses, so an idle subscriber holds a connection but
+ * no thread. Committed changes are only queued here; a small pool owned by this component writes
+ * them out, at most one thread per subscriber at a time. Each subscriber's queue is bounded: when a
+ * slow client falls that far behind, its queued activities are dropped and it is told to resync
+ * (refetch) instead, and repeated change notices collapse into one. Heartbeats keep proxies from
+ * closing idle streams and find disconnected clients.
+ */
+@Component
+public class DashboardEventBroadcaster {
+
+  private static final Logger logger = LoggerFactory.getLogger(DashboardEventBroadcaster.class);
+
+  static final String ACTIVITY_EVENT = "activity";
+  static final String CHANGED_EVENT = "changed";
+  static final String RESYNC_EVENT = "resync";
+
+  private final long timeoutMillis;
+  private final int queueCapacity;
+  private final int maxSubscribers;
+  private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+  private final ThreadPoolTaskExecutor senders;
+  private final ThreadPoolTaskScheduler heartbeats;
+
+  public DashboardEventBroadcaster(
+      @Value("${dashboard.events.timeout-ms:1800000}") long timeoutMillis,
+      @Value("${dashboard.events.heartbeat-ms:25000}") long heartbeatMillis,
+      @Value("${dashboard.events.queue-capacity:32}") int queueCapacity,
+      @Value("${dashboard.events.max-subscribers:5000}") int maxSubscribers,
+      @Value("${dashboard.events.pool-size:4}") int poolSize) {
+    if (timeoutMillis <= 0
+        || heartbeatMillis <= 0
+        || queueCapacity <= 0
+        || maxSubscribers <= 0
+        || poolSize <= 0) {
+      throw new IllegalArgumentException("Dashboard event settings must be positive");
+    }
+    this.timeoutMillis = timeoutMillis;
+    this.queueCapacity = queueCapacity;
+    this.maxSubscribers = maxSubscribers;
+
+    // Owned by this component rather than exposed as beans, so they do not replace the
+    // application's default executor and scheduler. Each subscriber has at most one pending drain,
+    // so the unbounded queue is bounded by the number of subscribers.
+    this.senders = new ThreadPoolTaskExecutor();
+    senders.setCorePoolSize(poolSize);
+    senders.setMaxPoolSize(poolSize);
+    senders.setThreadNamePrefix("dashboard-events-");
+    senders.initialize();
+
+    this.heartbeats = new ThreadPoolTaskScheduler();
+    heartbeats.setPoolSize(1);
+    heartbeats.setThreadNamePrefix("dashboard-heartbeat-");
+    heartbeats.initialize();
+    heartbeats.scheduleAtFixedRate(this::sendHeartbeats, Duration.ofMillis(heartbeatMillis));
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    heartbeats.shutdown();
+    subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+    senders.shutdown();
+  }
+
+  /**
+   * Open a stream of updates for a business. It times out after the configured period, after which
+   * clients are expected to reconnect.
+   *
+   * @param businessId ID of the business
+   * @return Emitter to return from the controller
+   * @throws DashboardSubscriptionRejectedException if the server holds as many streams as allowed
+   */
+  public SseEmitter subscribe(Long businessId) {
+    if (subscriberCount.incrementAndGet() > maxSubscribers) {
+      subscriberCount.decrementAndGet();
+      throw new DashboardSubscriptionRejectedException(
+          "Too many open dashboard update streams, try again later");
+    }
+
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    Subscriber subscriber = new Subscriber(businessId, emitter, queueCapacity);
+    emitter.onCompletion(() -> remove(subscriber));
+    emitter.onTimeout(
+        () -> {
+          remove(subscriber);
+          emitter.complete();
+        });
+    emitter.onError(error -> remove(subscriber));
+    subscribers.compute(
+        businessId,
+        (id, set) -> {
+          Set<Subscriber> current = (set != null) ? set : ConcurrentHashMap.newKeySet();
+          current.add(subscriber);
+          return current;
+        });
+
+    // An initial heartbeat commits the response, so the client knows the stream is open
+    subscriber.heartbeat.set(true);
+    schedule(subscriber);
+    return emitter;
+  }
+
+  /** Push a new feed item once its entry has committed */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onActivityRecorded(ActivityRecordedEvent event) {
+    Long businessId = event.entry().getCompanyId();
+    Set<Subscriber> set = subscribers.get(businessId);
+    if (set == null || set.isEmpty()) {
+      return;
+    }
+    ActivityDTO activity = DashboardServiceImpl.toActivityDTO(event.entry());
+    for (Subscriber subscriber : set) {
+      if (!subscriber.activities.offer(activity)) {
+        // Too far behind: whatever is queued is stale, refetching is cheaper than catching up
+        subscriber.activities.clear();
+        subscriber.resync.set(true);
+      }
+      schedule(subscriber);
+    }
+  }
+
+  /** Tell subscribers that the business's data changed once the change has committed */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onCompanyDataChanged(CompanyDataChangedEvent event) {
+    Set<Subscriber> set = subscribers.get(event.companyId());
+    if (set == null) {
+      return;
+    }
+    for (Subscriber subscriber : set) {
+      subscriber.changed.set(true);
+      schedule(subscriber);
+    }
+  }
+
+  private void sendHeartbeats() {
+    for (Set<Subscriber> set : subscribers.values()) {
+      for (Subscriber subscriber : set) {
+        subscriber.heartbeat.set(true);
+        schedule(subscriber);
+      }
+    }
+  }
+
+  /** Start draining a subscriber unless a drain is already running or queued for it */
+  private void schedule(Subscriber subscriber) {
+    if (subscriber.draining.compareAndSet(false, true)) {
+      try {
+        senders.execute(() -> drain(subscriber));
+      } catch (RuntimeException e) {
+        // Shutting down
+        subscriber.draining.set(false);
+      }
+    }
+  }
+
+  private void drain(Subscriber subscriber) {
+    try {
+      do {
+        send(subscriber);
+        subscriber.draining.set(false);
+        // Something queued after the last check but before the flag was cleared
+      } while (subscriber.hasPending() && subscriber.draining.compareAndSet(false, true));
+    } catch (IOException | IllegalStateException e) {
+      // Client went away, or the emitter already completed; the container ends the response
+      logger.debug(
+          "Dropping dashboard subscriber of business {}: {}",
+          subscriber.businessId,
+          e.getMessage());
+      remove(subscriber);
+    }
+  }
+
+  private void send(Subscriber subscriber) throws IOException {
+    SseEmitter emitter = subscriber.emitter;
+    if (subscriber.resync.getAndSet(false)) {
+      subscriber.changed.set(false);
+      emitter.send(
+          SseEmitter.event()
+              .name(RESYNC_EVENT)
+              .data(new DashboardChangeDTO(subscriber.businessId, LocalDateTime.now())));
+    }
+    ActivityDTO activity;
+    while ((activity = subscriber.activities.poll()) != null) {
+      emitter.send(
+          SseEmitter.event().name(ACTIVITY_EVENT).id(String.valueOf(activity.id())).data(activity));
+    }
+    if (subscriber.changed.getAndSet(false)) {
+      emitter.send(
+          SseEmitter.event()
+              .name(CHANGED_EVENT)
+              .data(new DashboardChangeDTO(subscriber.businessId, LocalDateTime.now())));
+    }
+    if (subscriber.heartbeat.getAndSet(false)) {
+      emitter.send(SseEmitter.event().comment("heartbeat"));
+    }
+  }
+
+  /** Forget a subscriber; safe to call more than once, as several callbacks may end a stream */
+  private void remove(Subscriber subscriber) {
+    AtomicBoolean removed = new AtomicBoolean();
+    // Atomic per business, so a concurrent subscribe never adds to a set that was just dropped
+    subscribers.computeIfPresent(
+        subscriber.businessId,
+        (id, set) -> {
+          removed.set(set.remove(subscriber));
+          return set.isEmpty() ? null : set;
+        });
+    if (removed.get()) {
+      subscriberCount.decrementAndGet();
+    }
+  }
+
+  /** An open stream and what is still to be written to it */
+  private static final class Subscriber {
+
+    private final Long businessId;
+    private final SseEmitter emitter;
+    private final Queue<ActivityDTO> activities;
+    private final AtomicBoolean resync = new AtomicBoolean();
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private final AtomicBoolean heartbeat = new AtomicBoolean();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    Subscriber(Long businessId, SseEmitter emitter, int queueCapacity) {
+      this.businessId = businessId;
+      this.emitter = emitter;
+      this.activities = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    boolean hasPending() {
+      return resync.get() || !activities.isEmpty() || changed.get() || heartbeat.get();
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package app.dashboard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import app.dashboard.dto.DashboardKpiDTO;
+
+/**
+ * Assembled dashboard KPIs. Entries expire after a minute, so date-based figures such as trainings
+ * coming due follow the calendar even when nothing is written.
+ */
+@Component
+public class DashboardKpiCache extends DashboardCache<DashboardKpiDTO> {
+
+  public DashboardKpiCache(@Value("${dashboard.kpi.cache-ttl-ms:60000}") long ttlMillis) {
+    super(ttlMillis);
+  }
+}
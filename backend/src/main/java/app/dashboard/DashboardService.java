@@ -2,6 +2,7 @@ package app.dashboard;
 
 import java.util.List;
 import app.dashboard.dto.ActivityDTO;
+import app.dashboard.dto.DashboardKpiDTO;
 
 /**
  * Service to get the information for all recent activity required for the dashboard presented to a
@@ -9,4 +10,13 @@ import app.dashboard.dto.ActivityDTO;
  */
 public interface DashboardService {
   List<ActivityDTO> getRecentActivity(Long businessId);
+
+  /**
+   * Get the dashboard's key figures for a business in one call
+   *
+   * @param businessId ID of the business
+   * @return Headcount, current month's payroll, training and recent hire figures
+   * @throws app.common.exception.ResourceNotFoundException if the business does not exist
+   */
+  DashboardKpiDTO getKpis(Long businessId);
 }
@@ -4,105 +4,243 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import app.activity.ActivityKind;
+import app.activity.ActivityLogEntry;
+import app.activity.ActivityLogService;
+import app.business.BusinessPersonRepository;
+import app.business.BusinessRepository;
+import app.business.PersonCount;
+import app.common.exception.ResourceNotFoundException;
 import app.dashboard.dto.ActivityDTO;
-import app.employee.Employee;
+import app.dashboard.dto.DashboardKpiDTO;
 import app.employee.EmployeeRepository;
-import app.payroll.Paycheck;
-import app.payroll.PaycheckRepository;
+import app.employee.RecentHire;
+import app.payroll.Money;
+import app.payroll.PaycheckTotals;
+import app.payroll.rollup.PayrollRollupService;
+import app.training.ExpiringTraining;
 import app.training.Training;
+import app.training.TrainingCounts;
 import app.training.TrainingRepository;
-
+import app.user.PersonStatus;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Dashboard service. The activity feed is the latest entries of the business's activity log plus
+ * trainings about to expire; the KPIs are a fixed set of aggregate queries. The queries behind
+ * each view run concurrently on a small pool owned by this service, and the assembled views are
+ * cached per business.
+ */
 @Service
 public class DashboardServiceImpl implements DashboardService {
 
-  private static final int RECENT_ACTIVITY_DAYS = 7;
+  private static final int FEED_SIZE = 50;
   private static final int TRAINING_WARNING_DAYS = 7;
+  private static final int KPI_TRAINING_WINDOW_DAYS = 30;
+  private static final int KPI_RECENT_HIRE_DAYS = 30;
+  private static final int KPI_LIST_SIZE = 10;
 
-  private final PaycheckRepository paycheckRepository;
-  private final EmployeeRepository employeeRepository;
+  private final ActivityLogService activityLogService;
   private final TrainingRepository trainingRepository;
-
-  public DashboardServiceImpl(PaycheckRepository paycheckRepository,
-      EmployeeRepository employeeRepository, TrainingRepository trainingRepository) {
-    this.paycheckRepository = paycheckRepository;
-    this.employeeRepository = employeeRepository;
+  private final BusinessRepository businessRepository;
+  private final BusinessPersonRepository businessPersonRepository;
+  private final EmployeeRepository employeeRepository;
+  private final PayrollRollupService payrollRollupService;
+  private final DashboardActivityCache activityCache;
+  private final DashboardKpiCache kpiCache;
+  private final ThreadPoolTaskExecutor executor;
+
+  public DashboardServiceImpl(ActivityLogService activityLogService,
+      TrainingRepository trainingRepository, BusinessRepository businessRepository,
+      BusinessPersonRepository businessPersonRepository, EmployeeRepository employeeRepository,
+      PayrollRollupService payrollRollupService, DashboardActivityCache activityCache,
+      DashboardKpiCache kpiCache, @Value("${dashboard.activity.pool-size:8}") int poolSize) {
+    if (poolSize <= 0) {
+      throw new IllegalArgumentException("Dashboard pool size must be positive");
+    }
+    this.activityLogService = activityLogService;
     this.trainingRepository = trainingRepository;
+    this.businessRepository = businessRepository;
+    this.businessPersonRepository = businessPersonRepository;
+    this.employeeRepository = employeeRepository;
+    this.payrollRollupService = payrollRollupService;
+    this.activityCache = activityCache;
+    this.kpiCache = kpiCache;
+
+    // Owned by this service rather than exposed as a bean, so it does not replace the
+    // application's default task executor. When every thread is busy the request thread runs the
+    // query itself instead of queueing behind other requests.
+    this.executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(0);
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.setThreadNamePrefix("dashboard-");
+    executor.initialize();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
   }
 
   @Override
   public List<ActivityDTO> getRecentActivity(Long businessId) {
-    List<ActivityDTO> activities = new ArrayList<>();
+    List<ActivityDTO> cached = activityCache.get(businessId);
+    if (cached != null) {
+      return cached;
+    }
+    long version = activityCache.version(businessId);
 
-    activities.addAll(getPayrollActivities(businessId));
-    activities.addAll(getNewHireActivities(businessId));
-    activities.addAll(getExpiringTrainingActivities(businessId));
+    // The sources share no persistence context, so they can be queried at the same time; a
+    // buffered business's log is read from memory
+    CompletableFuture<List<ActivityDTO>> logged =
+        supplyAsync(() -> getLoggedActivities(businessId));
+    CompletableFuture<List<ActivityDTO>> trainings =
+        supplyAsync(() -> getExpiringTrainingActivities(businessId));
 
-    return activities.stream().sorted(Comparator.comparing(ActivityDTO::timestamp).reversed())
-        .toList();
-  }
+    List<ActivityDTO> activities = new ArrayList<>();
+    activities.addAll(join(logged));
+    activities.addAll(join(trainings));
+    activities.sort(Comparator.comparing(ActivityDTO::timestamp).reversed());
 
-  private List<ActivityDTO> getPayrollActivities(Long businessId) {
-    LocalDate sevenDaysAgo = LocalDate.now().minusDays(RECENT_ACTIVITY_DAYS);
-    List<Paycheck> recentPaychecks =
-        paycheckRepository.findByBusinessIdAndPayDateAfter(businessId, sevenDaysAgo);
+    List<ActivityDTO> feed = List.copyOf(activities);
+    activityCache.put(businessId, version, feed);
+    return feed;
+  }
 
-    Map<LocalDate, List<Paycheck>> paychecksByDate =
-        recentPaychecks.stream().collect(Collectors.groupingBy(Paycheck::getPayDate));
+  @Override
+  public DashboardKpiDTO getKpis(Long businessId) {
+    DashboardKpiDTO cached = kpiCache.get(businessId);
+    if (cached != null) {
+      return cached;
+    }
+    if (!businessRepository.existsById(businessId)) {
+      throw new ResourceNotFoundException("Business", "id", businessId);
+    }
+    long version = kpiCache.version(businessId);
 
-    List<ActivityDTO> activities = new ArrayList<>();
+    LocalDate today = LocalDate.now();
+    LocalDate periodStart = today.withDayOfMonth(1);
+    LocalDate periodEnd = today.withDayOfMonth(today.lengthOfMonth());
+    LocalDate trainingWindowEnd = today.plusDays(KPI_TRAINING_WINDOW_DAYS);
+    LocalDate hiredSince = today.minusDays(KPI_RECENT_HIRE_DAYS);
+
+    // Each figure is one aggregate or bounded query; none loads entities
+    CompletableFuture<List<PersonCount>> headcount = supplyAsync(
+        () -> businessPersonRepository.countByTypeAndStatus(businessId, hiredSince));
+    CompletableFuture<PaycheckTotals> payroll =
+        supplyAsync(() -> payrollRollupService.getTotals(businessId, periodStart, periodEnd));
+    CompletableFuture<TrainingCounts> trainingCounts = supplyAsync(
+        () -> trainingRepository.countForBusiness(businessId, today, trainingWindowEnd));
+    CompletableFuture<List<ExpiringTraining>> expiringTrainings =
+        supplyAsync(() -> trainingRepository.findIncompleteExpiringBetween(businessId, today,
+            trainingWindowEnd, PageRequest.of(0, KPI_LIST_SIZE)));
+    CompletableFuture<List<RecentHire>> recentHires = supplyAsync(() -> employeeRepository
+        .findRecentHires(businessId, hiredSince, PageRequest.of(0, KPI_LIST_SIZE)));
+
+    DashboardKpiDTO kpis = new DashboardKpiDTO(businessId, LocalDateTime.now(),
+        toHeadcount(join(headcount)), toPayrollPeriod(join(payroll), periodStart, periodEnd),
+        toTrainings(join(trainingCounts), join(expiringTrainings)),
+        join(recentHires).stream().map(hire -> new DashboardKpiDTO.Hire(hire.id(), hire.name(),
+            hire.position(), hire.hireDate())).toList());
+
+    kpiCache.put(businessId, version, kpis);
+    return kpis;
+  }
 
-    for (Map.Entry<LocalDate, List<Paycheck>> entry : paychecksByDate.entrySet()) {
-      LocalDate payDate = entry.getKey();
-      List<Paycheck> paychecksForDate = entry.getValue();
+  private static DashboardKpiDTO.Headcount toHeadcount(List<PersonCount> counts) {
+    Map<String, Long> byStatus = new LinkedHashMap<>();
+    for (PersonStatus status : PersonStatus.values()) {
+      byStatus.put(status.name(), 0L);
+    }
 
-      activities.add(createPayrollActivity(payDate, paychecksForDate));
+    long employees = 0;
+    long employers = 0;
+    long hiredRecently = 0;
+    for (PersonCount count : counts) {
+      if ("EMPLOYER".equals(count.getPersonType())) {
+        employers += count.getPersonCount();
+      } else {
+        employees += count.getPersonCount();
+      }
+      byStatus.merge(count.getStatus(), count.getPersonCount(), Long::sum);
+      hiredRecently += count.getHiredSinceCount();
     }
 
-    return activities;
+    return new DashboardKpiDTO.Headcount(employees + employers, employees, employers, byStatus,
+        hiredRecently, KPI_RECENT_HIRE_DAYS);
   }
 
-  private ActivityDTO createPayrollActivity(LocalDate payDate, List<Paycheck> paychecks) {
-    LocalDateTime payDateTime = payDate.atStartOfDay();
-    int employeeCount = paychecks.size();
-
-    String title;
-    if (employeeCount == 1) {
-      Paycheck paycheck = paychecks.get(0);
-      String employeeName =
-          paycheck.getEmployee() != null ? paycheck.getEmployee().getName() : "Employee";
-      title = "Payroll generated for " + employeeName;
-    } else {
-      double totalNetPay = paychecks.stream().mapToDouble(Paycheck::getNetPay).sum();
-      title = String.format("Payroll generated for %d employees (Total: $%.2f)", employeeCount,
-          totalNetPay);
-    }
+  private static DashboardKpiDTO.PayrollPeriod toPayrollPeriod(PaycheckTotals totals,
+      LocalDate startDate, LocalDate endDate) {
+    return new DashboardKpiDTO.PayrollPeriod(startDate, endDate, (int) totals.getPaycheckCount(),
+        Money.toDollars(totals.getGrossPayCents()), Money.toDollars(totals.getBonusCents()),
+        Money.toDollars(totals.getTaxDeductionCents() + totals.getInsuranceDeductionCents()),
+        Money.toDollars(totals.getNetPayCents()));
+  }
+
+  private static DashboardKpiDTO.Trainings toTrainings(TrainingCounts counts,
+      List<ExpiringTraining> expiring) {
+    List<DashboardKpiDTO.ExpiringTraining> soonest = expiring.stream()
+        .map(training -> new DashboardKpiDTO.ExpiringTraining(training.id(),
+            training.trainingName(), training.personId(), training.personName(),
+            training.expiryDate(), training.required()))
+        .toList();
 
-    return new ActivityDTO(payDate.toEpochDay(), "PAYROLL", title,
-        TimeFormatter.formatRelativeTime(payDateTime), payDateTime, "completed");
+    return new DashboardKpiDTO.Trainings(counts.getPending(), counts.getExpiringSoon(),
+        counts.getOverdueRequired(), counts.getExpiringRequired(), KPI_TRAINING_WINDOW_DAYS,
+        soonest);
   }
 
-  private List<ActivityDTO> getNewHireActivities(Long businessId) {
-    LocalDate sevenDaysAgo = LocalDate.now().minusDays(RECENT_ACTIVITY_DAYS);
-    List<Employee> recentHires =
-        employeeRepository.findByCompanyIdAndHireDateAfter(businessId, sevenDaysAgo);
+  private <T> CompletableFuture<T> supplyAsync(Supplier<T> query) {
+    return CompletableFuture.supplyAsync(query, executor);
+  }
 
-    List<ActivityDTO> activities = new ArrayList<>();
+  /** Wait for a source, rethrowing its exception as if it had run on this thread */
+  private static <T> T join(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
 
-    for (Employee employee : recentHires) {
-      LocalDateTime hireDateTime = employee.getHireDate().atStartOfDay();
+  private List<ActivityDTO> getLoggedActivities(Long businessId) {
+    List<ActivityLogEntry> entries = activityLogService.getLatest(businessId, FEED_SIZE);
 
-      activities
-          .add(new ActivityDTO(employee.getId(), "EMPLOYEE", "New Hire: " + employee.getName(),
-              TimeFormatter.formatRelativeTime(hireDateTime), hireDateTime, "info"));
+    List<ActivityDTO> activities = new ArrayList<>(entries.size());
+
+    for (ActivityLogEntry entry : entries) {
+      activities.add(toActivityDTO(entry));
     }
 
     return activities;
   }
 
+  /** Feed item for an activity log entry; also used for entries pushed to subscribers */
+  static ActivityDTO toActivityDTO(ActivityLogEntry entry) {
+    ActivityKind kind = entry.getKind();
+
+    return new ActivityDTO(entry.getId(), kind.getCategory(), entry.getTitle(),
+        TimeFormatter.formatRelativeTime(entry.getOccurredAt()), entry.getOccurredAt(),
+        kind.getStatus());
+  }
+
   private List<ActivityDTO> getExpiringTrainingActivities(Long businessId) {
     LocalDate today = LocalDate.now();
     LocalDate weekFromNow = today.plusDays(TRAINING_WARNING_DAYS);
@@ -0,0 +1,12 @@
+package app.dashboard;
+
+/**
+ * Exception thrown when a dashboard update stream cannot be opened because the server already holds
+ * as many as it allows
+ */
+public class DashboardSubscriptionRejectedException extends RuntimeException {
+
+  public DashboardSubscriptionRejectedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,6 @@
+package app.dashboard.dto;
+
+import java.time.LocalDateTime;
+
+/** Pushed to dashboard subscribers when a business's data changed and its views should refresh */
+public record DashboardChangeDTO(Long businessId, LocalDateTime changedAt) {}
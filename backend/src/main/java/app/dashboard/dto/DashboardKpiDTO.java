@@ -0,0 +1,65 @@
+package app.dashboard.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for the dashboard's key figures. Contains counts and totals only, plus short lists of the
+ * latest hires and the trainings coming due soonest, so its size does not grow with the business.
+ */
+public record DashboardKpiDTO(
+    Long businessId,
+    LocalDateTime generatedAt,
+    Headcount headcount,
+    PayrollPeriod payroll,
+    Trainings trainings,
+    List<Hire> recentHires) {
+
+  /**
+   * People in the business; byStatus covers employees and employers and lists every status, and
+   * hiredRecently counts hires within the last recentHireDays days
+   */
+  public record Headcount(
+      Long total,
+      Long employees,
+      Long employers,
+      Map<String, Long> byStatus,
+      Long hiredRecently,
+      Integer recentHireDays) {}
+
+  /** Payroll totals for the current calendar month, in dollars */
+  public record PayrollPeriod(
+      LocalDate startDate,
+      LocalDate endDate,
+      Integer paychecks,
+      Double grossPay,
+      Double bonus,
+      Double deductions,
+      Double netPay) {}
+
+  /**
+   * Training counts; "expiring" means an expiry date within the next windowDays days, and
+   * expiringSoonest lists the first of the incomplete ones
+   */
+  public record Trainings(
+      Long pending,
+      Long expiringSoon,
+      Long overdueRequired,
+      Long expiringRequired,
+      Integer windowDays,
+      List<ExpiringTraining> expiringSoonest) {}
+
+  /** An incomplete training coming due */
+  public record ExpiringTraining(
+      Long id,
+      String trainingName,
+      Long personId,
+      String personName,
+      LocalDate expiryDate,
+      Boolean required) {}
+
+  /** A recently hired employee */
+  public record Hire(Long id, String name, String position, LocalDate hireDate) {}
+}
@@ -0,0 +1,9 @@
+package app.employee;
+
+/**
+ * Published when an employee's salary or other payroll-relevant details change, so cached payroll
+ * data derived from the employee can be dropped.
+ *
+ * @param employeeId ID of the changed employee
+ */
+public record EmployeeCompensationChangedEvent(Long employeeId) {}
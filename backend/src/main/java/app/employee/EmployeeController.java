@@ -9,6 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -17,9 +18,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import app.business.query.PersonFilter;
+import app.business.query.PersonPage;
 import app.common.factory.DTOFactory;
 import app.employee.dto.CreateEmployeeRequest;
 import app.employee.dto.EmployeeDTO;
+import app.employee.dto.EmployeePageDTO;
 import app.employee.dto.UpdateEmployeeRequest;
 
 /**
@@ -64,6 +68,23 @@ public class EmployeeController {
     return ResponseEntity.ok(dtos);
   }
 
+  /**
+   * Get one page of employees across every business, filtered and ordered by the database
+   *
+   * <p>GET
+   * /api/employees/page?search=ann&status=Active&sortBy=hireDate&direction=desc&cursor={next}
+   */
+  @GetMapping("/page")
+  public ResponseEntity<EmployeePageDTO> getEmployeePage(
+      @ModelAttribute PersonFilter filter,
+      @RequestParam(required = false) String sortBy,
+      @RequestParam(required = false) String direction,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    return ResponseEntity.ok(
+        toPageDTO(employeeService.getEmployeePage(null, filter, sortBy, direction, cursor, size)));
+  }
+
   @PutMapping("/{id}")
   public ResponseEntity<EmployeeDTO> updateEmployee(
       @PathVariable Long id, @RequestBody UpdateEmployeeRequest req) {
@@ -86,6 +107,27 @@ public class EmployeeController {
     return ResponseEntity.ok(dtos);
   }
 
+  /**
+   * Get one page of a business's employees, filtered and ordered by the database
+   *
+   * <p>Filters: search, name, position, department (of the manager), status, hiredFrom, hiredTo,
+   * minSalary, maxSalary. Sort: sortBy (name, position, status, hireDate, salary) and direction
+   * (asc, desc). Paging: cursor (nextCursor of the previous page, same filters and sort) and size
+   * (default 50, max 200).
+   */
+  @GetMapping("/business/{businessId}/page")
+  public ResponseEntity<EmployeePageDTO> getEmployeePageByBusinessId(
+      @PathVariable Long businessId,
+      @ModelAttribute PersonFilter filter,
+      @RequestParam(required = false) String sortBy,
+      @RequestParam(required = false) String direction,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    PersonPage<Employee> page =
+        employeeService.getEmployeePage(businessId, filter, sortBy, direction, cursor, size);
+    return ResponseEntity.ok(toPageDTO(page));
+  }
+
   @GetMapping("/manager/{managerId}")
   public ResponseEntity<List<EmployeeDTO>> getEmployeesByManager(@PathVariable Long managerId) {
     List<Employee> employees = employeeService.getEmployeesByManager(managerId);
@@ -101,4 +143,9 @@ public class EmployeeController {
     EmployeeDTO dto = dtoFactory.createDTO(employee);
     return ResponseEntity.ok(dto);
   }
+
+  private EmployeePageDTO toPageDTO(PersonPage<Employee> page) {
+    List<EmployeeDTO> dtos = page.items().stream().map(dtoFactory::createDTO).toList();
+    return new EmployeePageDTO(dtos, page.nextCursor(), page.hasMore());
+  }
 }
@@ -1,15 +1,19 @@
 package app.employee;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository
+    extends JpaRepository<Employee, Long>, JpaSpecificationExecutor<Employee> {
   List<Employee> findByCompanyId(Long companyId);
 
   @Query("SELECT e FROM Employee e WHERE e.manager.id = :managerId")
@@ -31,8 +35,45 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
   @Query("SELECT e FROM Employee e WHERE e.company.id = :companyId AND e.status = 'Active'")
   List<Employee> findActiveEmployeesByBusiness(@Param("companyId") Long companyId);
 
+  /** Salaries of the active employees of a business, selected as plain columns */
+  @Query(
+      "SELECT new app.employee.EmployeeSalary(e.id, e.name, e.salary) FROM Employee e "
+          + "WHERE e.company.id = :companyId AND e.status = 'Active' ORDER BY e.id")
+  List<EmployeeSalary> findActiveSalariesByBusiness(@Param("companyId") Long companyId);
+
   /** Find employees hired after a date for a specific business */
   @Query("SELECT e FROM Employee e WHERE e.company.id = :companyId AND e.hireDate >= :date")
   List<Employee> findByCompanyIdAndHireDateAfter(
       @Param("companyId") Long companyId, @Param("date") LocalDate date);
+
+  /** Employees of a business hired on or after a date, newest first, selected as plain columns */
+  @Query(
+      "SELECT new app.employee.RecentHire(e.id, e.name, e.position, e.hireDate) "
+          + "FROM Employee e WHERE e.company.id = :companyId AND e.hireDate >= :date "
+          + "ORDER BY e.hireDate DESC, e.id DESC")
+  List<RecentHire> findRecentHires(
+      @Param("companyId") Long companyId, @Param("date") LocalDate date, Pageable pageable);
+
+  /**
+   * Employees of a business eligible for a bonus, with company and manager fetched in the same
+   * query. When a department is given, only employees whose manager is an employer in that
+   * department (ignoring case) are returned.
+   */
+  @Query(
+      "SELECT e FROM Employee e JOIN FETCH e.company LEFT JOIN FETCH e.manager "
+          + "LEFT JOIN Employer m ON m.id = e.manager.id WHERE e.company.id = :companyId "
+          + "AND (:department IS NULL OR LOWER(m.department) = LOWER(:department))")
+  List<Employee> findBonusRecipients(
+      @Param("companyId") Long companyId, @Param("department") String department);
+
+  /** Same as {@link #findBonusRecipients(Long, String)}, limited to the given employee IDs */
+  @Query(
+      "SELECT e FROM Employee e JOIN FETCH e.company LEFT JOIN FETCH e.manager "
+          + "LEFT JOIN Employer m ON m.id = e.manager.id WHERE e.company.id = :companyId "
+          + "AND e.id IN :ids "
+          + "AND (:department IS NULL OR LOWER(m.department) = LOWER(:department))")
+  List<Employee> findBonusRecipientsByIds(
+      @Param("companyId") Long companyId,
+      @Param("ids") Collection<Long> ids,
+      @Param("department") String department);
 }
@@ -0,0 +1,7 @@
+package app.employee;
+
+/**
+ * Read-only (id, name, salary) view of an employee, for bulk calculations that do not need the
+ * entity or its eager company and manager.
+ */
+public record EmployeeSalary(Long id, String name, Double salary) {}
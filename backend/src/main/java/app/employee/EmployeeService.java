@@ -1,8 +1,11 @@
 package app.employee;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import app.business.query.PersonFilter;
+import app.business.query.PersonPage;
 import app.employee.dto.CreateEmployeeRequest;
 import app.employee.dto.UpdateEmployeeRequest;
 
@@ -60,6 +63,54 @@ public interface EmployeeService {
    */
   List<Employee> getEmployeesByBusiness(Long businessId);
 
+  /**
+   * Get one page of employees, filtered and ordered by the database.
+   *
+   * @param businessId the id of the business whose employees are listed, or null for every
+   *     business.
+   * @param filter criteria the employees must match.
+   * @param sortBy attribute to order by: name, position, status, hireDate or salary (default name).
+   * @param direction "asc" (default) or "desc".
+   * @param cursor optional cursor returned with the previous page, for the same order.
+   * @param size optional page size (default 50, max 200).
+   * @return the page, with the cursor of the next one.
+   * @throws IllegalArgumentException if a parameter or the cursor is invalid.
+   */
+  PersonPage<Employee> getEmployeePage(
+      Long businessId,
+      PersonFilter filter,
+      String sortBy,
+      String direction,
+      String cursor,
+      Integer size);
+
+  /**
+   * Get all active employees for a specific business.
+   *
+   * @param businessId the id of the business whose active roster is to be fetched.
+   * @return the list of employees with an Active status at that business.
+   */
+  List<Employee> getActiveEmployeesByBusiness(Long businessId);
+
+  /**
+   * Get the id, name and salary of every active employee of a business in one query.
+   *
+   * @param businessId the id of the business whose active roster is to be fetched.
+   * @return one salary row per active employee, ordered by id.
+   */
+  List<EmployeeSalary> getActiveSalariesByBusiness(Long businessId);
+
+  /**
+   * Get the employees of a business that a bonus should go to, in as few queries as possible.
+   *
+   * @param businessId the id of the business paying the bonus.
+   * @param employeeIds optional ids to limit the bonus to; ids outside the business are ignored.
+   * @param department optional department; only employees managed by an employer in it qualify.
+   * @return the matching employees, each at most once.
+   */
+  List<Employee> getBonusRecipients(
+      Long businessId, Collection<Long> employeeIds, String department);
+
   /**
    * Get all employees managed by a specific employer.
    *
@@ -1,16 +1,32 @@
 package app.employee;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import app.activity.ActivityKind;
+import app.activity.ActivityLogService;
 import app.business.BusinessNotFoundException;
 import app.business.BusinessPerson;
 import app.business.BusinessPersonRepository;
 import app.business.BusinessRepository;
 import app.business.Company;
+import app.business.CompanyDataChangedEvent;
+import app.business.query.PersonCursor;
+import app.business.query.PersonFilter;
+import app.business.query.PersonPage;
+import app.business.query.PersonSort;
+import app.business.query.PersonSortField;
+import app.business.query.PersonSpecifications;
 import app.employee.dto.CreateEmployeeRequest;
 import app.employee.dto.UpdateEmployeeRequest;
 import app.employer.EmployerNotFoundException;
@@ -29,20 +45,33 @@ import app.user.UserRepository;
 @Transactional
 public class EmployeeServiceImpl implements EmployeeService {
 
+  /** Largest IN-list sent in one query; longer ID lists are split into chunks */
+  private static final int ID_CHUNK_SIZE = 1000;
+
+  /** Orders an employee listing can use; each is indexed with the company, except position */
+  private static final Set<PersonSortField> PAGE_SORT_FIELDS =
+      Set.of(PersonSortField.NAME, PersonSortField.POSITION, PersonSortField.STATUS,
+          PersonSortField.HIRE_DATE, PersonSortField.SALARY);
+
   private final EmployeeRepository employeeRepository;
   private final BusinessPersonRepository businessPersonRepository;
   private final BusinessRepository businessRepository;
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ActivityLogService activityLogService;
 
   public EmployeeServiceImpl(EmployeeRepository employeeRepository,
       BusinessPersonRepository businessPersonRepository, BusinessRepository businessRepository,
-      UserRepository userRepository, PasswordEncoder passwordEncoder) {
+      UserRepository userRepository, PasswordEncoder passwordEncoder,
+      ApplicationEventPublisher eventPublisher, ActivityLogService activityLogService) {
     this.employeeRepository = employeeRepository;
     this.businessPersonRepository = businessPersonRepository;
     this.businessRepository = businessRepository;
     this.userRepository = userRepository;
     this.passwordEncoder = passwordEncoder;
+    this.eventPublisher = eventPublisher;
+    this.activityLogService = activityLogService;
   }
 
   @Override
@@ -66,7 +95,10 @@ public class EmployeeServiceImpl implements EmployeeService {
       employee.setManager(manager);
     }
 
-    return employeeRepository.save(employee);
+    Employee savedEmployee = employeeRepository.save(employee);
+    publishCompanyDataChanged(savedEmployee);
+    recordActivity(savedEmployee, ActivityKind.HIRE, "New Hire: " + savedEmployee.getName());
+    return savedEmployee;
   }
 
   @Override
@@ -81,12 +113,38 @@ public class EmployeeServiceImpl implements EmployeeService {
     return employeeRepository.findAll();
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public PersonPage<Employee> getEmployeePage(Long businessId, PersonFilter filter, String sortBy,
+      String direction, String cursor, Integer size) {
+    filter.validate();
+    PersonSort sort = PersonSort.parse(sortBy, direction, PAGE_SORT_FIELDS);
+    int pageSize = PersonPage.pageSize(size);
+
+    Specification<Employee> spec = Specification
+        .where(PersonSpecifications.<Employee>inCompany(businessId))
+        .and(PersonSpecifications.matching(filter))
+        .and(EmployeeSpecifications.matching(filter))
+        .and(EmployeeSpecifications.fetchCompanyAndManager());
+    if (cursor != null && !cursor.isBlank()) {
+      spec = spec.and(PersonSpecifications.after(PersonCursor.decode(cursor, sort)));
+    }
+
+    // One extra row tells whether another page follows
+    List<Employee> rows = employeeRepository.findBy(spec,
+        query -> query.sortBy(sort.toSort()).limit(pageSize + 1).all());
+    return PersonPage.of(rows, pageSize, sort);
+  }
+
   @Override
   public Employee updateEmployee(Long id, UpdateEmployeeRequest request) {
     Employee employee =
         employeeRepository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
 
     String oldEmail = employee.getEmail();
+    Double oldSalary = employee.getSalary();
+    Long oldManagerId = managerIdOf(employee);
+    PersonStatus oldStatus = employee.getStatus();
     boolean emailChanged = false;
 
     if (request.name() != null) {
@@ -128,6 +186,15 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     Employee savedEmployee = employeeRepository.save(employee);
+    eventPublisher.publishEvent(new EmployeeCompensationChangedEvent(id));
+    publishCompanyDataChanged(savedEmployee);
+    recordSalaryChange(savedEmployee, oldSalary);
+    if (!Objects.equals(oldManagerId, managerIdOf(savedEmployee))) {
+      recordManagerChange(savedEmployee);
+    }
+    if (oldStatus != savedEmployee.getStatus()) {
+      recordStatusChange(savedEmployee);
+    }
 
     if (emailChanged) {
       Optional<User> userOpt = userRepository.findByBusinessPersonId(id);
@@ -143,10 +210,49 @@ public class EmployeeServiceImpl implements EmployeeService {
 
   @Override
   public void deleteEmployee(Long id) {
-    if (!employeeRepository.existsById(id)) {
-      throw new EmployeeNotFoundException(id);
+    Employee employee =
+        employeeRepository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
+    employeeRepository.delete(employee);
+    eventPublisher.publishEvent(new EmployeeCompensationChangedEvent(id));
+    publishCompanyDataChanged(employee);
+    recordActivity(employee, ActivityKind.DEPARTURE, "Employee removed: " + employee.getName());
+  }
+
+  /** Tell per-company views (the dashboard feed) that one of the company's employees changed */
+  private void publishCompanyDataChanged(Employee employee) {
+    if (employee.getCompany() != null) {
+      eventPublisher.publishEvent(new CompanyDataChangedEvent(employee.getCompany().getId()));
+    }
+  }
+
+  /** Append to the activity log of the employee's company, if it has one */
+  private void recordActivity(Employee employee, ActivityKind kind, String title) {
+    Long companyId = (employee.getCompany() != null) ? employee.getCompany().getId() : null;
+    activityLogService.record(companyId, kind, employee.getId(), title);
+  }
+
+  private void recordSalaryChange(Employee employee, Double oldSalary) {
+    if (!Objects.equals(oldSalary, employee.getSalary())) {
+      recordActivity(employee, ActivityKind.SALARY_CHANGE,
+          String.format("Salary changed for %s: $%.2f to $%.2f", employee.getName(),
+              oldSalary != null ? oldSalary : 0.0, employee.getSalary()));
     }
-    employeeRepository.deleteById(id);
+  }
+
+  private void recordManagerChange(Employee employee) {
+    BusinessPerson manager = employee.getManager();
+    recordActivity(employee, ActivityKind.MANAGER_CHANGE,
+        manager != null ? employee.getName() + " now reports to " + manager.getName()
+            : employee.getName() + " no longer has a manager");
+  }
+
+  private void recordStatusChange(Employee employee) {
+    recordActivity(employee, ActivityKind.STATUS_CHANGE,
+        employee.getName() + " is now " + employee.getStatus());
+  }
+
+  private static Long managerIdOf(Employee employee) {
+    return (employee.getManager() != null) ? employee.getManager().getId() : null;
   }
 
   @Override
@@ -155,6 +261,37 @@ public class EmployeeServiceImpl implements EmployeeService {
     return employeeRepository.findByCompanyId(companyId);
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public List<Employee> getActiveEmployeesByBusiness(Long companyId) {
+    return employeeRepository.findActiveEmployeesByBusiness(companyId);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<EmployeeSalary> getActiveSalariesByBusiness(Long companyId) {
+    return employeeRepository.findActiveSalariesByBusiness(companyId);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Employee> getBonusRecipients(Long businessId, Collection<Long> employeeIds,
+      String department) {
+    String departmentFilter = (department != null && !department.isBlank()) ? department : null;
+    if (employeeIds == null || employeeIds.isEmpty()) {
+      return employeeRepository.findBonusRecipients(businessId, departmentFilter);
+    }
+
+    List<Long> ids = new ArrayList<>(new LinkedHashSet<>(employeeIds));
+    List<Employee> recipients = new ArrayList<>(ids.size());
+    for (int from = 0; from < ids.size(); from += ID_CHUNK_SIZE) {
+      List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK_SIZE, ids.size()));
+      recipients.addAll(
+          employeeRepository.findBonusRecipientsByIds(businessId, chunk, departmentFilter));
+    }
+    return recipients;
+  }
+
   @Override
   @Transactional(readOnly = true)
   public List<Employee> getEmployeesByManager(Long managerId) {
@@ -169,8 +306,13 @@ public class EmployeeServiceImpl implements EmployeeService {
     BusinessPerson manager = businessPersonRepository.findById(managerId)
         .orElseThrow(() -> new EmployerNotFoundException(managerId));
 
+    Long oldManagerId = managerIdOf(employee);
     employee.setManager(manager);
-    return employeeRepository.save(employee);
+    Employee savedEmployee = employeeRepository.save(employee);
+    if (!Objects.equals(oldManagerId, managerId)) {
+      recordManagerChange(savedEmployee);
+    }
+    return savedEmployee;
   }
 
   @Override
@@ -182,8 +324,12 @@ public class EmployeeServiceImpl implements EmployeeService {
     Employee employee =
         employeeRepository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
 
+    Double oldSalary = employee.getSalary();
     employee.setSalary(salary);
-    return employeeRepository.save(employee);
+    Employee savedEmployee = employeeRepository.save(employee);
+    eventPublisher.publishEvent(new EmployeeCompensationChangedEvent(id));
+    recordSalaryChange(savedEmployee, oldSalary);
+    return savedEmployee;
   }
 
   @Override
@@ -195,8 +341,12 @@ public class EmployeeServiceImpl implements EmployeeService {
     Employee employee =
         employeeRepository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
 
+    Double oldSalary = employee.getSalary();
     employee.setSalary(employee.getSalary() + bonus);
-    return employeeRepository.save(employee);
+    Employee savedEmployee = employeeRepository.save(employee);
+    eventPublisher.publishEvent(new EmployeeCompensationChangedEvent(id));
+    recordSalaryChange(savedEmployee, oldSalary);
+    return savedEmployee;
   }
 
   @Override
@@ -204,8 +354,13 @@ public class EmployeeServiceImpl implements EmployeeService {
     Employee employee = employeeRepository.findById(employeeId)
         .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
 
+    boolean hadManager = employee.getManager() != null;
     employee.setManager(null);
-    return employeeRepository.save(employee);
+    Employee savedEmployee = employeeRepository.save(employee);
+    if (hadManager) {
+      recordManagerChange(savedEmployee);
+    }
+    return savedEmployee;
   }
 
   @Override
@@ -222,8 +377,13 @@ public class EmployeeServiceImpl implements EmployeeService {
     Employee employee = employeeRepository.findById(employeeId)
         .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
 
+    PersonStatus oldStatus = employee.getStatus();
     employee.setStatus(PersonStatus.valueOf(status));
-    return employeeRepository.save(employee);
+    Employee savedEmployee = employeeRepository.save(employee);
+    if (oldStatus != savedEmployee.getStatus()) {
+      recordStatusChange(savedEmployee);
+    }
+    return savedEmployee;
   }
 
   @Override
@@ -0,0 +1,65 @@
+package app.employee;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import app.business.query.PersonFilter;
+import app.business.query.PersonSpecifications;
+import app.employer.Employer;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Employee-specific query specifications, combined with {@link PersonSpecifications} for the
+ * criteria every person has
+ */
+public final class EmployeeSpecifications {
+
+  private EmployeeSpecifications() {}
+
+  /** The employee-specific criteria of a filter: search, position and department */
+  public static Specification<Employee> matching(PersonFilter filter) {
+    return (root, query, cb) -> {
+      List<Predicate> predicates = new ArrayList<>();
+      if (PersonSpecifications.hasText(filter.search())) {
+        predicates.add(
+            cb.or(
+                PersonSpecifications.contains(cb, root.get("name"), filter.search()),
+                PersonSpecifications.contains(cb, root.get("email"), filter.search()),
+                PersonSpecifications.contains(cb, root.get("position"), filter.search())));
+      }
+      if (PersonSpecifications.hasText(filter.position())) {
+        predicates.add(
+            cb.equal(cb.lower(root.get("position")), filter.position().trim().toLowerCase()));
+      }
+      if (PersonSpecifications.hasText(filter.department())) {
+        // Employees have no department of their own; as for bonuses, it is their manager's
+        Subquery<Long> managers = query.subquery(Long.class);
+        Root<Employer> manager = managers.from(Employer.class);
+        managers
+            .select(manager.get("id"))
+            .where(
+                cb.equal(manager.get("id"), root.get("manager").get("id")),
+                cb.equal(
+                    cb.lower(manager.get("department")), filter.department().trim().toLowerCase()));
+        predicates.add(cb.exists(managers));
+      }
+      return predicates.isEmpty() ? null : cb.and(predicates.toArray(new Predicate[0]));
+    };
+  }
+
+  /** Fetch the company and manager the DTO reads with the rows, instead of one query each */
+  public static Specification<Employee> fetchCompanyAndManager() {
+    return (root, query, cb) -> {
+      if (PersonSpecifications.isRowQuery(root, query)) {
+        root.fetch("company", JoinType.LEFT);
+        root.fetch("manager", JoinType.LEFT);
+      }
+      return null;
+    };
+  }
+}
@@ -0,0 +1,6 @@
+package app.employee;
+
+import java.time.LocalDate;
+
+/** Read-only view of a recently hired employee, for summaries that do not need the entity */
+public record RecentHire(Long id, String name, String position, LocalDate hireDate) {}
@@ -0,0 +1,9 @@
+package app.employee.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of employees. Contains the employees in the requested order and the cursor to
+ * pass back for the next page (null on the last page)
+ */
+public record EmployeePageDTO(List<EmployeeDTO> items, String nextCursor, Boolean hasMore) {}
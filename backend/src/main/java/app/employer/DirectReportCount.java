@@ -0,0 +1,4 @@
+package app.employer;
+
+/** Number of employees reporting to an employer, counted by the database */
+public record DirectReportCount(Long employerId, Long count) {}
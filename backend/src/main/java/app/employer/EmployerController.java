@@ -1,6 +1,7 @@
 package app.employer;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -8,17 +9,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import app.business.query.PersonFilter;
+import app.business.query.PersonPage;
 import app.common.factory.DTOFactory;
 import app.employee.Employee;
 import app.employee.dto.EmployeeDTO;
 import app.employer.dto.CreateEmployerRequest;
 import app.employer.dto.EmployerDTO;
+import app.employer.dto.EmployerPageDTO;
 import app.employer.dto.UpdateEmployerRequest;
 
 @RestController
@@ -54,6 +60,21 @@ public class EmployerController {
     return ResponseEntity.ok(dtos);
   }
 
+  /**
+   * Get one page of employers across every company, filtered and ordered by the database
+   *
+   * <p>GET /api/employers/page?department=Sales&sortBy=title&cursor={next}
+   */
+  @GetMapping("/page")
+  public ResponseEntity<EmployerPageDTO> getEmployerPage(@ModelAttribute PersonFilter filter,
+      @RequestParam(required = false) String sortBy,
+      @RequestParam(required = false) String direction,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    return ResponseEntity.ok(
+        toPageDTO(employerService.getEmployerPage(null, filter, sortBy, direction, cursor, size)));
+  }
+
   @PutMapping("/{id}")
   public ResponseEntity<EmployerDTO> updateEmployer(@PathVariable Long id,
       @RequestBody UpdateEmployerRequest req) {
@@ -75,6 +96,26 @@ public class EmployerController {
     return ResponseEntity.ok(dtos);
   }
 
+  /**
+   * Get one page of a company's employers, filtered and ordered by the database
+   *
+   * <p>Filters: search, name, position (matched against the title), department, status, hiredFrom,
+   * hiredTo, minSalary, maxSalary. Sort: sortBy (name, department, title, status, hireDate, salary)
+   * and direction (asc, desc). Paging: cursor (nextCursor of the previous page, same filters and
+   * sort) and size (default 50, max 200).
+   */
+  @GetMapping("/business/{businessId}/page")
+  public ResponseEntity<EmployerPageDTO> getEmployerPageByBusiness(@PathVariable Long businessId,
+      @ModelAttribute PersonFilter filter,
+      @RequestParam(required = false) String sortBy,
+      @RequestParam(required = false) String direction,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size) {
+    PersonPage<Employer> page =
+        employerService.getEmployerPage(businessId, filter, sortBy, direction, cursor, size);
+    return ResponseEntity.ok(toPageDTO(page));
+  }
+
   @GetMapping("/department/{department}")
   public ResponseEntity<List<EmployerDTO>> getEmployersByDepartment(
       @PathVariable String department) {
@@ -104,4 +145,13 @@ public class EmployerController {
     EmployerDTO dto = dtoFactory.createDTO(employer);
     return ResponseEntity.ok(dto);
   }
+
+  /** Direct reports are counted for the whole page in one query, not loaded per employer */
+  private EmployerPageDTO toPageDTO(PersonPage<Employer> page) {
+    Map<Long, Integer> reports =
+        employerService.countDirectReports(page.items().stream().map(Employer::getId).toList());
+    List<EmployerDTO> dtos = page.items().stream()
+        .map(employer -> dtoFactory.createDTO(employer, reports.get(employer.getId()))).toList();
+    return new EmployerPageDTO(dtos, page.nextCursor(), page.hasMore());
+  }
 }
@@ -1,13 +1,24 @@
 package app.employer;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface EmployerRepository extends JpaRepository<Employer, Long> {
+public interface EmployerRepository
+    extends JpaRepository<Employer, Long>, JpaSpecificationExecutor<Employer> {
   List<Employer> findByCompanyId(Long companyId);
 
   List<Employer> findByDepartment(String department);
+
+  /** Direct report counts of the given employers, in one query; employers without any are absent */
+  @Query(
+      "SELECT new app.employer.DirectReportCount(m.id, COUNT(e)) FROM Employer m "
+          + "JOIN m.managedEmployees e WHERE m.id IN :ids GROUP BY m.id")
+  List<DirectReportCount> countDirectReports(@Param("ids") Collection<Long> ids);
 }
@@ -1,8 +1,12 @@
 package app.employer;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import app.business.query.PersonFilter;
+import app.business.query.PersonPage;
 import app.employee.Employee;
 import app.employer.dto.CreateEmployerRequest;
 import app.employer.dto.UpdateEmployerRequest;
@@ -27,6 +31,30 @@ public interface EmployerService {
 
   List<Employer> getEmployersByBusiness(Long companyId);
 
+  /**
+   * Get one page of employers, filtered and ordered by the database.
+   *
+   * @param companyId ID of the company whose employers are listed, or null for every company
+   * @param filter Criteria the employers must match
+   * @param sortBy Attribute to order by: name, department, title, status, hireDate or salary
+   *     (default name)
+   * @param direction "asc" (default) or "desc"
+   * @param cursor Optional cursor returned with the previous page, for the same order
+   * @param size Optional page size (default 50, max 200)
+   * @return The page, with the cursor of the next one
+   * @throws IllegalArgumentException if a parameter or the cursor is invalid
+   */
+  PersonPage<Employer> getEmployerPage(Long companyId, PersonFilter filter, String sortBy,
+      String direction, String cursor, Integer size);
+
+  /**
+   * Count the direct reports of several employers in one query
+   *
+   * @param ids IDs of the employers
+   * @return Direct report count by employer ID, with every given ID present
+   */
+  Map<Long, Integer> countDirectReports(Collection<Long> ids);
+
   List<Employer> getEmployersByDepartment(String department);
 
   Set<Employee> getDirectReports(Long id);
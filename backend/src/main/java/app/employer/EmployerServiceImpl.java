@@ -1,13 +1,25 @@
 package app.employer;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import app.business.BusinessRepository;
 import app.business.Company;
+import app.business.CompanyDataChangedEvent;
+import app.business.query.PersonCursor;
+import app.business.query.PersonFilter;
+import app.business.query.PersonPage;
+import app.business.query.PersonSort;
+import app.business.query.PersonSortField;
+import app.business.query.PersonSpecifications;
 import app.employee.Employee;
 import app.employer.dto.CreateEmployerRequest;
 import app.employer.dto.UpdateEmployerRequest;
@@ -23,18 +35,25 @@ import app.user.UserRepository;
 @Transactional
 public class EmployerServiceImpl implements EmployerService {
 
+  /** Orders an employer listing can use */
+  private static final Set<PersonSortField> PAGE_SORT_FIELDS =
+      Set.of(PersonSortField.NAME, PersonSortField.DEPARTMENT, PersonSortField.TITLE,
+          PersonSortField.STATUS, PersonSortField.HIRE_DATE, PersonSortField.SALARY);
+
   private final EmployerRepository employerRepository;
   private final BusinessRepository businessRepository;
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
+  private final ApplicationEventPublisher eventPublisher;
 
   public EmployerServiceImpl(EmployerRepository employerRepository,
       BusinessRepository businessRepository, UserRepository userRepository,
-      PasswordEncoder passwordEncoder) {
+      PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher) {
     this.employerRepository = employerRepository;
     this.businessRepository = businessRepository;
     this.userRepository = userRepository;
     this.passwordEncoder = passwordEncoder;
+    this.eventPublisher = eventPublisher;
   }
 
   @Override
@@ -52,7 +71,9 @@ public class EmployerServiceImpl implements EmployerService {
       employer.setCompany(company);
     }
 
-    return employerRepository.save(employer);
+    Employer savedEmployer = employerRepository.save(employer);
+    publishCompanyDataChanged(savedEmployer);
+    return savedEmployer;
   }
 
   @Override
@@ -112,6 +133,7 @@ public class EmployerServiceImpl implements EmployerService {
     }
 
     Employer savedEmployer = employerRepository.save(employer);
+    publishCompanyDataChanged(savedEmployer);
 
     if (emailChanged) {
       Optional<User> userOpt = userRepository.findByBusinessPersonId(id);
@@ -127,10 +149,17 @@ public class EmployerServiceImpl implements EmployerService {
 
   @Override
   public void deleteEmployer(Long id) {
-    if (!employerRepository.existsById(id)) {
-      throw new EmployerNotFoundException(id);
+    Employer employer =
+        employerRepository.findById(id).orElseThrow(() -> new EmployerNotFoundException(id));
+    employerRepository.delete(employer);
+    publishCompanyDataChanged(employer);
+  }
+
+  /** Tell per-company views (dashboard figures) that one of the company's employers changed */
+  private void publishCompanyDataChanged(Employer employer) {
+    if (employer.getCompany() != null) {
+      eventPublisher.publishEvent(new CompanyDataChangedEvent(employer.getCompany().getId()));
     }
-    employerRepository.deleteById(id);
   }
 
   @Override
@@ -139,6 +168,42 @@ public class EmployerServiceImpl implements EmployerService {
     return employerRepository.findByCompanyId(companyId);
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public PersonPage<Employer> getEmployerPage(Long companyId, PersonFilter filter, String sortBy,
+      String direction, String cursor, Integer size) {
+    filter.validate();
+    PersonSort sort = PersonSort.parse(sortBy, direction, PAGE_SORT_FIELDS);
+    int pageSize = PersonPage.pageSize(size);
+
+    Specification<Employer> spec = Specification
+        .where(PersonSpecifications.<Employer>inCompany(companyId))
+        .and(PersonSpecifications.matching(filter))
+        .and(EmployerSpecifications.matching(filter))
+        .and(EmployerSpecifications.fetchCompany());
+    if (cursor != null && !cursor.isBlank()) {
+      spec = spec.and(PersonSpecifications.after(PersonCursor.decode(cursor, sort)));
+    }
+
+    // One extra row tells whether another page follows
+    List<Employer> rows = employerRepository.findBy(spec,
+        query -> query.sortBy(sort.toSort()).limit(pageSize + 1).all());
+    return PersonPage.of(rows, pageSize, sort);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Map<Long, Integer> countDirectReports(Collection<Long> ids) {
+    Map<Long, Integer> counts = new HashMap<>();
+    if (ids.isEmpty()) {
+      return counts;
+    }
+    ids.forEach(id -> counts.put(id, 0));
+    employerRepository.countDirectReports(ids)
+        .forEach(row -> counts.put(row.employerId(), row.count().intValue()));
+    return counts;
+  }
+
   @Override
   @Transactional(readOnly = true)
   public List<Employer> getEmployersByDepartment(String department) {
@@ -0,0 +1,54 @@
+package app.employer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import app.business.query.PersonFilter;
+import app.business.query.PersonSpecifications;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Employer-specific query specifications, combined with {@link PersonSpecifications} for the
+ * criteria every person has
+ */
+public final class EmployerSpecifications {
+
+  private EmployerSpecifications() {}
+
+  /** The employer-specific criteria of a filter: search, title (as position) and department */
+  public static Specification<Employer> matching(PersonFilter filter) {
+    return (root, query, cb) -> {
+      List<Predicate> predicates = new ArrayList<>();
+      if (PersonSpecifications.hasText(filter.search())) {
+        predicates.add(
+            cb.or(
+                PersonSpecifications.contains(cb, root.get("name"), filter.search()),
+                PersonSpecifications.contains(cb, root.get("email"), filter.search()),
+                PersonSpecifications.contains(cb, root.get("title"), filter.search()),
+                PersonSpecifications.contains(cb, root.get("department"), filter.search())));
+      }
+      if (PersonSpecifications.hasText(filter.position())) {
+        predicates.add(
+            cb.equal(cb.lower(root.get("title")), filter.position().trim().toLowerCase()));
+      }
+      if (PersonSpecifications.hasText(filter.department())) {
+        predicates.add(
+            cb.equal(cb.lower(root.get("department")), filter.department().trim().toLowerCase()));
+      }
+      return predicates.isEmpty() ? null : cb.and(predicates.toArray(new Predicate[0]));
+    };
+  }
+
+  /** Fetch the company the DTO reads with the rows, instead of one query each */
+  public static Specification<Employer> fetchCompany() {
+    return (root, query, cb) -> {
+      if (PersonSpecifications.isRowQuery(root, query)) {
+        root.fetch("company", JoinType.LEFT);
+      }
+      return null;
+    };
+  }
+}
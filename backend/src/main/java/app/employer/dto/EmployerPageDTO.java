@@ -0,0 +1,9 @@
+package app.employer.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of employers. Contains the employers in the requested order and the cursor to
+ * pass back for the next page (null on the last page)
+ */
+public record EmployerPageDTO(List<EmployerDTO> items, String nextCursor, Boolean hasMore) {}
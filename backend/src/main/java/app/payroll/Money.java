@@ -0,0 +1,65 @@
+package app.payroll;
+
+/**
+ * Fixed-point money helpers. Payroll amounts are held as a {@code long} number of cents so sums
+ * over any number of paychecks are exact, without the allocation cost of {@code BigDecimal} in
+ * payroll loops. Dollars only appear at the edges (API DTOs, CSV input, database columns).
+ */
+public final class Money {
+
+  private static final double CENTS_PER_DOLLAR = 100.0;
+
+  private Money() {}
+
+  /**
+   * Convert a dollar amount to cents, rounding half up to the nearest cent
+   *
+   * @param dollars Amount in dollars
+   * @return Amount in cents
+   */
+  public static long toCents(double dollars) {
+    return Math.round(dollars * CENTS_PER_DOLLAR);
+  }
+
+  /**
+   * Convert a nullable dollar amount to cents
+   *
+   * @param dollars Amount in dollars, may be null
+   * @return Amount in cents, or null if dollars is null
+   */
+  public static Long toCents(Double dollars) {
+    return (dollars != null) ? toCents(dollars.doubleValue()) : null;
+  }
+
+  /**
+   * Convert cents to a dollar amount
+   *
+   * @param cents Amount in cents
+   * @return Amount in dollars
+   */
+  public static double toDollars(long cents) {
+    return cents / CENTS_PER_DOLLAR;
+  }
+
+  /**
+   * Convert a nullable cents amount to dollars
+   *
+   * @param cents Amount in cents, may be null
+   * @return Amount in dollars, or null if cents is null
+   */
+  public static Double toDollars(Long cents) {
+    return (cents != null) ? toDollars(cents.longValue()) : null;
+  }
+
+  /**
+   * Apply a rate (e.g. a tax or insurance rate) to a cents amount, rounding half up to the nearest
+   * cent
+   *
+   * @param cents Amount in cents
+   * @param rate Rate to apply, e.g. 0.05 for 5%
+   * @return Rounded result in cents
+   */
+  public static long applyRate(long cents, double rate) {
+    return Math.round(cents * rate);
+  }
+}
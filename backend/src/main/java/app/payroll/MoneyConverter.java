@@ -0,0 +1,22 @@
+package app.payroll;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Maps cents held on the entity to the existing dollar-valued paycheck columns, so the schema and
+ * existing rows stay unchanged while all arithmetic happens on exact cents
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Long, Double> {
+
+  @Override
+  public Double convertToDatabaseColumn(Long cents) {
+    return Money.toDollars(cents);
+  }
+
+  @Override
+  public Long convertToEntityAttribute(Double dollars) {
+    return Money.toCents(dollars);
+  }
+}
@@ -4,7 +4,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import app.employee.Employee;
+import app.payroll.deduction.DeductionPlan;
+import app.payroll.strategy.TaxStrategySnapshot;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -12,9 +15,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
 /**
@@ -23,31 +28,68 @@ import jakarta.persistence.Table;
  * @author Qing Mi
  */
 @Entity
-@Table(name = "paycheck")
+// Composite index serves keyset pagination of an employee's history on (pay_date, id)
+@Table(
+    name = "paycheck",
+    indexes =
+        @Index(
+            name = "idx_paycheck_employee_pay_date_id",
+            columnList = "employee_id, pay_date, id"))
 public class Paycheck {
 
+  /** IDs reserved per sequence round trip; matches the JDBC batch size */
+  static final int ID_ALLOCATION_SIZE = 50;
+
+  /** Strategy every paycheck was calculated with before strategies were recorded */
+  public static final String LEGACY_TAX_STRATEGY_NAME = "Flat Tax Strategy";
+
+  // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "paycheck_seq")
+  @SequenceGenerator(
+      name = "paycheck_seq",
+      sequenceName = "paycheck_seq",
+      allocationSize = ID_ALLOCATION_SIZE)
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "employee_id", nullable = false)
   private Employee employee;
 
+  // Amounts are held in cents; MoneyConverter keeps the columns in dollars
   @Column(name = "gross_pay", nullable = false)
-  private double grossPay;
+  @Convert(converter = MoneyConverter.class)
+  private long grossPayCents;
 
   @Column(name = "tax_deduction", nullable = false)
-  private double taxDeduction;
+  @Convert(converter = MoneyConverter.class)
+  private long taxDeductionCents;
 
   @Column(name = "insurance_deduction", nullable = false)
-  private double insuranceDeduction;
+  @Convert(converter = MoneyConverter.class)
+  private long insuranceDeductionCents;
+
+  // Itemised non-tax deductions as CODE=cents;CODE=cents, totalling insurance_deduction. Null for
+  // paychecks calculated before deductions were itemised or whose deduction was entered by hand.
+  // Sized for the longest breakdown the deduction limits allow
+  @Column(name = "deduction_breakdown", length = DeductionPlan.MAX_ENCODED_LENGTH)
+  private String deductionBreakdown;
 
   @Column(name = "bonus")
-  private Double bonus;
+  @Convert(converter = MoneyConverter.class)
+  private Long bonusCents;
 
   @Column(name = "net_pay", nullable = false)
-  private double netPay;
+  @Convert(converter = MoneyConverter.class)
+  private long netPayCents;
+
+  // Strategy assignment that produced the tax deduction; null for paychecks created before
+  // strategies were recorded, which were all calculated with the flat strategy
+  @Column(name = "tax_strategy", length = 100)
+  private String taxStrategyName;
+
+  @Column(name = "tax_strategy_version")
+  private Long taxStrategyVersion;
 
   @Column(name = "pay_date", nullable = false)
   private LocalDate payDate;
@@ -66,18 +108,18 @@ public class Paycheck {
 
   public Paycheck(
       Employee employee,
-      double grossPay,
-      double taxDeduction,
-      double insuranceDeduction,
+      long grossPayCents,
+      long taxDeductionCents,
+      long insuranceDeductionCents,
       LocalDate payDate) {
     this.employee = employee;
-    this.grossPay = grossPay;
-    this.taxDeduction = taxDeduction;
-    this.insuranceDeduction = insuranceDeduction;
+    this.grossPayCents = grossPayCents;
+    this.taxDeductionCents = taxDeductionCents;
+    this.insuranceDeductionCents = insuranceDeductionCents;
     this.payDate = payDate;
     this.createdAt = LocalDateTime.now();
     this.status = PaycheckStatus.DRAFT;
-    this.netPay = calculateNetPay();
+    this.netPayCents = calculateNetPayCents();
   }
 
   @PrePersist
@@ -88,14 +130,18 @@ public class Paycheck {
     if (status == null) {
       status = PaycheckStatus.DRAFT;
     }
-    if (netPay == 0.0 && grossPay > 0) {
-      netPay = calculateNetPay();
+    if (netPayCents == 0 && grossPayCents > 0) {
+      netPayCents = calculateNetPayCents();
     }
   }
 
+  public long calculateNetPayCents() {
+    long bonusAmount = (bonusCents != null) ? bonusCents : 0L;
+    return grossPayCents - taxDeductionCents - insuranceDeductionCents + bonusAmount;
+  }
+
   public double calculateNetPay() {
-    double bonusAmount = (bonus != null) ? bonus : 0.0;
-    return grossPay - taxDeduction - insuranceDeduction + bonusAmount;
+    return Money.toDollars(calculateNetPayCents());
   }
 
   // Getters and setters
@@ -125,47 +171,110 @@ public class Paycheck {
   }
 
   public double getGrossPay() {
-    return grossPay;
+    return Money.toDollars(grossPayCents);
   }
 
   public void setGrossPay(double grossPay) {
-    this.grossPay = grossPay;
-    this.netPay = calculateNetPay();
+    setGrossPayCents(Money.toCents(grossPay));
+  }
+
+  public long getGrossPayCents() {
+    return grossPayCents;
+  }
+
+  public void setGrossPayCents(long grossPayCents) {
+    this.grossPayCents = grossPayCents;
+    this.netPayCents = calculateNetPayCents();
   }
 
   public double getTaxDeduction() {
-    return taxDeduction;
+    return Money.toDollars(taxDeductionCents);
   }
 
   public void setTaxDeduction(double taxDeduction) {
-    this.taxDeduction = taxDeduction;
-    this.netPay = calculateNetPay();
+    setTaxDeductionCents(Money.toCents(taxDeduction));
+  }
+
+  public long getTaxDeductionCents() {
+    return taxDeductionCents;
+  }
+
+  public void setTaxDeductionCents(long taxDeductionCents) {
+    this.taxDeductionCents = taxDeductionCents;
+    this.netPayCents = calculateNetPayCents();
   }
 
   public double getInsuranceDeduction() {
-    return insuranceDeduction;
+    return Money.toDollars(insuranceDeductionCents);
   }
 
   public void setInsuranceDeduction(double insuranceDeduction) {
-    this.insuranceDeduction = insuranceDeduction;
-    this.netPay = calculateNetPay();
+    setInsuranceDeductionCents(Money.toCents(insuranceDeduction));
+  }
+
+  public long getInsuranceDeductionCents() {
+    return insuranceDeductionCents;
+  }
+
+  public void setInsuranceDeductionCents(long insuranceDeductionCents) {
+    this.insuranceDeductionCents = insuranceDeductionCents;
+    this.netPayCents = calculateNetPayCents();
+  }
+
+  public String getDeductionBreakdown() {
+    return deductionBreakdown;
+  }
+
+  public void setDeductionBreakdown(String deductionBreakdown) {
+    this.deductionBreakdown = deductionBreakdown;
   }
 
   public Double getBonus() {
-    return bonus;
+    return Money.toDollars(bonusCents);
   }
 
   public void setBonus(Double bonus) {
-    this.bonus = bonus;
-    this.netPay = calculateNetPay();
+    setBonusCents(Money.toCents(bonus));
+  }
+
+  public Long getBonusCents() {
+    return bonusCents;
+  }
+
+  public void setBonusCents(Long bonusCents) {
+    this.bonusCents = bonusCents;
+    this.netPayCents = calculateNetPayCents();
   }
 
   public double getNetPay() {
-    return netPay;
+    return Money.toDollars(netPayCents);
   }
 
   public void setNetPay(double netPay) {
-    this.netPay = netPay;
+    this.netPayCents = Money.toCents(netPay);
+  }
+
+  public long getNetPayCents() {
+    return netPayCents;
+  }
+
+  /** Name of the strategy the tax was calculated with, falling back to the flat strategy */
+  public String getTaxStrategyName() {
+    return (taxStrategyName != null) ? taxStrategyName : LEGACY_TAX_STRATEGY_NAME;
+  }
+
+  public Long getTaxStrategyVersion() {
+    return taxStrategyVersion;
+  }
+
+  /**
+   * Record the strategy assignment used to calculate the tax deduction
+   *
+   * @param snapshot Strategy snapshot the tax was calculated with
+   */
+  public void recordTaxStrategy(TaxStrategySnapshot snapshot) {
+    this.taxStrategyName = snapshot.strategyName();
+    this.taxStrategyVersion = snapshot.version();
   }
 
   public LocalDate getPayDate() {
@@ -0,0 +1,80 @@
+package app.payroll;
+
+/**
+ * Amounts of one or more paychecks, in cents. The pre-aggregated totals tables store these per row:
+ * a paycheck contributes its amounts with a count of one, and removing it applies the negated
+ * amounts.
+ */
+public record PaycheckAmounts(
+    long paycheckCount,
+    long grossPayCents,
+    long bonusCents,
+    long taxDeductionCents,
+    long insuranceDeductionCents,
+    long netPayCents) {
+
+  public static final PaycheckAmounts ZERO = new PaycheckAmounts(0L, 0L, 0L, 0L, 0L, 0L);
+
+  /**
+   * Capture the amounts of a single paycheck
+   *
+   * @param paycheck Paycheck to capture
+   * @return Its amounts, with a count of one
+   */
+  public static PaycheckAmounts of(Paycheck paycheck) {
+    return new PaycheckAmounts(
+        1L,
+        paycheck.getGrossPayCents(),
+        (paycheck.getBonusCents() != null) ? paycheck.getBonusCents() : 0L,
+        paycheck.getTaxDeductionCents(),
+        paycheck.getInsuranceDeductionCents(),
+        paycheck.getNetPayCents());
+  }
+
+  /**
+   * Read the count and the five sums of a native query row, in column order
+   *
+   * @param columns Row returned by the query
+   * @param offset Index of the count column
+   * @return Amounts of the row
+   */
+  static PaycheckAmounts of(Object[] columns, int offset) {
+    return new PaycheckAmounts(
+        ((Number) columns[offset]).longValue(),
+        ((Number) columns[offset + 1]).longValue(),
+        ((Number) columns[offset + 2]).longValue(),
+        ((Number) columns[offset + 3]).longValue(),
+        ((Number) columns[offset + 4]).longValue(),
+        ((Number) columns[offset + 5]).longValue());
+  }
+
+  public PaycheckAmounts negate() {
+    return new PaycheckAmounts(
+        -paycheckCount,
+        -grossPayCents,
+        -bonusCents,
+        -taxDeductionCents,
+        -insuranceDeductionCents,
+        -netPayCents);
+  }
+
+  public PaycheckAmounts plus(PaycheckAmounts other) {
+    return new PaycheckAmounts(
+        paycheckCount + other.paycheckCount,
+        grossPayCents + other.grossPayCents,
+        bonusCents + other.bonusCents,
+        taxDeductionCents + other.taxDeductionCents,
+        insuranceDeductionCents + other.insuranceDeductionCents,
+        netPayCents + other.netPayCents);
+  }
+
+  /** True if applying these amounts would not change a row */
+  public boolean isEmpty() {
+    return paycheckCount == 0
+        && grossPayCents == 0
+        && bonusCents == 0
+        && taxDeductionCents == 0
+        && insuranceDeductionCents == 0
+        && netPayCents == 0;
+  }
+}
@@ -0,0 +1,129 @@
+package app.payroll;
+
+import java.util.List;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import app.payroll.rollup.PayrollRollupService;
+import app.payroll.ytd.PayrollYtdService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Bulk writer for paychecks. Paycheck IDs come from a pooled sequence, so Hibernate can group the
+ * inserts into JDBC batches; every batch is flushed and its paychecks detached, so memory stays
+ * flat no matter how many paychecks are written.
+ *
+ * <p>Paychecks passed to {@link #writeAll(List)} are detached once it returns, but keep their
+ * generated IDs and employee reference so they can still be converted to DTOs. Nothing else is
+ * detached: the employees and business the caller loaded stay managed in its transaction.
+ */
+@Component
+public class PaycheckBatchWriter {
+
+  private static final Logger logger = LoggerFactory.getLogger(PaycheckBatchWriter.class);
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private final PayrollRollupService payrollRollupService;
+  private final PayrollYtdService payrollYtdService;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  public PaycheckBatchWriter(
+      PayrollRollupService payrollRollupService,
+      PayrollYtdService payrollYtdService,
+      PlatformTransactionManager transactionManager,
+      @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("Batch size must be positive");
+    }
+    this.payrollRollupService = payrollRollupService;
+    this.payrollYtdService = payrollYtdService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Persist all paychecks using batched inserts and add them to the payroll rollup and the
+   * employees' year-to-date totals. Joins the caller's transaction if there is one.
+   *
+   * @param paychecks new (unsaved) paychecks
+   * @return the same paychecks, now carrying their generated IDs
+   */
+  @Transactional
+  public List<Paycheck> writeAll(List<Paycheck> paychecks) {
+    int written = 0;
+    for (int i = 0; i < paychecks.size(); i++) {
+      entityManager.persist(paychecks.get(i));
+      if ((i + 1) % batchSize == 0) {
+        written = flushAndDetach(paychecks, written, i + 1);
+      }
+    }
+    payrollRollupService.recordCreated(paychecks);
+    payrollYtdService.recordCreated(paychecks);
+    flushAndDetach(paychecks, written, paychecks.size());
+    return paychecks;
+  }
+
+  /**
+   * Send the pending inserts and detach the paychecks in {@code [from, to)}. Only those are
+   * detached, rather than clearing the persistence context, which is shared with the caller.
+   *
+   * @return {@code to}, where the next batch starts
+   */
+  private int flushAndDetach(List<Paycheck> paychecks, int from, int to) {
+    entityManager.flush();
+    for (Paycheck paycheck : paychecks.subList(from, to)) {
+      entityManager.detach(paycheck);
+    }
+    return to;
+  }
+
+  /**
+   * Move the paycheck ID sequence past any IDs assigned before paychecks used a sequence (when they
+   * were AUTO_INCREMENT). Only needed where the sequence is emulated by the {@code paycheck_seq}
+   * table (MySQL); databases with native sequences always start from an empty paycheck table.
+   */
+  @PostConstruct
+  void alignIdSequence() {
+    Dialect dialect =
+        entityManager
+            .getEntityManagerFactory()
+            .unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices()
+            .getDialect();
+    if (dialect.getSequenceSupport().supportsSequences()) {
+      return;
+    }
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          Number maxId =
+              (Number)
+                  entityManager
+                      .createNativeQuery("SELECT COALESCE(MAX(id), 0) FROM paycheck")
+                      .getSingleResult();
+          // Pooled optimizer hands out (next_val - allocationSize, next_val]
+          long floor = maxId.longValue() + Paycheck.ID_ALLOCATION_SIZE + 1;
+          int updated =
+              entityManager
+                  .createNativeQuery(
+                      "UPDATE paycheck_seq SET next_val = :floor WHERE next_val < :floor")
+                  .setParameter("floor", floor)
+                  .executeUpdate();
+          if (updated > 0) {
+            logger.info("Advanced paycheck ID sequence to {}", floor);
+          }
+        });
+  }
+}
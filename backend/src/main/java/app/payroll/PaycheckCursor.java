@@ -0,0 +1,57 @@
+package app.payroll;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a list of paychecks ordered by (payDate, id), handed to clients as an opaque string
+ * so they can ask for the page that follows it
+ *
+ * @param payDate Pay date of the last paycheck on the previous page
+ * @param id ID of the last paycheck on the previous page
+ */
+public record PaycheckCursor(LocalDate payDate, Long id) {
+
+  /**
+   * Cursor pointing just past a paycheck row
+   *
+   * @param row Last paycheck row of a page
+   * @return Cursor for the next page
+   */
+  public static PaycheckCursor after(PaycheckRow row) {
+    return new PaycheckCursor(row.payDate(), row.id());
+  }
+
+  /**
+   * Encode as an opaque, URL-safe string
+   *
+   * @return Encoded cursor
+   */
+  public String encode() {
+    String raw = payDate + ":" + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decode a cursor produced by {@link #encode()}
+   *
+   * @param cursor Encoded cursor
+   * @return Decoded cursor
+   * @throws IllegalArgumentException if the cursor is malformed
+   */
+  public static PaycheckCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.lastIndexOf(':');
+      return new PaycheckCursor(
+          LocalDate.parse(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+  }
+}
@@ -0,0 +1,40 @@
+package app.payroll;
+
+/** File formats paychecks can be exported in */
+public enum PaycheckExportFormat {
+  CSV("text/csv", "csv"),
+  NDJSON("application/x-ndjson", "ndjson");
+
+  private final String contentType;
+  private final String fileExtension;
+
+  PaycheckExportFormat(String contentType, String fileExtension) {
+    this.contentType = contentType;
+    this.fileExtension = fileExtension;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public String getFileExtension() {
+    return fileExtension;
+  }
+
+  /**
+   * Parse a format name, ignoring case
+   *
+   * @param value Format name, e.g. "csv" or "ndjson"
+   * @return Matching format
+   * @throws IllegalArgumentException if the format is unknown
+   */
+  public static PaycheckExportFormat fromString(String value) {
+    for (PaycheckExportFormat format : values()) {
+      if (format.name().equalsIgnoreCase(value)) {
+        return format;
+      }
+    }
+    throw new IllegalArgumentException(
+        "Unknown export format: " + value + ". Supported formats: csv, ndjson");
+  }
+}
@@ -0,0 +1,262 @@
+package app.payroll;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.business.BusinessRepository;
+import app.common.exception.ResourceNotFoundException;
+import app.payroll.dto.PaycheckExportRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Streams a company's paychecks to an output stream. Rows are read through a forward-only cursor
+ * and written as they arrive; the persistence context is cleared every few hundred rows, so memory
+ * use does not depend on how many paychecks are exported.
+ *
+ * <p>Only the paycheck entity and its employee's ID and name are selected: hydrating employees
+ * would trigger their eager associations, i.e. extra queries on the connection that is still
+ * streaming.
+ */
+@Component
+public class PaycheckExporter {
+
+  private static final Logger logger = LoggerFactory.getLogger(PaycheckExporter.class);
+
+  /** Rows written between flushing the response and clearing the persistence context */
+  private static final int FLUSH_INTERVAL = 500;
+
+  private static final String EXPORT_QUERY =
+      "SELECT p, e.id, e.name FROM Paycheck p JOIN p.employee e "
+          + "WHERE e.company.id = :businessId AND p.payDate BETWEEN :startDate AND :endDate "
+          + "ORDER BY p.payDate, p.id";
+
+  private static final String CSV_HEADER =
+      "paycheck_id,employee_id,employee_name,pay_date,status,gross_pay,bonus,tax_deduction,"
+          + "insurance_deduction,net_pay,tax_strategy";
+
+  /** Leading characters that make spreadsheets evaluate a cell as a formula */
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private final BusinessRepository businessRepository;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTransaction;
+  private int fetchSize;
+
+  public PaycheckExporter(
+      BusinessRepository businessRepository,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager) {
+    this.businessRepository = businessRepository;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  /** MySQL Connector/J only streams rows one by one when the fetch size is Integer.MIN_VALUE */
+  @PostConstruct
+  void chooseFetchSize() {
+    boolean mysql =
+        entityManager
+                .getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+            instanceof MySQLDialect;
+    fetchSize = mysql ? Integer.MIN_VALUE : FLUSH_INTERVAL;
+  }
+
+  /**
+   * Check an export request before any of the response is written, so errors still get a proper
+   * status code
+   *
+   * @param businessId ID of the business
+   * @param startDate Start date (inclusive)
+   * @param endDate End date (inclusive)
+   * @throws ResourceNotFoundException if business not found
+   * @throws IllegalArgumentException if the date range is invalid
+   */
+  public void validate(Long businessId, LocalDate startDate, LocalDate endDate) {
+    if (startDate == null || endDate == null) {
+      throw new IllegalArgumentException("Start date and end date are required");
+    }
+    if (startDate.isAfter(endDate)) {
+      throw new IllegalArgumentException("Start date cannot be after end date");
+    }
+    if (!businessRepository.existsById(businessId)) {
+      throw new ResourceNotFoundException("Business", "id", businessId);
+    }
+  }
+
+  /**
+   * Write every paycheck of a business in a date range, oldest first. The CSV header is flushed
+   * before the query runs, and rows are flushed in small groups as they are read.
+   *
+   * @param businessId ID of the business
+   * @param startDate Start date (inclusive)
+   * @param endDate End date (inclusive)
+   * @param format Output format
+   * @param out Stream to write to; left open
+   * @return Number of paychecks written
+   * @throws IOException if writing to the stream fails
+   */
+  public long export(
+      Long businessId,
+      LocalDate startDate,
+      LocalDate endDate,
+      PaycheckExportFormat format,
+      OutputStream out)
+      throws IOException {
+    long startedAt = System.currentTimeMillis();
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    if (format == PaycheckExportFormat.CSV) {
+      writer.write(CSV_HEADER);
+      writer.write('\n');
+    }
+    writer.flush();
+
+    long rows;
+    try {
+      rows =
+          readOnlyTransaction.execute(
+              status -> scroll(businessId, startDate, endDate, format, writer));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    writer.flush();
+
+    logger.info(
+        "Exported {} paychecks of business ID: {} as {} in {} ms",
+        rows,
+        businessId,
+        format,
+        System.currentTimeMillis() - startedAt);
+    return rows;
+  }
+
+  private long scroll(
+      Long businessId,
+      LocalDate startDate,
+      LocalDate endDate,
+      PaycheckExportFormat format,
+      Writer writer) {
+    Session session = entityManager.unwrap(Session.class);
+    long count = 0;
+    try (ScrollableResults<Object[]> results =
+        session
+            .createSelectionQuery(EXPORT_QUERY, Object[].class)
+            .setParameter("businessId", businessId)
+            .setParameter("startDate", startDate)
+            .setParameter("endDate", endDate)
+            .setReadOnly(true)
+            .setFetchSize(fetchSize)
+            .scroll(ScrollMode.FORWARD_ONLY)) {
+      while (results.next()) {
+        Object[] row = results.get();
+        Paycheck paycheck = (Paycheck) row[0];
+        PaycheckExportRow exportRow = toRow(paycheck, (Long) row[1], (String) row[2]);
+        if (format == PaycheckExportFormat.CSV) {
+          writeCsv(writer, exportRow);
+        } else {
+          writer.write(objectMapper.writeValueAsString(exportRow));
+          writer.write('\n');
+        }
+
+        if (++count % FLUSH_INTERVAL == 0) {
+          writer.flush();
+          session.clear();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return count;
+  }
+
+  private static PaycheckExportRow toRow(Paycheck paycheck, Long employeeId, String employeeName) {
+    return new PaycheckExportRow(
+        paycheck.getId(),
+        employeeId,
+        employeeName,
+        paycheck.getPayDate(),
+        paycheck.getStatus().name(),
+        dollars(paycheck.getGrossPayCents()),
+        (paycheck.getBonusCents() != null) ? dollars(paycheck.getBonusCents()) : null,
+        dollars(paycheck.getTaxDeductionCents()),
+        dollars(paycheck.getInsuranceDeductionCents()),
+        dollars(paycheck.getNetPayCents()),
+        paycheck.getTaxStrategyName());
+  }
+
+  private static BigDecimal dollars(long cents) {
+    return BigDecimal.valueOf(cents, 2);
+  }
+
+  private static void writeCsv(Writer writer, PaycheckExportRow row) throws IOException {
+    writer.write(String.valueOf(row.paycheckId()));
+    writer.write(',');
+    writer.write(String.valueOf(row.employeeId()));
+    writer.write(',');
+    writer.write(csvField(row.employeeName()));
+    writer.write(',');
+    writer.write(row.payDate().toString());
+    writer.write(',');
+    writer.write(row.status());
+    writer.write(',');
+    writer.write(row.grossPay().toPlainString());
+    writer.write(',');
+    writer.write((row.bonus() != null) ? row.bonus().toPlainString() : "");
+    writer.write(',');
+    writer.write(row.taxDeduction().toPlainString());
+    writer.write(',');
+    writer.write(row.insuranceDeduction().toPlainString());
+    writer.write(',');
+    writer.write(row.netPay().toPlainString());
+    writer.write(',');
+    writer.write(csvField(row.taxStrategy()));
+    writer.write('\n');
+  }
+
+  /**
+   * Quote a value if it contains a separator, quote or line break. Values a spreadsheet would read
+   * as a formula are prefixed with an apostrophe so they are shown as text.
+   */
+  static String csvField(String value) {
+    if (value == null) {
+      return "";
+    }
+    if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+      value = "'" + value;
+    }
+    if (value.indexOf(',') < 0
+        && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0
+        && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+}
@@ -3,6 +3,7 @@ package app.payroll;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -15,10 +16,47 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface PaycheckRepository extends JpaRepository<Paycheck, Long> {
 
+  /** Select list shared by the row projections below; joins the employee for its name only */
+  String ROW_SELECT =
+      "SELECT new app.payroll.PaycheckRow(p.id, e.id, e.name, p.grossPayCents, p.bonusCents, "
+          + "p.taxDeductionCents, p.insuranceDeductionCents, p.deductionBreakdown, p.netPayCents, "
+          + "p.payDate, p.taxStrategyName, p.status) FROM Paycheck p JOIN p.employee e ";
+
   /** Find all paychecks for a specific employee */
   @Query("SELECT p FROM Paycheck p WHERE p.employee.id = :employeeId")
   List<Paycheck> findByEmployeeId(Long employeeId);
 
+  /** All paychecks of an employee as rows, in one query */
+  @Query(ROW_SELECT + "WHERE e.id = :employeeId")
+  List<PaycheckRow> findRowsByEmployeeId(Long employeeId);
+
+  /** First page of an employee's paychecks in a date range, newest first */
+  @Query(
+      ROW_SELECT
+          + "WHERE e.id = :employeeId "
+          + "AND p.payDate BETWEEN :startDate AND :endDate "
+          + "ORDER BY p.payDate DESC, p.id DESC")
+  List<PaycheckRow> findHistoryPage(
+      Long employeeId, LocalDate startDate, LocalDate endDate, Pageable page);
+
+  /**
+   * Next page of an employee's paychecks in a date range, newest first. Seeks past the last
+   * (payDate, id) of the previous page instead of skipping rows, so every page costs the same
+   */
+  @Query(
+      ROW_SELECT
+          + "WHERE e.id = :employeeId "
+          + "AND p.payDate BETWEEN :startDate AND :endDate "
+          + "AND (p.payDate < :cursorPayDate OR (p.payDate = :cursorPayDate AND p.id < :cursorId)) "
+          + "ORDER BY p.payDate DESC, p.id DESC")
+  List<PaycheckRow> findHistoryPageAfter(
+      Long employeeId,
+      LocalDate startDate,
+      LocalDate endDate,
+      LocalDate cursorPayDate,
+      Long cursorId,
+      Pageable page);
+
   /** Find paychecks within a date range */
   List<Paycheck> findByPayDateBetween(LocalDate startDate, LocalDate endDate);
 
@@ -29,6 +67,11 @@ public interface PaycheckRepository extends JpaRepository<Paycheck, Long> {
   List<Paycheck> findByEmployeeIdAndDateRange(
       Long employeeId, LocalDate startDate, LocalDate endDate);
 
+  /** Paychecks of an employee within a date range as rows, in one query */
+  @Query(ROW_SELECT + "WHERE e.id = :employeeId AND p.payDate BETWEEN :startDate AND :endDate")
+  List<PaycheckRow> findRowsByEmployeeIdAndDateRange(
+      Long employeeId, LocalDate startDate, LocalDate endDate);
+
   /** Find paychecks for employees in a business within a date range */
   @Query(
       "SELECT p FROM Paycheck p WHERE p.employee.company.id = :businessId "
@@ -41,4 +84,15 @@ public interface PaycheckRepository extends JpaRepository<Paycheck, Long> {
       "SELECT p FROM Paycheck p WHERE p.employee.company.id = :businessId "
           + "AND p.payDate >= :date")
   List<Paycheck> findByBusinessIdAndPayDateAfter(Long businessId, LocalDate date);
+
+  /**
+   * Lock every paycheck until the transaction ends, waiting for writers already in flight. Under
+   * MySQL's repeatable read the scan takes next-key locks on the whole primary key, so no paycheck
+   * can be added, changed or deleted until the caller commits. Used to rebuild derived totals from
+   * a paycheck table that cannot move underneath them.
+   *
+   * @return IDs of all paychecks
+   */
+  @Query(value = "SELECT id FROM paycheck ORDER BY id FOR UPDATE", nativeQuery = true)
+  List<Long> lockAllForRebuild();
 }
@@ -0,0 +1,30 @@
+package app.payroll;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only projection of a paycheck with its employee's name, selected column by column so
+ * listings never load the employee entity (and its eager company and manager). Amounts in cents;
+ * paychecks created before strategies were recorded report {@link
+ * Paycheck#LEGACY_TAX_STRATEGY_NAME}
+ */
+public record PaycheckRow(
+    Long id,
+    Long employeeId,
+    String employeeName,
+    Long grossPayCents,
+    Long bonusCents,
+    Long taxDeductionCents,
+    Long insuranceDeductionCents,
+    String deductionBreakdown,
+    Long netPayCents,
+    LocalDate payDate,
+    String taxStrategyName,
+    PaycheckStatus status) {
+
+  public PaycheckRow {
+    if (taxStrategyName == null) {
+      taxStrategyName = Paycheck.LEGACY_TAX_STRATEGY_NAME;
+    }
+  }
+}
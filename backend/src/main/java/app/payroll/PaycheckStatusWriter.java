@@ -0,0 +1,312 @@
+package app.payroll;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.payroll.rollup.PayrollRollupDelta;
+import app.payroll.rollup.PayrollRollupKey;
+import app.payroll.ytd.PayrollYtdAmounts;
+import app.payroll.ytd.PayrollYtdKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Set-based reads and writes of paycheck status. A status change first locks the paychecks it will
+ * move, then sums and updates them with the same predicate, so the amounts moved in the rollup are
+ * always those of the rows that were updated and no paycheck IDs travel through the application.
+ * Requested ID lists are sent in chunks.
+ */
+@Component
+public class PaycheckStatusWriter {
+
+  /** Largest IN-list sent in one query; longer ID lists are split into chunks */
+  static final int ID_CHUNK_SIZE = 1000;
+
+  /**
+   * Paychecks a bulk operation applies to. Every non-null criterion must match; at least paycheck
+   * IDs or a business must be given.
+   */
+  public record PaycheckSelection(
+      Collection<Long> paycheckIds,
+      Long businessId,
+      LocalDate startDate,
+      LocalDate endDate,
+      PaycheckStatus status) {}
+
+  /** A selected paycheck that is not part of the update, with its current status */
+  public record SkippedPaycheck(Long paycheckId, PaycheckStatus status) {}
+
+  @PersistenceContext private EntityManager entityManager;
+
+  /**
+   * Find the IDs of the given paychecks that exist
+   *
+   * @param paycheckIds Paycheck IDs to look up
+   * @return IDs that exist
+   */
+  @Transactional(readOnly = true)
+  public Set<Long> findExistingIds(Collection<Long> paycheckIds) {
+    Set<Long> existing = new HashSet<>();
+    for (List<Long> chunk : chunks(paycheckIds)) {
+      List<?> rows =
+          entityManager
+              .createNativeQuery("SELECT p.id FROM paycheck p WHERE p.id IN (:ids)")
+              .setParameter("ids", chunk)
+              .getResultList();
+      rows.forEach(row -> existing.add(((Number) row).longValue()));
+    }
+    return existing;
+  }
+
+  /**
+   * Find selected paychecks whose status is not one of the given statuses
+   *
+   * @param selection Paychecks to look at
+   * @param statuses Statuses to leave out
+   * @return Paychecks with any other status
+   */
+  @Transactional(readOnly = true)
+  public List<SkippedPaycheck> findWithStatusNotIn(
+      PaycheckSelection selection, Collection<PaycheckStatus> statuses) {
+    List<SkippedPaycheck> skipped = new ArrayList<>();
+    for (PaycheckSelection part : split(selection)) {
+      Query query =
+          entityManager.createNativeQuery(
+              "SELECT p.id, p.status FROM paycheck p WHERE "
+                  + where(part)
+                  + " AND p.status NOT IN (:statuses)");
+      bind(query, part, statuses);
+
+      for (Object row : query.getResultList()) {
+        Object[] columns = (Object[]) row;
+        skipped.add(
+            new SkippedPaycheck(
+                ((Number) columns[0]).longValue(), PaycheckStatus.valueOf((String) columns[1])));
+      }
+    }
+    return skipped;
+  }
+
+  /**
+   * Lock the selected paychecks with one of the given statuses until the transaction ends. The
+   * locking read sees the latest committed rows rather than the transaction's snapshot, and its
+   * next-key locks keep the selection from changing, so the sums and the update that follow with
+   * the same selection and statuses see exactly these rows. Must run inside the caller's
+   * transaction.
+   *
+   * @param selection Paychecks to look at
+   * @param statuses Statuses that may be changed
+   * @return Number of paychecks locked
+   */
+  @Transactional
+  public long lockWithStatusIn(PaycheckSelection selection, Collection<PaycheckStatus> statuses) {
+    long locked = 0L;
+    for (PaycheckSelection part : split(selection)) {
+      Query query =
+          entityManager.createNativeQuery(
+              "SELECT COUNT(*) FROM paycheck p WHERE " + whereStatusIn(part) + " FOR UPDATE");
+      locked += ((Number) bind(query, part, statuses).getSingleResult()).longValue();
+    }
+    return locked;
+  }
+
+  /**
+   * Sum paychecks per rollup row, so their contribution can be moved when their status changes.
+   * Paychecks of employees without a company are summed under a key with a null company ID. The
+   * paychecks should be locked by {@link #lockWithStatusIn}; the sum is a locking read too, so it
+   * reads the current amounts rather than the transaction's snapshot.
+   *
+   * @param selection Paychecks to sum, as locked
+   * @param statuses Statuses that may be changed, as locked
+   * @return One delta per company, pay date and status
+   */
+  @Transactional
+  public List<PayrollRollupDelta> sumByRollupKey(
+      PaycheckSelection selection, Collection<PaycheckStatus> statuses) {
+    Map<PayrollRollupKey, PayrollRollupDelta> deltas = new LinkedHashMap<>();
+    for (PaycheckSelection part : split(selection)) {
+      Query query =
+          entityManager.createNativeQuery(
+              "SELECT bp.company_id, p.pay_date, p.status, COUNT(*), "
+                  + "SUM(ROUND(p.gross_pay * 100)), COALESCE(SUM(ROUND(p.bonus * 100)), 0), "
+                  + "SUM(ROUND(p.tax_deduction * 100)), "
+                  + "SUM(ROUND(p.insurance_deduction * 100)), SUM(ROUND(p.net_pay * 100)) "
+                  + "FROM paycheck p JOIN business_person bp ON bp.id = p.employee_id "
+                  + "WHERE "
+                  + whereStatusIn(part)
+                  + " GROUP BY bp.company_id, p.pay_date, p.status FOR UPDATE");
+      for (Object row : bind(query, part, statuses).getResultList()) {
+        Object[] columns = (Object[]) row;
+        Long companyId = (columns[0] != null) ? ((Number) columns[0]).longValue() : null;
+        PayrollRollupDelta delta =
+            new PayrollRollupDelta(
+                new PayrollRollupKey(
+                    companyId,
+                    toLocalDate(columns[1]),
+                    PaycheckStatus.valueOf((String) columns[2])),
+                PaycheckAmounts.of(columns, 3));
+        // Chunks of requested IDs may share a key
+        deltas.merge(delta.key(), delta, PayrollRollupDelta::plus);
+      }
+    }
+    return new ArrayList<>(deltas.values());
+  }
+
+  /**
+   * Sum paychecks per employee and tax year, so their contribution to the year-to-date totals can
+   * be removed when they are voided. Like {@link #sumByRollupKey}, a locking read of paychecks
+   * locked by {@link #lockWithStatusIn}.
+   *
+   * @param selection Paychecks to sum, as locked
+   * @param statuses Statuses that may be changed, as locked
+   * @return One entry per employee and tax year
+   */
+  @Transactional
+  public List<PayrollYtdAmounts> sumByYtdKey(
+      PaycheckSelection selection, Collection<PaycheckStatus> statuses) {
+    Map<PayrollYtdKey, PayrollYtdAmounts> sums = new LinkedHashMap<>();
+    for (PaycheckSelection part : split(selection)) {
+      Query query =
+          entityManager.createNativeQuery(
+              "SELECT p.employee_id, YEAR(p.pay_date), COUNT(*), "
+                  + "SUM(ROUND(p.gross_pay * 100)), COALESCE(SUM(ROUND(p.bonus * 100)), 0), "
+                  + "SUM(ROUND(p.tax_deduction * 100)), "
+                  + "SUM(ROUND(p.insurance_deduction * 100)), SUM(ROUND(p.net_pay * 100)) "
+                  + "FROM paycheck p WHERE "
+                  + whereStatusIn(part)
+                  + " GROUP BY p.employee_id, YEAR(p.pay_date) FOR UPDATE");
+      for (Object row : bind(query, part, statuses).getResultList()) {
+        Object[] columns = (Object[]) row;
+        PayrollYtdAmounts amounts =
+            new PayrollYtdAmounts(
+                new PayrollYtdKey(
+                    ((Number) columns[0]).longValue(), ((Number) columns[1]).intValue()),
+                PaycheckAmounts.of(columns, 2));
+        sums.merge(amounts.key(), amounts, PayrollYtdAmounts::plus);
+      }
+    }
+    return new ArrayList<>(sums.values());
+  }
+
+  /**
+   * Set the status of the selected paychecks with one of the given statuses. Must run inside the
+   * caller's transaction, after {@link #lockWithStatusIn} locked them with the same arguments.
+   *
+   * @param selection Paychecks to update, as locked
+   * @param statuses Statuses that may be changed, as locked
+   * @param newStatus Status to set
+   * @return Number of paychecks updated
+   */
+  @Transactional
+  public int updateStatus(
+      PaycheckSelection selection, Collection<PaycheckStatus> statuses, PaycheckStatus newStatus) {
+    int updated = 0;
+    for (PaycheckSelection part : split(selection)) {
+      Query query =
+          entityManager.createNativeQuery(
+              "UPDATE paycheck p SET p.status = :newStatus WHERE " + whereStatusIn(part));
+      updated +=
+          bind(query, part, statuses).setParameter("newStatus", newStatus.name()).executeUpdate();
+    }
+    // Paychecks already loaded in this persistence context no longer match the database
+    entityManager.clear();
+    return updated;
+  }
+
+  /** The selection split so that no query gets more than {@value #ID_CHUNK_SIZE} paycheck IDs */
+  private static List<PaycheckSelection> split(PaycheckSelection selection) {
+    if (selection.paycheckIds() == null) {
+      return List.of(selection);
+    }
+    return chunks(selection.paycheckIds()).stream()
+        .map(
+            chunk ->
+                new PaycheckSelection(
+                    chunk,
+                    selection.businessId(),
+                    selection.startDate(),
+                    selection.endDate(),
+                    selection.status()))
+        .toList();
+  }
+
+  private static List<List<Long>> chunks(Collection<Long> ids) {
+    List<Long> list = new ArrayList<>(ids);
+    List<List<Long>> chunks = new ArrayList<>();
+    for (int from = 0; from < list.size(); from += ID_CHUNK_SIZE) {
+      chunks.add(list.subList(from, Math.min(from + ID_CHUNK_SIZE, list.size())));
+    }
+    return chunks;
+  }
+
+  private static String where(PaycheckSelection selection) {
+    List<String> criteria = new ArrayList<>();
+    if (selection.paycheckIds() != null) {
+      criteria.add("p.id IN (:paycheckIds)");
+    }
+    if (selection.businessId() != null) {
+      criteria.add(
+          "p.employee_id IN (SELECT e.id FROM business_person e WHERE e.company_id = :businessId)");
+    }
+    if (selection.startDate() != null) {
+      criteria.add("p.pay_date >= :startDate");
+    }
+    if (selection.endDate() != null) {
+      criteria.add("p.pay_date <= :endDate");
+    }
+    if (selection.status() != null) {
+      criteria.add("p.status = :status");
+    }
+    if (criteria.isEmpty()) {
+      throw new IllegalArgumentException("A paycheck selection needs at least one criterion");
+    }
+    return String.join(" AND ", criteria);
+  }
+
+  /** The selection's criteria, restricted to paychecks with one of the given statuses */
+  private static String whereStatusIn(PaycheckSelection selection) {
+    return where(selection) + " AND p.status IN (:statuses)";
+  }
+
+  private static Query bind(
+      Query query, PaycheckSelection selection, Collection<PaycheckStatus> statuses) {
+    return bind(query, selection).setParameter("statuses", names(statuses));
+  }
+
+  private static Query bind(Query query, PaycheckSelection selection) {
+    if (selection.paycheckIds() != null) {
+      query.setParameter("paycheckIds", selection.paycheckIds());
+    }
+    if (selection.businessId() != null) {
+      query.setParameter("businessId", selection.businessId());
+    }
+    if (selection.startDate() != null) {
+      query.setParameter("startDate", selection.startDate());
+    }
+    if (selection.endDate() != null) {
+      query.setParameter("endDate", selection.endDate());
+    }
+    if (selection.status() != null) {
+      query.setParameter("status", selection.status().name());
+    }
+    return query;
+  }
+
+  private static List<String> names(Collection<PaycheckStatus> statuses) {
+    return statuses.stream().map(PaycheckStatus::name).toList();
+  }
+
+  private static LocalDate toLocalDate(Object value) {
+    return (value instanceof java.sql.Date date) ? date.toLocalDate() : (LocalDate) value;
+  }
+}
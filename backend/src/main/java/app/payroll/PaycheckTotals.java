@@ -0,0 +1,22 @@
+package app.payroll;
+
+/**
+ * Aggregate projection over a set of paychecks, computed by the database. Amounts are in cents so
+ * they can be summed exactly and converted to dollars once.
+ */
+public interface PaycheckTotals {
+
+  long getPaycheckCount();
+
+  long getEmployeeCount();
+
+  long getGrossPayCents();
+
+  long getBonusCents();
+
+  long getTaxDeductionCents();
+
+  long getInsuranceDeductionCents();
+
+  long getNetPayCents();
+}
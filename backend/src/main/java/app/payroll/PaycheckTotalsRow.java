@@ -0,0 +1,43 @@
+package app.payroll;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+
+/**
+ * Amount columns shared by the pre-aggregated paycheck totals tables. Subclasses add the key the
+ * totals are grouped by; rows are only written through {@link PaycheckTotalsUpsert}.
+ */
+@MappedSuperclass
+public abstract class PaycheckTotalsRow {
+
+  @Column(name = "paycheck_count", nullable = false)
+  private long paycheckCount;
+
+  @Column(name = "gross_pay_cents", nullable = false)
+  private long grossPayCents;
+
+  @Column(name = "bonus_cents", nullable = false)
+  private long bonusCents;
+
+  @Column(name = "tax_deduction_cents", nullable = false)
+  private long taxDeductionCents;
+
+  @Column(name = "insurance_deduction_cents", nullable = false)
+  private long insuranceDeductionCents;
+
+  @Column(name = "net_pay_cents", nullable = false)
+  private long netPayCents;
+
+  protected PaycheckTotalsRow() {}
+
+  /** The amounts stored in this row */
+  public PaycheckAmounts getAmounts() {
+    return new PaycheckAmounts(
+        paycheckCount,
+        grossPayCents,
+        bonusCents,
+        taxDeductionCents,
+        insuranceDeductionCents,
+        netPayCents);
+  }
+}
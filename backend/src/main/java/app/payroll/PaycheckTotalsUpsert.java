@@ -0,0 +1,174 @@
+package app.payroll;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+/**
+ * Applies paycheck amount changes to a table of {@link PaycheckTotalsRow}s. Changes are written
+ * with multi-row {@code INSERT ... ON DUPLICATE KEY UPDATE} statements of up to {@value
+ * #ROWS_PER_STATEMENT} rows, each adding to its row atomically and creating it if needed; rows that
+ * no longer count any paycheck are then deleted in one statement per chunk. Callers merge changes
+ * by key first, so a batch touching many paychecks of the same row adds to it once.
+ */
+public final class PaycheckTotalsUpsert {
+
+  /** Rows per statement; each row binds its key values and six amounts */
+  static final int ROWS_PER_STATEMENT = 500;
+
+  private static final String AMOUNT_COLUMNS =
+      "paycheck_count, gross_pay_cents, bonus_cents, tax_deduction_cents, "
+          + "insurance_deduction_cents, net_pay_cents";
+
+  private static final String ADD_AMOUNTS =
+      " ON DUPLICATE KEY UPDATE "
+          + "paycheck_count = paycheck_count + VALUES(paycheck_count), "
+          + "gross_pay_cents = gross_pay_cents + VALUES(gross_pay_cents), "
+          + "bonus_cents = bonus_cents + VALUES(bonus_cents), "
+          + "tax_deduction_cents = tax_deduction_cents + VALUES(tax_deduction_cents), "
+          + "insurance_deduction_cents = "
+          + "insurance_deduction_cents + VALUES(insurance_deduction_cents), "
+          + "net_pay_cents = net_pay_cents + VALUES(net_pay_cents)";
+
+  private final String table;
+  private final String keyList;
+  private final int keyColumnCount;
+
+  // Statements for a full chunk, the common case, built once
+  private final String fullUpsertSql;
+  private final String fullDeleteIfEmptySql;
+
+  /**
+   * @param table Totals table
+   * @param keyColumns Columns of the table's primary key, in the order key values are given
+   */
+  public PaycheckTotalsUpsert(String table, String... keyColumns) {
+    this.table = table;
+    this.keyList = String.join(", ", keyColumns);
+    this.keyColumnCount = keyColumns.length;
+    this.fullUpsertSql = upsertSql(ROWS_PER_STATEMENT);
+    this.fullDeleteIfEmptySql = deleteIfEmptySql(ROWS_PER_STATEMENT);
+  }
+
+  /**
+   * Apply merged changes, skipping those that would not change their row
+   *
+   * @param entityManager Entity manager of the caller's transaction
+   * @param changes Changes keyed by totals row
+   * @param keyValues Maps a key to its column values, in the order of the key columns
+   * @param <K> Key type of the totals rows
+   */
+  public <K> void applyAll(
+      EntityManager entityManager,
+      Map<K, PaycheckAmounts> changes,
+      Function<K, Object[]> keyValues) {
+    List<Object[]> keys = new ArrayList<>(changes.size());
+    List<PaycheckAmounts> amounts = new ArrayList<>(changes.size());
+    for (Map.Entry<K, PaycheckAmounts> change : changes.entrySet()) {
+      if (change.getValue().isEmpty()) {
+        continue;
+      }
+      Object[] key = keyValues.apply(change.getKey());
+      if (key.length != keyColumnCount) {
+        throw new IllegalArgumentException(
+            "Expected " + keyColumnCount + " key values but got " + key.length);
+      }
+      keys.add(key);
+      amounts.add(change.getValue());
+    }
+
+    for (int from = 0; from < keys.size(); from += ROWS_PER_STATEMENT) {
+      int to = Math.min(from + ROWS_PER_STATEMENT, keys.size());
+      applyChunk(entityManager, keys.subList(from, to), amounts.subList(from, to));
+    }
+  }
+
+  private void applyChunk(
+      EntityManager entityManager, List<Object[]> keys, List<PaycheckAmounts> amounts) {
+    int rows = keys.size();
+    Query upsert =
+        entityManager.createNativeQuery(
+            (rows == ROWS_PER_STATEMENT) ? fullUpsertSql : upsertSql(rows));
+    int position = 1;
+    for (int i = 0; i < rows; i++) {
+      PaycheckAmounts change = amounts.get(i);
+      position = bindKey(upsert, position, keys.get(i));
+      upsert
+          .setParameter(position++, change.paycheckCount())
+          .setParameter(position++, change.grossPayCents())
+          .setParameter(position++, change.bonusCents())
+          .setParameter(position++, change.taxDeductionCents())
+          .setParameter(position++, change.insuranceDeductionCents())
+          .setParameter(position++, change.netPayCents());
+    }
+    upsert.executeUpdate();
+
+    // Only a change that removes paychecks can leave a row empty
+    List<Object[]> shrunk = new ArrayList<>();
+    for (int i = 0; i < rows; i++) {
+      if (amounts.get(i).paycheckCount() < 0) {
+        shrunk.add(keys.get(i));
+      }
+    }
+    if (!shrunk.isEmpty()) {
+      Query delete =
+          entityManager.createNativeQuery(
+              (shrunk.size() == ROWS_PER_STATEMENT)
+                  ? fullDeleteIfEmptySql
+                  : deleteIfEmptySql(shrunk.size()));
+      position = 1;
+      for (Object[] key : shrunk) {
+        position = bindKey(delete, position, key);
+      }
+      delete.executeUpdate();
+    }
+  }
+
+  private String upsertSql(int rows) {
+    StringBuilder sql =
+        new StringBuilder("INSERT INTO ")
+            .append(table)
+            .append(" (")
+            .append(keyList)
+            .append(", ")
+            .append(AMOUNT_COLUMNS)
+            .append(") VALUES ");
+    appendPlaceholderRows(sql, rows, keyColumnCount + 6);
+    return sql.append(ADD_AMOUNTS).toString();
+  }
+
+  private String deleteIfEmptySql(int rows) {
+    StringBuilder sql =
+        new StringBuilder("DELETE FROM ")
+            .append(table)
+            .append(" WHERE paycheck_count = 0 AND (")
+            .append(keyList)
+            .append(") IN (");
+    appendPlaceholderRows(sql, rows, keyColumnCount);
+    return sql.append(')').toString();
+  }
+
+  /** Append {@code (?1, ?2), (?3, ?4), ...} with ordinal parameters numbered across all rows */
+  private static void appendPlaceholderRows(StringBuilder sql, int rows, int columns) {
+    int position = 1;
+    for (int row = 0; row < rows; row++) {
+      sql.append((row == 0) ? "(" : ", (");
+      for (int column = 0; column < columns; column++) {
+        sql.append((column == 0) ? "?" : ", ?").append(position++);
+      }
+      sql.append(')');
+    }
+  }
+
+  /** Bind key values from the given position and return the next free position */
+  private static int bindKey(Query query, int position, Object[] key) {
+    for (Object value : key) {
+      query.setParameter(position++, value);
+    }
+    return position;
+  }
+}
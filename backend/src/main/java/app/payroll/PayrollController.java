@@ -9,7 +9,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,17 +22,37 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import app.business.BusinessService;
+import app.common.exception.ResourceNotFoundException;
 import app.payroll.dto.BonusDistributionResponse;
+import app.payroll.dto.BulkPaycheckStatusRequest;
+import app.payroll.dto.BulkPaycheckStatusResponse;
+import app.payroll.dto.DeductionPlanDTO;
+import app.payroll.dto.DeductionPlanRequest;
 import app.payroll.dto.DeletePaycheckResponse;
 import app.payroll.dto.DistributeBonusRequest;
 import app.payroll.dto.PaycheckDTO;
+import app.payroll.dto.PaycheckPageDTO;
+import app.payroll.dto.PayrollJobDTO;
+import app.payroll.dto.PayrollRollupRebuildResponse;
+import app.payroll.dto.PayrollRunSummaryDTO;
+import app.payroll.dto.PayrollSimulationDTO;
+import app.payroll.dto.PayrollSimulationRequest;
 import app.payroll.dto.PayrollSummaryDTO;
+import app.payroll.dto.PayrollTrendPointDTO;
+import app.payroll.dto.PayrollYtdDTO;
+import app.payroll.dto.PayrollYtdRebuildResponse;
+import app.payroll.dto.PreviewCacheStatsResponse;
 import app.payroll.dto.TaxStrategiesResponse;
 import app.payroll.dto.TaxStrategyResponse;
 import app.payroll.dto.TaxStrategySwitchResponse;
+import app.payroll.job.PayrollJobService;
+import app.payroll.rollup.PayrollRollupService;
 import app.payroll.strategy.TaxCalculationStrategy;
+import app.payroll.strategy.TaxStrategySnapshot;
+import app.payroll.ytd.PayrollYtdService;
 import jakarta.validation.Valid;
 
 /**
@@ -47,6 +69,10 @@ public class PayrollController {
 
   private final PayrollService payrollService;
   private final BusinessService businessService;
+  private final PayrollRollupService payrollRollupService;
+  private final PayrollYtdService payrollYtdService;
+  private final PayrollJobService payrollJobService;
+  private final PaycheckExporter paycheckExporter;
   private final TaxCalculationStrategy flatTaxStrategy;
   private final TaxCalculationStrategy progressiveTaxStrategy;
 
@@ -54,10 +80,18 @@ public class PayrollController {
   public PayrollController(
       PayrollService payrollService,
       BusinessService businessService,
+      PayrollRollupService payrollRollupService,
+      PayrollYtdService payrollYtdService,
+      PayrollJobService payrollJobService,
+      PaycheckExporter paycheckExporter,
       @Qualifier("flatTaxStrategy") TaxCalculationStrategy flatTaxStrategy,
       @Qualifier("progressiveTaxStrategy") TaxCalculationStrategy progressiveTaxStrategy) {
     this.payrollService = payrollService;
     this.businessService = businessService;
+    this.payrollRollupService = payrollRollupService;
+    this.payrollYtdService = payrollYtdService;
+    this.payrollJobService = payrollJobService;
+    this.paycheckExporter = paycheckExporter;
     this.flatTaxStrategy = flatTaxStrategy;
     this.progressiveTaxStrategy = progressiveTaxStrategy;
 
@@ -140,6 +174,41 @@ public class PayrollController {
     return ResponseEntity.ok(dto);
   }
 
+  /**
+   * Get payroll preview cache statistics
+   *
+   * <p>GET /api/payroll/preview/cache/stats
+   *
+   * @return PreviewCacheStatsResponse with hit, miss and eviction counts
+   */
+  @GetMapping("/preview/cache/stats")
+  public ResponseEntity<PreviewCacheStatsResponse> getPreviewCacheStats() {
+    return ResponseEntity.ok(payrollService.getPreviewCacheStats());
+  }
+
+  /**
+   * Simulate a business's payroll under candidate tax strategies and insurance rates. Nothing is
+   * saved
+   *
+   * <p>POST /api/payroll/simulate/{businessId} Request Body: { "scenarios": [ { "name":
+   * "Progressive", "taxStrategy": "progressiveTaxStrategy" }, { "name": "Flat 18%, 4% insurance",
+   * "flatTaxRate": 0.18, "insuranceRate": 0.04 } ], "topChanges": 20 }
+   *
+   * @param businessId ID of the business
+   * @param request Scenarios to evaluate
+   * @return PayrollSimulationDTO with totals, percentiles and largest per-employee changes
+   */
+  @PostMapping("/simulate/{businessId}")
+  public ResponseEntity<PayrollSimulationDTO> simulatePayroll(
+      @PathVariable Long businessId, @Valid @RequestBody PayrollSimulationRequest request) {
+    logger.info(
+        "Received payroll simulation request for business ID: {} with {} scenarios",
+        businessId,
+        request.scenarios().size());
+
+    return ResponseEntity.ok(payrollService.simulatePayroll(businessId, request));
+  }
+
   /**
    * Distribute bonuses to employees in a business
    *
@@ -172,17 +241,130 @@ public class PayrollController {
     return new ResponseEntity<>(response, HttpStatus.CREATED);
   }
 
+  /**
+   * Run payroll for every active employee of a business
+   *
+   * <p>POST /api/payroll/run/{businessId} POST /api/payroll/run/{businessId}?payDate=2024-01-31
+   *
+   * @param businessId ID of the business
+   * @param payDate Optional pay date for the generated paychecks (defaults to today)
+   * @return PayrollRunSummaryDTO with run totals and per-employee failures
+   */
+  @PostMapping("/run/{businessId}")
+  public ResponseEntity<PayrollRunSummaryDTO> runPayroll(
+      @PathVariable Long businessId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate payDate) {
+    logger.info("Received payroll run request for business ID: {}", businessId);
+
+    PayrollRunSummaryDTO summary = payrollService.runPayrollForBusiness(businessId, payDate);
+
+    logger.info(
+        "Payroll run completed for business ID: {}: {} successful, {} failed",
+        businessId,
+        summary.successfulPaychecks(),
+        summary.failedPaychecks());
+
+    return new ResponseEntity<>(summary, HttpStatus.CREATED);
+  }
+
+  /**
+   * Queue a payroll run as a background job and return immediately
+   *
+   * <p>POST /api/payroll/jobs/run/{businessId} POST
+   * /api/payroll/jobs/run/{businessId}?payDate=2024-01-31
+   *
+   * @param businessId ID of the business
+   * @param payDate Optional pay date for the generated paychecks (defaults to today)
+   * @return PayrollJobDTO of the queued job, poll GET /api/payroll/jobs/{jobId} for progress
+   */
+  @PostMapping("/jobs/run/{businessId}")
+  public ResponseEntity<PayrollJobDTO> submitPayrollRun(
+      @PathVariable Long businessId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate payDate) {
+    logger.info("Received payroll run job request for business ID: {}", businessId);
+
+    PayrollJobDTO job = payrollJobService.submitPayrollRun(businessId, payDate);
+
+    return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
+  }
+
+  /**
+   * Queue a bonus distribution as a background job and return immediately
+   *
+   * <p>POST /api/payroll/jobs/bonuses Request Body: same as POST /api/payroll/bonuses
+   *
+   * @param request Bonus distribution request
+   * @return PayrollJobDTO of the queued job, poll GET /api/payroll/jobs/{jobId} for progress
+   */
+  @PostMapping("/jobs/bonuses")
+  public ResponseEntity<PayrollJobDTO> submitBonusDistribution(
+      @Valid @RequestBody DistributeBonusRequest request) {
+    logger.info(
+        "Received bonus distribution job request for business ID: {} with amount: ${}",
+        request.businessId(),
+        request.bonusAmount());
+
+    PayrollJobDTO job = payrollJobService.submitBonusDistribution(request);
+
+    return new ResponseEntity<>(job, HttpStatus.ACCEPTED);
+  }
+
+  /**
+   * Get status, progress and errors of a payroll job; the run summary is included once it finishes
+   *
+   * <p>GET /api/payroll/jobs/{jobId}
+   *
+   * @param jobId ID of the job
+   * @return PayrollJobDTO
+   */
+  @GetMapping("/jobs/{jobId}")
+  public ResponseEntity<PayrollJobDTO> getJob(@PathVariable String jobId) {
+    return ResponseEntity.ok(payrollJobService.getJob(jobId));
+  }
+
+  /**
+   * List the retained payroll jobs of a business, newest first
+   *
+   * <p>GET /api/payroll/jobs?businessId=1
+   *
+   * @param businessId ID of the business
+   * @return List of PayrollJobDTOs
+   */
+  @GetMapping("/jobs")
+  public ResponseEntity<List<PayrollJobDTO>> getJobs(@RequestParam Long businessId) {
+    return ResponseEntity.ok(payrollJobService.getJobs(businessId));
+  }
+
+  /**
+   * Cancel a payroll job. A running job stops before its next chunk and keeps what it saved
+   *
+   * <p>POST /api/payroll/jobs/{jobId}/cancel
+   *
+   * @param jobId ID of the job
+   * @return PayrollJobDTO after the cancellation request
+   */
+  @PostMapping("/jobs/{jobId}/cancel")
+  public ResponseEntity<PayrollJobDTO> cancelJob(@PathVariable String jobId) {
+    logger.info("Received cancellation request for payroll job {}", jobId);
+
+    return ResponseEntity.ok(payrollJobService.cancelJob(jobId));
+  }
+
   /**
    * Get current tax strategy information
    *
-   * <p>GET /api/payroll/tax-strategy
+   * <p>GET /api/payroll/tax-strategy?businessId=1 (without businessId: the default strategy)
    *
+   * @param businessId Optional ID of the business
    * @return TaxStrategyResponse DTO with current tax strategy name
    */
   @GetMapping("/tax-strategy")
-  public ResponseEntity<TaxStrategyResponse> getCurrentTaxStrategy() {
+  public ResponseEntity<TaxStrategyResponse> getCurrentTaxStrategy(
+      @RequestParam(required = false) Long businessId) {
     try {
-      String strategyName = payrollService.getCurrentTaxStrategyName();
+      String strategyName = payrollService.getCurrentTaxStrategyName(businessId);
       if (strategyName == null || strategyName.isEmpty()) {
         logger.warn("Tax strategy name is null or empty, returning default");
         return ResponseEntity.ok(new TaxStrategyResponse("Flat Tax Strategy"));
@@ -227,21 +409,27 @@ public class PayrollController {
   }
 
   /**
-   * Switch tax strategy
+   * Switch the tax strategy of a business
    *
-   * <p>PUT /api/payroll/tax-strategy?strategy=flatTaxStrategy PUT
-   * /api/payroll/tax-strategy?strategy=progressiveTaxStrategy
+   * <p>PUT /api/payroll/tax-strategy?businessId=1&strategy=flatTaxStrategy PUT
+   * /api/payroll/tax-strategy?businessId=1&strategy=progressiveTaxStrategy
    *
+   * @param businessId ID of the business whose strategy changes
    * @param strategy Strategy name: "flatTaxStrategy" or "progressiveTaxStrategy"
    * @return TaxStrategySwitchResponse DTO with success message and strategy name, or error message
    */
   @PutMapping("/tax-strategy")
   public ResponseEntity<TaxStrategySwitchResponse> switchTaxStrategy(
-      @RequestParam String strategy) {
+      @RequestParam(required = false) Long businessId, @RequestParam String strategy) {
     try {
-      logger.info("Switching tax strategy to: {}", strategy);
+      logger.info("Switching tax strategy for business ID: {} to: {}", businessId, strategy);
+
+      if (businessId == null) {
+        return ResponseEntity.badRequest()
+            .body(TaxStrategySwitchResponse.error("businessId is required"));
+      }
 
-      TaxCalculationStrategy selectedStrategy;
+      String selectedKey;
       switch (strategy.toLowerCase()) {
         case "flattaxstrategy":
         case "flat":
@@ -249,7 +437,7 @@ public class PayrollController {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                 .body(TaxStrategySwitchResponse.error("Flat tax strategy is not available"));
           }
-          selectedStrategy = flatTaxStrategy;
+          selectedKey = "flatTaxStrategy";
           break;
         case "progressivetaxstrategy":
         case "progressive":
@@ -257,7 +445,7 @@ public class PayrollController {
             return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                 .body(TaxStrategySwitchResponse.error("Progressive tax strategy is not available"));
           }
-          selectedStrategy = progressiveTaxStrategy;
+          selectedKey = "progressiveTaxStrategy";
           break;
         default:
           return ResponseEntity.badRequest()
@@ -266,15 +454,22 @@ public class PayrollController {
                       "Invalid strategy. Use 'flatTaxStrategy' or 'progressiveTaxStrategy'"));
       }
 
-      payrollService.setTaxStrategy(selectedStrategy);
+      TaxStrategySnapshot snapshot = payrollService.setTaxStrategy(businessId, selectedKey);
 
       TaxStrategySwitchResponse response =
           TaxStrategySwitchResponse.success(
-              "Tax strategy updated successfully", selectedStrategy.getStrategyName());
+              "Tax strategy updated successfully", snapshot.strategyName());
 
-      logger.info("Tax strategy switched successfully to: {}", selectedStrategy.getStrategyName());
+      logger.info(
+          "Tax strategy for business ID: {} switched successfully to: {} (version {})",
+          businessId,
+          snapshot.strategyName(),
+          snapshot.version());
 
       return ResponseEntity.ok(response);
+    } catch (ResourceNotFoundException e) {
+      return ResponseEntity.status(HttpStatus.NOT_FOUND)
+          .body(TaxStrategySwitchResponse.error(e.getMessage()));
     } catch (Exception e) {
       logger.error("Error switching tax strategy", e);
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -283,6 +478,44 @@ public class PayrollController {
     }
   }
 
+  /**
+   * Get the deductions applied to a business's paychecks
+   *
+   * <p>GET /api/payroll/deductions/{businessId}
+   *
+   * @param businessId ID of the business
+   * @return DeductionPlanDTO with the deductions in application order
+   */
+  @GetMapping("/deductions/{businessId}")
+  public ResponseEntity<DeductionPlanDTO> getDeductions(@PathVariable Long businessId) {
+    logger.info("Fetching deductions for business ID: {}", businessId);
+
+    return ResponseEntity.ok(payrollService.getDeductions(businessId));
+  }
+
+  /**
+   * Replace all deductions of a business
+   *
+   * <p>PUT /api/payroll/deductions/{businessId} Request Body: { "deductions": [ { "code": "RET",
+   * "name": "401(k)", "type": "PERCENT_OF_GROSS", "rate": 0.06, "cap": 1500.00 }, { "code": "HLTH",
+   * "name": "Health (standard tier)", "type": "FIXED", "amount": 120.00, "minGrossPay": 2000.00 } ]
+   * }
+   *
+   * @param businessId ID of the business
+   * @param request Deductions in application order, empty for the default insurance deduction
+   * @return DeductionPlanDTO with the plan now in force
+   */
+  @PutMapping("/deductions/{businessId}")
+  public ResponseEntity<DeductionPlanDTO> setDeductions(
+      @PathVariable Long businessId, @Valid @RequestBody DeductionPlanRequest request) {
+    logger.info(
+        "Received request to set {} deductions for business ID: {}",
+        request.deductions().size(),
+        businessId);
+
+    return ResponseEntity.ok(payrollService.setDeductions(businessId, request));
+  }
+
   /**
    * Get payroll history for a specific employee
    *
@@ -331,6 +564,113 @@ public class PayrollController {
     return ResponseEntity.ok(history);
   }
 
+  /**
+   * Get one page of payroll history for an employee, newest first
+   *
+   * <p>GET /api/payroll/history/{employeeId}/page?size=50 GET
+   * /api/payroll/history/{employeeId}/page?cursor={nextCursor}&startDate=2024-01-01
+   *
+   * @param employeeId ID of the employee
+   * @param cursor Optional cursor returned with the previous page
+   * @param size Optional page size (default 50, max 200)
+   * @param startDate Optional start date (inclusive)
+   * @param endDate Optional end date (inclusive)
+   * @return PaycheckPageDTO with the paychecks and the cursor of the next page
+   */
+  @GetMapping("/history/{employeeId}/page")
+  public ResponseEntity<PaycheckPageDTO> getPayrollHistoryPage(
+      @PathVariable Long employeeId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate startDate,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate endDate) {
+    logger.info("Fetching payroll history page for employee ID: {}", employeeId);
+
+    PaycheckPageDTO page =
+        payrollService.getPayrollHistoryPage(employeeId, startDate, endDate, cursor, size);
+
+    return ResponseEntity.ok(page);
+  }
+
+  /**
+   * Get an employee's year-to-date payroll totals
+   *
+   * <p>GET /api/payroll/ytd/{employeeId} GET /api/payroll/ytd/{employeeId}?year=2024
+   *
+   * @param employeeId ID of the employee
+   * @param year Optional tax year (defaults to the current year)
+   * @return PayrollYtdDTO with the year's totals
+   */
+  @GetMapping("/ytd/{employeeId}")
+  public ResponseEntity<PayrollYtdDTO> getYearToDate(
+      @PathVariable Long employeeId, @RequestParam(required = false) Integer year) {
+    logger.info("Fetching year-to-date payroll for employee ID: {} in {}", employeeId, year);
+
+    return ResponseEntity.ok(payrollService.getYearToDate(employeeId, year));
+  }
+
+  /**
+   * Rebuild the year-to-date totals from paycheck history
+   *
+   * <p>POST /api/payroll/ytd/rebuild
+   *
+   * @return PayrollYtdRebuildResponse with the number of year-to-date rows written
+   */
+  @PostMapping("/ytd/rebuild")
+  public ResponseEntity<PayrollYtdRebuildResponse> rebuildYearToDate() {
+    logger.info("Received payroll year-to-date rebuild request");
+
+    long startedAt = System.currentTimeMillis();
+    int rows = payrollYtdService.rebuild();
+
+    return ResponseEntity.ok(
+        new PayrollYtdRebuildResponse(rows, System.currentTimeMillis() - startedAt));
+  }
+
+  /**
+   * Export every paycheck of a business in a date range as CSV or NDJSON. The response is streamed
+   * while the paychecks are read, so exports of any size use constant memory
+   *
+   * <p>GET /api/payroll/export/{businessId}?startDate=2024-01-01&endDate=2024-12-31&format=csv
+   *
+   * @param businessId ID of the business
+   * @param startDate Start date (inclusive)
+   * @param endDate End date (inclusive)
+   * @param format Optional format, csv (default) or ndjson
+   * @return Streamed file attachment
+   */
+  @GetMapping("/export/{businessId}")
+  public ResponseEntity<StreamingResponseBody> exportPaychecks(
+      @PathVariable Long businessId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+      @RequestParam(defaultValue = "csv") String format) {
+    PaycheckExportFormat exportFormat = PaycheckExportFormat.fromString(format);
+    // Fail before the response is committed; errors cannot be reported once streaming starts
+    paycheckExporter.validate(businessId, startDate, endDate);
+
+    logger.info(
+        "Exporting paychecks of business ID: {} from {} to {} as {}",
+        businessId,
+        startDate,
+        endDate,
+        exportFormat);
+
+    String filename =
+        String.format(
+            "paychecks-%d-%s-%s.%s",
+            businessId, startDate, endDate, exportFormat.getFileExtension());
+    StreamingResponseBody body =
+        out -> paycheckExporter.export(businessId, startDate, endDate, exportFormat, out);
+
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+        .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+        .body(body);
+  }
+
   /**
    * Get payroll summary/report for a business
    *
@@ -363,6 +703,48 @@ public class PayrollController {
     return ResponseEntity.ok(summary);
   }
 
+  /**
+   * Get per-day payroll totals for a business, for trend charts
+   *
+   * <p>GET /api/payroll/trend/{businessId}?startDate=2024-01-01&endDate=2024-12-31
+   *
+   * @param businessId ID of the business
+   * @param startDate Start date (inclusive)
+   * @param endDate End date (inclusive)
+   * @return List of PayrollTrendPointDTO, one per pay date, oldest first
+   */
+  @GetMapping("/trend/{businessId}")
+  public ResponseEntity<List<PayrollTrendPointDTO>> getPayrollTrend(
+      @PathVariable Long businessId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    logger.info(
+        "Fetching payroll trend for business ID: {} from {} to {}", businessId, startDate, endDate);
+
+    List<PayrollTrendPointDTO> trend =
+        payrollService.getPayrollTrend(businessId, startDate, endDate);
+
+    return ResponseEntity.ok(trend);
+  }
+
+  /**
+   * Rebuild the payroll rollup from paycheck history
+   *
+   * <p>POST /api/payroll/rollup/rebuild
+   *
+   * @return PayrollRollupRebuildResponse with the number of rollup rows written
+   */
+  @PostMapping("/rollup/rebuild")
+  public ResponseEntity<PayrollRollupRebuildResponse> rebuildPayrollRollup() {
+    logger.info("Received payroll rollup rebuild request");
+
+    long startedAt = System.currentTimeMillis();
+    int rows = payrollRollupService.rebuild();
+
+    return ResponseEntity.ok(
+        new PayrollRollupRebuildResponse(rows, System.currentTimeMillis() - startedAt));
+  }
+
   /**
    * Update/correct an existing paycheck
    *
@@ -440,4 +822,29 @@ public class PayrollController {
 
     return ResponseEntity.ok(updated);
   }
+
+  /**
+   * Update the status of many paychecks at once, e.g. approve or pay a whole run
+   *
+   * <p>PUT /api/payroll/paychecks/status Request Body: { "newStatus": "PAID", "businessId": 1,
+   * "payDate": "2024-01-31", "currentStatus": "PENDING" } or { "newStatus": "VOIDED",
+   * "paycheckIds": [1, 2, 3] }
+   *
+   * @param request New status and the paychecks to update
+   * @return BulkPaycheckStatusResponse with counts and the rejected paychecks
+   */
+  @PutMapping("/paychecks/status")
+  public ResponseEntity<BulkPaycheckStatusResponse> updatePaycheckStatuses(
+      @Valid @RequestBody BulkPaycheckStatusRequest request) {
+    logger.info("Received bulk paycheck status update to: {}", request.newStatus());
+
+    BulkPaycheckStatusResponse response = payrollService.updatePaycheckStatuses(request);
+
+    logger.info(
+        "Bulk paycheck status update completed: {} updated, {} rejected",
+        response.updatedPaychecks(),
+        response.rejectedPaychecks());
+
+    return ResponseEntity.ok(response);
+  }
 }
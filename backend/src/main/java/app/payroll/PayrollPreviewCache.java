@@ -0,0 +1,196 @@
+package app.payroll;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import app.employee.EmployeeCompensationChangedEvent;
+import app.payroll.deduction.DeductionPlanRegistry;
+import app.payroll.dto.PaycheckDTO;
+import app.payroll.dto.PreviewCacheStatsResponse;
+import app.payroll.strategy.TaxStrategyRegistry;
+
+/**
+ * Bounded LRU cache of payroll previews.
+ *
+ * <p>Keys carry the employee's cache version and the versions of the business's tax strategy and
+ * deduction plan, so a salary change, a strategy switch or new deductions make older entries
+ * unreachable without scanning the cache; they simply age out of the LRU. The employee version is
+ * bumped after an employee change commits, and callers must read it before loading the employee so
+ * a preview computed from data that was already stale is never stored under the new version.
+ */
+@Component
+public class PayrollPreviewCache {
+
+  /** Identity of a preview: who, which data versions, how much additional pay, and which day */
+  private record PreviewKey(
+      long employeeId,
+      long employeeVersion,
+      long strategyVersion,
+      long deductionVersion,
+      long additionalPayCents,
+      LocalDate payDate) {}
+
+  private final TaxStrategyRegistry taxStrategyRegistry;
+  private final DeductionPlanRegistry deductionPlanRegistry;
+  private final int maxEntries;
+  private final Map<PreviewKey, PaycheckDTO> entries;
+  private final Map<Long, Long> employeeVersions = new ConcurrentHashMap<>();
+  private final Map<Long, Long> employeeBusinesses = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  public PayrollPreviewCache(
+      TaxStrategyRegistry taxStrategyRegistry,
+      DeductionPlanRegistry deductionPlanRegistry,
+      @Value("${payroll.preview.cache.max-entries:10000}") int maxEntries) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException("Preview cache size must be positive");
+    }
+    this.taxStrategyRegistry = taxStrategyRegistry;
+    this.deductionPlanRegistry = deductionPlanRegistry;
+    this.maxEntries = maxEntries;
+    // Access-ordered LinkedHashMap gives LRU eviction
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<PreviewKey, PaycheckDTO> eldest) {
+            if (size() > PayrollPreviewCache.this.maxEntries) {
+              evictions.increment();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * Get the current cache version of an employee. Read it before loading the employee.
+   *
+   * @param employeeId ID of the employee
+   * @return Version, bumped on every committed employee change
+   */
+  public long employeeVersion(Long employeeId) {
+    return employeeVersions.getOrDefault(employeeId, 0L);
+  }
+
+  /**
+   * Look up a preview, counting the hit or miss. Needs no database access: the employee's business
+   * is remembered from its last preview and the strategy and deduction versions come from their
+   * registries.
+   *
+   * @param employeeId ID of the employee
+   * @param employeeVersion Employee version from {@link #employeeVersion(Long)}
+   * @param additionalPayCents Additional pay in cents (0 for none)
+   * @param payDate Pay date of the preview
+   * @return Cached preview, or null on a miss
+   */
+  public PaycheckDTO get(
+      Long employeeId, long employeeVersion, long additionalPayCents, LocalDate payDate) {
+    Long businessId = employeeBusinesses.get(employeeId);
+    PaycheckDTO preview = null;
+    if (businessId != null) {
+      PreviewKey key =
+          new PreviewKey(
+              employeeId,
+              employeeVersion,
+              taxStrategyRegistry.current(businessId).version(),
+              deductionPlanRegistry.current(businessId).version(),
+              additionalPayCents,
+              payDate);
+      synchronized (entries) {
+        preview = entries.get(key);
+      }
+    }
+    if (preview != null) {
+      hits.increment();
+    } else {
+      misses.increment();
+    }
+    return preview;
+  }
+
+  /**
+   * Store a preview
+   *
+   * @param employeeId ID of the employee
+   * @param employeeVersion Employee version read before the employee was loaded
+   * @param businessId Business the employee belongs to
+   * @param strategyVersion Version of the tax strategy the preview was calculated with
+   * @param deductionVersion Version of the deduction plan, read before the preview was calculated
+   * @param additionalPayCents Additional pay in cents (0 for none)
+   * @param payDate Pay date of the preview
+   * @param preview Calculated preview
+   */
+  public void put(
+      Long employeeId,
+      long employeeVersion,
+      Long businessId,
+      long strategyVersion,
+      long deductionVersion,
+      long additionalPayCents,
+      LocalDate payDate,
+      PaycheckDTO preview) {
+    PreviewKey key =
+        new PreviewKey(
+            employeeId,
+            employeeVersion,
+            strategyVersion,
+            deductionVersion,
+            additionalPayCents,
+            payDate);
+    synchronized (entries) {
+      entries.put(key, preview);
+    }
+    // Only remember the business if the employee has not changed since the version was read
+    if (employeeVersion(employeeId) == employeeVersion) {
+      employeeBusinesses.put(employeeId, businessId);
+    }
+  }
+
+  /**
+   * Make every cached preview of an employee unreachable
+   *
+   * @param employeeId ID of the employee
+   */
+  public void invalidateEmployee(Long employeeId) {
+    employeeVersions.merge(employeeId, 1L, Long::sum);
+    employeeBusinesses.remove(employeeId);
+  }
+
+  /** Invalidate once an employee change has committed, so reloads see the new data */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onEmployeeChanged(EmployeeCompensationChangedEvent event) {
+    invalidateEmployee(event.employeeId());
+  }
+
+  /**
+   * Get hit/miss/eviction counters and the current size
+   *
+   * @return Cache statistics
+   */
+  public PreviewCacheStatsResponse stats() {
+    int size;
+    synchronized (entries) {
+      size = entries.size();
+    }
+    long hitCount = hits.sum();
+    long missCount = misses.sum();
+    long lookups = hitCount + missCount;
+    return new PreviewCacheStatsResponse(
+        hitCount,
+        missCount,
+        evictions.sum(),
+        size,
+        maxEntries,
+        lookups > 0 ? (double) hitCount / lookups : 0.0);
+  }
+}
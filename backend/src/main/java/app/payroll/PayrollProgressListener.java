@@ -0,0 +1,40 @@
+package app.payroll;
+
+import java.util.List;
+
+import app.payroll.dto.PayrollRunSummaryDTO;
+
+/**
+ * Observer of a chunked payroll run. Called on the thread executing the run, once before the first
+ * chunk and once after every chunk is saved; the run stops before its next chunk once {@link
+ * #isCancelled()} returns true.
+ */
+public interface PayrollProgressListener {
+
+  /** Listener for synchronous runs: ignores progress and never cancels */
+  PayrollProgressListener NONE = new PayrollProgressListener() {};
+
+  /**
+   * Called once the employees of the run are known
+   *
+   * @param totalEmployees Number of employees the run will process
+   */
+  default void onStart(int totalEmployees) {}
+
+  /**
+   * Called after a chunk has been committed (or failed to save)
+   *
+   * @param saved Paychecks saved by the chunk, detached and carrying their IDs
+   * @param failures Employees of the chunk whose paychecks could not be calculated or saved
+   */
+  default void onChunk(List<Paycheck> saved, List<PayrollRunSummaryDTO.EmployeeFailure> failures) {}
+
+  /**
+   * Whether the run should stop before its next chunk
+   *
+   * @return true to stop the run
+   */
+  default boolean isCancelled() {
+    return false;
+  }
+}
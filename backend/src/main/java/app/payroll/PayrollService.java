@@ -3,10 +3,21 @@ package app.payroll;
 import java.time.LocalDate;
 import java.util.List;
 
+import app.payroll.dto.BulkPaycheckStatusRequest;
+import app.payroll.dto.BulkPaycheckStatusResponse;
+import app.payroll.dto.DeductionPlanDTO;
+import app.payroll.dto.DeductionPlanRequest;
 import app.payroll.dto.DistributeBonusRequest;
 import app.payroll.dto.PaycheckDTO;
+import app.payroll.dto.PaycheckPageDTO;
+import app.payroll.dto.PayrollRunSummaryDTO;
+import app.payroll.dto.PayrollSimulationDTO;
+import app.payroll.dto.PayrollSimulationRequest;
 import app.payroll.dto.PayrollSummaryDTO;
-import app.payroll.strategy.TaxCalculationStrategy;
+import app.payroll.dto.PayrollTrendPointDTO;
+import app.payroll.dto.PayrollYtdDTO;
+import app.payroll.dto.PreviewCacheStatsResponse;
+import app.payroll.strategy.TaxStrategySnapshot;
 
 /**
  * Service interface for payroll operations Handles payroll calculations, bonus distribution, and
@@ -49,6 +60,26 @@ public interface PayrollService {
    */
   PaycheckDTO previewPayroll(Long employeeId, Double additionalPay);
 
+  /**
+   * Get statistics of the payroll preview cache
+   *
+   * @return PreviewCacheStatsResponse with hit, miss and eviction counts
+   */
+  PreviewCacheStatsResponse getPreviewCacheStats();
+
+  /**
+   * Simulate a business's payroll under candidate tax strategies and insurance rates without saving
+   * anything The active roster is read once and every scenario is compared with the current
+   * configuration
+   *
+   * @param businessId ID of the business
+   * @param request Scenarios to evaluate
+   * @return PayrollSimulationDTO with totals, percentiles and largest per-employee changes
+   * @throws ResourceNotFoundException if business not found
+   * @throws IllegalArgumentException if a scenario is invalid
+   */
+  PayrollSimulationDTO simulatePayroll(Long businessId, PayrollSimulationRequest request);
+
   /**
    * Distribute bonuses to employees in a business All operations are performed in a single
    * transaction
@@ -61,19 +92,86 @@ public interface PayrollService {
   List<PaycheckDTO> distributeBonuses(DistributeBonusRequest request);
 
   /**
-   * Change the tax calculation strategy at runtime
+   * Run regular payroll for every active employee of a business. The roster is loaded once,
+   * paychecks are calculated in parallel and saved in chunked transactions, so a failing employee
+   * is reported in the summary instead of aborting the run
+   *
+   * @param businessId ID of the business
+   * @param payDate Pay date recorded on every generated paycheck (defaults to today if null)
+   * @return PayrollRunSummaryDTO with run totals and per-employee failures
+   * @throws ResourceNotFoundException if business not found
+   * @throws BusinessValidationException if business has no active employees
+   */
+  PayrollRunSummaryDTO runPayrollForBusiness(Long businessId, LocalDate payDate);
+
+  /**
+   * Run regular payroll for every active employee of a business, reporting progress to a listener
+   * after every chunk and stopping early once the listener asks to cancel. Chunks saved before a
+   * cancellation are kept and counted in the summary
+   *
+   * @param businessId ID of the business
+   * @param payDate Pay date recorded on every generated paycheck (defaults to today if null)
+   * @param listener Receives per-chunk progress and decides whether to cancel
+   * @return PayrollRunSummaryDTO with totals of the chunks that were processed
+   * @throws ResourceNotFoundException if business not found
+   * @throws BusinessValidationException if business has no active employees
+   */
+  PayrollRunSummaryDTO runPayrollForBusiness(
+      Long businessId, LocalDate payDate, PayrollProgressListener listener);
+
+  /**
+   * Distribute bonuses like {@link #distributeBonuses(DistributeBonusRequest)}, but save the
+   * paychecks in chunked transactions and report progress to a listener, so long distributions can
+   * run in the background and be cancelled between chunks
    *
-   * @param strategy New tax calculation strategy to use
-   * @throws IllegalArgumentException if strategy is null
+   * @param request Bonus distribution request with businessId, amount, and filters
+   * @param listener Receives per-chunk progress and decides whether to cancel
+   * @return PayrollRunSummaryDTO with totals of the chunks that were processed
+   * @throws ResourceNotFoundException if business not found
+   * @throws BusinessValidationException if no employees match the request
    */
-  void setTaxStrategy(TaxCalculationStrategy strategy);
+  PayrollRunSummaryDTO distributeBonusesInChunks(
+      DistributeBonusRequest request, PayrollProgressListener listener);
 
   /**
-   * Get the name of the currently active tax strategy
+   * Change the tax calculation strategy of a business at runtime Other businesses are not affected
    *
-   * @return Name/description of current tax strategy
+   * @param businessId ID of the business
+   * @param strategyKey Strategy bean name, e.g. "flatTaxStrategy" or "progressiveTaxStrategy"
+   * @return Snapshot of the new assignment, including its version
+   * @throws ResourceNotFoundException if business not found
+   * @throws IllegalArgumentException if the strategy is missing or unknown
    */
-  String getCurrentTaxStrategyName();
+  TaxStrategySnapshot setTaxStrategy(Long businessId, String strategyKey);
+
+  /**
+   * Get the name of the tax strategy currently assigned to a business
+   *
+   * @param businessId ID of the business, or null for the default strategy
+   * @return Name/description of the business's current tax strategy
+   */
+  String getCurrentTaxStrategyName(Long businessId);
+
+  /**
+   * Get the deductions applied to a business's paychecks
+   *
+   * @param businessId ID of the business
+   * @return DeductionPlanDTO with the deductions in application order
+   * @throws ResourceNotFoundException if business not found
+   */
+  DeductionPlanDTO getDeductions(Long businessId);
+
+  /**
+   * Replace all deductions of a business The new plan applies to paychecks calculated from now on;
+   * existing paychecks keep the deductions they were calculated with
+   *
+   * @param businessId ID of the business
+   * @param request Deductions in application order, empty for the default insurance deduction
+   * @return DeductionPlanDTO with the plan now in force
+   * @throws ResourceNotFoundException if business not found
+   * @throws IllegalArgumentException if a deduction is invalid
+   */
+  DeductionPlanDTO setDeductions(Long businessId, DeductionPlanRequest request);
 
   /**
    * Get payroll history for a specific employee
@@ -95,6 +193,33 @@ public interface PayrollService {
    */
   List<PaycheckDTO> getPayrollHistory(Long employeeId, LocalDate startDate, LocalDate endDate);
 
+  /**
+   * Get one page of an employee's payroll history, newest first. Pages are located by a cursor on
+   * (payDate, id) rather than an offset, so every page costs the same however deep it is
+   *
+   * @param employeeId ID of the employee
+   * @param startDate Start date (inclusive), or null for no lower bound
+   * @param endDate End date (inclusive), or null for no upper bound
+   * @param cursor Cursor from the previous page, or null for the first page
+   * @param size Page size (defaults to 50, capped at 200)
+   * @return PaycheckPageDTO with the paychecks and the cursor of the next page
+   * @throws ResourceNotFoundException if employee not found
+   * @throws IllegalArgumentException if the cursor, size or date range is invalid
+   */
+  PaycheckPageDTO getPayrollHistoryPage(
+      Long employeeId, LocalDate startDate, LocalDate endDate, String cursor, Integer size);
+
+  /**
+   * Get an employee's year-to-date payroll totals, read from one maintained row instead of the
+   * paycheck history
+   *
+   * @param employeeId ID of the employee
+   * @param taxYear Tax year, or null for the current year
+   * @return PayrollYtdDTO with the totals of the year's paychecks that were not voided
+   * @throws ResourceNotFoundException if employee not found
+   */
+  PayrollYtdDTO getYearToDate(Long employeeId, Integer taxYear);
+
   /**
    * Get payroll summary statistics for a business
    *
@@ -106,6 +231,18 @@ public interface PayrollService {
    */
   PayrollSummaryDTO getPayrollSummary(Long businessId, LocalDate startDate, LocalDate endDate);
 
+  /**
+   * Get per-day payroll totals for a business, read from the payroll rollup
+   *
+   * @param businessId ID of the business
+   * @param startDate Start date (inclusive)
+   * @param endDate End date (inclusive)
+   * @return One PayrollTrendPointDTO per pay date with paychecks, oldest first
+   * @throws ResourceNotFoundException if business not found
+   */
+  List<PayrollTrendPointDTO> getPayrollTrend(
+      Long businessId, LocalDate startDate, LocalDate endDate);
+
   /**
    * Update/correct an existing paycheck Only allowed if status is DRAFT
    *
@@ -144,4 +281,16 @@ public interface PayrollService {
    * @throws PayrollCalculationException if status transition is invalid
    */
   PaycheckDTO updatePaycheckStatus(Long paycheckId, PaycheckStatus newStatus);
+
+  /**
+   * Change the status of many paychecks with set-based UPDATE statements, applying the same
+   * transition rules as {@link #updatePaycheckStatus(Long, PaycheckStatus)}. Paychecks that may not
+   * make the transition are left alone and reported instead of failing the whole request
+   *
+   * @param request New status and the selection of paychecks (IDs, run or filter)
+   * @return BulkPaycheckStatusResponse with counts and the rejected paychecks
+   * @throws ResourceNotFoundException if business not found
+   * @throws IllegalArgumentException if neither paycheck IDs nor a business are given
+   */
+  BulkPaycheckStatusResponse updatePaycheckStatuses(BulkPaycheckStatusRequest request);
 }
@@ -2,29 +2,61 @@ package app.payroll;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import app.activity.ActivityKind;
+import app.activity.ActivityLogService;
 import app.business.BusinessRepository;
 import app.business.BusinessValidationException;
 import app.business.Company;
 import app.common.exception.ResourceNotFoundException;
 import app.common.factory.DTOFactory;
 import app.employee.Employee;
+import app.employee.EmployeeSalary;
 import app.employee.EmployeeService;
-import app.employer.Employer;
+import app.payroll.deduction.CompanyDeduction;
+import app.payroll.deduction.DeductionPlan;
+import app.payroll.deduction.DeductionPlanRegistry;
+import app.payroll.dto.BulkPaycheckStatusRequest;
+import app.payroll.dto.BulkPaycheckStatusResponse;
+import app.payroll.dto.DeductionDTO;
+import app.payroll.dto.DeductionPlanDTO;
+import app.payroll.dto.DeductionPlanRequest;
 import app.payroll.dto.DistributeBonusRequest;
 import app.payroll.dto.PaycheckDTO;
+import app.payroll.dto.PaycheckPageDTO;
+import app.payroll.dto.PayrollRunSummaryDTO;
+import app.payroll.dto.PayrollSimulationDTO;
+import app.payroll.dto.PayrollSimulationRequest;
 import app.payroll.dto.PayrollSummaryDTO;
-import app.payroll.strategy.TaxCalculationStrategy;
+import app.payroll.dto.PayrollTrendPointDTO;
+import app.payroll.dto.PayrollYtdDTO;
+import app.payroll.dto.PreviewCacheStatsResponse;
+import app.payroll.rollup.PayrollRollupDay;
+import app.payroll.rollup.PayrollRollupDelta;
+import app.payroll.rollup.PayrollRollupService;
+import app.payroll.strategy.TaxStrategyRegistry;
+import app.payroll.strategy.TaxStrategySnapshot;
+import app.payroll.ytd.PayrollYtdAmounts;
+import app.payroll.ytd.PayrollYtdService;
 import jakarta.annotation.PostConstruct;
 
 /**
@@ -40,48 +72,80 @@ public class PayrollServiceImpl implements PayrollService {
 
   private static final double MINIMUM_SALARY_THRESHOLD = 0.0;
 
+  private static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+  private static final int MAX_HISTORY_PAGE_SIZE = 200;
+  // Bounds used when a history page request leaves the date range open
+  private static final LocalDate HISTORY_START = LocalDate.of(1900, 1, 1);
+  private static final LocalDate HISTORY_END = LocalDate.of(9999, 12, 31);
+
   private final EmployeeService employeeService;
   private final PaycheckRepository paycheckRepository;
+  private final PaycheckBatchWriter paycheckBatchWriter;
+  private final PaycheckStatusWriter paycheckStatusWriter;
+  private final PayrollRollupService payrollRollupService;
+  private final PayrollYtdService payrollYtdService;
+  private final PayrollPreviewCache previewCache;
+  private final PayrollSimulator payrollSimulator;
   private final BusinessRepository businessRepository;
   private final DTOFactory dtoFactory;
-  private TaxCalculationStrategy taxStrategy;
+  private final TransactionTemplate transactionTemplate;
+  private final TaxStrategyRegistry taxStrategyRegistry;
+  private final DeductionPlanRegistry deductionPlanRegistry;
+  private final ActivityLogService activityLogService;
 
-  private final double insuranceRate;
+  private final int runChunkSize;
 
   /**
-   * Constructor injection - Spring provides all dependencies Insurance rate is configurable via
-   * application.properties with default value 0.05 (5%)
+   * Constructor injection - Spring provides all dependencies Payroll run chunk size is configurable
+   * via application.properties with default value 500
    */
   @Autowired
   public PayrollServiceImpl(
       EmployeeService employeeService,
       PaycheckRepository paycheckRepository,
+      PaycheckBatchWriter paycheckBatchWriter,
+      PaycheckStatusWriter paycheckStatusWriter,
+      PayrollRollupService payrollRollupService,
+      PayrollYtdService payrollYtdService,
+      PayrollPreviewCache previewCache,
+      PayrollSimulator payrollSimulator,
       BusinessRepository businessRepository,
       DTOFactory dtoFactory,
-      @Qualifier("flatTaxStrategy") TaxCalculationStrategy taxStrategy,
-      @Value("${payroll.default.insurance.rate:0.05}") double insuranceRate) {
+      PlatformTransactionManager transactionManager,
+      TaxStrategyRegistry taxStrategyRegistry,
+      DeductionPlanRegistry deductionPlanRegistry,
+      ActivityLogService activityLogService,
+      @Value("${payroll.run.chunk-size:500}") int runChunkSize) {
     this.employeeService = employeeService;
     this.paycheckRepository = paycheckRepository;
+    this.paycheckBatchWriter = paycheckBatchWriter;
+    this.paycheckStatusWriter = paycheckStatusWriter;
+    this.payrollRollupService = payrollRollupService;
+    this.payrollYtdService = payrollYtdService;
+    this.previewCache = previewCache;
+    this.payrollSimulator = payrollSimulator;
     this.businessRepository = businessRepository;
     this.dtoFactory = dtoFactory;
-    this.taxStrategy = taxStrategy;
-    this.insuranceRate = insuranceRate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.taxStrategyRegistry = taxStrategyRegistry;
+    this.deductionPlanRegistry = deductionPlanRegistry;
+    this.activityLogService = activityLogService;
+    this.runChunkSize = runChunkSize;
   }
 
   /**
-   * Initialize service after dependency injection Logs the tax strategy and insurance rate being
-   * used
+   * Initialize service after dependency injection Logs the default tax strategy and deductions
+   * being used
    */
   @PostConstruct
   public void init() {
-    if (taxStrategy == null) {
-      logger.error("CRITICAL: Tax strategy is null after initialization! This should not happen.");
-      throw new IllegalStateException(
-          "Tax strategy bean was not properly injected. Check TaxStrategyConfig.");
+    if (runChunkSize <= 0) {
+      throw new IllegalStateException("payroll.run.chunk-size must be positive");
     }
     logger.info(
-        "PayrollService initialized with tax strategy: {} and insurance rate: {}%",
-        taxStrategy.getStrategyName(), insuranceRate * 100);
+        "PayrollService initialized with default tax strategy: {} and deductions: {}",
+        taxStrategyRegistry.getDefault().strategyName(),
+        deductionPlanRegistry.getDefault());
   }
 
   @Override
@@ -101,6 +165,13 @@ public class PayrollServiceImpl implements PayrollService {
 
       // Save to database
       Paycheck savedPaycheck = paycheckRepository.save(paycheck);
+      payrollRollupService.recordCreated(List.of(savedPaycheck));
+      payrollYtdService.recordCreated(List.of(savedPaycheck));
+      activityLogService.record(
+          companyIdOf(employee),
+          ActivityKind.PAYROLL_RUN,
+          savedPaycheck.getId(),
+          "Payroll generated for " + employee.getName());
 
       logger.info(
           "Regular payroll calculated successfully for employee {}: Net Pay = ${}",
@@ -150,6 +221,13 @@ public class PayrollServiceImpl implements PayrollService {
 
       // Save to database
       Paycheck savedPaycheck = paycheckRepository.save(paycheck);
+      payrollRollupService.recordCreated(List.of(savedPaycheck));
+      payrollYtdService.recordCreated(List.of(savedPaycheck));
+      activityLogService.record(
+          companyIdOf(employee),
+          ActivityKind.PAYROLL_RUN,
+          savedPaycheck.getId(),
+          "Payroll generated for " + employee.getName());
 
       logger.info(
           "Payroll calculated successfully for employee {}: Net Pay = ${}",
@@ -189,37 +267,46 @@ public class PayrollServiceImpl implements PayrollService {
           "No employees found matching the criteria for bonus distribution");
     }
 
-    // Calculate payroll for all employees with bonus
-    List<PaycheckDTO> paycheckDTOs = new ArrayList<>();
+    // Calculate payroll for all employees with bonus in one batch
+    // (bonus stored separately from base salary)
+    List<Paycheck> paychecks = new ArrayList<>();
     List<String> errors = new ArrayList<>();
 
-    for (Employee employee : employees) {
-      try {
-        // Calculate payroll with bonus (bonus stored separately from base salary)
-        Paycheck paycheck = calculatePayrollWithBonus(employee, request.bonusAmount());
-        Paycheck savedPaycheck = paycheckRepository.save(paycheck);
-
-        PaycheckDTO dto = convertToDTO(savedPaycheck, employee);
-        paycheckDTOs.add(dto);
-
-        logger.debug(
-            "Bonus paycheck created for employee {}: Base=${}, Bonus=${}, Net=${}",
-            employee.getName(),
-            savedPaycheck.getGrossPay(),
-            savedPaycheck.getBonus(),
-            savedPaycheck.getNetPay());
-
-      } catch (Exception e) {
+    for (RunItem item :
+        calculateBatch(
+            employees,
+            taxStrategyRegistry.current(business.getId()),
+            deductionPlanRegistry.current(business.getId()),
+            LocalDate.now(),
+            request.bonusAmount())) {
+      if (item.paycheck() != null) {
+        paychecks.add(item.paycheck());
+      } else {
         String errorMsg =
             String.format(
                 "Failed to process bonus for employee %s (ID: %d): %s",
-                employee.getName(), employee.getId(), e.getMessage());
+                item.failure().employeeName(),
+                item.failure().employeeId(),
+                item.failure().reason());
         errors.add(errorMsg);
-        logger.error(errorMsg, e);
+        logger.error(errorMsg);
         // Continue processing other employees
       }
     }
 
+    // Save all bonus paychecks with batched inserts
+    List<PaycheckDTO> paycheckDTOs = new ArrayList<>(paychecks.size());
+    for (Paycheck savedPaycheck : paycheckBatchWriter.writeAll(paychecks)) {
+      paycheckDTOs.add(convertToDTO(savedPaycheck, savedPaycheck.getEmployee()));
+
+      logger.debug(
+          "Bonus paycheck created for employee {}: Base=${}, Bonus=${}, Net=${}",
+          savedPaycheck.getEmployee().getName(),
+          savedPaycheck.getGrossPay(),
+          savedPaycheck.getBonus(),
+          savedPaycheck.getNetPay());
+    }
+
     // If all failed, throw exception to rollback transaction
     if (paycheckDTOs.isEmpty() && !errors.isEmpty()) {
       throw new PayrollCalculationException(
@@ -227,6 +314,12 @@ public class PayrollServiceImpl implements PayrollService {
           request.businessId());
     }
 
+    activityLogService.record(
+        business.getId(),
+        ActivityKind.BONUS,
+        null,
+        bonusTitle(request.bonusAmount(), paycheckDTOs.size()));
+
     logger.info(
         "Bonus distribution completed: {} successful, {} failed",
         paycheckDTOs.size(),
@@ -235,6 +328,196 @@ public class PayrollServiceImpl implements PayrollService {
     return paycheckDTOs;
   }
 
+  @Override
+  public PayrollRunSummaryDTO runPayrollForBusiness(Long businessId, LocalDate payDate) {
+    return runPayrollForBusiness(businessId, payDate, PayrollProgressListener.NONE);
+  }
+
+  @Override
+  public PayrollRunSummaryDTO runPayrollForBusiness(
+      Long businessId, LocalDate payDate, PayrollProgressListener listener) {
+    LocalDate runPayDate = (payDate != null) ? payDate : LocalDate.now();
+
+    logger.info(
+        "Starting payroll run for business ID: {} with pay date: {}", businessId, runPayDate);
+
+    // Validate business exists
+    Company business =
+        businessRepository
+            .findById(businessId)
+            .orElseThrow(() -> new ResourceNotFoundException("Business", "id", businessId));
+
+    // Load the active roster once; employees are detached and only read during calculation
+    List<Employee> roster = employeeService.getActiveEmployeesByBusiness(businessId);
+    if (roster.isEmpty()) {
+      throw new BusinessValidationException("No active employees found for payroll run");
+    }
+
+    return runInChunks(business, roster, runPayDate, null, listener);
+  }
+
+  @Override
+  public PayrollRunSummaryDTO distributeBonusesInChunks(
+      DistributeBonusRequest request, PayrollProgressListener listener) {
+    logger.info(
+        "Starting chunked bonus distribution for business ID: {} with amount: ${}",
+        request.businessId(),
+        request.bonusAmount());
+
+    // Validate business exists
+    Company business =
+        businessRepository
+            .findById(request.businessId())
+            .orElseThrow(
+                () -> new ResourceNotFoundException("Business", "id", request.businessId()));
+
+    List<Employee> employees = fetchEmployeesForBonus(request, business);
+    if (employees.isEmpty()) {
+      throw new BusinessValidationException(
+          "No employees found matching the criteria for bonus distribution");
+    }
+
+    return runInChunks(business, employees, LocalDate.now(), request.bonusAmount(), listener);
+  }
+
+  /**
+   * Calculate paychecks for all employees in parallel, then save them chunk by chunk, each chunk in
+   * its own transaction. The listener hears about every chunk and is asked between chunks whether
+   * to stop; chunks saved before a cancellation stay saved and are counted in the summary.
+   */
+  private PayrollRunSummaryDTO runInChunks(
+      Company business,
+      List<Employee> employees,
+      LocalDate payDate,
+      Double additionalPay,
+      PayrollProgressListener listener) {
+    long startedAt = System.currentTimeMillis();
+    Long businessId = business.getId();
+    listener.onStart(employees.size());
+
+    // Pin the strategy and deductions so every paycheck in this run is calculated the same way
+    TaxStrategySnapshot runStrategy = taxStrategyRegistry.current(businessId);
+    DeductionPlan runDeductions = deductionPlanRegistry.current(businessId);
+
+    // Calculate all paychecks in parallel, one batch per chunk (CPU only, no database access)
+    List<List<Employee>> slices = new ArrayList<>();
+    for (int from = 0; from < employees.size(); from += runChunkSize) {
+      slices.add(employees.subList(from, Math.min(from + runChunkSize, employees.size())));
+    }
+    List<List<RunItem>> calculatedSlices =
+        slices.parallelStream()
+            .map(slice -> calculateBatch(slice, runStrategy, runDeductions, payDate, additionalPay))
+            .toList();
+
+    // Persist in chunks, each chunk in its own transaction
+    List<Paycheck> saved = new ArrayList<>(employees.size());
+    List<PayrollRunSummaryDTO.EmployeeFailure> failures = new ArrayList<>();
+    boolean cancelled = false;
+    for (List<RunItem> items : calculatedSlices) {
+      if (listener.isCancelled()) {
+        cancelled = true;
+        break;
+      }
+
+      List<Paycheck> chunk = new ArrayList<>(items.size());
+      List<PayrollRunSummaryDTO.EmployeeFailure> chunkFailures = new ArrayList<>();
+      for (RunItem item : items) {
+        if (item.paycheck() != null) {
+          chunk.add(item.paycheck());
+        } else {
+          chunkFailures.add(item.failure());
+        }
+      }
+
+      List<Paycheck> chunkSaved = List.of();
+      if (!chunk.isEmpty()) {
+        try {
+          chunkSaved = transactionTemplate.execute(status -> paycheckBatchWriter.writeAll(chunk));
+        } catch (Exception e) {
+          logger.error(
+              "Failed to save payroll chunk of {} paychecks for business ID: {}",
+              chunk.size(),
+              businessId,
+              e);
+          for (Paycheck paycheck : chunk) {
+            chunkFailures.add(
+                new PayrollRunSummaryDTO.EmployeeFailure(
+                    paycheck.getEmployeeId(),
+                    paycheck.getEmployee().getName(),
+                    "Failed to save paycheck: " + e.getMessage()));
+          }
+        }
+      }
+
+      saved.addAll(chunkSaved);
+      failures.addAll(chunkFailures);
+      listener.onChunk(chunkSaved, chunkFailures);
+    }
+
+    // Totals are summed in cents so they are exact however many paychecks the run has
+    long totalGross = 0L;
+    long totalTax = 0L;
+    long totalInsurance = 0L;
+    long totalNet = 0L;
+    for (Paycheck paycheck : saved) {
+      totalGross += paycheck.getGrossPayCents();
+      totalTax += paycheck.getTaxDeductionCents();
+      totalInsurance += paycheck.getInsuranceDeductionCents();
+      totalNet += paycheck.getNetPayCents();
+    }
+
+    // One log entry for the whole run, in its own transaction like the chunks
+    if (!saved.isEmpty()) {
+      String title;
+      if (additionalPay != null) {
+        title = bonusTitle(additionalPay, saved.size());
+      } else if (cancelled) {
+        title = String.format("Payroll run cancelled after %d employees", saved.size());
+      } else {
+        title =
+            String.format(
+                "Payroll generated for %d employees (Total: $%.2f)",
+                saved.size(), Money.toDollars(totalNet));
+      }
+      activityLogService.record(
+          businessId,
+          (additionalPay != null) ? ActivityKind.BONUS : ActivityKind.PAYROLL_RUN,
+          null,
+          title);
+    }
+
+    long durationMillis = System.currentTimeMillis() - startedAt;
+    if (cancelled) {
+      logger.info(
+          "Payroll run cancelled for business ID: {} after {} of {} employees",
+          businessId,
+          saved.size() + failures.size(),
+          employees.size());
+    } else {
+      logger.info(
+          "Payroll run completed for business ID: {}: {} successful, {} failed in {} ms",
+          businessId,
+          saved.size(),
+          failures.size(),
+          durationMillis);
+    }
+
+    return new PayrollRunSummaryDTO(
+        businessId,
+        business.getName(),
+        payDate,
+        employees.size(),
+        saved.size(),
+        failures.size(),
+        Money.toDollars(totalGross),
+        Money.toDollars(totalTax),
+        Money.toDollars(totalInsurance),
+        Money.toDollars(totalNet),
+        runStrategy.strategyName(),
+        durationMillis,
+        failures);
+  }
+
   @Override
   public PaycheckDTO previewPayroll(Long employeeId, Double additionalPay) {
     // Validate input
@@ -251,12 +534,27 @@ public class PayrollServiceImpl implements PayrollService {
         employeeId,
         additionalPay);
 
+    // Repeated previews are served from memory without touching the database
+    LocalDate payDate = LocalDate.now();
+    long additionalPayCents =
+        (additionalPay != null) ? Money.toCents(additionalPay.doubleValue()) : 0L;
+    long employeeVersion = previewCache.employeeVersion(employeeId);
+    PaycheckDTO cached = previewCache.get(employeeId, employeeVersion, additionalPayCents, payDate);
+    if (cached != null) {
+      return cached;
+    }
+
     // Fetch employee via EmployeeService
     Employee employee =
         employeeService
             .getEmployee(employeeId)
             .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
 
+    // Read before calculating, like the employee version, so a preview is never stored under a
+    // newer plan than the one it was calculated with
+    Long businessId = companyIdOf(employee);
+    long deductionVersion = deductionPlanRegistry.current(businessId).version();
+
     // Calculate payroll without saving
     try {
       Paycheck paycheck;
@@ -272,7 +570,19 @@ public class PayrollServiceImpl implements PayrollService {
           employee.getName(),
           paycheck.getNetPay());
 
-      return convertToDTO(paycheck, employee);
+      PaycheckDTO preview = convertToDTO(paycheck, employee);
+      if (businessId != null) {
+        previewCache.put(
+            employeeId,
+            employeeVersion,
+            businessId,
+            paycheck.getTaxStrategyVersion(),
+            deductionVersion,
+            additionalPayCents,
+            payDate,
+            preview);
+      }
+      return preview;
 
     } catch (Exception e) {
       logger.error("Failed to preview payroll for employee ID: {}", employeeId, e);
@@ -282,24 +592,133 @@ public class PayrollServiceImpl implements PayrollService {
   }
 
   @Override
-  public void setTaxStrategy(TaxCalculationStrategy strategy) {
-    if (strategy == null) {
+  public PreviewCacheStatsResponse getPreviewCacheStats() {
+    return previewCache.stats();
+  }
+
+  @Override
+  public PayrollSimulationDTO simulatePayroll(Long businessId, PayrollSimulationRequest request) {
+    if (request == null || request.scenarios() == null || request.scenarios().isEmpty()) {
+      throw new IllegalArgumentException("At least one scenario is required");
+    }
+
+    // Validate business exists
+    Company business =
+        businessRepository
+            .findById(businessId)
+            .orElseThrow(() -> new ResourceNotFoundException("Business", "id", businessId));
+
+    // One query for the whole roster, as plain salary rows; nothing is saved
+    List<EmployeeSalary> roster = employeeService.getActiveSalariesByBusiness(businessId);
+    PayrollSimulationDTO simulation =
+        payrollSimulator.simulate(
+            business,
+            roster,
+            taxStrategyRegistry.current(businessId).strategy(),
+            deductionPlanRegistry.current(businessId),
+            request);
+
+    logger.info(
+        "Simulated {} scenarios for {} employees of business ID: {} in {} ms",
+        simulation.scenarios().size(),
+        simulation.simulatedEmployees(),
+        businessId,
+        simulation.durationMillis());
+    return simulation;
+  }
+
+  @Override
+  public TaxStrategySnapshot setTaxStrategy(Long businessId, String strategyKey) {
+    if (businessId == null) {
+      throw new IllegalArgumentException("Business ID cannot be null");
+    }
+    if (strategyKey == null || strategyKey.isBlank()) {
       throw new IllegalArgumentException("Tax strategy cannot be null");
     }
 
-    String oldStrategy = (this.taxStrategy != null) ? this.taxStrategy.getStrategyName() : "None";
-    this.taxStrategy = strategy;
+    // Validate business exists
+    if (!businessRepository.existsById(businessId)) {
+      throw new ResourceNotFoundException("Business", "id", businessId);
+    }
+
+    String oldStrategy = taxStrategyRegistry.current(businessId).strategyName();
+    TaxStrategySnapshot snapshot = taxStrategyRegistry.assign(businessId, strategyKey);
 
-    logger.info("Tax strategy changed from '{}' to '{}'", oldStrategy, strategy.getStrategyName());
+    logger.info(
+        "Tax strategy for business ID: {} changed from '{}' to '{}'",
+        businessId,
+        oldStrategy,
+        snapshot.strategyName());
+    return snapshot;
+  }
+
+  @Override
+  public String getCurrentTaxStrategyName(Long businessId) {
+    return taxStrategyRegistry.current(businessId).strategyName();
   }
 
   @Override
-  public String getCurrentTaxStrategyName() {
-    if (taxStrategy == null) {
-      logger.warn("Tax strategy is null, returning default strategy name");
-      return "Flat Tax Strategy";
+  public DeductionPlanDTO getDeductions(Long businessId) {
+    // Validate business exists
+    if (!businessRepository.existsById(businessId)) {
+      throw new ResourceNotFoundException("Business", "id", businessId);
     }
-    return taxStrategy.getStrategyName();
+    return toDeductionPlanDTO(businessId, deductionPlanRegistry.current(businessId));
+  }
+
+  @Override
+  public DeductionPlanDTO setDeductions(Long businessId, DeductionPlanRequest request) {
+    if (request == null || request.deductions() == null) {
+      throw new IllegalArgumentException("Deductions cannot be null");
+    }
+
+    // Validate business exists
+    if (!businessRepository.existsById(businessId)) {
+      throw new ResourceNotFoundException("Business", "id", businessId);
+    }
+
+    List<CompanyDeduction> deductions = new ArrayList<>(request.deductions().size());
+    for (int i = 0; i < request.deductions().size(); i++) {
+      DeductionDTO deduction = request.deductions().get(i);
+      deductions.add(
+          new CompanyDeduction(
+              businessId,
+              i,
+              deduction.code(),
+              (deduction.name() != null && !deduction.name().isBlank())
+                  ? deduction.name()
+                  : deduction.code(),
+              deduction.type(),
+              deduction.rate(),
+              Money.toCents(deduction.amount()),
+              Money.toCents(deduction.cap()),
+              Money.toCents(deduction.minGrossPay()),
+              Money.toCents(deduction.maxGrossPay())));
+    }
+
+    DeductionPlan plan = deductionPlanRegistry.replace(businessId, deductions);
+    logger.info(
+        "Deductions for business ID: {} set to {} (version {})", businessId, plan, plan.version());
+    return toDeductionPlanDTO(businessId, plan);
+  }
+
+  private DeductionPlanDTO toDeductionPlanDTO(Long businessId, DeductionPlan plan) {
+    List<DeductionDTO> deductions =
+        deductionPlanRegistry.deductions(businessId).stream()
+            .map(
+                deduction ->
+                    new DeductionDTO(
+                        deduction.getCode(),
+                        deduction.getName(),
+                        deduction.getType(),
+                        deduction.getRate(),
+                        Money.toDollars(deduction.getAmountCents()),
+                        Money.toDollars(deduction.getCapCents()),
+                        Money.toDollars(deduction.getMinGrossCents()),
+                        Money.toDollars(deduction.getMaxGrossCents())))
+            .toList();
+    return new DeductionPlanDTO(
+        businessId, plan == deductionPlanRegistry.getDefault(), plan.version(), deductions);
   }
 
   // ==================== Private Helper Methods ====================
@@ -317,24 +736,26 @@ public class PayrollServiceImpl implements PayrollService {
           "Employee has invalid salary: " + employee.getSalary(), employee.getId());
     }
 
-    double baseSalary = employee.getSalary();
-    if (taxStrategy == null) {
-      logger.error("Tax strategy is null in calculateRegularPayroll");
-      throw new IllegalStateException("Tax strategy is not initialized. Cannot calculate payroll.");
-    }
-    double taxDeduction = taxStrategy.calculateTax(baseSalary);
-    double insuranceDeduction = calculateInsuranceDeduction(baseSalary);
+    long baseSalary = Money.toCents(employee.getSalary());
+    Long businessId = companyIdOf(employee);
+    TaxStrategySnapshot strategy = taxStrategyRegistry.current(businessId);
+    long taxDeduction = strategy.strategy().calculateTaxCents(baseSalary);
+    DeductionPlan deductions = deductionPlanRegistry.current(businessId);
+    long[] deductionAmounts = new long[deductions.size()];
+    long insuranceDeduction = deductions.evaluate(baseSalary, taxDeduction, deductionAmounts);
 
     // Create paycheck for regular salary (no bonus)
     Paycheck paycheck =
         new Paycheck(employee, baseSalary, taxDeduction, insuranceDeduction, LocalDate.now());
     paycheck.setBonus(null); // Explicitly set no bonus
+    paycheck.recordTaxStrategy(strategy);
+    paycheck.setDeductionBreakdown(deductions.encode(deductionAmounts));
 
     logger.debug(
         "Regular payroll calculated - Base Salary: ${}, Tax: ${}, Insurance: ${}, Net: ${}",
-        baseSalary,
-        taxDeduction,
-        insuranceDeduction,
+        paycheck.getGrossPay(),
+        paycheck.getTaxDeduction(),
+        paycheck.getInsuranceDeduction(),
         paycheck.getNetPay());
 
     return paycheck;
@@ -361,16 +782,17 @@ public class PayrollServiceImpl implements PayrollService {
           "Employee has invalid salary: " + employee.getSalary(), employee.getId());
     }
 
-    double baseSalary = employee.getSalary();
-    double totalGrossPay = baseSalary + bonusAmount;
+    long baseSalary = Money.toCents(employee.getSalary());
+    long bonus = Money.toCents(bonusAmount.doubleValue());
+    long totalGrossPay = baseSalary + bonus;
 
-    // Tax and insurance calculated on total (base salary + bonus)
-    if (taxStrategy == null) {
-      logger.error("Tax strategy is null in calculatePayrollWithBonus");
-      throw new IllegalStateException("Tax strategy is not initialized. Cannot calculate payroll.");
-    }
-    double taxDeduction = taxStrategy.calculateTax(totalGrossPay);
-    double insuranceDeduction = calculateInsuranceDeduction(totalGrossPay);
+    // Tax and deductions calculated on total (base salary + bonus)
+    Long businessId = companyIdOf(employee);
+    TaxStrategySnapshot strategy = taxStrategyRegistry.current(businessId);
+    long taxDeduction = strategy.strategy().calculateTaxCents(totalGrossPay);
+    DeductionPlan deductions = deductionPlanRegistry.current(businessId);
+    long[] deductionAmounts = new long[deductions.size()];
+    long insuranceDeduction = deductions.evaluate(totalGrossPay, taxDeduction, deductionAmounts);
 
     // Create paycheck: grossPay = base salary, bonus stored separately
     Paycheck paycheck =
@@ -380,83 +802,121 @@ public class PayrollServiceImpl implements PayrollService {
             taxDeduction,
             insuranceDeduction,
             LocalDate.now());
-    paycheck.setBonus(bonusAmount); // Bonus stored separately
+    paycheck.setBonusCents(bonus); // Bonus stored separately
+    paycheck.recordTaxStrategy(strategy);
+    paycheck.setDeductionBreakdown(deductions.encode(deductionAmounts));
 
     logger.debug(
         "Payroll with bonus calculated - Base: ${}, Bonus: ${}, Total Gross: ${}, Tax: ${}, Insurance: ${}, Net: ${}",
-        baseSalary,
-        bonusAmount,
-        totalGrossPay,
-        taxDeduction,
-        insuranceDeduction,
+        paycheck.getGrossPay(),
+        paycheck.getBonus(),
+        Money.toDollars(totalGrossPay),
+        paycheck.getTaxDeduction(),
+        paycheck.getInsuranceDeduction(),
         paycheck.getNetPay());
 
     return paycheck;
   }
 
   /**
-   * Calculate insurance deduction based on gross pay Uses configurable insurance rate from
-   * application.properties Can be extended to use Strategy pattern if needed
+   * Calculate paychecks for a group of employees with the batch tax API. Salaries are validated and
+   * collected into a primitive array, taxed in one call, and employees with an invalid salary are
+   * returned as failures instead of aborting the batch
    *
-   * @param grossPay Gross payment amount
-   * @return Insurance deduction amount
+   * @param employees Employees to calculate payroll for
+   * @param strategy Tax strategy pinned for the batch
+   * @param deductions Deduction plan pinned for the batch
+   * @param payDate Pay date for every paycheck
+   * @param bonusAmount Bonus added to each paycheck, or null for regular payroll
+   * @return One RunItem per employee holding either the paycheck or the failure
    */
-  private double calculateInsuranceDeduction(double grossPay) {
-    return grossPay * insuranceRate;
+  private List<RunItem> calculateBatch(
+      List<Employee> employees,
+      TaxStrategySnapshot strategy,
+      DeductionPlan deductions,
+      LocalDate payDate,
+      Double bonusAmount) {
+    Long bonusCents = Money.toCents(bonusAmount);
+    long bonus = (bonusCents != null) ? bonusCents : 0L;
+    List<RunItem> items = new ArrayList<>(employees.size());
+
+    // Tax and deductions are calculated on total (base salary + bonus)
+    Employee[] payable = new Employee[employees.size()];
+    long[] totalGross = new long[employees.size()];
+    int count = 0;
+    for (Employee employee : employees) {
+      if (employee.getSalary() == null || employee.getSalary() < MINIMUM_SALARY_THRESHOLD) {
+        items.add(
+            new RunItem(
+                null,
+                new PayrollRunSummaryDTO.EmployeeFailure(
+                    employee.getId(),
+                    employee.getName(),
+                    "Employee has invalid salary: " + employee.getSalary())));
+        continue;
+      }
+      payable[count] = employee;
+      totalGross[count] = Money.toCents(employee.getSalary()) + bonus;
+      count++;
+    }
+
+    long[] gross = (count == totalGross.length) ? totalGross : Arrays.copyOf(totalGross, count);
+    long[] tax = new long[count];
+    strategy.strategy().calculateTaxCents(gross, tax);
+
+    // One buffer for the whole batch; the plan writes into it without allocating
+    long[] deductionAmounts = new long[deductions.size()];
+    for (int i = 0; i < count; i++) {
+      Paycheck paycheck =
+          new Paycheck(
+              payable[i],
+              gross[i] - bonus, // Base salary stored as grossPay
+              tax[i],
+              deductions.evaluate(gross[i], tax[i], deductionAmounts),
+              payDate);
+      paycheck.setBonusCents(bonusCents); // Bonus stored separately (null for regular payroll)
+      paycheck.recordTaxStrategy(strategy);
+      paycheck.setDeductionBreakdown(deductions.encode(deductionAmounts));
+      items.add(new RunItem(paycheck, null));
+    }
+    return items;
+  }
+
+  private static String bonusTitle(Double bonusAmount, int employeeCount) {
+    return String.format("Bonus of $%.2f distributed to %d employees", bonusAmount, employeeCount);
   }
 
+  /** Outcome of calculating a single employee in a payroll run */
+  private record RunItem(Paycheck paycheck, PayrollRunSummaryDTO.EmployeeFailure failure) {}
+
   /**
-   * Fetch employees for bonus distribution based on request filters
+   * Fetch employees for bonus distribution based on request filters. ID, department and business
+   * filters are applied by the database in one query per chunk of requested IDs
    *
    * @param request Bonus request with filters
    * @param business Company entity
    * @return List of employees matching criteria
    */
   private List<Employee> fetchEmployeesForBonus(DistributeBonusRequest request, Company business) {
-    List<Employee> allEmployees;
-
-    // If specific employee IDs provided, fetch only those
-    if (request.employeeIds() != null && !request.employeeIds().isEmpty()) {
-      // Fetch employees via EmployeeService
-      allEmployees =
-          request.employeeIds().stream()
-              .map(employeeService::getEmployee)
-              .filter(java.util.Optional::isPresent)
-              .map(java.util.Optional::get)
-              .collect(Collectors.toList());
-
-      // Validate all requested employees exist
-      if (allEmployees.size() != request.employeeIds().size()) {
+    List<Employee> employees =
+        employeeService.getBonusRecipients(
+            business.getId(), request.employeeIds(), request.department());
+
+    // With a department filter a shortfall is expected, so only warn for plain ID lists
+    boolean byDepartment = request.department() != null && !request.department().isBlank();
+    if (request.employeeIds() != null && !request.employeeIds().isEmpty() && !byDepartment) {
+      long requested = request.employeeIds().stream().distinct().count();
+      if (employees.size() != requested) {
         logger.warn(
-            "Some employee IDs not found. Requested: {}, Found: {}",
-            request.employeeIds().size(),
-            allEmployees.size());
+            "Some employee IDs not found in business {}. Requested: {}, Found: {}",
+            business.getId(),
+            requested,
+            employees.size());
       }
-    } else {
-      // Fetch all employees for the business via EmployeeService
-      allEmployees = employeeService.getEmployeesByBusiness(business.getId());
-    }
-
-    // Apply department filter if specified
-    if (request.department() != null && !request.department().isBlank()) {
-      allEmployees =
-          allEmployees.stream()
-              .filter(
-                  emp -> {
-                    if (emp.getManager() == null) return false;
-                    // Manager can be Employee or Employer, only Employer has department
-                    if (emp.getManager() instanceof Employer) {
-                      return request
-                          .department()
-                          .equalsIgnoreCase(((Employer) emp.getManager()).getDepartment());
-                    }
-                    return false;
-                  })
-              .collect(Collectors.toList());
     }
 
-    logger.debug("Fetched {} employees for bonus distribution", allEmployees.size());
-    return allEmployees;
+    logger.debug("Fetched {} employees for bonus distribution", employees.size());
+    return employees;
   }
 
   @Override
@@ -464,16 +924,13 @@ public class PayrollServiceImpl implements PayrollService {
     logger.debug("Fetching payroll history for employee ID: {}", employeeId);
 
     // Validate employee exists
-    Employee employee =
-        employeeService
-            .getEmployee(employeeId)
-            .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
-
-    List<Paycheck> paychecks = paycheckRepository.findByEmployeeId(employeeId);
+    employeeService
+        .getEmployee(employeeId)
+        .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
 
-    return paychecks.stream()
-        .map(p -> convertToDTO(p, p.getEmployee() != null ? p.getEmployee() : employee))
-        .collect(Collectors.toList());
+    // Rows carry the employee name, so the listing is a single query
+    List<PaycheckRow> rows = paycheckRepository.findRowsByEmployeeId(employeeId);
+    return rows.stream().map(dtoFactory::createDTO).collect(Collectors.toList());
   }
 
   @Override
@@ -486,21 +943,89 @@ public class PayrollServiceImpl implements PayrollService {
         endDate);
 
     // Validate employee exists
-    Employee employee =
-        employeeService
-            .getEmployee(employeeId)
-            .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
+    employeeService
+        .getEmployee(employeeId)
+        .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
 
     if (startDate.isAfter(endDate)) {
       throw new IllegalArgumentException("Start date cannot be after end date");
     }
 
-    List<Paycheck> paychecks =
-        paycheckRepository.findByEmployeeIdAndDateRange(employeeId, startDate, endDate);
+    // Rows carry the employee name, so the listing is a single query
+    List<PaycheckRow> rows =
+        paycheckRepository.findRowsByEmployeeIdAndDateRange(employeeId, startDate, endDate);
+    return rows.stream().map(dtoFactory::createDTO).collect(Collectors.toList());
+  }
+
+  @Override
+  public PaycheckPageDTO getPayrollHistoryPage(
+      Long employeeId, LocalDate startDate, LocalDate endDate, String cursor, Integer size) {
+    logger.debug(
+        "Fetching payroll history page for employee ID: {} after cursor: {}", employeeId, cursor);
 
-    return paychecks.stream()
-        .map(p -> convertToDTO(p, p.getEmployee() != null ? p.getEmployee() : employee))
-        .collect(Collectors.toList());
+    int pageSize = (size != null) ? size : DEFAULT_HISTORY_PAGE_SIZE;
+    if (pageSize <= 0) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+    pageSize = Math.min(pageSize, MAX_HISTORY_PAGE_SIZE);
+
+    LocalDate from = (startDate != null) ? startDate : HISTORY_START;
+    LocalDate to = (endDate != null) ? endDate : HISTORY_END;
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException("Start date cannot be after end date");
+    }
+
+    // Validate employee exists
+    employeeService
+        .getEmployee(employeeId)
+        .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
+
+    // Fetch one extra row to know whether another page follows
+    Pageable page = PageRequest.of(0, pageSize + 1);
+    List<PaycheckRow> rows;
+    if (cursor == null || cursor.isBlank()) {
+      rows = paycheckRepository.findHistoryPage(employeeId, from, to, page);
+    } else {
+      PaycheckCursor after = PaycheckCursor.decode(cursor);
+      rows =
+          paycheckRepository.findHistoryPageAfter(
+              employeeId, from, to, after.payDate(), after.id(), page);
+    }
+
+    boolean hasMore = rows.size() > pageSize;
+    if (hasMore) {
+      rows = rows.subList(0, pageSize);
+    }
+
+    List<PaycheckDTO> items = new ArrayList<>(rows.size());
+    for (PaycheckRow row : rows) {
+      items.add(dtoFactory.createDTO(row));
+    }
+    String nextCursor = hasMore ? PaycheckCursor.after(rows.get(rows.size() - 1)).encode() : null;
+
+    return new PaycheckPageDTO(items, nextCursor, hasMore);
+  }
+
+  @Override
+  public PayrollYtdDTO getYearToDate(Long employeeId, Integer taxYear) {
+    int year = (taxYear != null) ? taxYear : LocalDate.now().getYear();
+    logger.debug("Fetching year-to-date payroll for employee ID: {} in {}", employeeId, year);
+
+    // Validate employee exists
+    employeeService
+        .getEmployee(employeeId)
+        .orElseThrow(() -> new ResourceNotFoundException("Employee", "id", employeeId));
+
+    PaycheckAmounts ytd = payrollYtdService.getYearToDate(employeeId, year);
+    return new PayrollYtdDTO(
+        employeeId,
+        year,
+        ytd.paycheckCount(),
+        Money.toDollars(ytd.grossPayCents()),
+        Money.toDollars(ytd.bonusCents()),
+        Money.toDollars(ytd.taxDeductionCents()),
+        Money.toDollars(ytd.insuranceDeductionCents()),
+        Money.toDollars(ytd.netPayCents()));
   }
 
   @Override
@@ -522,47 +1047,17 @@ public class PayrollServiceImpl implements PayrollService {
       throw new IllegalArgumentException("Start date cannot be after end date");
     }
 
-    // Fetch all paychecks for the business in date range
-    List<Paycheck> paychecks =
-        paycheckRepository.findByBusinessIdAndDateRange(businessId, startDate, endDate);
-
-    if (paychecks.isEmpty()) {
-      return new PayrollSummaryDTO(
-          businessId,
-          business.getName(),
-          startDate,
-          endDate,
-          0,
-          0,
-          0.0,
-          0.0,
-          0.0,
-          0.0,
-          0.0,
-          0.0,
-          0.0,
-          0.0,
-          0.0,
-          0.0);
-    }
+    // Read pre-aggregated daily totals; no paycheck entities are loaded
+    PaycheckTotals totals = payrollRollupService.getTotals(businessId, startDate, endDate);
 
-    // Calculate aggregates
-    int totalPaychecks = paychecks.size();
-    long totalEmployees = paychecks.stream().map(p -> p.getEmployeeId()).distinct().count();
-
-    double totalGrossPay = paychecks.stream().mapToDouble(Paycheck::getGrossPay).sum();
-
-    double totalBonus =
-        paychecks.stream().mapToDouble(p -> p.getBonus() != null ? p.getBonus() : 0.0).sum();
-
-    double totalTaxDeductions = paychecks.stream().mapToDouble(Paycheck::getTaxDeduction).sum();
-
-    double totalInsuranceDeductions =
-        paychecks.stream().mapToDouble(Paycheck::getInsuranceDeduction).sum();
-
-    double totalDeductions = totalTaxDeductions + totalInsuranceDeductions;
-
-    double totalNetPay = paychecks.stream().mapToDouble(Paycheck::getNetPay).sum();
+    int totalPaychecks = (int) totals.getPaycheckCount();
+    long totalEmployees = totals.getEmployeeCount();
+    long totalGrossPay = totals.getGrossPayCents();
+    long totalBonus = totals.getBonusCents();
+    long totalTaxDeductions = totals.getTaxDeductionCents();
+    long totalInsuranceDeductions = totals.getInsuranceDeductionCents();
+    long totalDeductions = totalTaxDeductions + totalInsuranceDeductions;
+    long totalNetPay = totals.getNetPayCents();
 
     return new PayrollSummaryDTO(
         businessId,
@@ -571,12 +1066,12 @@ public class PayrollServiceImpl implements PayrollService {
         endDate,
         totalPaychecks,
         (int) totalEmployees,
-        totalGrossPay,
-        totalBonus,
-        totalTaxDeductions,
-        totalInsuranceDeductions,
-        totalDeductions,
-        totalNetPay,
+        Money.toDollars(totalGrossPay),
+        Money.toDollars(totalBonus),
+        Money.toDollars(totalTaxDeductions),
+        Money.toDollars(totalInsuranceDeductions),
+        Money.toDollars(totalDeductions),
+        Money.toDollars(totalNetPay),
         0.0, // Calculated in constructor
         0.0, // Calculated in constructor
         0.0, // Calculated in constructor
@@ -584,6 +1079,38 @@ public class PayrollServiceImpl implements PayrollService {
         );
   }
 
+  @Override
+  public List<PayrollTrendPointDTO> getPayrollTrend(
+      Long businessId, LocalDate startDate, LocalDate endDate) {
+    logger.debug(
+        "Fetching payroll trend for business ID: {} from {} to {}", businessId, startDate, endDate);
+
+    // Validate business exists
+    if (!businessRepository.existsById(businessId)) {
+      throw new ResourceNotFoundException("Business", "id", businessId);
+    }
+
+    if (startDate.isAfter(endDate)) {
+      throw new IllegalArgumentException("Start date cannot be after end date");
+    }
+
+    List<PayrollRollupDay> days =
+        payrollRollupService.getDailyTotals(businessId, startDate, endDate);
+
+    return days.stream()
+        .map(
+            day ->
+                new PayrollTrendPointDTO(
+                    day.payDate(),
+                    day.paycheckCount().intValue(),
+                    Money.toDollars(day.grossPayCents()),
+                    Money.toDollars(day.bonusCents()),
+                    Money.toDollars(day.taxDeductionCents()),
+                    Money.toDollars(day.insuranceDeductionCents()),
+                    Money.toDollars(day.netPayCents())))
+        .collect(Collectors.toList());
+  }
+
   @Override
   @Transactional
   public PaycheckDTO updatePaycheck(
@@ -609,6 +1136,10 @@ public class PayrollServiceImpl implements PayrollService {
           null);
     }
 
+    // Capture the current rollup and year-to-date contribution before any field changes
+    PayrollRollupDelta before = PayrollRollupDelta.of(paycheck);
+    PayrollYtdAmounts ytdBefore = PayrollYtdAmounts.of(paycheck);
+
     Employee employee = paycheck.getEmployee();
     if (employee == null) {
       employee =
@@ -623,7 +1154,7 @@ public class PayrollServiceImpl implements PayrollService {
     boolean recalculateTax = false;
     boolean recalculateInsurance = false;
 
-    if (grossPay != null && grossPay != paycheck.getGrossPay()) {
+    if (grossPay != null && Money.toCents(grossPay.doubleValue()) != paycheck.getGrossPayCents()) {
       paycheck.setGrossPay(grossPay);
       recalculateTax = true;
       recalculateInsurance = true;
@@ -636,27 +1167,35 @@ public class PayrollServiceImpl implements PayrollService {
     if (taxDeduction != null && !recalculateTax) {
       paycheck.setTaxDeduction(taxDeduction);
     } else if (recalculateTax) {
-      // Recalculate tax based on total (grossPay + bonus)
-      if (taxStrategy == null) {
-        logger.error("Tax strategy is null in updatePaycheck");
-        throw new IllegalStateException("Tax strategy is not initialized. Cannot update paycheck.");
-      }
-      double totalGross =
-          paycheck.getGrossPay() + (paycheck.getBonus() != null ? paycheck.getBonus() : 0.0);
-      paycheck.setTaxDeduction(taxStrategy.calculateTax(totalGross));
+      // Recalculate tax based on total (grossPay + bonus) with the business's current strategy
+      TaxStrategySnapshot strategy = taxStrategyRegistry.current(companyIdOf(employee));
+      long totalGross =
+          paycheck.getGrossPayCents()
+              + (paycheck.getBonusCents() != null ? paycheck.getBonusCents() : 0L);
+      paycheck.setTaxDeductionCents(strategy.strategy().calculateTaxCents(totalGross));
+      paycheck.recordTaxStrategy(strategy);
     }
 
     if (insuranceDeduction != null && !recalculateInsurance) {
+      // A hand-entered total no longer matches the itemised deductions
       paycheck.setInsuranceDeduction(insuranceDeduction);
+      paycheck.setDeductionBreakdown(null);
     } else if (recalculateInsurance) {
-      // Recalculate insurance based on total (grossPay + bonus)
-      double totalGross =
-          paycheck.getGrossPay() + (paycheck.getBonus() != null ? paycheck.getBonus() : 0.0);
-      paycheck.setInsuranceDeduction(calculateInsuranceDeduction(totalGross));
+      // Re-evaluate the business's deductions on total (grossPay + bonus)
+      DeductionPlan deductions = deductionPlanRegistry.current(companyIdOf(employee));
+      long[] deductionAmounts = new long[deductions.size()];
+      long totalGross =
+          paycheck.getGrossPayCents()
+              + (paycheck.getBonusCents() != null ? paycheck.getBonusCents() : 0L);
+      paycheck.setInsuranceDeductionCents(
+          deductions.evaluate(totalGross, paycheck.getTaxDeductionCents(), deductionAmounts));
+      paycheck.setDeductionBreakdown(deductions.encode(deductionAmounts));
     }
 
     // Net pay will be recalculated automatically via setter
     Paycheck updatedPaycheck = paycheckRepository.save(paycheck);
+    payrollRollupService.recordChanged(before, updatedPaycheck);
+    payrollYtdService.recordChanged(ytdBefore, updatedPaycheck);
 
     logger.info(
         "Paycheck ID: {} updated successfully. New net pay: ${}",
@@ -686,6 +1225,8 @@ public class PayrollServiceImpl implements PayrollService {
           null);
     }
 
+    payrollRollupService.recordDeleted(paycheck);
+    payrollYtdService.recordDeleted(paycheck);
     paycheckRepository.delete(paycheck);
     logger.info("Paycheck ID: {} deleted successfully", paycheckId);
   }
@@ -703,20 +1244,17 @@ public class PayrollServiceImpl implements PayrollService {
     PaycheckStatus currentStatus = paycheck.getStatus();
 
     // Validate status transitions
-    if (currentStatus == PaycheckStatus.PAID && newStatus != PaycheckStatus.VOIDED) {
-      throw new PayrollCalculationException(
-          "Cannot change status from PAID to " + newStatus + ". Only VOIDED is allowed.",
-          paycheckId,
-          null);
-    }
-
-    if (currentStatus == PaycheckStatus.VOIDED) {
-      throw new PayrollCalculationException(
-          "Cannot change status of VOIDED paycheck.", paycheckId, null);
+    String transitionError = statusTransitionError(currentStatus, newStatus);
+    if (transitionError != null) {
+      throw new PayrollCalculationException(transitionError, paycheckId, null);
     }
 
+    PayrollRollupDelta before = PayrollRollupDelta.of(paycheck);
+    PayrollYtdAmounts ytdBefore = PayrollYtdAmounts.of(paycheck);
     paycheck.setStatus(newStatus);
     Paycheck updatedPaycheck = paycheckRepository.save(paycheck);
+    payrollRollupService.recordChanged(before, updatedPaycheck);
+    payrollYtdService.recordChanged(ytdBefore, updatedPaycheck);
 
     Employee employee = updatedPaycheck.getEmployee();
     if (employee == null) {
@@ -729,12 +1267,155 @@ public class PayrollServiceImpl implements PayrollService {
                           "Employee", "id", updatedPaycheck.getEmployeeId()));
     }
 
+    activityLogService.record(
+        companyIdOf(employee),
+        ActivityKind.PAYCHECK_STATUS,
+        paycheckId,
+        "Paycheck for " + employee.getName() + " marked " + newStatus.name());
+
     logger.info(
         "Paycheck ID: {} status updated from {} to {}", paycheckId, currentStatus, newStatus);
 
     return convertToDTO(updatedPaycheck, employee);
   }
 
+  @Override
+  @Transactional
+  public BulkPaycheckStatusResponse updatePaycheckStatuses(BulkPaycheckStatusRequest request) {
+    long startedAt = System.currentTimeMillis();
+    PaycheckStatus newStatus = request.newStatus();
+    if (newStatus == null) {
+      throw new IllegalArgumentException("New status cannot be null");
+    }
+
+    boolean byIds = request.paycheckIds() != null && !request.paycheckIds().isEmpty();
+    if (!byIds && request.businessId() == null) {
+      throw new IllegalArgumentException("Either paycheck IDs or a business ID is required");
+    }
+    if (request.businessId() != null && !businessRepository.existsById(request.businessId())) {
+      throw new ResourceNotFoundException("Business", "id", request.businessId());
+    }
+
+    // A pay date selects a single run
+    LocalDate startDate = (request.payDate() != null) ? request.payDate() : request.startDate();
+    LocalDate endDate = (request.payDate() != null) ? request.payDate() : request.endDate();
+    if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+      throw new IllegalArgumentException("Start date cannot be after end date");
+    }
+
+    Set<Long> paycheckIds = byIds ? new LinkedHashSet<>(request.paycheckIds()) : null;
+    PaycheckStatusWriter.PaycheckSelection selection =
+        new PaycheckStatusWriter.PaycheckSelection(
+            paycheckIds, request.businessId(), startDate, endDate, request.currentStatus());
+
+    logger.info(
+        "Updating status to: {} for {} paycheck IDs, business ID: {}, pay dates {} to {}",
+        newStatus,
+        byIds ? paycheckIds.size() : 0,
+        request.businessId(),
+        startDate,
+        endDate);
+
+    List<BulkPaycheckStatusResponse.Rejection> rejections = new ArrayList<>();
+    if (byIds) {
+      Set<Long> existing = paycheckStatusWriter.findExistingIds(paycheckIds);
+      for (Long paycheckId : paycheckIds) {
+        if (!existing.contains(paycheckId)) {
+          rejections.add(
+              new BulkPaycheckStatusResponse.Rejection(paycheckId, null, "Paycheck not found"));
+        }
+      }
+    }
+    int notFound = rejections.size();
+
+    // Same rules as a single status change: everything that may move to the new status and does
+    // not already have it is updated; the rest is either unchanged or rejected
+    Set<PaycheckStatus> fromStatuses = EnumSet.noneOf(PaycheckStatus.class);
+    for (PaycheckStatus status : PaycheckStatus.values()) {
+      if (status != newStatus && statusTransitionError(status, newStatus) == null) {
+        fromStatuses.add(status);
+      }
+    }
+
+    int unchanged = 0;
+    for (PaycheckStatusWriter.SkippedPaycheck skipped :
+        paycheckStatusWriter.findWithStatusNotIn(selection, fromStatuses)) {
+      String transitionError = statusTransitionError(skipped.status(), newStatus);
+      if (transitionError == null) {
+        unchanged++;
+      } else {
+        rejections.add(
+            new BulkPaycheckStatusResponse.Rejection(
+                skipped.paycheckId(), skipped.status().name(), transitionError));
+      }
+    }
+
+    // Lock what will move, capture what it contributes to the rollup under its old status, then
+    // update exactly those rows. Voided paychecks also leave their employees' year-to-date totals
+    paycheckStatusWriter.lockWithStatusIn(selection, fromStatuses);
+    List<PayrollRollupDelta> moved = paycheckStatusWriter.sumByRollupKey(selection, fromStatuses);
+    List<PayrollYtdAmounts> voided =
+        (newStatus == PaycheckStatus.VOIDED)
+            ? paycheckStatusWriter.sumByYtdKey(selection, fromStatuses)
+            : List.of();
+    int updated = paycheckStatusWriter.updateStatus(selection, fromStatuses, newStatus);
+    payrollRollupService.recordStatusChanged(moved, newStatus);
+    payrollYtdService.recordVoided(voided);
+
+    // One log entry per company whose paychecks moved
+    Map<Long, Long> movedByCompany = new TreeMap<>();
+    for (PayrollRollupDelta delta : moved) {
+      if (delta.key().getCompanyId() != null) {
+        movedByCompany.merge(
+            delta.key().getCompanyId(), delta.amounts().paycheckCount(), Long::sum);
+      }
+    }
+    movedByCompany.forEach(
+        (companyId, count) ->
+            activityLogService.record(
+                companyId,
+                ActivityKind.PAYCHECK_STATUS,
+                null,
+                String.format("%d paychecks marked %s", count, newStatus.name())));
+
+    long durationMillis = System.currentTimeMillis() - startedAt;
+    logger.info(
+        "Bulk status update to {}: {} updated, {} unchanged, {} rejected in {} ms",
+        newStatus,
+        updated,
+        unchanged,
+        rejections.size(),
+        durationMillis);
+
+    return new BulkPaycheckStatusResponse(
+        newStatus.name(),
+        updated + unchanged + rejections.size() - notFound,
+        updated,
+        unchanged,
+        rejections.size(),
+        durationMillis,
+        rejections);
+  }
+
+  /**
+   * Check whether a paycheck may move from one status to another. PAID paychecks can only be VOIDED
+   * and VOIDED paychecks are final.
+   *
+   * @param currentStatus Status the paycheck has
+   * @param newStatus Status to move to
+   * @return Reason the transition is not allowed, or null if it is
+   */
+  private static String statusTransitionError(
+      PaycheckStatus currentStatus, PaycheckStatus newStatus) {
+    if (currentStatus == PaycheckStatus.PAID && newStatus != PaycheckStatus.VOIDED) {
+      return "Cannot change status from PAID to " + newStatus + ". Only VOIDED is allowed.";
+    }
+    if (currentStatus == PaycheckStatus.VOIDED) {
+      return "Cannot change status of VOIDED paycheck.";
+    }
+    return null;
+  }
+
   /**
    * Convert Paycheck entity to PaycheckDTO using DTOFactory
    *
@@ -743,8 +1424,17 @@ public class PayrollServiceImpl implements PayrollService {
    * @return PaycheckDTO for API response
    */
   private PaycheckDTO convertToDTO(Paycheck paycheck, Employee employee) {
-    String strategyName =
-        (taxStrategy != null) ? taxStrategy.getStrategyName() : "Flat Tax Strategy";
-    return dtoFactory.createDTO(paycheck, employee, strategyName);
+    // Report the strategy recorded on the paycheck, not whichever one is assigned now
+    return dtoFactory.createDTO(paycheck, employee, paycheck.getTaxStrategyName());
+  }
+
+  /**
+   * Get the ID of the business an employee belongs to
+   *
+   * @param employee Employee to look up
+   * @return Business ID, or null if the employee has no business
+   */
+  private static Long companyIdOf(Employee employee) {
+    return (employee.getCompany() != null) ? employee.getCompany().getId() : null;
   }
 }
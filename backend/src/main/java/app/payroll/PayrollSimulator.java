@@ -0,0 +1,286 @@
+package app.payroll;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.springframework.stereotype.Component;
+
+import app.business.Company;
+import app.employee.EmployeeSalary;
+import app.payroll.deduction.DeductionPlan;
+import app.payroll.dto.PayrollSimulationDTO;
+import app.payroll.dto.PayrollSimulationRequest;
+import app.payroll.strategy.FlatTaxStrategy;
+import app.payroll.strategy.TaxCalculationStrategy;
+import app.payroll.strategy.TaxStrategyRegistry;
+
+/**
+ * Evaluates what-if payroll configurations against a roster snapshot without saving anything.
+ *
+ * <p>The roster is copied once into primitive arrays; each configuration is then a few passes over
+ * those arrays (batch tax, deductions, net pay, sorted copy for percentiles), and configurations
+ * are evaluated in parallel. Nothing here touches the database, so a whole company is simulated in
+ * memory in milliseconds.
+ */
+@Component
+public class PayrollSimulator {
+
+  static final int DEFAULT_TOP_CHANGES = 50;
+  static final int MAX_TOP_CHANGES = 1000;
+
+  private static final double[] PERCENTILES = {0.10, 0.25, 0.50, 0.75, 0.90, 0.99};
+
+  private final TaxStrategyRegistry taxStrategyRegistry;
+
+  public PayrollSimulator(TaxStrategyRegistry taxStrategyRegistry) {
+    this.taxStrategyRegistry = taxStrategyRegistry;
+  }
+
+  /**
+   * Simulate every scenario of a request and compare it with the current configuration
+   *
+   * @param business Business being simulated
+   * @param roster Salaries of the employees to simulate
+   * @param currentStrategy Tax strategy the business uses today
+   * @param currentDeductions Deduction plan the business uses today
+   * @param request Scenarios to evaluate
+   * @return Baseline and per-scenario results
+   * @throws IllegalArgumentException if a scenario is invalid
+   */
+  public PayrollSimulationDTO simulate(
+      Company business,
+      List<EmployeeSalary> roster,
+      TaxCalculationStrategy currentStrategy,
+      DeductionPlan currentDeductions,
+      PayrollSimulationRequest request) {
+    long startedAt = System.currentTimeMillis();
+    int topChanges = resolveTopChanges(request.topChanges());
+
+    // Resolve every scenario before doing any work so a bad one fails the whole request
+    List<Configuration> configurations = new ArrayList<>(request.scenarios().size());
+    for (int i = 0; i < request.scenarios().size(); i++) {
+      configurations.add(
+          resolve(request.scenarios().get(i), i, currentStrategy, currentDeductions));
+    }
+
+    Snapshot snapshot = Snapshot.of(roster);
+    Evaluation baseline =
+        evaluate(new Configuration("Current", currentStrategy, currentDeductions, null), snapshot);
+
+    List<PayrollSimulationDTO.ScenarioResult> results =
+        configurations.parallelStream()
+            .map(configuration -> evaluate(configuration, snapshot))
+            .map(evaluation -> toResult(evaluation, baseline, snapshot, topChanges))
+            .toList();
+
+    return new PayrollSimulationDTO(
+        business.getId(),
+        business.getName(),
+        snapshot.size(),
+        roster.size() - snapshot.size(),
+        toResult(baseline, baseline, snapshot, 0),
+        results,
+        System.currentTimeMillis() - startedAt);
+  }
+
+  private static int resolveTopChanges(Integer topChanges) {
+    if (topChanges == null) {
+      return DEFAULT_TOP_CHANGES;
+    }
+    if (topChanges < 0) {
+      throw new IllegalArgumentException("Top changes cannot be negative");
+    }
+    return Math.min(topChanges, MAX_TOP_CHANGES);
+  }
+
+  private Configuration resolve(
+      PayrollSimulationRequest.Scenario scenario,
+      int index,
+      TaxCalculationStrategy currentStrategy,
+      DeductionPlan currentDeductions) {
+    String name =
+        (scenario.name() != null && !scenario.name().isBlank())
+            ? scenario.name()
+            : "Scenario " + (index + 1);
+
+    TaxCalculationStrategy strategy = currentStrategy;
+    if (scenario.flatTaxRate() != null) {
+      strategy = new FlatTaxStrategy(scenario.flatTaxRate());
+    } else if (scenario.taxStrategy() != null && !scenario.taxStrategy().isBlank()) {
+      strategy = taxStrategyRegistry.strategy(scenario.taxStrategy());
+    }
+
+    // An insurance rate replaces the business's deductions with a single flat-rate deduction
+    DeductionPlan deductions = currentDeductions;
+    if (scenario.insuranceRate() != null) {
+      if (scenario.insuranceRate() < 0 || scenario.insuranceRate() > 1) {
+        throw new IllegalArgumentException("Insurance rate must be between 0 and 1");
+      }
+      deductions = DeductionPlan.insuranceOnly(scenario.insuranceRate(), 0L);
+    }
+    return new Configuration(name, strategy, deductions, scenario.insuranceRate());
+  }
+
+  /** Tax, deductions and net pay of every employee under one configuration */
+  private static Evaluation evaluate(Configuration configuration, Snapshot snapshot) {
+    long[] gross = snapshot.grossPayCents();
+    long[] tax = new long[gross.length];
+    configuration.strategy().calculateTaxCents(gross, tax);
+
+    long[] net = new long[gross.length];
+    long totalTax = 0L;
+    long totalInsurance = 0L;
+    long totalNet = 0L;
+    DeductionPlan deductions = configuration.deductions();
+    long[] deductionAmounts = new long[deductions.size()];
+    for (int i = 0; i < gross.length; i++) {
+      long insurance = deductions.evaluate(gross[i], tax[i], deductionAmounts);
+      net[i] = gross[i] - tax[i] - insurance;
+      totalTax += tax[i];
+      totalInsurance += insurance;
+      totalNet += net[i];
+    }
+    return new Evaluation(configuration, net, totalTax, totalInsurance, totalNet);
+  }
+
+  private static PayrollSimulationDTO.ScenarioResult toResult(
+      Evaluation evaluation, Evaluation baseline, Snapshot snapshot, int topChanges) {
+    long[] net = evaluation.netPayCents();
+    long[] baselineNet = baseline.netPayCents();
+    long[] change = new long[net.length];
+    int higher = 0;
+    int lower = 0;
+    for (int i = 0; i < net.length; i++) {
+      change[i] = net[i] - baselineNet[i];
+      if (change[i] > 0) {
+        higher++;
+      } else if (change[i] < 0) {
+        lower++;
+      }
+    }
+
+    return new PayrollSimulationDTO.ScenarioResult(
+        evaluation.configuration().name(),
+        evaluation.configuration().strategy().getStrategyName(),
+        evaluation.configuration().insuranceRate(),
+        Money.toDollars(snapshot.totalGrossPayCents()),
+        Money.toDollars(evaluation.totalTaxCents()),
+        Money.toDollars(evaluation.totalInsuranceCents()),
+        Money.toDollars(evaluation.totalNetPayCents()),
+        Money.toDollars(evaluation.totalNetPayCents() - baseline.totalNetPayCents()),
+        higher,
+        lower,
+        percentiles(net),
+        percentiles(change),
+        largestChanges(change, net, baselineNet, snapshot, topChanges));
+  }
+
+  /** Nearest-rank percentiles of a sorted copy; null values for an empty roster */
+  private static PayrollSimulationDTO.Percentiles percentiles(long[] values) {
+    if (values.length == 0) {
+      return new PayrollSimulationDTO.Percentiles(null, null, null, null, null, null);
+    }
+    long[] sorted = values.clone();
+    Arrays.sort(sorted);
+    Double[] result = new Double[PERCENTILES.length];
+    for (int i = 0; i < PERCENTILES.length; i++) {
+      int rank = (int) Math.ceil(PERCENTILES[i] * sorted.length) - 1;
+      result[i] = Money.toDollars(sorted[Math.max(rank, 0)]);
+    }
+    return new PayrollSimulationDTO.Percentiles(
+        result[0], result[1], result[2], result[3], result[4], result[5]);
+  }
+
+  /** The employees with the largest absolute net pay change, largest first */
+  private static List<PayrollSimulationDTO.EmployeeDelta> largestChanges(
+      long[] change, long[] net, long[] baselineNet, Snapshot snapshot, int limit) {
+    if (limit == 0) {
+      return List.of();
+    }
+
+    // Min-heap of the top entries so far, so the scan is O(n log limit) without sorting the roster
+    PriorityQueue<Integer> top =
+        new PriorityQueue<>(
+            limit + 1, (a, b) -> Long.compare(Math.abs(change[a]), Math.abs(change[b])));
+    for (int i = 0; i < change.length; i++) {
+      if (change[i] == 0) {
+        continue;
+      }
+      if (top.size() < limit) {
+        top.add(i);
+      } else if (Math.abs(change[i]) > Math.abs(change[top.peek()])) {
+        top.poll();
+        top.add(i);
+      }
+    }
+
+    PayrollSimulationDTO.EmployeeDelta[] deltas =
+        new PayrollSimulationDTO.EmployeeDelta[top.size()];
+    for (int slot = deltas.length - 1; slot >= 0; slot--) {
+      int i = top.poll();
+      deltas[slot] =
+          new PayrollSimulationDTO.EmployeeDelta(
+              snapshot.employeeIds()[i],
+              snapshot.employeeNames()[i],
+              Money.toDollars(baselineNet[i]),
+              Money.toDollars(net[i]),
+              Money.toDollars(change[i]));
+    }
+    return Arrays.asList(deltas);
+  }
+
+  /**
+   * A candidate configuration with its tax strategy and deductions resolved; the insurance rate is
+   * the scenario's override, null when the business's own deductions are used
+   */
+  private record Configuration(
+      String name,
+      TaxCalculationStrategy strategy,
+      DeductionPlan deductions,
+      Double insuranceRate) {}
+
+  /** Per-employee net pay and totals of one configuration, amounts in cents */
+  private record Evaluation(
+      Configuration configuration,
+      long[] netPayCents,
+      long totalTaxCents,
+      long totalInsuranceCents,
+      long totalNetPayCents) {}
+
+  /**
+   * Roster copied into parallel arrays once; employees with an invalid salary are left out, as in a
+   * payroll run
+   */
+  private record Snapshot(
+      Long[] employeeIds, String[] employeeNames, long[] grossPayCents, long totalGrossPayCents) {
+
+    static Snapshot of(List<EmployeeSalary> roster) {
+      Long[] ids = new Long[roster.size()];
+      String[] names = new String[roster.size()];
+      long[] gross = new long[roster.size()];
+      long total = 0L;
+      int count = 0;
+      for (EmployeeSalary employee : roster) {
+        if (employee.salary() == null || employee.salary() < 0) {
+          continue;
+        }
+        ids[count] = employee.id();
+        names[count] = employee.name();
+        gross[count] = Money.toCents(employee.salary().doubleValue());
+        total += gross[count];
+        count++;
+      }
+      return new Snapshot(
+          Arrays.copyOf(ids, count),
+          Arrays.copyOf(names, count),
+          Arrays.copyOf(gross, count),
+          total);
+    }
+
+    int size() {
+      return grossPayCents.length;
+    }
+  }
+}
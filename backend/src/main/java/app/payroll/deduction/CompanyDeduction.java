@@ -0,0 +1,152 @@
+package app.payroll.deduction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * One configured deduction of a business, loaded into the DeductionPlanRegistry. Deductions are
+ * applied in position order; a deduction only applies to paychecks whose total gross pay falls in
+ * its optional [minGross, maxGross) band, which is how tiered health plans are modelled. Amounts
+ * are in cents.
+ */
+@Entity
+@Table(
+    name = "company_deduction",
+    indexes = @Index(name = "idx_company_deduction_company", columnList = "company_id, position"))
+public class CompanyDeduction {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "company_id", nullable = false)
+  private Long companyId;
+
+  @Column(name = "position", nullable = false)
+  private int position;
+
+  @Column(name = "code", nullable = false, length = 20)
+  private String code;
+
+  @Column(name = "name", nullable = false, length = 100)
+  private String name;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "type", nullable = false, length = 30)
+  private DeductionType type;
+
+  // Rate for the percentage types, e.g. 0.05 for 5%
+  @Column(name = "rate")
+  private Double rate;
+
+  // Amount per paycheck for FIXED deductions
+  @Column(name = "amount_cents")
+  private Long amountCents;
+
+  // Largest amount taken from a single paycheck, null for no cap
+  @Column(name = "cap_cents")
+  private Long capCents;
+
+  @Column(name = "min_gross_cents")
+  private Long minGrossCents;
+
+  @Column(name = "max_gross_cents")
+  private Long maxGrossCents;
+
+  protected CompanyDeduction() {}
+
+  public CompanyDeduction(
+      Long companyId,
+      int position,
+      String code,
+      String name,
+      DeductionType type,
+      Double rate,
+      Long amountCents,
+      Long capCents,
+      Long minGrossCents,
+      Long maxGrossCents) {
+    this.companyId = companyId;
+    this.position = position;
+    this.code = code;
+    this.name = name;
+    this.type = type;
+    this.rate = rate;
+    this.amountCents = amountCents;
+    this.capCents = capCents;
+    this.minGrossCents = minGrossCents;
+    this.maxGrossCents = maxGrossCents;
+  }
+
+  /**
+   * An unsaved insurance deduction at a flat rate of gross pay, matching how payroll was calculated
+   * before deductions were configurable
+   *
+   * @param rate Rate of gross pay, e.g. 0.05 for 5%
+   * @return The deduction
+   */
+  public static CompanyDeduction insurance(double rate) {
+    return new CompanyDeduction(
+        null,
+        0,
+        DeductionPlan.INSURANCE_CODE,
+        "Insurance",
+        DeductionType.PERCENT_OF_GROSS,
+        rate,
+        null,
+        null,
+        null,
+        null);
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public Long getCompanyId() {
+    return companyId;
+  }
+
+  public int getPosition() {
+    return position;
+  }
+
+  public String getCode() {
+    return code;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public DeductionType getType() {
+    return type;
+  }
+
+  public Double getRate() {
+    return rate;
+  }
+
+  public Long getAmountCents() {
+    return amountCents;
+  }
+
+  public Long getCapCents() {
+    return capCents;
+  }
+
+  public Long getMinGrossCents() {
+    return minGrossCents;
+  }
+
+  public Long getMaxGrossCents() {
+    return maxGrossCents;
+  }
+}
@@ -0,0 +1,22 @@
+package app.payroll.deduction;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/** Repository for configured company deductions */
+@Repository
+public interface CompanyDeductionRepository extends JpaRepository<CompanyDeduction, Long> {
+
+  /** Every configured deduction, grouped by company and in application order */
+  @Query("SELECT d FROM CompanyDeduction d ORDER BY d.companyId, d.position")
+  List<CompanyDeduction> findAllOrdered();
+
+  /** Remove a company's deductions ahead of replacing them */
+  @Modifying
+  @Query("DELETE FROM CompanyDeduction d WHERE d.companyId = :companyId")
+  int deleteByCompanyId(Long companyId);
+}
@@ -0,0 +1,259 @@
+package app.payroll.deduction;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import app.payroll.Money;
+
+/**
+ * A business's deductions compiled into flat primitive arrays.
+ *
+ * <p>Configured deductions are validated and compiled once, when they are loaded or replaced, and a
+ * payroll run pins one plan for all of its paychecks. Evaluating a paycheck is then a single loop
+ * over the arrays with a switch on the deduction kind: no objects are walked and nothing is
+ * allocated, so each extra deduction adds a few arithmetic operations per paycheck rather than
+ * another chain of calls. Plans are immutable and safe to share between threads.
+ */
+public final class DeductionPlan {
+
+  /** Code of the single deduction in the default plan */
+  public static final String INSURANCE_CODE = "INS";
+
+  /** Most deductions a business can configure */
+  public static final int MAX_DEDUCTIONS = 50;
+
+  public static final int MAX_CODE_LENGTH = 20;
+
+  /**
+   * Longest breakdown {@link #encode(long[])} can produce: every deduction with a code of the
+   * maximum length, '=', the 19 digits of the largest long and ';'
+   */
+  public static final int MAX_ENCODED_LENGTH = MAX_DEDUCTIONS * (MAX_CODE_LENGTH + 21);
+
+  private static final byte KIND_PERCENT_OF_GROSS = 0;
+  private static final byte KIND_FIXED = 1;
+  private static final byte KIND_PERCENT_OF_DISPOSABLE = 2;
+
+  private final long version;
+  private final String[] codes;
+  private final String[] names;
+  private final byte[] kinds;
+  private final double[] rates;
+  private final long[] amounts;
+  private final long[] caps;
+  private final long[] minGross;
+  private final long[] maxGross;
+
+  private DeductionPlan(long version, int size) {
+    this.version = version;
+    this.codes = new String[size];
+    this.names = new String[size];
+    this.kinds = new byte[size];
+    this.rates = new double[size];
+    this.amounts = new long[size];
+    this.caps = new long[size];
+    this.minGross = new long[size];
+    this.maxGross = new long[size];
+  }
+
+  /**
+   * Compile configured deductions, in the given order
+   *
+   * @param deductions Deductions of one business, in application order
+   * @param version Version of the plan, used to invalidate anything derived from an older plan
+   * @return The compiled plan
+   * @throws IllegalArgumentException if there are too many deductions, a deduction is invalid or a
+   *     code is used twice
+   */
+  public static DeductionPlan compile(List<CompanyDeduction> deductions, long version) {
+    if (deductions.size() > MAX_DEDUCTIONS) {
+      throw new IllegalArgumentException(
+          "At most " + MAX_DEDUCTIONS + " deductions can be configured");
+    }
+    DeductionPlan plan = new DeductionPlan(version, deductions.size());
+    Set<String> seenCodes = new HashSet<>();
+    for (int i = 0; i < deductions.size(); i++) {
+      CompanyDeduction deduction = deductions.get(i);
+      String code = validateCode(deduction.getCode());
+      if (!seenCodes.add(code)) {
+        throw new IllegalArgumentException("Duplicate deduction code: " + code);
+      }
+      if (deduction.getType() == null) {
+        throw new IllegalArgumentException("Deduction " + code + " needs a type");
+      }
+
+      plan.codes[i] = code;
+      plan.names[i] = (deduction.getName() != null) ? deduction.getName() : code;
+      switch (deduction.getType()) {
+        case PERCENT_OF_GROSS -> {
+          plan.kinds[i] = KIND_PERCENT_OF_GROSS;
+          plan.rates[i] = validateRate(code, deduction.getRate());
+        }
+        case PERCENT_OF_DISPOSABLE -> {
+          plan.kinds[i] = KIND_PERCENT_OF_DISPOSABLE;
+          plan.rates[i] = validateRate(code, deduction.getRate());
+        }
+        case FIXED -> {
+          plan.kinds[i] = KIND_FIXED;
+          plan.amounts[i] = validateAmount(code, "Amount", deduction.getAmountCents());
+        }
+      }
+
+      plan.caps[i] =
+          (deduction.getCapCents() != null)
+              ? validateAmount(code, "Cap", deduction.getCapCents())
+              : Long.MAX_VALUE;
+      plan.minGross[i] =
+          (deduction.getMinGrossCents() != null)
+              ? validateAmount(code, "Minimum gross", deduction.getMinGrossCents())
+              : 0L;
+      plan.maxGross[i] =
+          (deduction.getMaxGrossCents() != null)
+              ? validateAmount(code, "Maximum gross", deduction.getMaxGrossCents())
+              : Long.MAX_VALUE;
+      if (plan.minGross[i] >= plan.maxGross[i]) {
+        throw new IllegalArgumentException(
+            "Deduction " + code + " has a minimum gross that is not below its maximum gross");
+      }
+    }
+    return plan;
+  }
+
+  /**
+   * The plan used by businesses without configured deductions: a single insurance deduction at a
+   * flat rate of gross pay, which is how payroll was calculated before deductions were configurable
+   *
+   * @param insuranceRate Rate of gross pay, e.g. 0.05 for 5%
+   * @param version Version of the plan
+   * @return The default plan
+   */
+  public static DeductionPlan insuranceOnly(double insuranceRate, long version) {
+    return compile(List.of(CompanyDeduction.insurance(insuranceRate)), version);
+  }
+
+  /**
+   * Evaluate every deduction of a paycheck. Never allocates. Deductions are applied in order and
+   * never take more than what is left after tax and earlier deductions, so net pay cannot go
+   * negative
+   *
+   * @param grossCents Total gross pay (base salary plus bonus) in cents
+   * @param taxCents Tax already deducted in cents
+   * @param amountsOut Receives the amount of deduction {@code i} at index {@code i}; at least
+   *     {@link #size()} long
+   * @return Sum of all deductions in cents
+   */
+  public long evaluate(long grossCents, long taxCents, long[] amountsOut) {
+    long total = 0L;
+    long disposable = grossCents - taxCents;
+    for (int i = 0; i < kinds.length; i++) {
+      long amount = 0L;
+      if (grossCents >= minGross[i] && grossCents < maxGross[i]) {
+        switch (kinds[i]) {
+          case KIND_PERCENT_OF_GROSS -> amount = Money.applyRate(grossCents, rates[i]);
+          case KIND_FIXED -> amount = amounts[i];
+          default -> amount = Money.applyRate(Math.max(disposable, 0L), rates[i]);
+        }
+        amount = Math.min(Math.min(amount, caps[i]), Math.max(disposable, 0L));
+      }
+      amountsOut[i] = amount;
+      disposable -= amount;
+      total += amount;
+    }
+    return total;
+  }
+
+  /**
+   * Encode evaluated amounts compactly as {@code CODE=cents;CODE=cents}, leaving out deductions
+   * that took nothing
+   *
+   * @param amounts Amounts written by {@link #evaluate(long, long, long[])}
+   * @return Encoded breakdown, or null if every amount is zero
+   */
+  public String encode(long[] amounts) {
+    StringBuilder encoded = null;
+    for (int i = 0; i < codes.length; i++) {
+      if (amounts[i] == 0L) {
+        continue;
+      }
+      if (encoded == null) {
+        encoded = new StringBuilder(codes.length * 16);
+      } else {
+        encoded.append(';');
+      }
+      encoded.append(codes[i]).append('=').append(amounts[i]);
+    }
+    return (encoded != null) ? encoded.toString() : null;
+  }
+
+  /**
+   * Decode a breakdown produced by {@link #encode(long[])}
+   *
+   * @param encoded Encoded breakdown, may be null
+   * @return Amount in cents per deduction code, in application order
+   */
+  public static Map<String, Long> decode(String encoded) {
+    Map<String, Long> amounts = new LinkedHashMap<>();
+    if (encoded == null || encoded.isEmpty()) {
+      return amounts;
+    }
+    for (String entry : encoded.split(";")) {
+      int separator = entry.indexOf('=');
+      amounts.put(entry.substring(0, separator), Long.parseLong(entry.substring(separator + 1)));
+    }
+    return amounts;
+  }
+
+  public long version() {
+    return version;
+  }
+
+  public int size() {
+    return codes.length;
+  }
+
+  public String code(int index) {
+    return codes[index];
+  }
+
+  public String name(int index) {
+    return names[index];
+  }
+
+  @Override
+  public String toString() {
+    return "DeductionPlan{version=" + version + ", codes=" + Arrays.toString(codes) + "}";
+  }
+
+  private static String validateCode(String code) {
+    if (code == null || code.isBlank()) {
+      throw new IllegalArgumentException("Deduction code is required");
+    }
+    if (code.length() > MAX_CODE_LENGTH || code.indexOf('=') >= 0 || code.indexOf(';') >= 0) {
+      throw new IllegalArgumentException(
+          "Deduction code must be at most "
+              + MAX_CODE_LENGTH
+              + " characters without '=' or ';': "
+              + code);
+    }
+    return code;
+  }
+
+  private static double validateRate(String code, Double rate) {
+    if (rate == null || rate < 0 || rate > 1) {
+      throw new IllegalArgumentException("Deduction " + code + " needs a rate between 0 and 1");
+    }
+    return rate;
+  }
+
+  private static long validateAmount(String code, String field, Long cents) {
+    if (cents == null || cents < 0) {
+      throw new IllegalArgumentException(
+          field + " of deduction " + code + " must be zero or positive");
+    }
+    return cents;
+  }
+}
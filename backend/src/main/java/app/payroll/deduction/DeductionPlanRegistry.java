@@ -0,0 +1,148 @@
+package app.payroll.deduction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Registry of the compiled deduction plan of each business.
+ *
+ * <p>Works like the TaxStrategyRegistry: plans are kept in an immutable map that is replaced
+ * wholesale on every change and published through a volatile field, so a payroll run resolves its
+ * plan with a single volatile read. Deductions are compiled when they are loaded or replaced, never
+ * per paycheck. Businesses without configured deductions use the default insurance-only plan at
+ * version 0.
+ */
+@Component
+public class DeductionPlanRegistry {
+
+  private static final Logger logger = LoggerFactory.getLogger(DeductionPlanRegistry.class);
+
+  private final CompanyDeductionRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final List<CompanyDeduction> defaultDeductions;
+  private final DeductionPlan defaultPlan;
+  private final AtomicLong versions = new AtomicLong();
+
+  private volatile Map<Long, Entry> entries = Map.of();
+
+  public DeductionPlanRegistry(
+      CompanyDeductionRepository repository,
+      PlatformTransactionManager transactionManager,
+      @Value("${payroll.default.insurance.rate:0.05}") double insuranceRate) {
+    this.repository = repository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.defaultDeductions = List.of(CompanyDeduction.insurance(insuranceRate));
+    this.defaultPlan = DeductionPlan.compile(defaultDeductions, 0L);
+  }
+
+  /** Load and compile persisted deductions */
+  @PostConstruct
+  void load() {
+    Map<Long, List<CompanyDeduction>> byCompany = new HashMap<>();
+    for (CompanyDeduction deduction : repository.findAllOrdered()) {
+      byCompany.computeIfAbsent(deduction.getCompanyId(), id -> new ArrayList<>()).add(deduction);
+    }
+
+    Map<Long, Entry> loaded = new HashMap<>();
+    byCompany.forEach(
+        (companyId, deductions) -> {
+          try {
+            DeductionPlan plan = DeductionPlan.compile(deductions, versions.incrementAndGet());
+            loaded.put(companyId, new Entry(plan, List.copyOf(deductions)));
+          } catch (IllegalArgumentException e) {
+            logger.warn(
+                "Invalid deductions for business ID: {}, using default: {}",
+                companyId,
+                e.getMessage());
+          }
+        });
+    entries = Collections.unmodifiableMap(loaded);
+    logger.info("Loaded deduction plans for {} businesses", loaded.size());
+  }
+
+  /**
+   * Get the plan currently in force for a business. Lock-free; safe to call from any thread.
+   *
+   * @param businessId ID of the business, or null for the default
+   * @return The business's plan, or the default plan if it has no configured deductions
+   */
+  public DeductionPlan current(Long businessId) {
+    if (businessId == null) {
+      return defaultPlan;
+    }
+    Entry entry = entries.get(businessId);
+    return (entry != null) ? entry.plan() : defaultPlan;
+  }
+
+  /**
+   * Get the deductions a business's plan was compiled from
+   *
+   * @param businessId ID of the business
+   * @return Deductions in application order; the default insurance deduction if the business has
+   *     none configured
+   */
+  public List<CompanyDeduction> deductions(Long businessId) {
+    Entry entry = entries.get(businessId);
+    return (entry != null) ? entry.deductions() : defaultDeductions;
+  }
+
+  /**
+   * Replace all deductions of a business. The deductions are compiled first, so an invalid
+   * configuration is rejected before anything is saved, then persisted, and only then published. An
+   * empty list returns the business to the default plan.
+   *
+   * @param businessId ID of the business
+   * @param deductions New deductions in application order
+   * @return The plan now in force
+   * @throws IllegalArgumentException if a deduction is invalid
+   */
+  public synchronized DeductionPlan replace(Long businessId, List<CompanyDeduction> deductions) {
+    DeductionPlan plan =
+        deductions.isEmpty()
+            ? defaultPlan
+            : DeductionPlan.compile(deductions, versions.incrementAndGet());
+
+    List<CompanyDeduction> saved =
+        transactionTemplate.execute(
+            status -> {
+              repository.deleteByCompanyId(businessId);
+              return repository.saveAll(deductions);
+            });
+
+    Map<Long, Entry> next = new HashMap<>(entries);
+    if (deductions.isEmpty()) {
+      next.remove(businessId);
+    } else {
+      next.put(businessId, new Entry(plan, List.copyOf(saved)));
+    }
+    entries = Collections.unmodifiableMap(next);
+
+    logger.info(
+        "Deductions for business ID: {} replaced with {} (version {})",
+        businessId,
+        plan,
+        plan.version());
+    return plan;
+  }
+
+  /** Get the plan used by businesses without configured deductions */
+  public DeductionPlan getDefault() {
+    return defaultPlan;
+  }
+
+  /** A compiled plan together with the deductions it was compiled from */
+  private record Entry(DeductionPlan plan, List<CompanyDeduction> deductions) {}
+}
@@ -0,0 +1,16 @@
+package app.payroll.deduction;
+
+/** How a deduction's amount is derived from a paycheck */
+public enum DeductionType {
+  /** A rate applied to total gross pay, e.g. a 5% retirement contribution */
+  PERCENT_OF_GROSS,
+
+  /** A fixed amount per paycheck, e.g. a health plan tier premium */
+  FIXED,
+
+  /**
+   * A rate applied to disposable pay: gross pay minus tax and every deduction before it, e.g. a
+   * wage garnishment
+   */
+  PERCENT_OF_DISPOSABLE
+}
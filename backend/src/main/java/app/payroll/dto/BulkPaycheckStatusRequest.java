@@ -0,0 +1,31 @@
+package app.payroll.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import app.payroll.PaycheckStatus;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Request DTO for changing the status of many paychecks at once Paychecks are selected by ID, by
+ * run (business and pay date) or by filter (business, date range and current status); all given
+ * criteria must match
+ */
+public record BulkPaycheckStatusRequest(
+    @NotNull(message = "New status is required") PaycheckStatus newStatus,
+
+    // Optional: specific paychecks
+    List<Long> paycheckIds,
+
+    // Required unless paycheck IDs are given
+    Long businessId,
+
+    // Optional: a single run, overrides startDate/endDate
+    LocalDate payDate,
+
+    // Optional: pay date range (inclusive)
+    LocalDate startDate,
+    LocalDate endDate,
+
+    // Optional: only paychecks currently in this status
+    PaycheckStatus currentStatus) {}
@@ -0,0 +1,20 @@
+package app.payroll.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a bulk paycheck status change Contains how many selected paychecks were updated, already
+ * had the new status, or were rejected, and why each rejected paycheck was refused
+ */
+public record BulkPaycheckStatusResponse(
+    String newStatus,
+    Integer matchedPaychecks,
+    Integer updatedPaychecks,
+    Integer unchangedPaychecks,
+    Integer rejectedPaychecks,
+    Long durationMillis,
+    List<Rejection> rejections) {
+
+  /** A paycheck whose status was not changed, with its current status and the reason */
+  public record Rejection(Long paycheckId, String currentStatus, String reason) {}
+}
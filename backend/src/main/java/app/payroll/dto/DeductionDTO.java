@@ -0,0 +1,33 @@
+package app.payroll.dto;
+
+import app.payroll.deduction.DeductionPlan;
+import app.payroll.deduction.DeductionType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for one deduction of a business Contains its code, type, and either a rate (percentage types)
+ * or an amount (FIXED), with an optional per-paycheck cap and gross pay band; amounts in dollars
+ */
+public record DeductionDTO(
+    @NotBlank(message = "Deduction code is required")
+        @Size(
+            max = DeductionPlan.MAX_CODE_LENGTH,
+            message = "Deduction code must be at most 20 characters")
+        String code,
+    @Size(max = 100, message = "Deduction name must be at most 100 characters") String name,
+    @NotNull(message = "Deduction type is required") DeductionType type,
+
+    // Rate between 0 and 1 for PERCENT_OF_GROSS and PERCENT_OF_DISPOSABLE
+    Double rate,
+
+    // Amount per paycheck for FIXED
+    Double amount,
+
+    // Optional: largest amount taken from a single paycheck
+    Double cap,
+
+    // Optional: the deduction only applies when minGrossPay <= total gross pay < maxGrossPay
+    Double minGrossPay,
+    Double maxGrossPay) {}
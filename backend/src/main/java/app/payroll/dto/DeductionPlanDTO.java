@@ -0,0 +1,11 @@
+package app.payroll.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the deductions applied to a business's paychecks Contains the deductions in application
+ * order and the plan version; usingDefault is true when the business has configured none and the
+ * default insurance deduction applies
+ */
+public record DeductionPlanDTO(
+    Long businessId, Boolean usingDefault, Long version, List<DeductionDTO> deductions) {}
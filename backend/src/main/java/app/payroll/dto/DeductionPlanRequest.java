@@ -0,0 +1,19 @@
+package app.payroll.dto;
+
+import java.util.List;
+
+import app.payroll.deduction.DeductionPlan;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request DTO for replacing all deductions of a business Deductions are applied in list order; an
+ * empty list returns the business to the default insurance deduction
+ */
+public record DeductionPlanRequest(
+    @NotNull(message = "Deductions are required")
+        @Size(
+            max = DeductionPlan.MAX_DEDUCTIONS,
+            message = "At most 50 deductions can be configured")
+        List<@Valid DeductionDTO> deductions) {}
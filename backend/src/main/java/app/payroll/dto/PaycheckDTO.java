@@ -1,6 +1,7 @@
 package app.payroll.dto;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 import app.payroll.PaycheckStatus;
 
@@ -19,7 +20,8 @@ public record PaycheckDTO(
     // bonus)
     Double bonus, // Bonus amount (null if no bonus)
     Double taxDeduction,
-    Double insuranceDeduction,
+    Double insuranceDeduction, // Total of all non-tax deductions
+    Map<String, Double> deductions, // Non-tax deductions by code, empty if not itemised
     Double totalDeductions,
     Double netPay,
     LocalDate payDate,
@@ -32,6 +34,9 @@ public record PaycheckDTO(
     if (totalDeductions == null) {
       totalDeductions = taxDeduction + insuranceDeduction;
     }
+    if (deductions == null) {
+      deductions = Map.of();
+    }
     // Default status to DRAFT if not provided
     if (status == null) {
       status = PaycheckStatus.DRAFT;
@@ -0,0 +1,21 @@
+package app.payroll.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO for one exported paycheck Amounts are exact decimals built from the stored cents so exports
+ * reconcile to the cent
+ */
+public record PaycheckExportRow(
+    Long paycheckId,
+    Long employeeId,
+    String employeeName,
+    LocalDate payDate,
+    String status,
+    BigDecimal grossPay,
+    BigDecimal bonus,
+    BigDecimal taxDeduction,
+    BigDecimal insuranceDeduction,
+    BigDecimal netPay,
+    String taxStrategy) {}
@@ -0,0 +1,9 @@
+package app.payroll.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of paychecks Contains the paychecks, newest first, and the cursor to pass back
+ * for the next page (null on the last page)
+ */
+public record PaycheckPageDTO(List<PaycheckDTO> items, String nextCursor, Boolean hasMore) {}
@@ -0,0 +1,25 @@
+package app.payroll.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for an asynchronous payroll job Contains its status, progress counters, running totals of the
+ * paychecks saved so far, and the employees that failed
+ */
+public record PayrollJobDTO(
+    String jobId,
+    String type,
+    Long businessId,
+    String status,
+    Integer totalEmployees,
+    Integer processedEmployees,
+    Integer failedEmployees,
+    Double totalGrossPay,
+    Double totalNetPay,
+    LocalDateTime submittedAt,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt,
+    String errorMessage,
+    List<PayrollRunSummaryDTO.EmployeeFailure> failures,
+    PayrollRunSummaryDTO summary) {}
@@ -0,0 +1,4 @@
+package app.payroll.dto;
+
+/** DTO for a payroll rollup rebuild Reports how many rollup rows were written */
+public record PayrollRollupRebuildResponse(Integer rowsWritten, Long durationMillis) {}
@@ -0,0 +1,27 @@
+package app.payroll.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for a company-wide payroll run Contains run totals and the employees whose paychecks could
+ * not be generated
+ */
+public record PayrollRunSummaryDTO(
+    Long businessId,
+    String businessName,
+    LocalDate payDate,
+    Integer totalEmployees,
+    Integer successfulPaychecks,
+    Integer failedPaychecks,
+    Double totalGrossPay,
+    Double totalTaxDeductions,
+    Double totalInsuranceDeductions,
+    Double totalNetPay,
+    String taxStrategyUsed,
+    Long durationMillis,
+    List<EmployeeFailure> failures) {
+
+  /** A single employee that was skipped by the run, with the reason it failed */
+  public record EmployeeFailure(Long employeeId, String employeeName, String reason) {}
+}
@@ -0,0 +1,49 @@
+package app.payroll.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a what-if payroll simulation Contains the totals under the business's current
+ * configuration and, for each scenario, its totals, net pay percentiles and the employees whose net
+ * pay would change the most
+ */
+public record PayrollSimulationDTO(
+    Long businessId,
+    String businessName,
+    Integer simulatedEmployees,
+    Integer skippedEmployees,
+    ScenarioResult baseline,
+    List<ScenarioResult> scenarios,
+    Long durationMillis) {
+
+  /**
+   * Totals and distribution of one configuration across the whole roster; insuranceRate is null
+   * when the business's configured deductions are used
+   */
+  public record ScenarioResult(
+      String name,
+      String taxStrategy,
+      Double insuranceRate,
+      Double totalGrossPay,
+      Double totalTaxDeductions,
+      Double totalInsuranceDeductions,
+      Double totalNetPay,
+      Double netPayChange,
+      Integer employeesWithHigherNetPay,
+      Integer employeesWithLowerNetPay,
+      Percentiles netPayPercentiles,
+      Percentiles netPayChangePercentiles,
+      List<EmployeeDelta> largestChanges) {}
+
+  /** Selected percentiles of a per-employee amount, in dollars */
+  public record Percentiles(
+      Double p10, Double p25, Double p50, Double p75, Double p90, Double p99) {}
+
+  /** Net pay of one employee under the current configuration and under the scenario */
+  public record EmployeeDelta(
+      Long employeeId,
+      String employeeName,
+      Double currentNetPay,
+      Double simulatedNetPay,
+      Double change) {}
+}
@@ -0,0 +1,32 @@
+package app.payroll.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Request DTO for a what-if payroll simulation Each scenario is evaluated against the same roster
+ * and compared with the business's current configuration; nothing is saved
+ */
+public record PayrollSimulationRequest(
+    @NotEmpty(message = "At least one scenario is required")
+        @Size(max = 10, message = "At most 10 scenarios can be simulated at once")
+        List<@Valid Scenario> scenarios,
+
+    // Optional: how many of the largest per-employee changes to return per scenario (default 50)
+    Integer topChanges) {
+
+  /**
+   * One candidate configuration. Omitted fields keep the business's current value
+   *
+   * @param name Label echoed back in the result
+   * @param taxStrategy Tax strategy bean name, e.g. "progressiveTaxStrategy"
+   * @param flatTaxRate Flat tax rate between 0 and 1, overrides taxStrategy
+   * @param insuranceRate Insurance rate between 0 and 1, replaces the business's deductions with a
+   *     single insurance deduction at this rate
+   */
+  public record Scenario(
+      String name, String taxStrategy, Double flatTaxRate, Double insuranceRate) {}
+}
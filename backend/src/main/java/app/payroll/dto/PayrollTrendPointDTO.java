@@ -0,0 +1,13 @@
+package app.payroll.dto;
+
+import java.time.LocalDate;
+
+/** DTO for one pay date in a payroll trend Totals across every paycheck status for that day */
+public record PayrollTrendPointDTO(
+    LocalDate payDate,
+    Integer paycheckCount,
+    Double totalGrossPay,
+    Double totalBonus,
+    Double totalTaxDeductions,
+    Double totalInsuranceDeductions,
+    Double totalNetPay) {}
@@ -0,0 +1,15 @@
+package app.payroll.dto;
+
+/**
+ * DTO for an employee's year-to-date payroll Contains the totals of every paycheck of the tax year
+ * that was not voided
+ */
+public record PayrollYtdDTO(
+    Long employeeId,
+    Integer taxYear,
+    Long paycheckCount,
+    Double grossPay,
+    Double bonus,
+    Double taxDeductions,
+    Double insuranceDeductions,
+    Double netPay) {}
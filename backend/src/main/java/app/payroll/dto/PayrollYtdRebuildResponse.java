@@ -0,0 +1,4 @@
+package app.payroll.dto;
+
+/** DTO for a year-to-date totals rebuild Reports how many year-to-date rows were written */
+public record PayrollYtdRebuildResponse(Integer rowsWritten, Long durationMillis) {}
@@ -0,0 +1,5 @@
+package app.payroll.dto;
+
+/** DTO for payroll preview cache statistics Counters are cumulative since startup */
+public record PreviewCacheStatsResponse(
+    Long hits, Long misses, Long evictions, Integer size, Integer maxEntries, Double hitRate) {}
@@ -0,0 +1,174 @@
+package app.payroll.job;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import app.payroll.Money;
+import app.payroll.Paycheck;
+import app.payroll.PayrollProgressListener;
+import app.payroll.dto.PayrollJobDTO;
+import app.payroll.dto.PayrollRunSummaryDTO;
+
+/**
+ * State of one asynchronous payroll job. Progress counters are written by the executing thread and
+ * read by pollers; status transitions are synchronized so a job is finished exactly once.
+ */
+class PayrollJob implements PayrollProgressListener {
+
+  /** Failures kept for progress polling; the final summary always lists all of them */
+  static final int MAX_REPORTED_FAILURES = 100;
+
+  private final String id = UUID.randomUUID().toString();
+  private final PayrollJobType type;
+  private final Long businessId;
+  private final LocalDateTime submittedAt = LocalDateTime.now();
+
+  private final AtomicInteger total = new AtomicInteger();
+  private final AtomicInteger processed = new AtomicInteger();
+  private final AtomicInteger failed = new AtomicInteger();
+  private final AtomicLong grossPayCents = new AtomicLong();
+  private final AtomicLong netPayCents = new AtomicLong();
+  private final List<PayrollRunSummaryDTO.EmployeeFailure> failures = new ArrayList<>();
+
+  private volatile boolean cancelRequested;
+  private PayrollJobStatus status = PayrollJobStatus.QUEUED;
+  private LocalDateTime startedAt;
+  private LocalDateTime finishedAt;
+  private String errorMessage;
+  private PayrollRunSummaryDTO summary;
+
+  PayrollJob(PayrollJobType type, Long businessId) {
+    this.type = type;
+    this.businessId = businessId;
+  }
+
+  String getId() {
+    return id;
+  }
+
+  PayrollJobType getType() {
+    return type;
+  }
+
+  Long getBusinessId() {
+    return businessId;
+  }
+
+  synchronized PayrollJobStatus getStatus() {
+    return status;
+  }
+
+  synchronized LocalDateTime getFinishedAt() {
+    return finishedAt;
+  }
+
+  /**
+   * Move a queued job to RUNNING
+   *
+   * @return false if the job was cancelled while it was queued
+   */
+  synchronized boolean start() {
+    if (status != PayrollJobStatus.QUEUED) {
+      return false;
+    }
+    status = PayrollJobStatus.RUNNING;
+    startedAt = LocalDateTime.now();
+    return true;
+  }
+
+  /** Finish with the run summary; a run that stopped before its last chunk counts as cancelled */
+  synchronized void complete(PayrollRunSummaryDTO runSummary) {
+    summary = runSummary;
+    boolean allProcessed =
+        runSummary.successfulPaychecks() + runSummary.failedPaychecks()
+            >= runSummary.totalEmployees();
+    status = allProcessed ? PayrollJobStatus.COMPLETED : PayrollJobStatus.CANCELLED;
+    finishedAt = LocalDateTime.now();
+  }
+
+  synchronized void fail(String message) {
+    errorMessage = message;
+    status = PayrollJobStatus.FAILED;
+    finishedAt = LocalDateTime.now();
+  }
+
+  /**
+   * Cancel a queued job immediately, or ask a running job to stop before its next chunk
+   *
+   * @return false if the job had already finished
+   */
+  synchronized boolean cancel() {
+    if (status == PayrollJobStatus.QUEUED) {
+      status = PayrollJobStatus.CANCELLED;
+      finishedAt = LocalDateTime.now();
+      return true;
+    }
+    if (status == PayrollJobStatus.RUNNING) {
+      cancelRequested = true;
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void onStart(int totalEmployees) {
+    total.set(totalEmployees);
+  }
+
+  @Override
+  public void onChunk(
+      List<Paycheck> saved, List<PayrollRunSummaryDTO.EmployeeFailure> chunkFailures) {
+    long gross = 0L;
+    long net = 0L;
+    for (Paycheck paycheck : saved) {
+      gross += paycheck.getGrossPayCents();
+      net += paycheck.getNetPayCents();
+    }
+    grossPayCents.addAndGet(gross);
+    netPayCents.addAndGet(net);
+    failed.addAndGet(chunkFailures.size());
+    processed.addAndGet(saved.size() + chunkFailures.size());
+
+    synchronized (this) {
+      for (PayrollRunSummaryDTO.EmployeeFailure failure : chunkFailures) {
+        if (failures.size() >= MAX_REPORTED_FAILURES) {
+          break;
+        }
+        failures.add(failure);
+      }
+    }
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return cancelRequested;
+  }
+
+  /**
+   * Take a consistent snapshot of the job
+   *
+   * @return PayrollJobDTO describing the job right now
+   */
+  synchronized PayrollJobDTO toDTO() {
+    return new PayrollJobDTO(
+        id,
+        type.name(),
+        businessId,
+        status.name(),
+        total.get(),
+        processed.get(),
+        failed.get(),
+        Money.toDollars(grossPayCents.get()),
+        Money.toDollars(netPayCents.get()),
+        submittedAt,
+        startedAt,
+        finishedAt,
+        errorMessage,
+        List.copyOf(failures),
+        summary);
+  }
+}
@@ -0,0 +1,13 @@
+package app.payroll.job;
+
+/** Exception thrown when a payroll job cannot be accepted right now and should be retried later */
+public class PayrollJobRejectedException extends RuntimeException {
+
+  public PayrollJobRejectedException(String message) {
+    super(message);
+  }
+
+  public PayrollJobRejectedException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
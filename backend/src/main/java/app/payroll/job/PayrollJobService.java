@@ -0,0 +1,65 @@
+package app.payroll.job;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import app.payroll.dto.DistributeBonusRequest;
+import app.payroll.dto.PayrollJobDTO;
+
+/**
+ * Service interface for asynchronous payroll jobs Payroll runs and bonus distributions are queued
+ * on a bounded executor and can be polled for progress or cancelled while they run
+ */
+public interface PayrollJobService {
+
+  /**
+   * Queue a payroll run for every active employee of a business
+   *
+   * @param businessId ID of the business
+   * @param payDate Pay date recorded on every generated paycheck (defaults to today if null)
+   * @return PayrollJobDTO of the queued job
+   * @throws ResourceNotFoundException if business not found
+   * @throws PayrollJobRejectedException if the business already has a job of this type in progress
+   *     or the job queue is full
+   */
+  PayrollJobDTO submitPayrollRun(Long businessId, LocalDate payDate);
+
+  /**
+   * Queue a bonus distribution
+   *
+   * @param request Bonus distribution request with businessId, amount, and filters
+   * @return PayrollJobDTO of the queued job
+   * @throws ResourceNotFoundException if business not found
+   * @throws PayrollJobRejectedException if the business already has a job of this type in progress
+   *     or the job queue is full
+   */
+  PayrollJobDTO submitBonusDistribution(DistributeBonusRequest request);
+
+  /**
+   * Get the current state of a job
+   *
+   * @param jobId ID of the job
+   * @return PayrollJobDTO with status, progress and, once finished, the run summary
+   * @throws ResourceNotFoundException if the job is unknown or no longer retained
+   */
+  PayrollJobDTO getJob(String jobId);
+
+  /**
+   * Get the retained jobs of a business, newest first
+   *
+   * @param businessId ID of the business
+   * @return List of PayrollJobDTOs
+   */
+  List<PayrollJobDTO> getJobs(Long businessId);
+
+  /**
+   * Cancel a job. A queued job never starts; a running job stops before its next chunk and keeps
+   * the paychecks it already saved
+   *
+   * @param jobId ID of the job
+   * @return PayrollJobDTO of the job after the cancellation request
+   * @throws ResourceNotFoundException if the job is unknown or no longer retained
+   * @throws BusinessValidationException if the job has already finished
+   */
+  PayrollJobDTO cancelJob(String jobId);
+}
@@ -0,0 +1,192 @@
+package app.payroll.job;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import app.business.BusinessRepository;
+import app.business.BusinessValidationException;
+import app.common.exception.ResourceNotFoundException;
+import app.payroll.PayrollService;
+import app.payroll.dto.DistributeBonusRequest;
+import app.payroll.dto.PayrollJobDTO;
+import app.payroll.dto.PayrollRunSummaryDTO;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of PayrollJobService. Jobs run on a dedicated, bounded thread pool so request
+ * threads return as soon as a job is queued; the pool size limits how many runs hit the database at
+ * once and the queue capacity limits how many may wait. Finished jobs are kept in memory until more
+ * than the configured number have accumulated.
+ */
+@Service
+public class PayrollJobServiceImpl implements PayrollJobService {
+
+  private static final Logger logger = LoggerFactory.getLogger(PayrollJobServiceImpl.class);
+
+  private final PayrollService payrollService;
+  private final BusinessRepository businessRepository;
+  private final ThreadPoolTaskExecutor executor;
+  private final int retainedJobs;
+  private final Map<String, PayrollJob> jobs = new ConcurrentHashMap<>();
+
+  public PayrollJobServiceImpl(
+      PayrollService payrollService,
+      BusinessRepository businessRepository,
+      @Value("${payroll.jobs.pool-size:2}") int poolSize,
+      @Value("${payroll.jobs.queue-capacity:20}") int queueCapacity,
+      @Value("${payroll.jobs.retained:200}") int retainedJobs) {
+    if (poolSize <= 0 || queueCapacity < 0 || retainedJobs <= 0) {
+      throw new IllegalArgumentException(
+          "Payroll job pool size and retention must be positive, queue capacity non-negative");
+    }
+    this.payrollService = payrollService;
+    this.businessRepository = businessRepository;
+    this.retainedJobs = retainedJobs;
+
+    // Owned by this service rather than exposed as a bean, so it does not replace the
+    // application's default task executor
+    this.executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix("payroll-job-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(60);
+    executor.initialize();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    // Running jobs stop after their current chunk; queued jobs never start
+    jobs.values().forEach(PayrollJob::cancel);
+    executor.shutdown();
+  }
+
+  @Override
+  public PayrollJobDTO submitPayrollRun(Long businessId, LocalDate payDate) {
+    return submit(
+        PayrollJobType.PAYROLL_RUN,
+        businessId,
+        job -> payrollService.runPayrollForBusiness(businessId, payDate, job));
+  }
+
+  @Override
+  public PayrollJobDTO submitBonusDistribution(DistributeBonusRequest request) {
+    return submit(
+        PayrollJobType.BONUS_DISTRIBUTION,
+        request.businessId(),
+        job -> payrollService.distributeBonusesInChunks(request, job));
+  }
+
+  @Override
+  public PayrollJobDTO getJob(String jobId) {
+    return findJob(jobId).toDTO();
+  }
+
+  @Override
+  public List<PayrollJobDTO> getJobs(Long businessId) {
+    return jobs.values().stream()
+        .filter(job -> job.getBusinessId().equals(businessId))
+        .map(PayrollJob::toDTO)
+        .sorted(Comparator.comparing(PayrollJobDTO::submittedAt).reversed())
+        .toList();
+  }
+
+  @Override
+  public PayrollJobDTO cancelJob(String jobId) {
+    PayrollJob job = findJob(jobId);
+    if (!job.cancel()) {
+      throw new BusinessValidationException(
+          "Payroll job " + jobId + " has already finished with status " + job.getStatus());
+    }
+    logger.info("Cancellation requested for payroll job {}", jobId);
+    return job.toDTO();
+  }
+
+  /**
+   * Register a job and hand it to the executor. Synchronized so two requests cannot both pass the
+   * one-job-per-business check.
+   */
+  private synchronized PayrollJobDTO submit(
+      PayrollJobType type, Long businessId, Function<PayrollJob, PayrollRunSummaryDTO> work) {
+    if (businessId == null) {
+      throw new IllegalArgumentException("Business ID cannot be null");
+    }
+    if (!businessRepository.existsById(businessId)) {
+      throw new ResourceNotFoundException("Business", "id", businessId);
+    }
+
+    boolean inProgress =
+        jobs.values().stream()
+            .anyMatch(
+                job ->
+                    job.getType() == type
+                        && job.getBusinessId().equals(businessId)
+                        && !job.getStatus().isFinished());
+    if (inProgress) {
+      throw new PayrollJobRejectedException(
+          "A " + type + " job is already in progress for business " + businessId);
+    }
+
+    PayrollJob job = new PayrollJob(type, businessId);
+    jobs.put(job.getId(), job);
+    try {
+      executor.execute(() -> execute(job, work));
+    } catch (TaskRejectedException e) {
+      jobs.remove(job.getId());
+      throw new PayrollJobRejectedException("Payroll job queue is full, try again later", e);
+    }
+    evictFinishedJobs();
+
+    logger.info("Queued {} job {} for business ID: {}", type, job.getId(), businessId);
+    return job.toDTO();
+  }
+
+  private void execute(PayrollJob job, Function<PayrollJob, PayrollRunSummaryDTO> work) {
+    if (!job.start()) {
+      logger.info("Payroll job {} was cancelled before it started", job.getId());
+      return;
+    }
+    try {
+      job.complete(work.apply(job));
+      logger.info("Payroll job {} finished with status {}", job.getId(), job.getStatus());
+    } catch (Exception e) {
+      logger.error("Payroll job {} failed", job.getId(), e);
+      job.fail(e.getMessage());
+    }
+  }
+
+  /** Drop the oldest finished jobs once more than the retained number are held */
+  private void evictFinishedJobs() {
+    int excess = jobs.size() - retainedJobs;
+    if (excess <= 0) {
+      return;
+    }
+    jobs.values().stream()
+        .filter(job -> job.getStatus().isFinished())
+        .sorted(Comparator.comparing(PayrollJob::getFinishedAt))
+        .limit(excess)
+        .map(PayrollJob::getId)
+        .toList()
+        .forEach(jobs::remove);
+  }
+
+  private PayrollJob findJob(String jobId) {
+    PayrollJob job = jobs.get(jobId);
+    if (job == null) {
+      throw new ResourceNotFoundException("PayrollJob", "id", jobId);
+    }
+    return job;
+  }
+}
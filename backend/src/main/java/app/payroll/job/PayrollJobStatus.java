@@ -0,0 +1,19 @@
+package app.payroll.job;
+
+/** Lifecycle of a payroll job: QUEUED -> RUNNING -> COMPLETED, FAILED or CANCELLED */
+public enum PayrollJobStatus {
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  FAILED,
+  CANCELLED;
+
+  /**
+   * Check whether the job has finished and will not change anymore
+   *
+   * @return true for COMPLETED, FAILED and CANCELLED
+   */
+  public boolean isFinished() {
+    return this == COMPLETED || this == FAILED || this == CANCELLED;
+  }
+}
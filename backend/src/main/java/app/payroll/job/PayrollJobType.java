@@ -0,0 +1,7 @@
+package app.payroll.job;
+
+/** Kind of work a payroll job performs */
+public enum PayrollJobType {
+  PAYROLL_RUN,
+  BONUS_DISTRIBUTION
+}
@@ -0,0 +1,24 @@
+package app.payroll.rollup;
+
+import app.payroll.PaycheckTotalsRow;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Pre-aggregated paycheck totals per company, pay date and status. Rows are maintained
+ * incrementally as paychecks change, so summaries and trends read one row per day instead of one
+ * row per paycheck. Amounts are in cents.
+ */
+@Entity
+@Table(name = "payroll_daily_rollup")
+public class PayrollRollup extends PaycheckTotalsRow {
+
+  @EmbeddedId private PayrollRollupKey id;
+
+  protected PayrollRollup() {}
+
+  public PayrollRollupKey getId() {
+    return id;
+  }
+}
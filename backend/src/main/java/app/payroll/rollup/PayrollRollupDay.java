@@ -0,0 +1,13 @@
+package app.payroll.rollup;
+
+import java.time.LocalDate;
+
+/** Rollup totals for one company and pay date across all statuses, amounts in cents */
+public record PayrollRollupDay(
+    LocalDate payDate,
+    Long paycheckCount,
+    Long grossPayCents,
+    Long bonusCents,
+    Long taxDeductionCents,
+    Long insuranceDeductionCents,
+    Long netPayCents) {}
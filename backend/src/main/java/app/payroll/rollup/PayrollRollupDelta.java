@@ -0,0 +1,43 @@
+package app.payroll.rollup;
+
+import app.business.Company;
+import app.payroll.Paycheck;
+import app.payroll.PaycheckAmounts;
+import app.payroll.PaycheckStatus;
+
+/**
+ * Change to apply to one rollup row. A paycheck contributes a delta with a count of one; removing
+ * it applies the negated delta.
+ */
+public record PayrollRollupDelta(PayrollRollupKey key, PaycheckAmounts amounts) {
+
+  /**
+   * Capture what a paycheck currently contributes to the rollup
+   *
+   * @param paycheck Paycheck to capture
+   * @return Delta for the paycheck, or null if its employee belongs to no company
+   */
+  public static PayrollRollupDelta of(Paycheck paycheck) {
+    Company company = (paycheck.getEmployee() != null) ? paycheck.getEmployee().getCompany() : null;
+    if (company == null) {
+      return null;
+    }
+    return new PayrollRollupDelta(
+        new PayrollRollupKey(company.getId(), paycheck.getPayDate(), paycheck.getStatus()),
+        PaycheckAmounts.of(paycheck));
+  }
+
+  public PayrollRollupDelta negate() {
+    return new PayrollRollupDelta(key, amounts.negate());
+  }
+
+  /** The same contribution, counted under another status */
+  public PayrollRollupDelta withStatus(PaycheckStatus status) {
+    return new PayrollRollupDelta(
+        new PayrollRollupKey(key.getCompanyId(), key.getPayDate(), status), amounts);
+  }
+
+  public PayrollRollupDelta plus(PayrollRollupDelta other) {
+    return new PayrollRollupDelta(key, amounts.plus(other.amounts));
+  }
+}
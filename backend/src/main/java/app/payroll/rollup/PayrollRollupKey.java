@@ -0,0 +1,64 @@
+package app.payroll.rollup;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import app.payroll.PaycheckStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+/** Composite key of a payroll rollup row: one row per company, pay date and paycheck status */
+@Embeddable
+public class PayrollRollupKey implements Serializable {
+
+  @Column(name = "company_id", nullable = false)
+  private Long companyId;
+
+  @Column(name = "pay_date", nullable = false)
+  private LocalDate payDate;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  private PaycheckStatus status;
+
+  protected PayrollRollupKey() {}
+
+  public PayrollRollupKey(Long companyId, LocalDate payDate, PaycheckStatus status) {
+    this.companyId = companyId;
+    this.payDate = payDate;
+    this.status = status;
+  }
+
+  public Long getCompanyId() {
+    return companyId;
+  }
+
+  public LocalDate getPayDate() {
+    return payDate;
+  }
+
+  public PaycheckStatus getStatus() {
+    return status;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PayrollRollupKey other)) {
+      return false;
+    }
+    return Objects.equals(companyId, other.companyId)
+        && Objects.equals(payDate, other.payDate)
+        && status == other.status;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(companyId, payDate, status);
+  }
+}
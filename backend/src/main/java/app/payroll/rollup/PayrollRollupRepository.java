@@ -0,0 +1,71 @@
+package app.payroll.rollup;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import app.payroll.PaycheckTotals;
+
+/** Repository for the payroll daily rollup */
+@Repository
+public interface PayrollRollupRepository extends JpaRepository<PayrollRollup, PayrollRollupKey> {
+
+  /** Remove every rollup row ahead of a rebuild */
+  @Modifying
+  @Query(value = "DELETE FROM payroll_daily_rollup", nativeQuery = true)
+  int deleteAllRows();
+
+  /** Recompute every rollup row from the paycheck table in one statement */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO payroll_daily_rollup (company_id, pay_date, status, paycheck_count, "
+              + "gross_pay_cents, bonus_cents, tax_deduction_cents, insurance_deduction_cents, "
+              + "net_pay_cents) "
+              + "SELECT bp.company_id, p.pay_date, p.status, COUNT(*), "
+              + "SUM(ROUND(p.gross_pay * 100)), COALESCE(SUM(ROUND(p.bonus * 100)), 0), "
+              + "SUM(ROUND(p.tax_deduction * 100)), SUM(ROUND(p.insurance_deduction * 100)), "
+              + "SUM(ROUND(p.net_pay * 100)) "
+              + "FROM paycheck p JOIN business_person bp ON bp.id = p.employee_id "
+              + "WHERE bp.company_id IS NOT NULL "
+              + "GROUP BY bp.company_id, p.pay_date, p.status",
+      nativeQuery = true)
+  int insertFromPaychecks();
+
+  /**
+   * Totals for a business within a date range, read from the rollup. The distinct employee count
+   * cannot be pre-aggregated per day, so it is counted from the paycheck table in the same query;
+   * the company's people are found through a business_person index on company_id and their
+   * paychecks through idx_paycheck_employee_pay_date_id, so only index entries in range are read.
+   */
+  @Query(
+      value =
+          "SELECT COALESCE(SUM(r.paycheck_count), 0) AS paycheckCount, "
+              + "(SELECT COUNT(DISTINCT p.employee_id) FROM business_person bp "
+              + "JOIN paycheck p ON p.employee_id = bp.id "
+              + "WHERE bp.company_id = :businessId "
+              + "AND p.pay_date BETWEEN :startDate AND :endDate) AS employeeCount, "
+              + "COALESCE(SUM(r.gross_pay_cents), 0) AS grossPayCents, "
+              + "COALESCE(SUM(r.bonus_cents), 0) AS bonusCents, "
+              + "COALESCE(SUM(r.tax_deduction_cents), 0) AS taxDeductionCents, "
+              + "COALESCE(SUM(r.insurance_deduction_cents), 0) AS insuranceDeductionCents, "
+              + "COALESCE(SUM(r.net_pay_cents), 0) AS netPayCents "
+              + "FROM payroll_daily_rollup r WHERE r.company_id = :businessId "
+              + "AND r.pay_date BETWEEN :startDate AND :endDate",
+      nativeQuery = true)
+  PaycheckTotals summarize(Long businessId, LocalDate startDate, LocalDate endDate);
+
+  /** Per-day totals for a business within a date range, oldest first */
+  @Query(
+      "SELECT new app.payroll.rollup.PayrollRollupDay(r.id.payDate, SUM(r.paycheckCount), "
+          + "SUM(r.grossPayCents), SUM(r.bonusCents), SUM(r.taxDeductionCents), "
+          + "SUM(r.insuranceDeductionCents), SUM(r.netPayCents)) "
+          + "FROM PayrollRollup r WHERE r.id.companyId = :businessId "
+          + "AND r.id.payDate BETWEEN :startDate AND :endDate AND r.paycheckCount > 0 "
+          + "GROUP BY r.id.payDate ORDER BY r.id.payDate")
+  List<PayrollRollupDay> findDailyTotals(Long businessId, LocalDate startDate, LocalDate endDate);
+}
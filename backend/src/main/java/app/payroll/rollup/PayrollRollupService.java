@@ -0,0 +1,75 @@
+package app.payroll.rollup;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import app.payroll.Paycheck;
+import app.payroll.PaycheckStatus;
+import app.payroll.PaycheckTotals;
+
+/**
+ * Maintains the payroll daily rollup. Every write joins the caller's transaction, so the rollup
+ * changes commit or roll back together with the paychecks they describe.
+ */
+public interface PayrollRollupService {
+
+  /**
+   * Add newly saved paychecks to the rollup
+   *
+   * @param paychecks Saved paychecks
+   */
+  void recordCreated(Collection<Paycheck> paychecks);
+
+  /**
+   * Move a paycheck's contribution after it was edited or changed status
+   *
+   * @param before Contribution captured with {@link PayrollRollupDelta#of(Paycheck)} before the
+   *     change
+   * @param after The paycheck after the change
+   */
+  void recordChanged(PayrollRollupDelta before, Paycheck after);
+
+  /**
+   * Move the contribution of paychecks whose status was changed in bulk
+   *
+   * @param moved Contributions summed per rollup row before the change, keyed by the old status
+   * @param newStatus Status the paychecks now have
+   */
+  void recordStatusChanged(Collection<PayrollRollupDelta> moved, PaycheckStatus newStatus);
+
+  /**
+   * Remove a deleted paycheck from the rollup
+   *
+   * @param paycheck Paycheck being deleted
+   */
+  void recordDeleted(Paycheck paycheck);
+
+  /**
+   * Rebuild the whole rollup from the paycheck table. Paychecks are locked until the rebuild
+   * commits, so writers already in flight finish first and new ones wait for it
+   *
+   * @return Number of rollup rows written
+   */
+  int rebuild();
+
+  /**
+   * Get totals for a business within a date range
+   *
+   * @param businessId ID of the business
+   * @param startDate Start date (inclusive)
+   * @param endDate End date (inclusive)
+   * @return Totals in cents
+   */
+  PaycheckTotals getTotals(Long businessId, LocalDate startDate, LocalDate endDate);
+
+  /**
+   * Get per-day totals for a business within a date range
+   *
+   * @param businessId ID of the business
+   * @param startDate Start date (inclusive)
+   * @param endDate End date (inclusive)
+   * @return One entry per pay date with paychecks, oldest first
+   */
+  List<PayrollRollupDay> getDailyTotals(Long businessId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,153 @@
+package app.payroll.rollup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.business.CompanyDataChangedEvent;
+import app.payroll.Paycheck;
+import app.payroll.PaycheckAmounts;
+import app.payroll.PaycheckRepository;
+import app.payroll.PaycheckStatus;
+import app.payroll.PaycheckTotals;
+import app.payroll.PaycheckTotalsUpsert;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Implementation of PayrollRollupService backed by atomic upserts. Every paycheck write passes
+ * through here, so this is also where companies are told their paychecks changed.
+ */
+@Service
+@Transactional
+public class PayrollRollupServiceImpl implements PayrollRollupService {
+
+  private static final Logger logger = LoggerFactory.getLogger(PayrollRollupServiceImpl.class);
+
+  private static final PaycheckTotalsUpsert UPSERT =
+      new PaycheckTotalsUpsert("payroll_daily_rollup", "company_id", "pay_date", "status");
+
+  private final PayrollRollupRepository rollupRepository;
+  private final PaycheckRepository paycheckRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  public PayrollRollupServiceImpl(
+      PayrollRollupRepository rollupRepository,
+      PaycheckRepository paycheckRepository,
+      ApplicationEventPublisher eventPublisher) {
+    this.rollupRepository = rollupRepository;
+    this.paycheckRepository = paycheckRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  /** Backfill the rollup on startup when paychecks exist but the rollup has never been built */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillIfEmpty() {
+    if (rollupRepository.count() == 0 && paycheckRepository.count() > 0) {
+      logger.info("Payroll rollup is empty, rebuilding from paycheck history");
+      rebuild();
+    }
+  }
+
+  @Override
+  public void recordCreated(Collection<Paycheck> paychecks) {
+    List<PayrollRollupDelta> deltas = new ArrayList<>(paychecks.size());
+    for (Paycheck paycheck : paychecks) {
+      deltas.add(PayrollRollupDelta.of(paycheck));
+    }
+    apply(deltas);
+  }
+
+  @Override
+  public void recordChanged(PayrollRollupDelta before, Paycheck after) {
+    PayrollRollupDelta removed = (before != null) ? before.negate() : null;
+    apply(Arrays.asList(removed, PayrollRollupDelta.of(after)));
+  }
+
+  @Override
+  public void recordStatusChanged(Collection<PayrollRollupDelta> moved, PaycheckStatus newStatus) {
+    List<PayrollRollupDelta> deltas = new ArrayList<>(moved.size() * 2);
+    for (PayrollRollupDelta delta : moved) {
+      if (delta.key().getCompanyId() == null) {
+        continue;
+      }
+      deltas.add(delta.negate());
+      deltas.add(delta.withStatus(newStatus));
+    }
+    apply(deltas);
+  }
+
+  @Override
+  public void recordDeleted(Paycheck paycheck) {
+    PayrollRollupDelta delta = PayrollRollupDelta.of(paycheck);
+    apply(Collections.singletonList(delta != null ? delta.negate() : null));
+  }
+
+  @Override
+  public int rebuild() {
+    long startedAt = System.currentTimeMillis();
+    // Every paycheck write updates these totals in its own transaction, so with the paychecks
+    // locked no write can land between clearing the table and reading the paychecks back
+    paycheckRepository.lockAllForRebuild();
+    rollupRepository.deleteAllRows();
+    int rows = rollupRepository.insertFromPaychecks();
+    logger.info(
+        "Payroll rollup rebuilt: {} rows in {} ms", rows, System.currentTimeMillis() - startedAt);
+    return rows;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public PaycheckTotals getTotals(Long businessId, LocalDate startDate, LocalDate endDate) {
+    return rollupRepository.summarize(businessId, startDate, endDate);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<PayrollRollupDay> getDailyTotals(
+      Long businessId, LocalDate startDate, LocalDate endDate) {
+    return rollupRepository.findDailyTotals(businessId, startDate, endDate);
+  }
+
+  /**
+   * Merge deltas by rollup row so a batch touching many paychecks on the same day adds to its row
+   * once; all rows are then written in a few multi-row upserts. Null deltas (paychecks without a
+   * company) are ignored. Each affected company gets one {@link CompanyDataChangedEvent}, even if
+   * its totals did not move.
+   */
+  private void apply(Collection<PayrollRollupDelta> deltas) {
+    Map<PayrollRollupKey, PaycheckAmounts> merged = new LinkedHashMap<>();
+    Set<Long> companyIds = new LinkedHashSet<>();
+    for (PayrollRollupDelta delta : deltas) {
+      if (delta != null) {
+        merged.merge(delta.key(), delta.amounts(), PaycheckAmounts::plus);
+        if (delta.key().getCompanyId() != null) {
+          companyIds.add(delta.key().getCompanyId());
+        }
+      }
+    }
+    companyIds.forEach(id -> eventPublisher.publishEvent(new CompanyDataChangedEvent(id)));
+
+    UPSERT.applyAll(
+        entityManager,
+        merged,
+        key -> new Object[] {key.getCompanyId(), key.getPayDate(), key.getStatus().name()});
+  }
+}
@@ -0,0 +1,65 @@
+package app.payroll.strategy;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+/** Persisted tax strategy assignment for a business, loaded into the TaxStrategyRegistry */
+@Entity
+@Table(name = "business_tax_strategy")
+public class BusinessTaxStrategy {
+
+  @Id
+  @Column(name = "company_id")
+  private Long companyId;
+
+  @Column(name = "strategy_key", nullable = false, length = 100)
+  private String strategyKey;
+
+  @Column(name = "version", nullable = false)
+  private long version;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  protected BusinessTaxStrategy() {}
+
+  public BusinessTaxStrategy(Long companyId) {
+    this.companyId = companyId;
+  }
+
+  @PrePersist
+  @PreUpdate
+  protected void onSave() {
+    updatedAt = LocalDateTime.now();
+  }
+
+  public Long getCompanyId() {
+    return companyId;
+  }
+
+  public String getStrategyKey() {
+    return strategyKey;
+  }
+
+  public void setStrategyKey(String strategyKey) {
+    this.strategyKey = strategyKey;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+}
@@ -0,0 +1,8 @@
+package app.payroll.strategy;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/** Repository for per-business tax strategy assignments */
+@Repository
+public interface BusinessTaxStrategyRepository extends JpaRepository<BusinessTaxStrategy, Long> {}
@@ -1,5 +1,7 @@
 package app.payroll.strategy;
 
+import app.payroll.Money;
+
 /**
  * Flat tax strategy that applies a uniform tax rate to all income.
  *
@@ -29,6 +31,24 @@ public class FlatTaxStrategy implements TaxCalculationStrategy {
     return grossPay * taxRate;
   }
 
+  @Override
+  public long calculateTaxCents(long grossPayCents) {
+    if (grossPayCents < 0) {
+      throw new IllegalArgumentException("Gross pay cannot be negative");
+    }
+    return Money.applyRate(grossPayCents, taxRate);
+  }
+
+  @Override
+  public void calculateTaxCents(long[] grossPayCents, long[] taxCentsOut) {
+    TaxCalculationStrategy.validateBatch(grossPayCents, taxCentsOut);
+    // Straight multiply-and-round loop, simple enough for the JIT to unroll
+    final double rate = taxRate;
+    for (int i = 0; i < grossPayCents.length; i++) {
+      taxCentsOut[i] = Money.applyRate(grossPayCents[i], rate);
+    }
+  }
+
   public double getTaxRate() {
     return taxRate;
   }
@@ -1,8 +1,11 @@
 package app.payroll.strategy;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.TreeMap;
 
+import app.payroll.Money;
+
 /**
  * Progressive tax strategy that applies different tax rates to different income brackets. Each
  * bracket is taxed at its specific rate, with higher income brackets taxed at higher rates.
@@ -18,22 +21,57 @@ import java.util.TreeMap;
  * brackets.put(50000.0, 0.20); TaxCalculationStrategy strategy = new
  * ProgressiveTaxStrategy(brackets); double tax = strategy.calculateTax(60000.0); // Returns 12000.0
  *
+ * <p>Brackets are compiled once at construction into sorted primitive arrays together with the
+ * cumulative tax owed at each threshold, so a calculation is one binary search plus one
+ * multiply-add and allocates nothing.
+ *
  * @author Qing Mi
  */
 public class ProgressiveTaxStrategy implements TaxCalculationStrategy {
-  // TreeMap: auto-sorts by threshold (ascending), ensures correct bracket order
-  private final Map<Double, Double> taxBrackets;
+  // Upper bound of each bracket, ascending
+  private final double[] thresholds;
+  // Rate applied to income inside each bracket
+  private final double[] rates;
+  // Total tax owed on income exactly equal to each threshold
+  private final double[] cumulativeTax;
+  // Income above the last threshold is taxed at the highest bracket rate
+  private final double topRate;
 
   public ProgressiveTaxStrategy(Map<Double, Double> taxBrackets) {
     if (taxBrackets == null || taxBrackets.isEmpty()) {
       throw new IllegalArgumentException("Tax brackets cannot be null or empty");
     }
 
-    this.taxBrackets = new TreeMap<>(taxBrackets);
-    validateBrackets();
+    // TreeMap: auto-sorts by threshold (ascending), ensures correct bracket order
+    TreeMap<Double, Double> sorted = new TreeMap<>(taxBrackets);
+    validateBrackets(sorted);
+
+    int size = sorted.size();
+    this.thresholds = new double[size];
+    this.rates = new double[size];
+    this.cumulativeTax = new double[size];
+
+    double previousThreshold = 0.0;
+    double runningTax = 0.0;
+    double highestRate = 0.0;
+    int i = 0;
+    for (Map.Entry<Double, Double> bracket : sorted.entrySet()) {
+      double threshold = bracket.getKey();
+      double rate = bracket.getValue();
+
+      runningTax += (threshold - previousThreshold) * rate;
+      thresholds[i] = threshold;
+      rates[i] = rate;
+      cumulativeTax[i] = runningTax;
+      highestRate = Math.max(highestRate, rate);
+
+      previousThreshold = threshold;
+      i++;
+    }
+    this.topRate = highestRate;
   }
 
-  private void validateBrackets() {
+  private static void validateBrackets(Map<Double, Double> taxBrackets) {
     for (Map.Entry<Double, Double> entry : taxBrackets.entrySet()) {
       if (entry.getKey() < 0) {
         throw new IllegalArgumentException("Tax bracket threshold cannot be negative");
@@ -49,44 +87,54 @@ public class ProgressiveTaxStrategy implements TaxCalculationStrategy {
     if (grossPay < 0) {
       throw new IllegalArgumentException("Gross pay cannot be negative");
     }
+    return taxFor(grossPay);
+  }
 
-    if (grossPay == 0) {
-      return 0.0;
+  @Override
+  public long calculateTaxCents(long grossPayCents) {
+    if (grossPayCents < 0) {
+      throw new IllegalArgumentException("Gross pay cannot be negative");
     }
+    return Money.toCents(taxFor(Money.toDollars(grossPayCents)));
+  }
 
-    double totalTax = 0.0;
-    double remainingIncome = grossPay;
-    double previousThreshold = 0.0;
-
-    // TreeMap iteration: guaranteed ascending order by threshold
-    for (Map.Entry<Double, Double> bracket : taxBrackets.entrySet()) {
-      double threshold = bracket.getKey();
-      double rate = bracket.getValue();
-
-      if (remainingIncome <= 0) {
-        break;
-      }
-
-      double taxableInBracket = Math.min(remainingIncome, threshold - previousThreshold);
-      if (taxableInBracket > 0) {
-        totalTax += taxableInBracket * rate;
-        remainingIncome -= taxableInBracket;
-      }
+  @Override
+  public void calculateTaxCents(long[] grossPayCents, long[] taxCentsOut) {
+    TaxCalculationStrategy.validateBatch(grossPayCents, taxCentsOut);
+    for (int i = 0; i < grossPayCents.length; i++) {
+      taxCentsOut[i] = Money.toCents(taxFor(Money.toDollars(grossPayCents[i])));
+    }
+  }
 
-      previousThreshold = threshold;
+  // Tax for an already validated (non-negative) gross amount
+  private double taxFor(double grossPay) {
+    if (grossPay == 0) {
+      return 0.0;
     }
 
-    if (remainingIncome > 0) {
-      Double highestRate = taxBrackets.values().stream().max(Double::compareTo).orElse(0.0);
-      totalTax += remainingIncome * highestRate;
+    // Index of the first threshold >= grossPay, i.e. the bracket grossPay falls into
+    int index = Arrays.binarySearch(thresholds, grossPay);
+    if (index < 0) {
+      index = -index - 1;
     }
 
-    return totalTax;
+    int last = thresholds.length - 1;
+    if (index > last) {
+      return cumulativeTax[last] + (grossPay - thresholds[last]) * topRate;
+    }
+    if (index == 0) {
+      return grossPay * rates[0];
+    }
+    return cumulativeTax[index - 1] + (grossPay - thresholds[index - 1]) * rates[index];
   }
 
-  // Returns defensive copy to prevent external modification
+  // Returns a fresh copy to prevent external modification
   public Map<Double, Double> getTaxBrackets() {
-    return new TreeMap<>(taxBrackets);
+    Map<Double, Double> brackets = new TreeMap<>();
+    for (int i = 0; i < thresholds.length; i++) {
+      brackets.put(thresholds[i], rates[i]);
+    }
+    return brackets;
   }
 
   @Override
@@ -1,5 +1,7 @@
 package app.payroll.strategy;
 
+import app.payroll.Money;
+
 /**
  * Strategy interface for calculating tax based on gross pay.
  *
@@ -12,5 +14,52 @@ package app.payroll.strategy;
 public interface TaxCalculationStrategy {
   double calculateTax(double grossPay);
 
+  /**
+   * Calculate tax on an amount in cents, rounded half up to the nearest cent. Payroll works in
+   * cents end to end; the default converts through the dollar method and implementations may
+   * override it with exact integer arithmetic.
+   *
+   * @param grossPayCents gross amount in cents
+   * @return tax in cents
+   * @throws IllegalArgumentException if the gross amount is negative
+   */
+  default long calculateTaxCents(long grossPayCents) {
+    return Money.toCents(calculateTax(Money.toDollars(grossPayCents)));
+  }
+
+  /**
+   * Calculate tax for many gross amounts at once, writing the tax for {@code grossPayCents[i]} into
+   * {@code taxCentsOut[i]}. Bulk payroll uses this so the whole roster is validated once and then
+   * taxed in a single primitive loop instead of one virtual call per employee. Implementations
+   * should override it with a specialised loop; the default simply delegates to the scalar method.
+   *
+   * @param grossPayCents gross amounts to tax, in cents
+   * @param taxCentsOut destination array, at least as long as {@code grossPayCents}
+   * @throws IllegalArgumentException if the arrays are invalid or any gross amount is negative
+   */
+  default void calculateTaxCents(long[] grossPayCents, long[] taxCentsOut) {
+    validateBatch(grossPayCents, taxCentsOut);
+    for (int i = 0; i < grossPayCents.length; i++) {
+      taxCentsOut[i] = calculateTaxCents(grossPayCents[i]);
+    }
+  }
+
   String getStrategyName();
+
+  /**
+   * Validate a batch up front so implementations can run their loops without per-element checks.
+   */
+  static void validateBatch(long[] grossPay, long[] taxOut) {
+    if (grossPay == null || taxOut == null) {
+      throw new IllegalArgumentException("Gross pay and tax output arrays cannot be null");
+    }
+    if (taxOut.length < grossPay.length) {
+      throw new IllegalArgumentException("Tax output array is shorter than gross pay array");
+    }
+    for (long gross : grossPay) {
+      if (gross < 0) {
+        throw new IllegalArgumentException("Gross pay cannot be negative");
+      }
+    }
+  }
 }
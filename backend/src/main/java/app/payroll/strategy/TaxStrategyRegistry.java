@@ -0,0 +1,142 @@
+package app.payroll.strategy;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Registry of the tax strategy assigned to each business.
+ *
+ * <p>Assignments are kept in an immutable map that is replaced wholesale on every change
+ * (copy-on-write) and published through a volatile field, so a payroll calculation resolves its
+ * strategy with a single volatile read and never takes a lock. Only writers synchronize. Businesses
+ * without an assignment use the default flat tax strategy at version 0.
+ */
+@Component
+public class TaxStrategyRegistry {
+
+  /** Strategy used by businesses that never chose one */
+  public static final String DEFAULT_STRATEGY_KEY = "flatTaxStrategy";
+
+  private static final Logger logger = LoggerFactory.getLogger(TaxStrategyRegistry.class);
+
+  private final Map<String, TaxCalculationStrategy> strategies;
+  private final BusinessTaxStrategyRepository repository;
+  private final TaxStrategySnapshot defaultSnapshot;
+
+  private volatile Map<Long, TaxStrategySnapshot> snapshots = Map.of();
+
+  /**
+   * Create the registry over every tax strategy bean
+   *
+   * @param strategies All tax strategy beans keyed by bean name
+   * @param repository Persisted assignments
+   */
+  public TaxStrategyRegistry(
+      Map<String, TaxCalculationStrategy> strategies, BusinessTaxStrategyRepository repository) {
+    TaxCalculationStrategy defaultStrategy = strategies.get(DEFAULT_STRATEGY_KEY);
+    if (defaultStrategy == null) {
+      throw new IllegalStateException(
+          "Default tax strategy bean '" + DEFAULT_STRATEGY_KEY + "' is not defined");
+    }
+    this.strategies = Map.copyOf(strategies);
+    this.repository = repository;
+    this.defaultSnapshot = new TaxStrategySnapshot(DEFAULT_STRATEGY_KEY, defaultStrategy, 0L);
+  }
+
+  /** Load persisted assignments */
+  @PostConstruct
+  void load() {
+    Map<Long, TaxStrategySnapshot> loaded = new HashMap<>();
+    for (BusinessTaxStrategy assignment : repository.findAll()) {
+      TaxCalculationStrategy strategy = strategies.get(assignment.getStrategyKey());
+      if (strategy == null) {
+        logger.warn(
+            "Unknown tax strategy '{}' assigned to business ID: {}, using default",
+            assignment.getStrategyKey(),
+            assignment.getCompanyId());
+        continue;
+      }
+      loaded.put(
+          assignment.getCompanyId(),
+          new TaxStrategySnapshot(assignment.getStrategyKey(), strategy, assignment.getVersion()));
+    }
+    snapshots = Collections.unmodifiableMap(loaded);
+    logger.info("Loaded {} business tax strategy assignments", loaded.size());
+  }
+
+  /**
+   * Get the strategy currently assigned to a business. Lock-free; safe to call from any thread.
+   *
+   * @param businessId ID of the business, or null for the default
+   * @return The business's snapshot, or the default snapshot if none is assigned
+   */
+  public TaxStrategySnapshot current(Long businessId) {
+    if (businessId == null) {
+      return defaultSnapshot;
+    }
+    TaxStrategySnapshot snapshot = snapshots.get(businessId);
+    return (snapshot != null) ? snapshot : defaultSnapshot;
+  }
+
+  /**
+   * Assign a strategy to a business. The assignment is persisted first and only then published, so
+   * readers never see an assignment that failed to save.
+   *
+   * @param businessId ID of the business
+   * @param strategyKey Strategy bean name
+   * @return The new snapshot with its version
+   * @throws IllegalArgumentException if the strategy key is unknown
+   */
+  public synchronized TaxStrategySnapshot assign(Long businessId, String strategyKey) {
+    TaxCalculationStrategy strategy = strategies.get(strategyKey);
+    if (strategy == null) {
+      throw new IllegalArgumentException("Unknown tax strategy: " + strategyKey);
+    }
+
+    BusinessTaxStrategy assignment =
+        repository.findById(businessId).orElseGet(() -> new BusinessTaxStrategy(businessId));
+    assignment.setStrategyKey(strategyKey);
+    assignment.setVersion(assignment.getVersion() + 1);
+    repository.save(assignment);
+
+    TaxStrategySnapshot snapshot =
+        new TaxStrategySnapshot(strategyKey, strategy, assignment.getVersion());
+    Map<Long, TaxStrategySnapshot> next = new HashMap<>(snapshots);
+    next.put(businessId, snapshot);
+    snapshots = Collections.unmodifiableMap(next);
+
+    logger.info(
+        "Tax strategy for business ID: {} set to '{}' (version {})",
+        businessId,
+        snapshot.strategyName(),
+        snapshot.version());
+    return snapshot;
+  }
+
+  /**
+   * Look up a registered strategy by bean name without assigning it
+   *
+   * @param strategyKey Strategy bean name
+   * @return The strategy
+   * @throws IllegalArgumentException if the strategy key is unknown
+   */
+  public TaxCalculationStrategy strategy(String strategyKey) {
+    TaxCalculationStrategy strategy = strategies.get(strategyKey);
+    if (strategy == null) {
+      throw new IllegalArgumentException("Unknown tax strategy: " + strategyKey);
+    }
+    return strategy;
+  }
+
+  /** Get the snapshot used by businesses without an assignment */
+  public TaxStrategySnapshot getDefault() {
+    return defaultSnapshot;
+  }
+}
@@ -0,0 +1,16 @@
+package app.payroll.strategy;
+
+/**
+ * Immutable assignment of a tax strategy to a business. The version increases every time the
+ * business switches strategy, so paychecks can record exactly which assignment produced them.
+ *
+ * @param key Strategy bean name, e.g. "flatTaxStrategy"
+ * @param strategy The strategy itself (strategies are immutable and safe to share)
+ * @param version Assignment version, 0 for the application default
+ */
+public record TaxStrategySnapshot(String key, TaxCalculationStrategy strategy, long version) {
+
+  public String strategyName() {
+    return strategy.getStrategyName();
+  }
+}
@@ -0,0 +1,25 @@
+package app.payroll.ytd;
+
+import app.payroll.PaycheckTotalsRow;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+/**
+ * Year-to-date paycheck totals per employee and tax year. Rows are maintained incrementally as
+ * paychecks are created, edited, voided or deleted, so reading an employee's year so far reads one
+ * row instead of summing their paycheck history. Voided paychecks do not count. Amounts are in
+ * cents.
+ */
+@Entity
+@Table(name = "payroll_ytd")
+public class PayrollYtd extends PaycheckTotalsRow {
+
+  @EmbeddedId private PayrollYtdKey id;
+
+  protected PayrollYtd() {}
+
+  public PayrollYtdKey getId() {
+    return id;
+  }
+}
@@ -0,0 +1,36 @@
+package app.payroll.ytd;
+
+import app.payroll.Paycheck;
+import app.payroll.PaycheckAmounts;
+import app.payroll.PaycheckStatus;
+
+/**
+ * Amounts counted towards one employee's tax year. Used both for the totals read back and for the
+ * change applied to them: a paycheck contributes amounts with a count of one, and removing it
+ * applies the negated amounts.
+ */
+public record PayrollYtdAmounts(PayrollYtdKey key, PaycheckAmounts amounts) {
+
+  /**
+   * Capture what a paycheck currently contributes to its employee's year to date
+   *
+   * @param paycheck Paycheck to capture
+   * @return Amounts of the paycheck, or null if it is voided or has no employee
+   */
+  public static PayrollYtdAmounts of(Paycheck paycheck) {
+    if (paycheck.getStatus() == PaycheckStatus.VOIDED || paycheck.getEmployeeId() == null) {
+      return null;
+    }
+    return new PayrollYtdAmounts(
+        new PayrollYtdKey(paycheck.getEmployeeId(), paycheck.getPayDate().getYear()),
+        PaycheckAmounts.of(paycheck));
+  }
+
+  public PayrollYtdAmounts negate() {
+    return new PayrollYtdAmounts(key, amounts.negate());
+  }
+
+  public PayrollYtdAmounts plus(PayrollYtdAmounts other) {
+    return new PayrollYtdAmounts(key, amounts.plus(other.amounts));
+  }
+}
@@ -0,0 +1,49 @@
+package app.payroll.ytd;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+/** Composite key of a year-to-date row: one row per employee and tax year */
+@Embeddable
+public class PayrollYtdKey implements Serializable {
+
+  @Column(name = "employee_id", nullable = false)
+  private Long employeeId;
+
+  @Column(name = "tax_year", nullable = false)
+  private int taxYear;
+
+  protected PayrollYtdKey() {}
+
+  public PayrollYtdKey(Long employeeId, int taxYear) {
+    this.employeeId = employeeId;
+    this.taxYear = taxYear;
+  }
+
+  public Long getEmployeeId() {
+    return employeeId;
+  }
+
+  public int getTaxYear() {
+    return taxYear;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof PayrollYtdKey other)) {
+      return false;
+    }
+    return Objects.equals(employeeId, other.employeeId) && taxYear == other.taxYear;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(employeeId, taxYear);
+  }
+}
@@ -0,0 +1,31 @@
+package app.payroll.ytd;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+/** Repository for year-to-date payroll totals */
+@Repository
+public interface PayrollYtdRepository extends JpaRepository<PayrollYtd, PayrollYtdKey> {
+
+  /** Remove every year-to-date row ahead of a rebuild */
+  @Modifying
+  @Query(value = "DELETE FROM payroll_ytd", nativeQuery = true)
+  int deleteAllRows();
+
+  /** Recompute every year-to-date row from the paycheck table in one statement */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO payroll_ytd (employee_id, tax_year, paycheck_count, gross_pay_cents, "
+              + "bonus_cents, tax_deduction_cents, insurance_deduction_cents, net_pay_cents) "
+              + "SELECT p.employee_id, YEAR(p.pay_date), COUNT(*), "
+              + "SUM(ROUND(p.gross_pay * 100)), COALESCE(SUM(ROUND(p.bonus * 100)), 0), "
+              + "SUM(ROUND(p.tax_deduction * 100)), SUM(ROUND(p.insurance_deduction * 100)), "
+              + "SUM(ROUND(p.net_pay * 100)) "
+              + "FROM paycheck p WHERE p.status <> 'VOIDED' "
+              + "GROUP BY p.employee_id, YEAR(p.pay_date)",
+      nativeQuery = true)
+  int insertFromPaychecks();
+}
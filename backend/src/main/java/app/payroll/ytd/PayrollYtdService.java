@@ -0,0 +1,60 @@
+package app.payroll.ytd;
+
+import java.util.Collection;
+
+import app.payroll.Paycheck;
+import app.payroll.PaycheckAmounts;
+
+/**
+ * Maintains year-to-date payroll totals per employee and tax year. Every write joins the caller's
+ * transaction, so the totals change atomically with the paychecks they describe.
+ */
+public interface PayrollYtdService {
+
+  /**
+   * Add newly saved paychecks to their employees' year to date
+   *
+   * @param paychecks Saved paychecks
+   */
+  void recordCreated(Collection<Paycheck> paychecks);
+
+  /**
+   * Replace a paycheck's contribution after it was edited or changed status
+   *
+   * @param before Contribution captured with {@link PayrollYtdAmounts#of(Paycheck)} before the
+   *     change
+   * @param after The paycheck after the change
+   */
+  void recordChanged(PayrollYtdAmounts before, Paycheck after);
+
+  /**
+   * Remove the contribution of paychecks that were voided in bulk
+   *
+   * @param voided Contributions summed per employee and tax year before the paychecks were voided
+   */
+  void recordVoided(Collection<PayrollYtdAmounts> voided);
+
+  /**
+   * Remove a deleted paycheck from its employee's year to date
+   *
+   * @param paycheck Paycheck being deleted
+   */
+  void recordDeleted(Paycheck paycheck);
+
+  /**
+   * Rebuild all year-to-date totals from the paycheck table. Paychecks are locked until the rebuild
+   * commits, so writers already in flight finish first and new ones wait for it
+   *
+   * @return Number of rows written
+   */
+  int rebuild();
+
+  /**
+   * Get an employee's totals for a tax year
+   *
+   * @param employeeId ID of the employee
+   * @param taxYear Tax year
+   * @return Totals in cents, all zero if nothing was paid that year
+   */
+  PaycheckAmounts getYearToDate(Long employeeId, int taxYear);
+}
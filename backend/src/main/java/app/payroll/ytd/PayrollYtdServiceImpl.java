@@ -0,0 +1,122 @@
+package app.payroll.ytd;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import app.payroll.Paycheck;
+import app.payroll.PaycheckAmounts;
+import app.payroll.PaycheckRepository;
+import app.payroll.PaycheckTotalsUpsert;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/** Implementation of PayrollYtdService backed by atomic upserts */
+@Service
+@Transactional
+public class PayrollYtdServiceImpl implements PayrollYtdService {
+
+  private static final Logger logger = LoggerFactory.getLogger(PayrollYtdServiceImpl.class);
+
+  private static final PaycheckTotalsUpsert UPSERT =
+      new PaycheckTotalsUpsert("payroll_ytd", "employee_id", "tax_year");
+
+  private final PayrollYtdRepository ytdRepository;
+  private final PaycheckRepository paycheckRepository;
+
+  @PersistenceContext private EntityManager entityManager;
+
+  public PayrollYtdServiceImpl(
+      PayrollYtdRepository ytdRepository, PaycheckRepository paycheckRepository) {
+    this.ytdRepository = ytdRepository;
+    this.paycheckRepository = paycheckRepository;
+  }
+
+  /** Backfill the totals on startup when paychecks exist but the totals have never been built */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillIfEmpty() {
+    if (ytdRepository.count() == 0 && paycheckRepository.count() > 0) {
+      logger.info("Payroll year-to-date totals are empty, rebuilding from paycheck history");
+      rebuild();
+    }
+  }
+
+  @Override
+  public void recordCreated(Collection<Paycheck> paychecks) {
+    List<PayrollYtdAmounts> changes = new ArrayList<>(paychecks.size());
+    for (Paycheck paycheck : paychecks) {
+      changes.add(PayrollYtdAmounts.of(paycheck));
+    }
+    apply(changes);
+  }
+
+  @Override
+  public void recordChanged(PayrollYtdAmounts before, Paycheck after) {
+    PayrollYtdAmounts removed = (before != null) ? before.negate() : null;
+    apply(Arrays.asList(removed, PayrollYtdAmounts.of(after)));
+  }
+
+  @Override
+  public void recordVoided(Collection<PayrollYtdAmounts> voided) {
+    List<PayrollYtdAmounts> changes = new ArrayList<>(voided.size());
+    for (PayrollYtdAmounts amounts : voided) {
+      changes.add(amounts.negate());
+    }
+    apply(changes);
+  }
+
+  @Override
+  public void recordDeleted(Paycheck paycheck) {
+    PayrollYtdAmounts amounts = PayrollYtdAmounts.of(paycheck);
+    apply(Collections.singletonList(amounts != null ? amounts.negate() : null));
+  }
+
+  @Override
+  public int rebuild() {
+    long startedAt = System.currentTimeMillis();
+    paycheckRepository.lockAllForRebuild();
+    ytdRepository.deleteAllRows();
+    int rows = ytdRepository.insertFromPaychecks();
+    logger.info(
+        "Payroll year-to-date totals rebuilt: {} rows in {} ms",
+        rows,
+        System.currentTimeMillis() - startedAt);
+    return rows;
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public PaycheckAmounts getYearToDate(Long employeeId, int taxYear) {
+    return ytdRepository
+        .findById(new PayrollYtdKey(employeeId, taxYear))
+        .map(PayrollYtd::getAmounts)
+        .orElse(PaycheckAmounts.ZERO);
+  }
+
+  /**
+   * Merge changes by employee and tax year so a batch touching many paychecks of the same employee
+   * adds to its row once; all rows are then written in a few multi-row upserts. Null changes
+   * (voided paychecks) are ignored.
+   */
+  private void apply(Collection<PayrollYtdAmounts> changes) {
+    Map<PayrollYtdKey, PaycheckAmounts> merged = new LinkedHashMap<>();
+    for (PayrollYtdAmounts change : changes) {
+      if (change != null) {
+        merged.merge(change.key(), change.amounts(), PaycheckAmounts::plus);
+      }
+    }
+    UPSERT.applyAll(
+        entityManager, merged, key -> new Object[] {key.getEmployeeId(), key.getTaxYear()});
+  }
+}
@@ -0,0 +1,12 @@
+package app.training;
+
+import java.time.LocalDate;
+
+/** Read-only view of a training coming due, with the name of the person it is assigned to */
+public record ExpiringTraining(
+    Long id,
+    String trainingName,
+    Long personId,
+    String personName,
+    LocalDate expiryDate,
+    boolean required) {}
@@ -0,0 +1,17 @@
+package app.training;
+
+/** Aggregate projection over a business's trainings, computed by the database */
+public interface TrainingCounts {
+
+  /** Not completed and not expired */
+  long getPending();
+
+  /** Not completed and expiring within the window given to the query */
+  long getExpiringSoon();
+
+  /** Required and past their expiry date */
+  long getOverdueRequired();
+
+  /** Required and expiring within the window given to the query */
+  long getExpiringRequired();
+}
@@ -3,6 +3,7 @@ package app.training;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -35,4 +36,33 @@ public interface TrainingRepository extends JpaRepository<Training, Long> {
       @Param("businessId") Long businessId,
       @Param("start") LocalDate start,
       @Param("end") LocalDate end);
+
+  /** Training counts for a business; "soon" means an expiry date between today and until */
+  @Query(
+      "SELECT COALESCE(SUM(CASE WHEN t.completionDate IS NULL "
+          + "AND (t.expiryDate IS NULL OR t.expiryDate >= :today) THEN 1 ELSE 0 END), 0) "
+          + "AS pending, "
+          + "COALESCE(SUM(CASE WHEN t.completionDate IS NULL "
+          + "AND t.expiryDate BETWEEN :today AND :until THEN 1 ELSE 0 END), 0) AS expiringSoon, "
+          + "COALESCE(SUM(CASE WHEN t.required = true "
+          + "AND t.expiryDate < :today THEN 1 ELSE 0 END), 0) AS overdueRequired, "
+          + "COALESCE(SUM(CASE WHEN t.required = true "
+          + "AND t.expiryDate BETWEEN :today AND :until THEN 1 ELSE 0 END), 0) AS expiringRequired "
+          + "FROM Training t WHERE t.person.company.id = :businessId")
+  TrainingCounts countForBusiness(
+      @Param("businessId") Long businessId,
+      @Param("today") LocalDate today,
+      @Param("until") LocalDate until);
+
+  /** Incomplete trainings of a business expiring between dates, soonest first */
+  @Query(
+      "SELECT new app.training.ExpiringTraining(t.id, t.trainingName, p.id, p.name, "
+          + "t.expiryDate, t.required) FROM Training t JOIN t.person p "
+          + "WHERE p.company.id = :businessId AND t.completionDate IS NULL "
+          + "AND t.expiryDate BETWEEN :start AND :end ORDER BY t.expiryDate, t.id")
+  List<ExpiringTraining> findIncompleteExpiringBetween(
+      @Param("businessId") Long businessId,
+      @Param("start") LocalDate start,
+      @Param("end") LocalDate end,
+      Pageable pageable);
 }
@@ -1,10 +1,14 @@
 package app.training;
 
 import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import app.activity.ActivityKind;
+import app.activity.ActivityLogService;
 import app.business.BusinessPerson;
 import app.business.BusinessPersonRepository;
+import app.business.CompanyDataChangedEvent;
 import app.common.exception.ResourceNotFoundException;
 import app.training.dto.CreateTrainingRequest;
 import app.training.dto.TrainingDTO;
@@ -16,11 +20,16 @@ public class TrainingServiceImpl implements TrainingService {
 
   private final TrainingRepository trainingRepository;
   private final BusinessPersonRepository businessPersonRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final ActivityLogService activityLogService;
 
   public TrainingServiceImpl(TrainingRepository trainingRepository,
-      BusinessPersonRepository businessPersonRepository) {
+      BusinessPersonRepository businessPersonRepository, ApplicationEventPublisher eventPublisher,
+      ActivityLogService activityLogService) {
     this.trainingRepository = trainingRepository;
     this.businessPersonRepository = businessPersonRepository;
+    this.eventPublisher = eventPublisher;
+    this.activityLogService = activityLogService;
   }
 
   @Override
@@ -30,6 +39,12 @@ public class TrainingServiceImpl implements TrainingService {
     Training training = createTrainingFromRequest(request);
     training.setPerson(person);
     Training saved = trainingRepository.save(training);
+    publishCompanyDataChanged(saved);
+    if (person.getCompany() != null) {
+      activityLogService.record(person.getCompany().getId(), ActivityKind.TRAINING_ASSIGNED,
+          saved.getId(),
+          "Training assigned: " + saved.getTrainingName() + " to " + person.getName());
+    }
     return convertToDTO(saved);
   }
 
@@ -88,16 +103,25 @@ public class TrainingServiceImpl implements TrainingService {
     }
 
     Training saved = trainingRepository.save(training);
+    publishCompanyDataChanged(saved);
     return convertToDTO(saved);
   }
 
   @Override
   public void deleteTraining(Long trainingId) {
-    if (!trainingRepository.existsById(trainingId)) {
-      throw new ResourceNotFoundException("Training", "id", trainingId);
-    }
+    Training training = trainingRepository.findById(trainingId)
+        .orElseThrow(() -> new ResourceNotFoundException("Training", "id", trainingId));
 
-    trainingRepository.deleteById(trainingId);
+    trainingRepository.delete(training);
+    publishCompanyDataChanged(training);
+  }
+
+  /** Tell per-company views (the dashboard feed) that a training of the company changed */
+  private void publishCompanyDataChanged(Training training) {
+    BusinessPerson person = training.getPerson();
+    if (person != null && person.getCompany() != null) {
+      eventPublisher.publishEvent(new CompanyDataChangedEvent(person.getCompany().getId()));
+    }
   }
 
   @Override
@@ -0,0 +1,90 @@
+package app.business.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Cursors are handed to clients as opaque strings, so decoding must give back exactly what was
+ * encoded and refuse anything else, including cursors made for another order.
+ */
+class PersonCursorTest {
+
+  // A value of each field as written by PersonSortField.valueOf, including separators in text
+  private static final Map<PersonSortField, String> SAMPLE_VALUES =
+      Map.of(
+          PersonSortField.NAME, "O'Brien: Jane",
+          PersonSortField.POSITION, "Engineer",
+          PersonSortField.DEPARTMENT, "R&D/Platform",
+          PersonSortField.TITLE, "VP:Sales",
+          PersonSortField.STATUS, "OnLeave",
+          PersonSortField.HIRE_DATE, "2020-02-29",
+          PersonSortField.SALARY, "85000.5");
+
+  @Test
+  void everyFieldAndDirectionRoundTrips() {
+    for (PersonSortField field : PersonSortField.values()) {
+      for (boolean ascending : new boolean[] {true, false}) {
+        PersonSort sort = new PersonSort(field, ascending);
+        PersonCursor cursor = new PersonCursor(sort, SAMPLE_VALUES.get(field), 42L);
+        assertEquals(cursor, PersonCursor.decode(cursor.encode(), sort));
+      }
+    }
+  }
+
+  @Test
+  void nullValueRoundTrips() {
+    PersonSort sort = new PersonSort(PersonSortField.HIRE_DATE, false);
+    PersonCursor cursor = new PersonCursor(sort, null, 7L);
+    assertEquals(cursor, PersonCursor.decode(cursor.encode(), sort));
+  }
+
+  @Test
+  void encodedCursorIsUrlSafe() {
+    PersonSort sort = new PersonSort(PersonSortField.NAME, true);
+    String encoded = new PersonCursor(sort, "??>>~~ name with spaces", 1L).encode();
+    assertFalse(encoded.matches(".*[+/= ].*"), encoded);
+  }
+
+  @Test
+  void cursorForAnotherSortIsRejected() {
+    PersonSort sort = new PersonSort(PersonSortField.HIRE_DATE, true);
+    String encoded = new PersonCursor(sort, "2020-01-01", 3L).encode();
+
+    IllegalArgumentException otherDirection =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> PersonCursor.decode(encoded, new PersonSort(PersonSortField.HIRE_DATE, false)));
+    assertEquals("Cursor was made for a different sort order", otherDirection.getMessage());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> PersonCursor.decode(encoded, new PersonSort(PersonSortField.NAME, true)));
+  }
+
+  @Test
+  void malformedCursorsAreRejected() {
+    PersonSort sort = new PersonSort(PersonSortField.HIRE_DATE, true);
+    for (String raw :
+        new String[] {
+          "HIRE_DATE:asc", // no ID
+          "HIRE_DATE:up:1", // unknown direction
+          "HIRE_DATE:asc:one", // ID is not a number
+          "HIRE_DAY:asc:1", // unknown field
+          "HIRE_DATE:asc:1:yesterday" // value does not parse as the field
+        }) {
+      String encoded =
+          Base64.getUrlEncoder()
+              .withoutPadding()
+              .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+      assertThrows(
+          IllegalArgumentException.class, () -> PersonCursor.decode(encoded, sort), () -> raw);
+    }
+    assertThrows(IllegalArgumentException.class, () -> PersonCursor.decode("not base64!", sort));
+  }
+}
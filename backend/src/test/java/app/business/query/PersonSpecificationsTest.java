@@ -0,0 +1,146 @@
+package app.business.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+
+import app.business.Company;
+import app.employee.Employee;
+import app.employee.EmployeeRepository;
+
+/**
+ * Keyset pages must visit every person exactly once, in the same order as an unpaged listing, also
+ * when a page ends on a person whose sort field is null. Runs on H2 in MySQL mode, which orders
+ * nulls like MySQL: first ascending, last descending.
+ */
+@DataJpaTest(
+    properties = {
+      "spring.datasource.url=jdbc:h2:mem:person_specifications;MODE=MySQL;"
+          + "DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;NON_KEYWORDS=USER",
+      "spring.datasource.driver-class-name=org.h2.Driver",
+      "spring.datasource.username=sa",
+      "spring.datasource.password=",
+      "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+      "spring.jpa.show-sql=false"
+    })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PersonSpecificationsTest {
+
+  private static final int PAGE_SIZE = 2;
+
+  // Ties and nulls on purpose, so pages end inside runs of equal and of null values
+  private static final LocalDate[] HIRE_DATES = {
+    null,
+    LocalDate.of(2020, 1, 1),
+    LocalDate.of(2020, 1, 1),
+    null,
+    LocalDate.of(2021, 6, 30),
+    LocalDate.of(2019, 3, 15),
+    null,
+    LocalDate.of(2020, 1, 1)
+  };
+
+  @Autowired private TestEntityManager entityManager;
+  @Autowired private EmployeeRepository employeeRepository;
+
+  private Long companyId;
+
+  @BeforeEach
+  void seed() {
+    Company company = entityManager.persist(new Company("Acme", "1 Main Street"));
+    companyId = company.getId();
+    // People of another company must not leak into the pages
+    Company other = entityManager.persist(new Company("Other", "2 Main Street"));
+
+    for (int i = 0; i < HIRE_DATES.length; i++) {
+      entityManager.persist(employee(company, i, HIRE_DATES[i]));
+      entityManager.persist(employee(other, 100 + i, HIRE_DATES[i]));
+    }
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  void ascendingPagesPutNullsFirst() {
+    PersonSort sort = new PersonSort(PersonSortField.HIRE_DATE, true);
+    List<Employee> paged = pageThrough(sort);
+
+    assertEquals(ids(unpaged(sort)), ids(paged));
+    for (int i = 0; i < 3; i++) {
+      assertNull(paged.get(i).getHireDate());
+    }
+  }
+
+  @Test
+  void descendingPagesPutNullsLast() {
+    PersonSort sort = new PersonSort(PersonSortField.HIRE_DATE, false);
+    List<Employee> paged = pageThrough(sort);
+
+    assertEquals(ids(unpaged(sort)), ids(paged));
+    for (int i = paged.size() - 3; i < paged.size(); i++) {
+      assertNull(paged.get(i).getHireDate());
+    }
+  }
+
+  @Test
+  void pagesByNameMatchTheUnpagedOrder() {
+    for (boolean ascending : new boolean[] {true, false}) {
+      PersonSort sort = new PersonSort(PersonSortField.NAME, ascending);
+      assertEquals(ids(unpaged(sort)), ids(pageThrough(sort)));
+    }
+  }
+
+  /** Follow cursors page by page, the way a client does, until a page comes back short */
+  private List<Employee> pageThrough(PersonSort sort) {
+    List<Employee> all = new ArrayList<>();
+    String cursor = null;
+    while (true) {
+      Specification<Employee> spec = PersonSpecifications.inCompany(companyId);
+      if (cursor != null) {
+        spec = spec.and(PersonSpecifications.after(PersonCursor.decode(cursor, sort)));
+      }
+      List<Employee> page =
+          employeeRepository.findBy(
+              spec, query -> query.sortBy(sort.toSort()).limit(PAGE_SIZE).all());
+      all.addAll(page);
+      if (page.size() < PAGE_SIZE) {
+        return all;
+      }
+      cursor = PersonCursor.after(sort, page.get(PAGE_SIZE - 1)).encode();
+    }
+  }
+
+  private List<Employee> unpaged(PersonSort sort) {
+    return employeeRepository.findAll(
+        PersonSpecifications.<Employee>inCompany(companyId), sort.toSort());
+  }
+
+  private static Employee employee(Company company, int index, LocalDate hireDate) {
+    // Names repeat so the ID tiebreaker decides within a name
+    Employee employee =
+        new Employee(
+            "Person " + (index % 3),
+            "person" + index + "@example.com",
+            "secret",
+            50_000.0,
+            "Engineer");
+    employee.setCompany(company);
+    employee.setHireDate(hireDate);
+    return employee;
+  }
+
+  private static List<Long> ids(List<Employee> employees) {
+    return employees.stream().map(Employee::getId).toList();
+  }
+}
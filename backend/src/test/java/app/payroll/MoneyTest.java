@@ -0,0 +1,89 @@
+package app.payroll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Paycheck amounts are held as cents but stored in the existing dollar columns, so converting a
+ * stored dollar value to cents and back must give the same value, however often it is repeated.
+ */
+class MoneyTest {
+
+  private static final long SEED = 20240601L;
+
+  // Largest amount the tests go up to: $10 billion, far above any paycheck or payroll total
+  private static final long MAX_CENTS = 1_000_000_000_000L;
+
+  private final MoneyConverter converter = new MoneyConverter();
+
+  @Test
+  void everyCentUpToTwentyThousandDollarsRoundTrips() {
+    for (long cents = 0; cents <= 2_000_000L; cents++) {
+      Double column = converter.convertToDatabaseColumn(cents);
+      assertEquals(cents, converter.convertToEntityAttribute(column).longValue());
+      assertEquals(cents, Money.toCents(Money.toDollars(cents)));
+    }
+  }
+
+  @Test
+  void storedDollarValuesRoundTripWithoutDrift() {
+    Random random = new Random(SEED);
+    for (int i = 0; i < 1_000_000; i++) {
+      long cents = (long) (random.nextDouble() * MAX_CENTS);
+      // A dollar column as written by the database: the double nearest the two-decimal value
+      double stored = new BigDecimal(cents).movePointLeft(2).doubleValue();
+
+      Long loaded = converter.convertToEntityAttribute(stored);
+      assertEquals(cents, loaded.longValue(), () -> "Loading " + stored);
+      assertEquals(
+          stored,
+          converter.convertToDatabaseColumn(loaded).doubleValue(),
+          () -> "Saving " + stored);
+    }
+  }
+
+  @Test
+  void repeatedLoadAndSaveDoesNotDrift() {
+    Random random = new Random(SEED + 1);
+    for (int i = 0; i < 10_000; i++) {
+      double stored = Money.toDollars((long) (random.nextDouble() * MAX_CENTS));
+      double column = stored;
+      for (int save = 0; save < 100; save++) {
+        column = converter.convertToDatabaseColumn(converter.convertToEntityAttribute(column));
+      }
+      assertEquals(stored, column);
+    }
+  }
+
+  @Test
+  void unroundedLegacyValuesSettleOnTheNearestCent() {
+    // Rows written before amounts were held as cents carry raw double arithmetic
+    double[] legacy = {0.1 + 0.2, 85_000.0 * 0.05 / 12, 1234.5650000001, 1234.5649999999, 0.005};
+    long[] expected = {30L, 35_417L, 123_457L, 123_456L, 1L};
+    for (int i = 0; i < legacy.length; i++) {
+      long cents = converter.convertToEntityAttribute(legacy[i]);
+      assertEquals(expected[i], cents, "Loading " + legacy[i]);
+      double saved = converter.convertToDatabaseColumn(cents);
+      assertEquals(cents, converter.convertToEntityAttribute(saved).longValue());
+    }
+  }
+
+  @Test
+  void applyRateRoundsHalfUpToTheCent() {
+    assertEquals(1_700_000L, Money.applyRate(8_500_000L, 0.20));
+    assertEquals(3L, Money.applyRate(50L, 0.05));
+    assertEquals(2L, Money.applyRate(49L, 0.05));
+    assertEquals(0L, Money.applyRate(0L, 0.20));
+  }
+
+  @Test
+  void nullsPassThrough() {
+    assertNull(converter.convertToDatabaseColumn(null));
+    assertNull(converter.convertToEntityAttribute(null));
+  }
+}
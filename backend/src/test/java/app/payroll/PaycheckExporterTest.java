@@ -0,0 +1,36 @@
+package app.payroll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/** CSV fields written by the export, which is meant to be opened in a spreadsheet */
+class PaycheckExporterTest {
+
+  @Test
+  void plainValuesAreWrittenAsIs() {
+    assertEquals("Jane Doe", PaycheckExporter.csvField("Jane Doe"));
+    assertEquals("O'Brien-Smith", PaycheckExporter.csvField("O'Brien-Smith"));
+    assertEquals("", PaycheckExporter.csvField(""));
+    assertEquals("", PaycheckExporter.csvField(null));
+  }
+
+  @Test
+  void separatorsQuotesAndLineBreaksAreQuoted() {
+    assertEquals("\"Doe, Jane\"", PaycheckExporter.csvField("Doe, Jane"));
+    assertEquals("\"Jane \"\"JD\"\" Doe\"", PaycheckExporter.csvField("Jane \"JD\" Doe"));
+    assertEquals("\"Jane\nDoe\"", PaycheckExporter.csvField("Jane\nDoe"));
+  }
+
+  @Test
+  void formulaPrefixesAreEscaped() {
+    assertEquals("'=1+1", PaycheckExporter.csvField("=1+1"));
+    assertEquals("'+1", PaycheckExporter.csvField("+1"));
+    assertEquals("'-1", PaycheckExporter.csvField("-1"));
+    assertEquals("'@SUM(A1)", PaycheckExporter.csvField("@SUM(A1)"));
+    assertEquals("'\tx", PaycheckExporter.csvField("\tx"));
+    assertEquals(
+        "\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\"",
+        PaycheckExporter.csvField("=HYPERLINK(\"http://x\",\"y\")"));
+  }
+}
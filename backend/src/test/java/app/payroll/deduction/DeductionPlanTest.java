@@ -0,0 +1,201 @@
+package app.payroll.deduction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import app.payroll.Money;
+import app.payroll.MoneyConverter;
+import app.payroll.Paycheck;
+import jakarta.persistence.Column;
+
+/**
+ * Compiled deductions must apply caps, gross bands and ordering exactly as configured, and a
+ * business without configured deductions must keep getting the flat insurance figures.
+ */
+class DeductionPlanTest {
+
+  private static final long SEED = 20240615L;
+
+  @Test
+  void capsLimitTheAmountTaken() {
+    DeductionPlan plan =
+        plan(deduction("RET", DeductionType.PERCENT_OF_GROSS, 0.10, null, 5_000L, null, null));
+
+    assertEquals(5_000L, evaluate(plan, 100_000L, 0L)[0]);
+    assertEquals(3_000L, evaluate(plan, 30_000L, 0L)[0]);
+    assertEquals(5_000L, evaluate(plan, 50_000L, 0L)[0]);
+  }
+
+  @Test
+  void grossBandsIncludeTheMinimumAndExcludeTheMaximum() {
+    DeductionPlan plan =
+        plan(deduction("TIER", DeductionType.FIXED, null, 1_000L, null, 100_000L, 200_000L));
+
+    assertEquals(0L, evaluate(plan, 99_999L, 0L)[0]);
+    assertEquals(1_000L, evaluate(plan, 100_000L, 0L)[0]);
+    assertEquals(1_000L, evaluate(plan, 199_999L, 0L)[0]);
+    assertEquals(0L, evaluate(plan, 200_000L, 0L)[0]);
+  }
+
+  @Test
+  void percentOfDisposableIsTakenAfterTaxAndEarlierDeductions() {
+    DeductionPlan plan =
+        plan(
+            deduction("FIX", DeductionType.FIXED, null, 10_000L, null, null, null),
+            deduction("GARN", DeductionType.PERCENT_OF_DISPOSABLE, 0.10, null, null, null, null));
+
+    long[] amounts = new long[plan.size()];
+    long total = plan.evaluate(100_000L, 20_000L, amounts);
+
+    // 100,000 gross - 20,000 tax - 10,000 fixed leaves 70,000 disposable
+    assertArrayEquals(new long[] {10_000L, 7_000L}, amounts);
+    assertEquals(17_000L, total);
+  }
+
+  @Test
+  void deductionsNeverTakeNetPayBelowZero() {
+    DeductionPlan plan =
+        plan(
+            deduction("A", DeductionType.FIXED, null, 8_000L, null, null, null),
+            deduction("B", DeductionType.FIXED, null, 5_000L, null, null, null),
+            deduction("C", DeductionType.PERCENT_OF_GROSS, 0.50, null, null, null, null));
+
+    long[] amounts = new long[plan.size()];
+    long total = plan.evaluate(100_000L, 90_000L, amounts);
+    assertArrayEquals(new long[] {8_000L, 2_000L, 0L}, amounts);
+    assertEquals(0L, 100_000L - 90_000L - total);
+
+    // Tax alone already exceeds gross pay
+    total = plan.evaluate(1_000L, 2_000L, amounts);
+    assertArrayEquals(new long[] {0L, 0L, 0L}, amounts);
+    assertEquals(0L, total);
+
+    Random random = new Random(SEED);
+    for (int i = 0; i < 100_000; i++) {
+      long gross = random.nextInt(1_000_000);
+      long tax = random.nextInt(1_000_000);
+      total = plan.evaluate(gross, tax, amounts);
+      assertTrue(total <= Math.max(gross - tax, 0L), () -> Arrays.toString(amounts));
+    }
+  }
+
+  @Test
+  void encodedBreakdownRoundTrips() {
+    DeductionPlan plan =
+        plan(
+            deduction("INS", DeductionType.PERCENT_OF_GROSS, 0.05, null, null, null, null),
+            deduction("UNION", DeductionType.FIXED, null, 2_500L, null, 500_000L, null),
+            deduction("401K", DeductionType.PERCENT_OF_GROSS, 0.04, null, null, null, null));
+
+    long[] amounts = evaluate(plan, 100_000L, 20_000L);
+    String encoded = plan.encode(amounts);
+    assertEquals("INS=5000;401K=4000", encoded);
+    assertEquals(List.of("INS", "401K"), List.copyOf(DeductionPlan.decode(encoded).keySet()));
+    assertEquals(Map.of("INS", 5_000L, "401K", 4_000L), DeductionPlan.decode(encoded));
+
+    assertNull(plan.encode(new long[plan.size()]));
+    assertTrue(DeductionPlan.decode(null).isEmpty());
+    assertTrue(DeductionPlan.decode("").isEmpty());
+  }
+
+  @Test
+  void longestBreakdownFitsTheColumn() throws NoSuchFieldException {
+    List<CompanyDeduction> deductions = new ArrayList<>();
+    for (int i = 0; i < DeductionPlan.MAX_DEDUCTIONS; i++) {
+      String code =
+          (i + "_".repeat(DeductionPlan.MAX_CODE_LENGTH))
+              .substring(0, DeductionPlan.MAX_CODE_LENGTH);
+      deductions.add(deduction(code, DeductionType.FIXED, null, 1L, null, null, null));
+    }
+    DeductionPlan plan = DeductionPlan.compile(deductions, 0L);
+    long[] amounts = new long[plan.size()];
+    Arrays.fill(amounts, Long.MAX_VALUE);
+
+    String encoded = plan.encode(amounts);
+    int columnLength =
+        Paycheck.class.getDeclaredField("deductionBreakdown").getAnnotation(Column.class).length();
+    assertTrue(
+        encoded.length() <= DeductionPlan.MAX_ENCODED_LENGTH,
+        () -> encoded.length() + " > " + DeductionPlan.MAX_ENCODED_LENGTH);
+    assertTrue(encoded.length() <= columnLength, () -> encoded.length() + " > " + columnLength);
+    assertEquals(DeductionPlan.MAX_DEDUCTIONS, DeductionPlan.decode(encoded).size());
+
+    deductions.add(deduction("ONE_TOO_MANY", DeductionType.FIXED, null, 1L, null, null, null));
+    assertThrows(IllegalArgumentException.class, () -> DeductionPlan.compile(deductions, 0L));
+  }
+
+  @Test
+  void invalidCodesAreRejected() {
+    for (String code : new String[] {null, " ", "A=B", "A;B", "X".repeat(21)}) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> plan(deduction(code, DeductionType.FIXED, null, 1L, null, null, null)),
+          () -> "Code " + code);
+    }
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            plan(
+                deduction("A", DeductionType.FIXED, null, 1L, null, null, null),
+                deduction("A", DeductionType.FIXED, null, 1L, null, null, null)));
+  }
+
+  @Test
+  void defaultPlanReproducesTheFlatInsuranceFigures() {
+    // Before deductions were configurable insurance was gross * 0.05 in dollars, stored unrounded
+    MoneyConverter converter = new MoneyConverter();
+    DeductionPlan plan = DeductionPlan.insuranceOnly(0.05, 0L);
+    long[] amounts = new long[plan.size()];
+
+    Random random = new Random(SEED + 1);
+    for (int i = 0; i < 100_000; i++) {
+      long gross = 100L + (long) (random.nextDouble() * 5_000_000L);
+      long tax = Money.applyRate(gross, 0.20);
+      long insurance = plan.evaluate(gross, tax, amounts);
+
+      // Exactly 5%, rounded half up to the cent
+      assertEquals((gross * 5 + 50) / 100, insurance, () -> "Gross " + gross);
+      assertEquals("INS=" + insurance, plan.encode(amounts));
+
+      // The unrounded legacy value loads as the same cent, except on exact half cents where its
+      // binary rounding could fall either way
+      if (gross * 5 % 100 != 50) {
+        long legacy = converter.convertToEntityAttribute(Money.toDollars(gross) * 0.05);
+        assertEquals(legacy, insurance, () -> "Gross " + gross);
+      }
+    }
+  }
+
+  private static CompanyDeduction deduction(
+      String code,
+      DeductionType type,
+      Double rate,
+      Long amountCents,
+      Long capCents,
+      Long minGrossCents,
+      Long maxGrossCents) {
+    return new CompanyDeduction(
+        1L, 0, code, code, type, rate, amountCents, capCents, minGrossCents, maxGrossCents);
+  }
+
+  private static DeductionPlan plan(CompanyDeduction... deductions) {
+    return DeductionPlan.compile(List.of(deductions), 0L);
+  }
+
+  private static long[] evaluate(DeductionPlan plan, long grossCents, long taxCents) {
+    long[] amounts = new long[plan.size()];
+    plan.evaluate(grossCents, taxCents, amounts);
+    return amounts;
+  }
+}
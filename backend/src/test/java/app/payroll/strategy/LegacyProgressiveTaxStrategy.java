@@ -0,0 +1,58 @@
+package app.payroll.strategy;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The progressive tax calculation as it was before brackets were compiled into arrays: a walk over
+ * a TreeMap of brackets per call. Kept as the reference the current implementation is checked and
+ * benchmarked against.
+ */
+final class LegacyProgressiveTaxStrategy {
+
+  // TreeMap: auto-sorts by threshold (ascending), ensures correct bracket order
+  private final Map<Double, Double> taxBrackets;
+
+  LegacyProgressiveTaxStrategy(Map<Double, Double> taxBrackets) {
+    this.taxBrackets = new TreeMap<>(taxBrackets);
+  }
+
+  double calculateTax(double grossPay) {
+    if (grossPay < 0) {
+      throw new IllegalArgumentException("Gross pay cannot be negative");
+    }
+
+    if (grossPay == 0) {
+      return 0.0;
+    }
+
+    double totalTax = 0.0;
+    double remainingIncome = grossPay;
+    double previousThreshold = 0.0;
+
+    // TreeMap iteration: guaranteed ascending order by threshold
+    for (Map.Entry<Double, Double> bracket : taxBrackets.entrySet()) {
+      double threshold = bracket.getKey();
+      double rate = bracket.getValue();
+
+      if (remainingIncome <= 0) {
+        break;
+      }
+
+      double taxableInBracket = Math.min(remainingIncome, threshold - previousThreshold);
+      if (taxableInBracket > 0) {
+        totalTax += taxableInBracket * rate;
+        remainingIncome -= taxableInBracket;
+      }
+
+      previousThreshold = threshold;
+    }
+
+    if (remainingIncome > 0) {
+      Double highestRate = taxBrackets.values().stream().max(Double::compareTo).orElse(0.0);
+      totalTax += remainingIncome * highestRate;
+    }
+
+    return totalTax;
+  }
+}
@@ -0,0 +1,143 @@
+package app.payroll.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+import app.payroll.Money;
+
+/**
+ * Checks the compiled-bracket calculation against {@link LegacyProgressiveTaxStrategy} over random
+ * bracket sets and incomes from a fixed seed, plus every bracket edge.
+ */
+class ProgressiveTaxStrategyTest {
+
+  private static final long SEED = 20240601L;
+  private static final int BRACKET_SETS = 500;
+  private static final int INCOMES_PER_SET = 400;
+
+  // The two walk the brackets in a different order, so sums may differ in the last bits
+  private static final double RELATIVE_TOLERANCE = 1e-9;
+
+  @Test
+  void matchesLegacyCalculationForRandomIncomes() {
+    Random random = new Random(SEED);
+    for (int set = 0; set < BRACKET_SETS; set++) {
+      Map<Double, Double> brackets = randomBrackets(random);
+      ProgressiveTaxStrategy strategy = new ProgressiveTaxStrategy(brackets);
+      LegacyProgressiveTaxStrategy legacy = new LegacyProgressiveTaxStrategy(brackets);
+
+      for (double income : incomes(random, brackets)) {
+        double expected = legacy.calculateTax(income);
+        double actual = strategy.calculateTax(income);
+        assertEquals(
+            expected,
+            actual,
+            RELATIVE_TOLERANCE * Math.max(1.0, Math.abs(expected)),
+            () -> "Tax on " + income + " with brackets " + brackets);
+      }
+    }
+  }
+
+  @Test
+  void matchesLegacyCalculationInCents() {
+    Random random = new Random(SEED + 1);
+    for (int set = 0; set < BRACKET_SETS; set++) {
+      Map<Double, Double> brackets = randomBrackets(random);
+      ProgressiveTaxStrategy strategy = new ProgressiveTaxStrategy(brackets);
+      LegacyProgressiveTaxStrategy legacy = new LegacyProgressiveTaxStrategy(brackets);
+
+      List<Double> incomes = incomes(random, brackets);
+      long[] grossPayCents = new long[incomes.size()];
+      for (int i = 0; i < grossPayCents.length; i++) {
+        grossPayCents[i] = Money.toCents(incomes.get(i));
+      }
+      long[] batch = new long[grossPayCents.length];
+      strategy.calculateTaxCents(grossPayCents, batch);
+
+      for (int i = 0; i < grossPayCents.length; i++) {
+        long gross = grossPayCents[i];
+        double legacyCents = legacy.calculateTax(Money.toDollars(gross)) * 100.0;
+        long actual = strategy.calculateTaxCents(gross);
+        assertEquals(actual, batch[i], () -> "Batch and scalar differ on " + gross + " cents");
+        // Exactly on a half cent, the last-bit difference above may round either way
+        if (Math.abs(legacyCents - Math.floor(legacyCents) - 0.5) > 1e-6) {
+          assertEquals(
+              Math.round(legacyCents),
+              actual,
+              () -> "Tax on " + gross + " cents with brackets " + brackets);
+        }
+      }
+    }
+  }
+
+  @Test
+  void taxesIncomeAboveTheLastThresholdAtTheHighestRate() {
+    Map<Double, Double> brackets = new TreeMap<>(Map.of(10_000.0, 0.10, 50_000.0, 0.20));
+    ProgressiveTaxStrategy strategy = new ProgressiveTaxStrategy(brackets);
+
+    assertEquals(0.0, strategy.calculateTax(0.0));
+    assertEquals(1_000.0, strategy.calculateTax(10_000.0), 1e-9);
+    assertEquals(9_000.0, strategy.calculateTax(50_000.0), 1e-9);
+    assertEquals(11_000.0, strategy.calculateTax(60_000.0), 1e-9);
+    assertArrayEquals(
+        new long[] {0L, 100_000L, 1_100_000L}, batch(strategy, 0L, 1_000_000L, 6_000_000L));
+  }
+
+  @Test
+  void rejectsNegativeIncome() {
+    ProgressiveTaxStrategy strategy = new ProgressiveTaxStrategy(Map.of(10_000.0, 0.10));
+
+    assertThrows(IllegalArgumentException.class, () -> strategy.calculateTax(-0.01));
+    assertThrows(IllegalArgumentException.class, () -> strategy.calculateTaxCents(-1L));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> strategy.calculateTaxCents(new long[] {100L, -1L}, new long[2]));
+  }
+
+  /** 1 to 15 brackets with cent thresholds up to $500,000, sometimes starting at zero */
+  private static Map<Double, Double> randomBrackets(Random random) {
+    Map<Double, Double> brackets = new TreeMap<>();
+    int count = 1 + random.nextInt(15);
+    if (random.nextInt(5) == 0) {
+      brackets.put(0.0, random.nextDouble());
+    }
+    while (brackets.size() < count) {
+      double threshold = Money.toDollars((long) (random.nextDouble() * 50_000_000L));
+      brackets.put(threshold, random.nextInt(10) == 0 ? 0.0 : random.nextDouble());
+    }
+    return brackets;
+  }
+
+  /** Random incomes up to $1,000,000, zero, and each threshold with the cents either side */
+  private static List<Double> incomes(Random random, Map<Double, Double> brackets) {
+    List<Double> incomes = new ArrayList<>();
+    incomes.add(0.0);
+    incomes.add(0.01);
+    for (double threshold : brackets.keySet()) {
+      incomes.add(threshold);
+      incomes.add(threshold + 0.01);
+      if (threshold >= 0.01) {
+        incomes.add(threshold - 0.01);
+      }
+    }
+    for (int i = 0; i < INCOMES_PER_SET; i++) {
+      incomes.add(Money.toDollars((long) (random.nextDouble() * 100_000_000L)));
+    }
+    return incomes;
+  }
+
+  private static long[] batch(TaxCalculationStrategy strategy, long... grossPayCents) {
+    long[] taxCents = new long[grossPayCents.length];
+    strategy.calculateTaxCents(grossPayCents, taxCents);
+    return taxCents;
+  }
+}
@@ -1,6 +1,103 @@
 import api from "./axios";
-import type { Activity } from "../types/dashboard";
+import type { Activity, DashboardEventHandlers, DashboardKpis } from "../types/dashboard";
+import { authStorage } from "../utils/authStorage";
 
 export const getRecentActivity = (businessId: number) =>
   api.get<Activity[]>(`/api/dashboard/activity?businessId=${businessId}`);
 
+export const getDashboardKpis = (businessId: number) =>
+  api.get<DashboardKpis>(`/api/dashboard/kpis?businessId=${businessId}`);
+
+// Reconnect delays grow from up to 1s to up to 60s while connecting keeps failing
+const RECONNECT_BASE_MS = 1000;
+const RECONNECT_MAX_MS = 60000;
+
+// Full jitter, so clients that were rejected or cut off together do not come back in step
+const reconnectDelay = (attempt: number) =>
+  Math.random() * Math.min(RECONNECT_MAX_MS, RECONNECT_BASE_MS * 2 ** attempt);
+
+/**
+ * Subscribe to pushed dashboard updates for a business. Uses fetch rather than EventSource so the
+ * token can be sent as a header, and reconnects whenever the stream ends, backing off while the
+ * server rejects or cannot be reached. Returns a function that closes the stream.
+ */
+export const subscribeToDashboardEvents = (
+  businessId: number,
+  handlers: DashboardEventHandlers,
+): (() => void) => {
+  const controller = new AbortController();
+
+  const dispatch = (event: string, data: string) => {
+    if (event === "activity") {
+      handlers.onActivity?.(JSON.parse(data) as Activity);
+    } else if (event === "changed") {
+      handlers.onChanged?.();
+    } else if (event === "resync") {
+      handlers.onResync?.();
+    }
+  };
+
+  const connect = async () => {
+    let attempt = 0;
+    // An open stream dropped, so updates may have been missed; refetch once the next one opens
+    let missed = false;
+    while (!controller.signal.aborted) {
+      let opened = false;
+      let retryAfterMs = 0;
+      try {
+        const response = await fetch(
+          `${api.defaults.baseURL}/api/dashboard/events?businessId=${businessId}`,
+          {
+            headers: {
+              Accept: "text/event-stream",
+              Authorization: `Bearer ${authStorage.getToken()}`,
+            },
+            signal: controller.signal,
+          },
+        );
+        if (!response.ok || !response.body) {
+          // Sent with 429 when the server holds as many streams as it allows
+          retryAfterMs = Number(response.headers.get("Retry-After")) * 1000 || 0;
+          throw new Error(`Dashboard event stream failed: ${response.status}`);
+        }
+        opened = true;
+        attempt = 0;
+        if (missed) {
+          missed = false;
+          handlers.onResync?.();
+        }
+
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = "";
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += value;
+          // Events are separated by a blank line; lines starting with ":" are heartbeats
+          let end;
+          while ((end = buffer.indexOf("\n\n")) >= 0) {
+            const lines = buffer.slice(0, end).split("\n");
+            buffer = buffer.slice(end + 2);
+            let event = "message";
+            const data: string[] = [];
+            for (const line of lines) {
+              if (line.startsWith("event:")) event = line.slice(6).trim();
+              else if (line.startsWith("data:")) data.push(line.slice(5).trimStart());
+            }
+            if (data.length > 0) dispatch(event, data.join("\n"));
+          }
+        }
+      } catch (error) {
+        if (controller.signal.aborted) return;
+        console.error("Dashboard event stream interrupted:", error);
+      }
+      // The server also ends streams periodically; either way, catch up after reconnecting
+      if (opened) missed = true;
+      const delay = retryAfterMs + reconnectDelay(attempt++);
+      await new Promise((resolve) => setTimeout(resolve, delay));
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+};
@@ -1,9 +1,11 @@
 import api from "./axios";
 import type {
   Employee,
+  EmployeePage,
   CreateEmployeeRequest,
   UpdateEmployeeRequest,
 } from "../types/employee";
+import type { PersonListParams } from "../types/person_status";
 
 export const createEmployee = (data: CreateEmployeeRequest) =>
   api.post<Employee>("/api/employees", data);
@@ -22,6 +24,17 @@ export const deleteEmployee = (id: number) =>
 export const getEmployeesByBusiness = (businessId: number) =>
   api.get<Employee[]>(`/api/employees/business/${businessId}`);
 
+export const getEmployeePage = (params: PersonListParams = {}) =>
+  api.get<EmployeePage>("/api/employees/page", { params });
+
+export const getEmployeePageByBusiness = (
+  businessId: number,
+  params: PersonListParams = {}
+) =>
+  api.get<EmployeePage>(`/api/employees/business/${businessId}/page`, {
+    params,
+  });
+
 export const getEmployeesByManager = (managerId: number) =>
   api.get<Employee[]>(`/api/employees/manager/${managerId}`);
 
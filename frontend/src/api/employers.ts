@@ -1,10 +1,12 @@
 import api from "./axios";
 import type { 
   Employer, 
+  EmployerPage,
   CreateEmployerRequest, 
   UpdateEmployerRequest 
 } from "../types/employer";
 import type { Employee } from "../types/employee";
+import type { PersonListParams } from "../types/person_status";
 
 export const createEmployer = (data: CreateEmployerRequest) => 
   api.post<Employer>("/api/employers", data);
@@ -24,6 +26,17 @@ export const deleteEmployer = (id: number) =>
 export const getEmployersByBusiness = (businessId: number) => 
   api.get<Employer[]>(`/api/employers/business/${businessId}`);
 
+export const getEmployerPage = (params: PersonListParams = {}) =>
+  api.get<EmployerPage>("/api/employers/page", { params });
+
+export const getEmployerPageByBusiness = (
+  businessId: number,
+  params: PersonListParams = {}
+) =>
+  api.get<EmployerPage>(`/api/employers/business/${businessId}/page`, {
+    params,
+  });
+
 export const getEmployersByDepartment = (department: string) => 
   api.get<Employer[]>(`/api/employers/department/${department}`);
 
@@ -1,6 +1,7 @@
 import api from "./axios";
 import type {
   Paycheck,
+  PaycheckPage,
   PaycheckStatus,
   BonusDistributionResponse,
   PayrollSummary,
@@ -10,6 +11,11 @@ import type {
   TaxStrategiesResponse,
   TaxStrategySwitchResponse,
   DeletePaycheckResponse,
+  PayrollSimulation,
+  PayrollSimulationRequest,
+  PayrollYearToDate,
+  Deduction,
+  DeductionPlan,
 } from "../types/payroll";
 export const previewPayroll = (employeeId: number, additionalPay?: number) => {
   const params = additionalPay ? { additionalPay } : {};
@@ -21,15 +27,20 @@ export const calculatePayroll = (employeeId: number, additionalPay?: number) =>
   return api.post<Paycheck>(`/api/payroll/calculate/${employeeId}`, null, { params });
 };
 
+export const simulatePayroll = (businessId: number, data: PayrollSimulationRequest) =>
+  api.post<PayrollSimulation>(`/api/payroll/simulate/${businessId}`, data);
+
 export const distributeBonuses = (data: DistributeBonusRequest) =>
   api.post<BonusDistributionResponse>("/api/payroll/bonuses", data);
 
 /**
- * Get current tax strategy
+ * Get the current tax strategy of a business
  * Returns TaxStrategyResponse DTO from backend
  */
-export const getCurrentTaxStrategy = () =>
-  api.get<TaxStrategyResponse>("/api/payroll/tax-strategy");
+export const getCurrentTaxStrategy = (businessId: number) =>
+  api.get<TaxStrategyResponse>("/api/payroll/tax-strategy", {
+    params: { businessId }
+  });
 
 /**
  * Get available tax strategies
@@ -38,11 +49,20 @@ export const getCurrentTaxStrategy = () =>
 export const getAvailableTaxStrategies = () =>
   api.get<TaxStrategiesResponse>("/api/payroll/tax-strategies");
 
-export const switchTaxStrategy = (strategy: string) =>
+export const switchTaxStrategy = (businessId: number, strategy: string) =>
   api.put<TaxStrategySwitchResponse>("/api/payroll/tax-strategy", null, {
-    params: { strategy }
+    params: { businessId, strategy }
   });
 
+export const getDeductions = (businessId: number) =>
+  api.get<DeductionPlan>(`/api/payroll/deductions/${businessId}`);
+
+/**
+ * Replace all deductions of a business; an empty list restores the default insurance deduction
+ */
+export const setDeductions = (businessId: number, deductions: Deduction[]) =>
+  api.put<DeductionPlan>(`/api/payroll/deductions/${businessId}`, { deductions });
+
 export const getPayrollHistory = (employeeId: number) =>
   api.get<Paycheck[]>(`/api/payroll/history/${employeeId}`);
 
@@ -55,6 +75,17 @@ export const getPayrollHistoryByDateRange = (
     params: { startDate, endDate }
   });
 
+export const getPayrollHistoryPage = (
+  employeeId: number,
+  params: { cursor?: string; size?: number; startDate?: string; endDate?: string } = {}
+) =>
+  api.get<PaycheckPage>(`/api/payroll/history/${employeeId}/page`, { params });
+
+export const getPayrollYearToDate = (employeeId: number, year?: number) =>
+  api.get<PayrollYearToDate>(`/api/payroll/ytd/${employeeId}`, {
+    params: year ? { year } : {}
+  });
+
 export const getPayrollSummary = (
   businessId: number,
   startDate: string,
@@ -64,6 +95,17 @@ export const getPayrollSummary = (
     params: { startDate, endDate }
   });
 
+export const exportPaychecks = (
+  businessId: number,
+  startDate: string,
+  endDate: string,
+  format: "csv" | "ndjson" = "csv"
+) =>
+  api.get<Blob>(`/api/payroll/export/${businessId}`, {
+    params: { startDate, endDate, format },
+    responseType: "blob"
+  });
+
 export const updatePaycheck = (paycheckId: number, data: UpdatePaycheckRequest) =>
   api.put<Paycheck>(`/api/payroll/paycheck/${paycheckId}`, null, {
     params: data
@@ -1,21 +1,19 @@
 import { useState, useEffect } from 'react';
-import { getRecentActivity } from '../api/dashboard';
+import { getDashboardKpis, getRecentActivity, subscribeToDashboardEvents } from '../api/dashboard';
 import { getEmployer } from '../api/employers';
-import { getEmployeesByBusiness } from '../api/employees';
-import { getEmployersByBusiness } from '../api/employers';
-import { getPayrollSummary } from '../api/payroll';
-import { getAllTrainings } from '../api/training';
-import type { Activity } from '../types/dashboard';
-import type { Training } from '../types/training';
+import type { Activity, ExpiringTraining } from '../types/dashboard';
 
 interface DashboardStats {
   totalEmployees: number;
   totalEmployers: number;
   monthlyPayroll: number;
   pendingTrainings: number;
-  expiringTrainings: number; // For trend display
+  expiringTrainings: number; // Expiring within 30 days; also the trend display
 }
 
+// Bursts of changes (e.g. a payroll run) are refetched once
+const REFETCH_DEBOUNCE_MS = 1000;
+
 export const useDashboard = () => {
   const [stats, setStats] = useState<DashboardStats>({
     totalEmployees: 0,
@@ -26,16 +24,21 @@ export const useDashboard = () => {
   });
   
   const [recentActivity, setRecentActivity] = useState<Activity[]>([]);
-  const [pendingTrainings, setPendingTrainings] = useState<Training[]>([]);
+  const [pendingTrainings, setPendingTrainings] = useState<ExpiringTraining[]>([]);
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
-    const fetchDashboardData = async () => {
-      setLoading(true);
+    let cancelled = false;
+    let unsubscribe: (() => void) | undefined;
+    let refetchTimer: ReturnType<typeof setTimeout> | undefined;
+
+    // Returns the business ID the dashboard was loaded for, if any
+    const fetchDashboardData = async (showLoading = true): Promise<number | null> => {
+      if (showLoading) setLoading(true);
+      let businessId: number | null = null;
       try {
         // Get businessId from user
         const userStr = localStorage.getItem('user');
-        let businessId: number | null = null;
         
         if (userStr) {
           const user = JSON.parse(userStr);
@@ -93,80 +96,16 @@ export const useDashboard = () => {
             setRecentActivity([]);
           }
 
-          // Fetch dashboard stats
+          // Fetch dashboard stats: counts and totals computed by the server in one request
           try {
-            // Get current month start and end dates
-            const currentDate = new Date();
-            const year = currentDate.getFullYear();
-            const month = currentDate.getMonth();
-            const startDate = new Date(year, month, 1).toISOString().split('T')[0];
-            const endDate = new Date(year, month + 1, 0).toISOString().split('T')[0];
-
-            // Fetch all stats in parallel
-            const [employeesResponse, employersResponse, payrollSummaryResponse, trainingsResponse] = await Promise.all([
-              getEmployeesByBusiness(businessId),
-              getEmployersByBusiness(businessId),
-              getPayrollSummary(businessId, startDate, endDate).catch(() => null), // Allow to fail gracefully
-              getAllTrainings().catch(() => ({ data: [] })), // Allow to fail gracefully
-            ]);
-
-            // Calculate pending trainings: not completed, not expired, not expiring soon
-            // Filter trainings for this business only - match personId with employee/employer IDs
-            const businessEmployeeIds = new Set(employeesResponse.data.map((e: { id: number }) => e.id));
-            const businessEmployerIds = new Set(employersResponse.data.map((e: { id: number }) => e.id));
-            const businessTrainings = trainingsResponse.data.filter((t: Training) => {
-              // Match personId (number) with employee/employer IDs
-              return t.personId && (businessEmployeeIds.has(Number(t.personId)) || businessEmployerIds.has(Number(t.personId)));
-            });
-
-            // Calculate pending and expiring trainings
-            const now = new Date();
-            
-            // Filter for expiring soon trainings (expiring within 30 days)
-            const expiringSoonTrainingsList = businessTrainings.filter((t: Training) => {
-              if (t.completed || t.expired) return false;
-              // Must have expiry date
-              if (!t.expiryDate) return false;
-              // Expiring within 30 days
-              const expiryDate = new Date(t.expiryDate);
-              const daysUntilExpiry = Math.ceil(
-                (expiryDate.getTime() - now.getTime()) / (1000 * 60 * 60 * 24)
-              );
-              return daysUntilExpiry > 0 && daysUntilExpiry <= 30;
-            });
-
-            // Filter for pending trainings (not completed, not expired, not expiring soon)
-            const pendingTrainingsList = businessTrainings.filter((t: Training) => {
-              if (t.completed || t.expired) return false;
-              // If no expiry date, it's pending
-              if (!t.expiryDate) return true;
-              // If expiry date is more than 30 days away, it's pending
-              const expiryDate = new Date(t.expiryDate);
-              const daysUntilExpiry = Math.ceil(
-                (expiryDate.getTime() - now.getTime()) / (1000 * 60 * 60 * 24)
-              );
-              return daysUntilExpiry > 30;
-            });
-
-            // Sort expiring soon trainings by expiry date (soonest first)
-            const sortedExpiringSoonTrainings = expiringSoonTrainingsList.sort((a, b) => {
-              const dateA = a.expiryDate ? new Date(a.expiryDate).getTime() : Infinity;
-              const dateB = b.expiryDate ? new Date(b.expiryDate).getTime() : Infinity;
-              return dateA - dateB;
-            });
-
-            setPendingTrainings(sortedExpiringSoonTrainings);
-
-            // Total pending + expiring count
-            const totalPendingAndExpiring = pendingTrainingsList.length + expiringSoonTrainingsList.length;
-            const expiringCount = expiringSoonTrainingsList.length;
-
+            const { data: kpis } = await getDashboardKpis(businessId);
+            setPendingTrainings(kpis.trainings.expiringSoonest);
             setStats({
-              totalEmployees: employeesResponse.data.length,
-              totalEmployers: employersResponse.data.length,
-              monthlyPayroll: payrollSummaryResponse?.data?.totalNetPay || 0,
-              pendingTrainings: totalPendingAndExpiring,
-              expiringTrainings: expiringCount,
+              totalEmployees: kpis.headcount.employees,
+              totalEmployers: kpis.headcount.employers,
+              monthlyPayroll: kpis.payroll.netPay,
+              pendingTrainings: kpis.trainings.pending,
+              expiringTrainings: kpis.trainings.expiringSoon,
             });
           } catch (error) {
             console.error('Failed to fetch dashboard stats:', error);
@@ -195,11 +134,39 @@ export const useDashboard = () => {
       } catch (error) {
         console.error("Failed to load dashboard", error);
       } finally {
-        setLoading(false);
+        if (showLoading) setLoading(false);
       }
+      return businessId;
+    };
+
+    const scheduleRefetch = () => {
+      clearTimeout(refetchTimer);
+      refetchTimer = setTimeout(() => fetchDashboardData(false), REFETCH_DEBOUNCE_MS);
     };
 
-    fetchDashboardData();
+    // Load once, then keep the dashboard current from pushed updates instead of refetching
+    fetchDashboardData().then((businessId) => {
+      if (!businessId || cancelled) return;
+      unsubscribe = subscribeToDashboardEvents(businessId, {
+        onActivity: (activity) => {
+          if (activity.type === 'TRAINING') return;
+          // The newest past event, so it belongs at the end of the past-first ordering
+          setRecentActivity((current) =>
+            current.some((a) => a.type === activity.type && a.id === activity.id)
+              ? current
+              : [...current, activity]
+          );
+        },
+        onChanged: scheduleRefetch,
+        onResync: scheduleRefetch,
+      });
+    });
+
+    return () => {
+      cancelled = true;
+      unsubscribe?.();
+      clearTimeout(refetchTimer);
+    };
   }, []);
 
   return { stats, recentActivity, pendingTrainings, loading };
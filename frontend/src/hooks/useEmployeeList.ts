@@ -1,8 +1,9 @@
-import { useState, useEffect, useMemo, useCallback } from 'react';
-import { getEmployeesByBusiness, getAllEmployees } from '../api/employees';
+import { useState, useEffect, useMemo, useCallback, useRef } from 'react';
+import { getEmployeePageByBusiness, getEmployeePage } from '../api/employees';
 import { getEmployer } from '../api/employers';
 import type { Employee } from '../types/employee';
-import { PersonStatus } from '../types/person_status';
+import { PersonStatus, PersonStatusParam } from '../types/person_status';
+import type { PersonListParams } from '../types/person_status';
 
 // Unified type for display purposes
 export interface CompanyMember {
@@ -26,6 +27,11 @@ export interface CompanyMember {
 type SortField = 'name' | 'salary' | 'hireDate' | 'position';
 type SortDirection = 'asc' | 'desc';
 
+// Rows per request; further pages load on demand
+const PAGE_SIZE = 50;
+// Wait for typing to pause before searching
+const SEARCH_DEBOUNCE_MS = 300;
+
 interface Filters {
   search: string;
   status: PersonStatus | 'ALL';
@@ -36,7 +42,10 @@ interface Filters {
 
 export const useEmployeeList = () => {
   const [members, setMembers] = useState<CompanyMember[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [hasMore, setHasMore] = useState(false);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const [selectedIds, setSelectedIds] = useState<Set<number>>(new Set());
   const [filters, setFilters] = useState<Filters>({
@@ -46,6 +55,10 @@ export const useEmployeeList = () => {
     sortBy: 'name',
     sortDirection: 'asc',
   });
+  const [search, setSearch] = useState('');
+  const businessIdRef = useRef<Promise<number | null> | null>(null);
+  // Responses to superseded requests (older filters) are ignored
+  const requestRef = useRef(0);
 
   // Load business ID from user
   const loadBusinessId = useCallback(async (): Promise<number | null> => {
@@ -65,18 +78,40 @@ export const useEmployeeList = () => {
     }
   }, []);
 
-  // Fetch employees only (not employers)
-  const fetchEmployees = useCallback(async () => {
-    setLoading(true);
+  useEffect(() => {
+    const timer = setTimeout(() => setSearch(filters.search.trim()), SEARCH_DEBOUNCE_MS);
+    return () => clearTimeout(timer);
+  }, [filters.search]);
+
+  // Filtering and sorting happen on the server; only the requested page is transferred
+  const params = useMemo<PersonListParams>(() => ({
+    search: search || undefined,
+    status: filters.status !== 'ALL' ? PersonStatusParam[filters.status] : undefined,
+    department: filters.department || undefined,
+    sortBy: filters.sortBy,
+    direction: filters.sortDirection,
+    size: PAGE_SIZE,
+  }), [search, filters.status, filters.department, filters.sortBy, filters.sortDirection]);
+
+  // Fetch one page of employees only (not employers); without a cursor, the first page
+  const fetchPage = useCallback(async (cursor?: string) => {
+    const request = ++requestRef.current;
+    if (cursor) {
+      setLoadingMore(true);
+    }
     setError(null);
     try {
-      const businessId = await loadBusinessId();
+      if (!businessIdRef.current) {
+        businessIdRef.current = loadBusinessId();
+      }
+      const businessId = await businessIdRef.current;
       const response = businessId
-        ? await getEmployeesByBusiness(businessId)
-        : await getAllEmployees();
+        ? await getEmployeePageByBusiness(businessId, { ...params, cursor })
+        : await getEmployeePage({ ...params, cursor });
+      if (request !== requestRef.current) return;
 
       // Convert employees to CompanyMember (only employees, not employers)
-      const employeeMembers: CompanyMember[] = response.data.map((emp: Employee) => ({
+      const employeeMembers: CompanyMember[] = response.data.items.map((emp: Employee) => ({
         id: emp.id,
         name: emp.name,
         email: emp.email,
@@ -93,79 +128,33 @@ export const useEmployeeList = () => {
         updatedAt: emp.updatedAt,
       }));
 
-      setMembers(employeeMembers);
+      setMembers(prev => (cursor ? [...prev, ...employeeMembers] : employeeMembers));
+      setNextCursor(response.data.nextCursor);
+      setHasMore(response.data.hasMore);
     } catch (err: any) {
+      if (request !== requestRef.current) return;
       setError(err.response?.data?.message || 'Failed to load employees');
       console.error('Error fetching employees:', err);
     } finally {
-      setLoading(false);
+      if (request === requestRef.current) {
+        setLoading(false);
+        setLoadingMore(false);
+      }
     }
-  }, [loadBusinessId]);
+  }, [loadBusinessId, params]);
 
+  // Filters changed: start over from the first page
   useEffect(() => {
-    fetchEmployees();
-  }, [fetchEmployees]);
-
-  // Filter and sort members
-  const filteredAndSortedEmployees = useMemo(() => {
-    let result = [...members];
-
-    // Apply search filter
-    if (filters.search) {
-      const searchLower = filters.search.toLowerCase();
-      result = result.filter(
-        emp =>
-          emp.name.toLowerCase().includes(searchLower) ||
-          emp.email.toLowerCase().includes(searchLower) ||
-          emp.position.toLowerCase().includes(searchLower)
-      );
-    }
+    fetchPage();
+  }, [fetchPage]);
 
-    // Apply status filter
-    if (filters.status !== 'ALL') {
-      result = result.filter(emp => emp.status === filters.status);
-    }
+  const refetch = useCallback(() => fetchPage(), [fetchPage]);
 
-    // Apply department filter
-    if (filters.department) {
-      result = result.filter(member =>
-        member.department === filters.department
-      );
+  const loadMore = useCallback(async () => {
+    if (nextCursor && !loadingMore) {
+      await fetchPage(nextCursor);
     }
-
-    // Apply sorting
-    result.sort((a, b) => {
-      let aValue: any;
-      let bValue: any;
-
-      switch (filters.sortBy) {
-        case 'name':
-          aValue = a.name.toLowerCase();
-          bValue = b.name.toLowerCase();
-          break;
-        case 'salary':
-          aValue = a.salary;
-          bValue = b.salary;
-          break;
-        case 'hireDate':
-          aValue = new Date(a.hireDate).getTime();
-          bValue = new Date(b.hireDate).getTime();
-          break;
-        case 'position':
-          aValue = a.position.toLowerCase();
-          bValue = b.position.toLowerCase();
-          break;
-        default:
-          return 0;
-      }
-
-      if (aValue < bValue) return filters.sortDirection === 'asc' ? -1 : 1;
-      if (aValue > bValue) return filters.sortDirection === 'asc' ? 1 : -1;
-      return 0;
-    });
-
-    return result;
-  }, [members, filters]);
+  }, [fetchPage, nextCursor, loadingMore]);
 
   // Selection handlers
   const toggleSelect = useCallback((id: number) => {
@@ -181,12 +170,12 @@ export const useEmployeeList = () => {
   }, []);
 
   const toggleSelectAll = useCallback(() => {
-    if (selectedIds.size === filteredAndSortedEmployees.length) {
+    if (selectedIds.size === members.length) {
       setSelectedIds(new Set());
     } else {
-      setSelectedIds(new Set(filteredAndSortedEmployees.map(emp => emp.id)));
+      setSelectedIds(new Set(members.map(emp => emp.id)));
     }
-  }, [selectedIds.size, filteredAndSortedEmployees]);
+  }, [selectedIds.size, members]);
 
   const clearSelection = useCallback(() => {
     setSelectedIds(new Set());
@@ -209,15 +198,18 @@ export const useEmployeeList = () => {
 
   return {
     // Data
-    employees: filteredAndSortedEmployees,
+    employees: members,
     allEmployees: members,
     loading,
+    loadingMore,
+    hasMore,
     error,
     selectedIds: Array.from(selectedIds),
     filters,
 
     // Actions
-    refetch: fetchEmployees,
+    refetch,
+    loadMore,
     toggleSelect,
     toggleSelectAll,
     clearSelection,
@@ -225,4 +217,3 @@ export const useEmployeeList = () => {
     clearFilters,
   };
 };
-
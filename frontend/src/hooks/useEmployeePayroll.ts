@@ -1,9 +1,10 @@
-import { useState, useEffect, useMemo } from "react";
-import type { Paycheck } from "../types/payroll";
-import { getPayrollHistory } from "../api/payroll";
+import { useState, useEffect } from "react";
+import type { Paycheck, PayrollYearToDate } from "../types/payroll";
+import { getPayrollHistory, getPayrollYearToDate } from "../api/payroll";
 
 export const useEmployeePayroll = (employeeId: number | null) => {
   const [history, setHistory] = useState<Paycheck[]>([]);
+  const [ytd, setYtd] = useState<PayrollYearToDate | null>(null);
   const [loading, setLoading] = useState(true);
 
   useEffect(() => {
@@ -15,7 +16,10 @@ export const useEmployeePayroll = (employeeId: number | null) => {
 
       setLoading(true);
       try {
-        const response = await getPayrollHistory(employeeId);
+        const [response, ytdResponse] = await Promise.all([
+          getPayrollHistory(employeeId),
+          getPayrollYearToDate(employeeId),
+        ]);
         // Filter out DRAFT paychecks for employee view
         const filtered = response.data.filter(
           (p: Paycheck) => p.status !== "DRAFT",
@@ -26,9 +30,11 @@ export const useEmployeePayroll = (employeeId: number | null) => {
             new Date(b.payDate).getTime() - new Date(a.payDate).getTime(),
         );
         setHistory(sorted);
+        setYtd(ytdResponse.data);
       } catch (error) {
         console.error("Failed to load payroll", error);
         setHistory([]);
+        setYtd(null);
       } finally {
         setLoading(false);
       }
@@ -37,24 +43,14 @@ export const useEmployeePayroll = (employeeId: number | null) => {
     fetchHistory();
   }, [employeeId]);
 
-  // Frontend YTD Calculation (MVP Shortcut)
-  const stats = useMemo(() => {
-    const currentYear = new Date().getFullYear();
-    const thisYearChecks = history.filter(
-      (p) => new Date(p.payDate).getFullYear() === currentYear,
-    );
-
-    return {
-      totalGross: thisYearChecks.reduce((sum, p) => sum + p.grossPay, 0),
-      totalNet: thisYearChecks.reduce((sum, p) => sum + p.netPay, 0),
-      totalTax: thisYearChecks.reduce((sum, p) => sum + p.taxDeduction, 0),
-      totalInsurance: thisYearChecks.reduce(
-        (sum, p) => sum + p.insuranceDeduction,
-        0,
-      ),
-      paycheckCount: thisYearChecks.length,
-    };
-  }, [history]);
+  // Year-to-date totals are kept per employee by the backend (voided paychecks excluded)
+  const stats = {
+    totalGross: ytd?.grossPay ?? 0,
+    totalNet: ytd?.netPay ?? 0,
+    totalTax: ytd?.taxDeductions ?? 0,
+    totalInsurance: ytd?.insuranceDeductions ?? 0,
+    paycheckCount: ytd?.paycheckCount ?? 0,
+  };
 
   const latestPaycheck = history.length > 0 ? history[0] : null;
 
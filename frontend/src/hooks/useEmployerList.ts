@@ -1,18 +1,18 @@
-import { useState, useEffect, useMemo, useCallback } from "react";
-import { getEmployersByBusiness, getAllEmployers } from "../api/employers";
+import { useState, useEffect, useMemo, useCallback, useRef } from "react";
+import { getEmployerPageByBusiness, getEmployerPage } from "../api/employers";
 import { getEmployer } from "../api/employers";
 import type { Employer } from "../types/employer";
-import { PersonStatus } from "../types/person_status";
-
-type SortField =
-  | "name"
-  | "salary"
-  | "hireDate"
-  | "title"
-  | "department"
-  | "directReportsCount";
+import { PersonStatus, PersonStatusParam } from "../types/person_status";
+import type { PersonListParams } from "../types/person_status";
+
+type SortField = "name" | "salary" | "hireDate" | "title" | "department";
 type SortDirection = "asc" | "desc";
 
+// Rows per request; further pages load on demand
+const PAGE_SIZE = 50;
+// Wait for typing to pause before searching
+const SEARCH_DEBOUNCE_MS = 300;
+
 interface Filters {
   search: string;
   status: PersonStatus | "ALL";
@@ -23,7 +23,10 @@ interface Filters {
 
 export const useEmployerList = () => {
   const [employers, setEmployers] = useState<Employer[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [hasMore, setHasMore] = useState(false);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const [selectedIds, setSelectedIds] = useState<Set<number>>(new Set());
   const [filters, setFilters] = useState<Filters>({
@@ -33,6 +36,13 @@ export const useEmployerList = () => {
     sortBy: "name",
     sortDirection: "asc",
   });
+  const [search, setSearch] = useState("");
+  const [knownDepartments, setKnownDepartments] = useState<Set<string>>(
+    new Set(),
+  );
+  const businessIdRef = useRef<Promise<number | null> | null>(null);
+  // Responses to superseded requests (older filters) are ignored
+  const requestRef = useRef(0);
 
   // Load business ID from user
   const loadBusinessId = useCallback(async (): Promise<number | null> => {
@@ -52,96 +62,90 @@ export const useEmployerList = () => {
     }
   }, []);
 
-  // Fetch employers
-  const fetchEmployers = useCallback(async () => {
-    setLoading(true);
-    setError(null);
-    try {
-      const businessId = await loadBusinessId();
-      const response = businessId
-        ? await getEmployersByBusiness(businessId)
-        : await getAllEmployers();
-      setEmployers(response.data);
-    } catch (err: unknown) {
-      const error = err as { response?: { data?: { message?: string } } };
-      setError(error.response?.data?.message || "Failed to load employers");
-      console.error("Error fetching employers:", err);
-    } finally {
-      setLoading(false);
-    }
-  }, [loadBusinessId]);
-
   useEffect(() => {
-    fetchEmployers();
-  }, [fetchEmployers]);
-
-  // Filter and sort employers
-  const filteredAndSortedEmployers = useMemo(() => {
-    let result = [...employers];
-
-    // Apply search filter
-    if (filters.search) {
-      const searchLower = filters.search.toLowerCase();
-      result = result.filter(
-        (emp) =>
-          emp.name.toLowerCase().includes(searchLower) ||
-          emp.email.toLowerCase().includes(searchLower) ||
-          emp.title.toLowerCase().includes(searchLower) ||
-          emp.department.toLowerCase().includes(searchLower),
-      );
-    }
-
-    // Apply status filter
-    if (filters.status !== "ALL") {
-      result = result.filter((emp) => emp.status === filters.status);
-    }
-
-    // Apply department filter
-    if (filters.department) {
-      result = result.filter((emp) => emp.department === filters.department);
-    }
+    const timer = setTimeout(
+      () => setSearch(filters.search.trim()),
+      SEARCH_DEBOUNCE_MS,
+    );
+    return () => clearTimeout(timer);
+  }, [filters.search]);
+
+  // Filtering and sorting happen on the server; only the requested page is transferred
+  const params = useMemo<PersonListParams>(
+    () => ({
+      search: search || undefined,
+      status:
+        filters.status !== "ALL" ? PersonStatusParam[filters.status] : undefined,
+      department: filters.department || undefined,
+      sortBy: filters.sortBy,
+      direction: filters.sortDirection,
+      size: PAGE_SIZE,
+    }),
+    [
+      search,
+      filters.status,
+      filters.department,
+      filters.sortBy,
+      filters.sortDirection,
+    ],
+  );
 
-    // Apply sorting
-    result.sort((a, b) => {
-      let aValue: string | number;
-      let bValue: string | number;
-
-      switch (filters.sortBy) {
-        case "name":
-          aValue = a.name.toLowerCase();
-          bValue = b.name.toLowerCase();
-          break;
-        case "salary":
-          aValue = a.salary;
-          bValue = b.salary;
-          break;
-        case "hireDate":
-          aValue = new Date(a.hireDate).getTime();
-          bValue = new Date(b.hireDate).getTime();
-          break;
-        case "title":
-          aValue = a.title.toLowerCase();
-          bValue = b.title.toLowerCase();
-          break;
-        case "department":
-          aValue = a.department.toLowerCase();
-          bValue = b.department.toLowerCase();
-          break;
-        case "directReportsCount":
-          aValue = a.directReportsCount;
-          bValue = b.directReportsCount;
-          break;
-        default:
-          return 0;
+  // Fetch one page of employers; without a cursor, the first page
+  const fetchPage = useCallback(
+    async (cursor?: string) => {
+      const request = ++requestRef.current;
+      if (cursor) {
+        setLoadingMore(true);
+      }
+      setError(null);
+      try {
+        if (!businessIdRef.current) {
+          businessIdRef.current = loadBusinessId();
+        }
+        const businessId = await businessIdRef.current;
+        const response = businessId
+          ? await getEmployerPageByBusiness(businessId, { ...params, cursor })
+          : await getEmployerPage({ ...params, cursor });
+        if (request !== requestRef.current) return;
+
+        const page = response.data.items;
+        setEmployers((prev) => (cursor ? [...prev, ...page] : page));
+        setNextCursor(response.data.nextCursor);
+        setHasMore(response.data.hasMore);
+        setKnownDepartments((prev) => {
+          const missing = page.filter((emp) => !prev.has(emp.department));
+          if (missing.length === 0) return prev;
+          const next = new Set(prev);
+          missing.forEach((emp) => next.add(emp.department));
+          return next;
+        });
+      } catch (err: unknown) {
+        if (request !== requestRef.current) return;
+        const error = err as { response?: { data?: { message?: string } } };
+        setError(error.response?.data?.message || "Failed to load employers");
+        console.error("Error fetching employers:", err);
+      } finally {
+        if (request === requestRef.current) {
+          setLoading(false);
+          setLoadingMore(false);
+        }
       }
+    },
+    [loadBusinessId, params],
+  );
 
-      if (aValue < bValue) return filters.sortDirection === "asc" ? -1 : 1;
-      if (aValue > bValue) return filters.sortDirection === "asc" ? 1 : -1;
-      return 0;
-    });
+  // Filters changed: start over from the first page
+  useEffect(() => {
+    fetchPage();
+  }, [fetchPage]);
 
-    return result;
-  }, [employers, filters]);
+  const refetch = useCallback(() => fetchPage(), [fetchPage]);
+
+  const loadMore = useCallback(async () => {
+    if (nextCursor && !loadingMore) {
+      await fetchPage(nextCursor);
+    }
+  }, [fetchPage, nextCursor, loadingMore]);
 
   // Selection handlers
   const toggleSelect = useCallback((id: number) => {
@@ -157,12 +161,12 @@ export const useEmployerList = () => {
   }, []);
 
   const toggleSelectAll = useCallback(() => {
-    if (selectedIds.size === filteredAndSortedEmployers.length) {
+    if (selectedIds.size === employers.length) {
       setSelectedIds(new Set());
     } else {
-      setSelectedIds(new Set(filteredAndSortedEmployers.map((emp) => emp.id)));
+      setSelectedIds(new Set(employers.map((emp) => emp.id)));
     }
-  }, [selectedIds.size, filteredAndSortedEmployers]);
+  }, [selectedIds.size, employers]);
 
   const clearSelection = useCallback(() => {
     setSelectedIds(new Set());
@@ -189,24 +193,27 @@ export const useEmployerList = () => {
     });
   }, []);
 
-  // Get unique departments for filter
-  const departments = useMemo(() => {
-    const deptSet = new Set(employers.map((emp) => emp.department));
-    return Array.from(deptSet).sort();
-  }, [employers]);
+  // Departments seen so far, for the filter; they stay listed while filtering by one
+  const departments = useMemo(
+    () => Array.from(knownDepartments).filter(Boolean).sort(),
+    [knownDepartments],
+  );
 
   return {
     // Data
-    employers: filteredAndSortedEmployers,
+    employers,
     allEmployers: employers,
     loading,
+    loadingMore,
+    hasMore,
     error,
     selectedIds: Array.from(selectedIds),
     filters,
     departments,
 
     // Actions
-    refetch: fetchEmployers,
+    refetch,
+    loadMore,
     toggleSelect,
     toggleSelectAll,
     clearSelection,
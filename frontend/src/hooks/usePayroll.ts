@@ -40,9 +40,11 @@ export const usePayroll = (businessId: number | null) => {
 
   // Load Tax Strategy
   const loadTaxStrategy = useCallback(async () => {
+    if (!businessId) return;
+
     try {
       const [currentResponse, availableResponse] = await Promise.all([
-        getCurrentTaxStrategy(),
+        getCurrentTaxStrategy(businessId),
         getAvailableTaxStrategies(),
       ]);
       
@@ -68,13 +70,15 @@ export const usePayroll = (businessId: number | null) => {
         progressiveTaxStrategy: "Progressive Tax Strategy",
       });
     }
-  }, []);
+  }, [businessId]);
 
   // Switch Tax Strategy
   const handleSwitchStrategy = useCallback(async (strategyKey: string) => {
+    if (!businessId) return false;
+
     setIsLoadingStrategy(true);
     try {
-      const response = await switchTaxStrategy(strategyKey);
+      const response = await switchTaxStrategy(businessId, strategyKey);
       
       // Check for error in response DTO
       if (response.data.error) {
@@ -107,7 +111,7 @@ export const usePayroll = (businessId: number | null) => {
     } finally {
       setIsLoadingStrategy(false);
     }
-  }, []);
+  }, [businessId]);
 
   // Load Employees
   const loadEmployees = useCallback(async () => {
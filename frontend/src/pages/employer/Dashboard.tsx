@@ -238,22 +238,14 @@ export default function EmployerDashboard() {
           <Card>
             <CardHeader 
               title="Expiring Soon" 
-              subtitle={`${pendingTrainings.length} training${pendingTrainings.length !== 1 ? 's' : ''} expiring within 30 days`}
+              subtitle={`${stats.expiringTrainings} training${stats.expiringTrainings !== 1 ? 's' : ''} expiring within 30 days`}
             />
             
             <div className="space-y-1 max-h-[400px] overflow-y-auto">
               {pendingTrainings.length > 0 ? (
-                pendingTrainings.slice(0, 10).map((training) => {
+                pendingTrainings.map((training) => {
+                  // Only incomplete, unexpired trainings with an expiry date are listed
                   const getTrainingStatus = () => {
-                    if (training.completed) {
-                      return { variant: "success" as const, label: "Completed" };
-                    }
-                    if (training.expired) {
-                      return { variant: "error" as const, label: "Expired" };
-                    }
-                    if (!training.expiryDate) {
-                      return { variant: "neutral" as const, label: "Pending" };
-                    }
                     const expiryDate = new Date(training.expiryDate);
                     const now = new Date();
                     const daysUntilExpiry = Math.ceil(
@@ -304,13 +296,13 @@ export default function EmployerDashboard() {
               )}
             </div>
             
-            {pendingTrainings.length > 10 && (
+            {stats.expiringTrainings > pendingTrainings.length && (
               <div className="mt-4 pt-4 border-t border-gray-100 text-center">
                 <button 
                   className="text-sm font-medium text-blue-600 hover:text-blue-700 hover:underline"
                   onClick={() => navigate('/employer/training')}
                 >
-                  View All {pendingTrainings.length} Trainings
+                  View All {stats.expiringTrainings} Trainings
                 </button>
               </div>
             )}
@@ -31,6 +31,9 @@ export default function EmployeeManagement() {
     selectedIds,
     filters,
     refetch,
+    hasMore,
+    loadingMore,
+    loadMore,
     toggleSelect,
     toggleSelectAll,
     clearSelection,
@@ -378,6 +381,13 @@ export default function EmployeeManagement() {
                 ))}
               </tbody>
             </table>
+            {hasMore && (
+              <div className="flex justify-center py-4 border-t border-gray-200">
+                <Button variant="ghost" onClick={loadMore} disabled={loadingMore}>
+                  {loadingMore ? 'Loading...' : 'Load more employees'}
+                </Button>
+              </div>
+            )}
           </div>
         )}
       </Card>
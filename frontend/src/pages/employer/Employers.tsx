@@ -32,6 +32,9 @@ export default function EmployerManagement() {
     filters,
     departments,
     refetch,
+    hasMore,
+    loadingMore,
+    loadMore,
     toggleSelect,
     toggleSelectAll,
     updateFilter,
@@ -213,8 +216,6 @@ export default function EmployerManagement() {
               <option value="title-desc">Title (Z-A)</option>
               <option value="department-asc">Department (A-Z)</option>
               <option value="department-desc">Department (Z-A)</option>
-              <option value="directReportsCount-desc">Reports (High-Low)</option>
-              <option value="directReportsCount-asc">Reports (Low-High)</option>
               <option value="salary-desc">Salary (High-Low)</option>
               <option value="salary-asc">Salary (Low-High)</option>
             </select>
@@ -430,6 +431,13 @@ export default function EmployerManagement() {
                 ))}
               </tbody>
             </table>
+            {hasMore && (
+              <div className="flex justify-center py-4 border-t border-gray-200">
+                <Button variant="ghost" onClick={loadMore} disabled={loadingMore}>
+                  {loadingMore ? 'Loading...' : 'Load more employers'}
+                </Button>
+              </div>
+            )}
           </div>
         )}
       </Card>
@@ -7,3 +7,57 @@ export interface Activity {
   status: 'completed' | 'warning' | 'alert' | 'info';
 }
 
+
+export interface DashboardEventHandlers {
+  onActivity?: (activity: Activity) => void; // A new feed item
+  onChanged?: () => void; // Business data changed; figures should be refetched
+  onResync?: () => void; // Updates may have been missed; refetch everything
+}
+
+export interface ExpiringTraining {
+  id: number;
+  trainingName: string;
+  personId: number;
+  personName: string;
+  expiryDate: string;
+  required: boolean;
+}
+
+export interface RecentHire {
+  id: number;
+  name: string;
+  position: string;
+  hireDate: string;
+}
+
+export interface DashboardKpis {
+  businessId: number;
+  generatedAt: string;
+  headcount: {
+    total: number;
+    employees: number;
+    employers: number;
+    byStatus: Record<string, number>; // Every status, e.g. { Active: 12, Inactive: 0, OnLeave: 1 }
+    hiredRecently: number;
+    recentHireDays: number;
+  };
+  payroll: {
+    // Current calendar month
+    startDate: string;
+    endDate: string;
+    paychecks: number;
+    grossPay: number;
+    bonus: number;
+    deductions: number;
+    netPay: number;
+  };
+  trainings: {
+    pending: number; // Not completed and not expired
+    expiringSoon: number; // Not completed, expiring within windowDays
+    overdueRequired: number;
+    expiringRequired: number;
+    windowDays: number;
+    expiringSoonest: ExpiringTraining[]; // First few of expiringSoon
+  };
+  recentHires: RecentHire[];
+}
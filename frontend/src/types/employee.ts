@@ -16,6 +16,12 @@ export interface Employee {
   updatedAt: string;
 }
 
+export interface EmployeePage {
+  items: Employee[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
 export interface CreateEmployeeRequest {
   name: string;
   email: string;
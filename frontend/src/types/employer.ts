@@ -18,6 +18,12 @@ export interface Employer {
   updatedAt: string;
 }
 
+export interface EmployerPage {
+  items: Employer[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
 export interface CreateEmployerRequest {
   name: string;
   email: string;
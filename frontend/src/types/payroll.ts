@@ -8,6 +8,7 @@ export interface Paycheck {
   bonus: number | null;
   taxDeduction: number;
   insuranceDeduction: number;
+  deductions: Record<string, number>;
   totalDeductions: number;
   netPay: number;
   payDate: string;
@@ -15,6 +16,12 @@ export interface Paycheck {
   status: PaycheckStatus;
 }
 
+export interface PaycheckPage {
+  items: Paycheck[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
 export interface BonusDistributionResponse {
   businessId: number;
   businessName: string;
@@ -92,4 +99,98 @@ export interface TaxStrategySwitchResponse {
 export interface DeletePaycheckResponse {
   success: boolean;
   message?: string;
-}
\ No newline at end of file
+}
+export interface PayrollSimulationScenario {
+  name?: string;
+  taxStrategy?: string;
+  flatTaxRate?: number;
+  insuranceRate?: number;
+}
+
+export interface PayrollSimulationRequest {
+  scenarios: PayrollSimulationScenario[];
+  topChanges?: number;
+}
+
+export interface PayrollPercentiles {
+  p10: number | null;
+  p25: number | null;
+  p50: number | null;
+  p75: number | null;
+  p90: number | null;
+  p99: number | null;
+}
+
+export interface PayrollEmployeeDelta {
+  employeeId: number;
+  employeeName: string;
+  currentNetPay: number;
+  simulatedNetPay: number;
+  change: number;
+}
+
+export interface PayrollScenarioResult {
+  name: string;
+  taxStrategy: string;
+  insuranceRate: number | null;
+  totalGrossPay: number;
+  totalTaxDeductions: number;
+  totalInsuranceDeductions: number;
+  totalNetPay: number;
+  netPayChange: number;
+  employeesWithHigherNetPay: number;
+  employeesWithLowerNetPay: number;
+  netPayPercentiles: PayrollPercentiles;
+  netPayChangePercentiles: PayrollPercentiles;
+  largestChanges: PayrollEmployeeDelta[];
+}
+
+/**
+ * DTO for a what-if payroll simulation (nothing is saved)
+ */
+export interface PayrollSimulation {
+  businessId: number;
+  businessName: string;
+  simulatedEmployees: number;
+  skippedEmployees: number;
+  baseline: PayrollScenarioResult;
+  scenarios: PayrollScenarioResult[];
+  durationMillis: number;
+}
+
+/**
+ * DTO for an employee's year-to-date payroll (voided paychecks excluded)
+ */
+export interface PayrollYearToDate {
+  employeeId: number;
+  taxYear: number;
+  paycheckCount: number;
+  grossPay: number;
+  bonus: number;
+  taxDeductions: number;
+  insuranceDeductions: number;
+  netPay: number;
+}
+
+export type DeductionType = "PERCENT_OF_GROSS" | "FIXED" | "PERCENT_OF_DISPOSABLE";
+
+export interface Deduction {
+  code: string;
+  name?: string;
+  type: DeductionType;
+  rate?: number | null;
+  amount?: number | null;
+  cap?: number | null;
+  minGrossPay?: number | null;
+  maxGrossPay?: number | null;
+}
+
+/**
+ * DTO for the deductions applied to a business's paychecks, in application order
+ */
+export interface DeductionPlan {
+  businessId: number;
+  usingDefault: boolean;
+  version: number;
+  deductions: Deduction[];
+}
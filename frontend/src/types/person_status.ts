@@ -5,3 +5,27 @@ export const PersonStatus = {
 } as const;
 
 export type PersonStatus = typeof PersonStatus[keyof typeof PersonStatus];
+
+// Names of the statuses as the backend binds them in request parameters
+export const PersonStatusParam: Record<PersonStatus, string> = {
+  ACTIVE: "Active",
+  INACTIVE: "Inactive",
+  ON_LEAVE: "OnLeave",
+};
+
+// Query parameters of the paged employee and employer listings
+export interface PersonListParams {
+  search?: string;
+  name?: string;
+  position?: string;
+  department?: string;
+  status?: string;
+  hiredFrom?: string;
+  hiredTo?: string;
+  minSalary?: number;
+  maxSalary?: number;
+  sortBy?: string;
+  direction?: "asc" | "desc";
+  cursor?: string;
+  size?: number;
+}